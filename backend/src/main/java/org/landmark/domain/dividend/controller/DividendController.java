@@ -0,0 +1,29 @@
+package org.landmark.domain.dividend.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.landmark.domain.dividend.dto.MyDividendsResponse;
+import org.landmark.domain.dividend.service.DividendService;
+import org.landmark.global.dto.ApiResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/users")
+@RequiredArgsConstructor
+@Tag(name = "Dividend", description = "배당 API")
+public class DividendController {
+
+    private final DividendService dividendService;
+
+    @Operation(summary = "내 배당 조회",
+            description = "수령한 배당 이력과 아직 청구하지 않은 배당의 청구 가능액을 조회합니다. 금액은 KRWT wei 문자열입니다.")
+    @GetMapping("/me/dividends")
+    public ApiResponse<MyDividendsResponse> getMyDividends(Authentication authentication) {
+        String userId = (String) authentication.getPrincipal();
+        return ApiResponse.ok(dividendService.getMyDividends(userId));
+    }
+}
@@ -0,0 +1,123 @@
+package org.landmark.domain.dividend.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+
+/**
+ * DividendDistributor의 배당 1건 (DividendCreated). 금액은 모두 KRWT wei.
+ *
+ * 스냅샷 위치(snapshot_block, snapshot_log_index)는 PropertyToken SnapshotCreated 로그 위치 —
+ * holding_events에서 그 위치 이전 row만 더하면 스냅샷 시점 잔액이 된다.
+ * 인덱서 시작 전에 찍힌 스냅샷이면 위치를 몰라 null이고, 이 배당은 로컬 청구 가능액 계산에서 빠진다.
+ */
+@Entity
+@Table(name = "Dividends",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dividend_distributor_id",
+                columnNames = {"distributor_address", "dividend_id"}),
+        indexes = @Index(name = "idx_dividend_property", columnList = "property_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Dividend {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /* 소문자 정규화 */
+    @Column(name = "distributor_address", nullable = false, length = 42)
+    private String distributorAddress;
+
+    @Column(name = "property_id", nullable = false, length = 42)
+    private String propertyId;
+
+    /* 컨트랙트의 배당 ID */
+    @Column(name = "dividend_id", nullable = false)
+    private Long dividendId;
+
+    @Column(name = "snapshot_id", nullable = false)
+    private Long snapshotId;
+
+    @Column(name = "total_amount", nullable = false, precision = 65)
+    private BigInteger totalAmount;
+
+    /* 토큰 1개당 배당 × 1e18 — 컨트랙트와 같은 식 (amount * 1e18 / 스냅샷 totalSupply) */
+    @Column(name = "dividend_per_token", nullable = false, precision = 65)
+    private BigInteger dividendPerToken;
+
+    /* 인덱싱된 DividendClaimed 합계 */
+    @Column(name = "claimed_amount", nullable = false, precision = 65)
+    private BigInteger claimedAmount;
+
+    /* UnclaimedWithdrawn으로 회수된 금액 */
+    @Column(name = "withdrawn_amount", precision = 65)
+    private BigInteger withdrawnAmount;
+
+    /* 미청구 회수 후 false — 더 이상 청구 불가 */
+    @Column(name = "active", nullable = false)
+    private boolean active;
+
+    @Column(name = "snapshot_block")
+    private Long snapshotBlock;
+
+    @Column(name = "snapshot_log_index")
+    private Long snapshotLogIndex;
+
+    @Column(name = "tx_hash", nullable = false, length = 66)
+    private String txHash;
+
+    @Column(name = "block_number", nullable = false)
+    private Long blockNumber;
+
+    /* 블록 시각 (epoch 초). 조회 실패 시 null */
+    @Column(name = "block_timestamp")
+    private Long blockTimestamp;
+
+    @CreationTimestamp
+    @Column(name = "recorded_at", nullable = false, updatable = false)
+    private LocalDateTime recordedAt;
+
+    @Builder
+    public Dividend(String distributorAddress, String propertyId, Long dividendId, Long snapshotId,
+                    BigInteger totalAmount, BigInteger dividendPerToken,
+                    Long snapshotBlock, Long snapshotLogIndex,
+                    String txHash, Long blockNumber, Long blockTimestamp) {
+        this.distributorAddress = distributorAddress.toLowerCase();
+        this.propertyId = propertyId;
+        this.dividendId = dividendId;
+        this.snapshotId = snapshotId;
+        this.totalAmount = totalAmount;
+        this.dividendPerToken = dividendPerToken;
+        this.claimedAmount = BigInteger.ZERO;
+        this.active = true;
+        this.snapshotBlock = snapshotBlock;
+        this.snapshotLogIndex = snapshotLogIndex;
+        this.txHash = txHash;
+        this.blockNumber = blockNumber;
+        this.blockTimestamp = blockTimestamp;
+    }
+
+    public boolean hasSnapshotPosition() {
+        return snapshotBlock != null && snapshotLogIndex != null;
+    }
+
+    /* 스냅샷 잔액 기준 청구액 — 컨트랙트와 같이 내림 */
+    public BigInteger claimableFor(long snapshotBalance) {
+        return BigInteger.valueOf(snapshotBalance).multiply(dividendPerToken).divide(BigInteger.TEN.pow(18));
+    }
+
+    public void addClaimed(BigInteger amount) {
+        this.claimedAmount = this.claimedAmount.add(amount);
+    }
+
+    public void withdrawUnclaimed(BigInteger amount) {
+        this.withdrawnAmount = amount;
+        this.active = false;
+    }
+}
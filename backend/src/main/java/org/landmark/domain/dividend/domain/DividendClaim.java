@@ -0,0 +1,86 @@
+package org.landmark.domain.dividend.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+
+/**
+ * 배당 청구 1건 (DividendClaimed). 로그 1건 = 1 row, (tx_hash, log_index)가 유일 키.
+ * 컨트랙트가 배당당 지갑 1회만 청구를 허용하므로 (배당, 지갑)으로도 최대 1건이다.
+ */
+@Entity
+@Table(name = "DividendClaims",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dividend_claim_log", columnNames = {"tx_hash", "log_index"}),
+        indexes = {
+                @Index(name = "idx_dividend_claim_holder", columnList = "holder_address, block_number"),
+                @Index(name = "idx_dividend_claim_dividend", columnList = "distributor_address, dividend_id, holder_address")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DividendClaim {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tx_hash", nullable = false, length = 66)
+    private String txHash;
+
+    @Column(name = "log_index", nullable = false)
+    private Long logIndex;
+
+    /* 소문자 정규화 */
+    @Column(name = "distributor_address", nullable = false, length = 42)
+    private String distributorAddress;
+
+    @Column(name = "property_id", nullable = false, length = 42)
+    private String propertyId;
+
+    @Column(name = "dividend_id", nullable = false)
+    private Long dividendId;
+
+    /* 소문자 정규화 */
+    @Column(name = "holder_address", nullable = false, length = 42)
+    private String holderAddress;
+
+    /* KRWT wei */
+    @Column(name = "amount", nullable = false, precision = 65)
+    private BigInteger amount;
+
+    @Column(name = "block_number", nullable = false)
+    private Long blockNumber;
+
+    /* 블록 시각 (epoch 초). 조회 실패 시 null */
+    @Column(name = "block_timestamp")
+    private Long blockTimestamp;
+
+    @CreationTimestamp
+    @Column(name = "recorded_at", nullable = false, updatable = false)
+    private LocalDateTime recordedAt;
+
+    @Builder
+    public DividendClaim(String txHash, Long logIndex, String distributorAddress, String propertyId,
+                         Long dividendId, String holderAddress, BigInteger amount,
+                         Long blockNumber, Long blockTimestamp) {
+        this.txHash = txHash;
+        this.logIndex = logIndex;
+        this.distributorAddress = distributorAddress.toLowerCase();
+        this.propertyId = propertyId;
+        this.dividendId = dividendId;
+        this.holderAddress = holderAddress.toLowerCase();
+        this.amount = amount;
+        this.blockNumber = blockNumber;
+        this.blockTimestamp = blockTimestamp;
+    }
+
+    /* 중복 판정 키 */
+    public String logKey() {
+        return txHash + ":" + logIndex;
+    }
+}
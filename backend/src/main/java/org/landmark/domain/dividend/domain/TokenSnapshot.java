@@ -0,0 +1,60 @@
+package org.landmark.domain.dividend.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * PropertyToken 스냅샷 (SnapshotCreated) — 스냅샷 ID를 로그 위치(블록, logIndex)로 바꾸는 용도.
+ * 배당이 참조하는 스냅샷의 잔액은 holding_events에서 이 위치 이전 row의 합이다.
+ */
+@Entity
+@Table(name = "TokenSnapshots",
+        uniqueConstraints = @UniqueConstraint(name = "uk_token_snapshot",
+                columnNames = {"property_id", "snapshot_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TokenSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "property_id", nullable = false, length = 42)
+    private String propertyId;
+
+    @Column(name = "snapshot_id", nullable = false)
+    private Long snapshotId;
+
+    @Column(name = "total_supply", nullable = false)
+    private Long totalSupply;
+
+    @Column(name = "tx_hash", nullable = false, length = 66)
+    private String txHash;
+
+    @Column(name = "block_number", nullable = false)
+    private Long blockNumber;
+
+    @Column(name = "log_index", nullable = false)
+    private Long logIndex;
+
+    @CreationTimestamp
+    @Column(name = "recorded_at", nullable = false, updatable = false)
+    private LocalDateTime recordedAt;
+
+    @Builder
+    public TokenSnapshot(String propertyId, Long snapshotId, Long totalSupply,
+                         String txHash, Long blockNumber, Long logIndex) {
+        this.propertyId = propertyId;
+        this.snapshotId = snapshotId;
+        this.totalSupply = totalSupply;
+        this.txHash = txHash;
+        this.blockNumber = blockNumber;
+        this.logIndex = logIndex;
+    }
+}
@@ -0,0 +1,28 @@
+package org.landmark.domain.dividend.dto;
+
+import org.landmark.domain.dividend.domain.Dividend;
+
+import java.math.BigInteger;
+
+/* 청구 가능한 배당 1건 — amount는 KRWT wei (문자열), snapshotBalance는 스냅샷 시점 보유 토큰 수 */
+public record ClaimableDividendResponse(
+    String propertyId,
+    String distributorAddress,
+    Long dividendId,
+    Long snapshotId,
+    Long snapshotBalance,
+    String amount,
+    Long createdAt  // 배당 생성 블록 시각 (epoch 초)
+) {
+    public static ClaimableDividendResponse of(Dividend dividend, long snapshotBalance, BigInteger amount) {
+        return new ClaimableDividendResponse(
+            dividend.getPropertyId(),
+            dividend.getDistributorAddress(),
+            dividend.getDividendId(),
+            dividend.getSnapshotId(),
+            snapshotBalance,
+            amount.toString(),
+            dividend.getBlockTimestamp()
+        );
+    }
+}
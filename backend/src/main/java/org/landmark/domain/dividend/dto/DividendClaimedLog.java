@@ -0,0 +1,16 @@
+package org.landmark.domain.dividend.dto;
+
+import java.math.BigInteger;
+
+/* 온체인 DividendDistributor DividendClaimed 이벤트 1건 — 금액은 KRWT wei */
+public record DividendClaimedLog(
+        String distributorAddress,
+        long dividendId,
+        String holderAddress,
+        BigInteger amount,
+        String txHash,
+        long logIndex,
+        long blockNumber,
+        long blockTimestamp  // epoch 초
+) {
+}
@@ -0,0 +1,16 @@
+package org.landmark.domain.dividend.dto;
+
+import java.math.BigInteger;
+
+/* 온체인 DividendDistributor DividendCreated 이벤트 1건 — 금액은 KRWT wei */
+public record DividendCreatedLog(
+        String distributorAddress,
+        long dividendId,
+        long snapshotId,
+        BigInteger amount,
+        String txHash,
+        long logIndex,
+        long blockNumber,
+        long blockTimestamp  // epoch 초
+) {
+}
@@ -0,0 +1,13 @@
+package org.landmark.domain.dividend.dto;
+
+import java.util.List;
+
+/* 내 배당 현황 — 합계는 KRWT wei (문자열) */
+public record MyDividendsResponse(
+    String walletAddress,
+    String totalReceived,
+    String totalClaimable,
+    List<ReceivedDividendResponse> received,
+    List<ClaimableDividendResponse> claimable
+) {
+}
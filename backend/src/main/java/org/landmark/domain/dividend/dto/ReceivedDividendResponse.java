@@ -0,0 +1,24 @@
+package org.landmark.domain.dividend.dto;
+
+import org.landmark.domain.dividend.domain.DividendClaim;
+
+/* 수령한 배당 1건 — amount는 KRWT wei (JS Number 정밀도를 넘으므로 문자열) */
+public record ReceivedDividendResponse(
+    String propertyId,
+    Long dividendId,
+    String amount,
+    Long blockNumber,
+    Long blockTimestamp,
+    String txHash
+) {
+    public static ReceivedDividendResponse from(DividendClaim claim) {
+        return new ReceivedDividendResponse(
+            claim.getPropertyId(),
+            claim.getDividendId(),
+            claim.getAmount().toString(),
+            claim.getBlockNumber(),
+            claim.getBlockTimestamp(),
+            claim.getTxHash()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package org.landmark.domain.dividend.dto;
+
+/* 온체인 PropertyToken SnapshotCreated 이벤트 1건 */
+public record SnapshotCreatedLog(
+        String tokenAddress,
+        long snapshotId,
+        long totalSupply,
+        String txHash,
+        long logIndex,
+        long blockNumber
+) {
+}
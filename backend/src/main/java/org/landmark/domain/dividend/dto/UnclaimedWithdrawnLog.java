@@ -0,0 +1,14 @@
+package org.landmark.domain.dividend.dto;
+
+import java.math.BigInteger;
+
+/* 온체인 DividendDistributor UnclaimedWithdrawn 이벤트 1건 — 금액은 KRWT wei */
+public record UnclaimedWithdrawnLog(
+        String distributorAddress,
+        long dividendId,
+        BigInteger amount,
+        String txHash,
+        long logIndex,
+        long blockNumber
+) {
+}
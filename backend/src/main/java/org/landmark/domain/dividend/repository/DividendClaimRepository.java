@@ -0,0 +1,19 @@
+package org.landmark.domain.dividend.repository;
+
+import org.landmark.domain.dividend.domain.DividendClaim;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface DividendClaimRepository extends JpaRepository<DividendClaim, Long> {
+
+    /* 이미 기록된 로그 — (txHash, logIndex) */
+    @Query("SELECT c.txHash, c.logIndex FROM DividendClaim c WHERE c.txHash IN :txHashes")
+    List<Object[]> findLogKeysByTxHashIn(@Param("txHashes") Collection<String> txHashes);
+
+    /* 지갑의 수령 이력 (최신 순) */
+    List<DividendClaim> findByHolderAddressOrderByBlockNumberDescLogIndexDesc(String holderAddress);
+}
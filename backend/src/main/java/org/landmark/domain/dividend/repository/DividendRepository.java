@@ -0,0 +1,70 @@
+package org.landmark.domain.dividend.repository;
+
+import org.landmark.domain.dividend.domain.Dividend;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface DividendRepository extends JpaRepository<Dividend, Long> {
+
+    /* (배당 컨트랙트, 배당 ID) 후보 일괄 조회 — 정확한 쌍은 호출 측에서 거른다 */
+    @Query("SELECT d FROM Dividend d WHERE d.distributorAddress IN :distributors AND d.dividendId IN :dividendIds")
+    List<Dividend> findByDistributorAddressInAndDividendIdIn(@Param("distributors") Collection<String> distributors,
+                                                             @Param("dividendIds") Collection<Long> dividendIds);
+
+    /*
+     * 지갑이 아직 청구하지 않은 활성 배당별 스냅샷 시점 잔액 — (dividends.id, balance), 잔액 0 이하 제외.
+     * 스냅샷 시점 = SnapshotCreated 로그 위치 이전의 holding_events 합.
+     */
+    @Query(value = "SELECT d.id, SUM(e.amount_delta) FROM dividends d " +
+            "JOIN holding_events e ON e.property_id = d.property_id AND e.wallet_address = :wallet " +
+            "AND (e.block_number < d.snapshot_block " +
+            "OR (e.block_number = d.snapshot_block AND e.log_index < d.snapshot_log_index)) " +
+            "WHERE d.active = TRUE AND d.snapshot_block IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM dividend_claims c WHERE c.distributor_address = d.distributor_address " +
+            "AND c.dividend_id = d.dividend_id AND c.holder_address = :wallet) " +
+            "GROUP BY d.id HAVING SUM(e.amount_delta) > 0",
+            nativeQuery = true)
+    List<Object[]> sumUnclaimedSnapshotBalances(@Param("wallet") String wallet);
+
+    /* 교차 검증 대상 — 최근 기록된 활성 배당 중 스냅샷 위치를 아는 것 (최신 순) */
+    @Query("SELECT d FROM Dividend d WHERE d.active = true AND d.snapshotBlock IS NOT NULL " +
+            "AND d.recordedAt >= :since ORDER BY d.id DESC")
+    List<Dividend> findActiveRecordedSince(@Param("since") LocalDateTime since);
+
+    /* 배당별 미청구 보유자의 스냅샷 시점 잔액 — (dividends.id, wallet, balance), 잔액 0 이하 제외 */
+    @Query(value = "SELECT d.id, e.wallet_address, SUM(e.amount_delta) FROM dividends d " +
+            "JOIN holding_events e ON e.property_id = d.property_id " +
+            "AND (e.block_number < d.snapshot_block " +
+            "OR (e.block_number = d.snapshot_block AND e.log_index < d.snapshot_log_index)) " +
+            "WHERE d.id IN (:ids) " +
+            "AND NOT EXISTS (SELECT 1 FROM dividend_claims c WHERE c.distributor_address = d.distributor_address " +
+            "AND c.dividend_id = d.dividend_id AND c.holder_address = e.wallet_address) " +
+            "GROUP BY d.id, e.wallet_address HAVING SUM(e.amount_delta) > 0",
+            nativeQuery = true)
+    List<Object[]> sumUnclaimedSnapshotBalancesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /* 스냅샷 위치를 모른 채 기록된 배당에 token_snapshots의 위치를 채운다 — 과거 SnapshotCreated backfill 후 */
+    @Modifying
+    @Query(value = "UPDATE dividends d JOIN token_snapshots s " +
+            "ON s.property_id = d.property_id AND s.snapshot_id = d.snapshot_id " +
+            "SET d.snapshot_block = s.block_number, d.snapshot_log_index = s.log_index " +
+            "WHERE d.snapshot_block IS NULL",
+            nativeQuery = true)
+    int fillSnapshotPositions();
+
+    /*
+     * 청구 합계를 dividend_claims에서 다시 계산 — 배당 기록보다 먼저 들어온 청구(배당 생성이 인덱서 시작 전)는
+     * 기록 시점에 더할 배당이 없어 합계에서 빠지므로, 과거 배당 backfill 후 한 번 맞춘다.
+     */
+    @Modifying
+    @Query(value = "UPDATE dividends d SET d.claimed_amount = (SELECT COALESCE(SUM(c.amount), 0) FROM dividend_claims c " +
+            "WHERE c.distributor_address = d.distributor_address AND c.dividend_id = d.dividend_id)",
+            nativeQuery = true)
+    int recountClaimed();
+}
@@ -0,0 +1,17 @@
+package org.landmark.domain.dividend.repository;
+
+import org.landmark.domain.dividend.domain.TokenSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TokenSnapshotRepository extends JpaRepository<TokenSnapshot, Long> {
+
+    /* (매물, 스냅샷 ID) 후보 일괄 조회 — 정확한 쌍은 호출 측에서 거른다 */
+    @Query("SELECT s FROM TokenSnapshot s WHERE s.propertyId IN :propertyIds AND s.snapshotId IN :snapshotIds")
+    List<TokenSnapshot> findByPropertyIdInAndSnapshotIdIn(@Param("propertyIds") Collection<String> propertyIds,
+                                                          @Param("snapshotIds") Collection<Long> snapshotIds);
+}
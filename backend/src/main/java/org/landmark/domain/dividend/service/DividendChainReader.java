@@ -0,0 +1,73 @@
+package org.landmark.domain.dividend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.landmark.global.blockchain.service.MulticallReader;
+import org.springframework.stereotype.Component;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.generated.Uint256;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * DividendDistributor view 함수 일괄 조회 — 호출 N건을 MulticallReader로 묶어 보낸다.
+ * 결과는 요청과 같은 순서이고, 개별 호출이 실패한 자리는 null.
+ */
+@Component
+@RequiredArgsConstructor
+public class DividendChainReader {
+
+    private final MulticallReader multicallReader;
+
+    /* (배당 컨트랙트, 배당 ID) */
+    public record DividendKey(String distributorAddress, long dividendId) {
+    }
+
+    /* (배당 컨트랙트, 배당 ID, 보유자) */
+    public record ClaimKey(String distributorAddress, long dividendId, String holderAddress) {
+    }
+
+    /* dividends(uint256) → dividendPerToken */
+    public List<BigInteger> dividendPerTokens(List<DividendKey> keys) {
+        List<MulticallReader.Call> calls = keys.stream()
+                .map(k -> new MulticallReader.Call(k.distributorAddress(), new Function(
+                        "dividends",
+                        List.of(new Uint256(k.dividendId())),
+                        Arrays.asList(
+                                new TypeReference<Uint256>() {},  // snapshotId
+                                new TypeReference<Uint256>() {},  // totalAmount
+                                new TypeReference<Uint256>() {},  // dividendPerToken
+                                new TypeReference<Uint256>() {},  // claimedAmount
+                                new TypeReference<Uint256>() {},  // timestamp
+                                new TypeReference<Bool>() {}      // active
+                        ))))
+                .toList();
+
+        List<BigInteger> values = new ArrayList<>(keys.size());
+        for (MulticallReader.CallResult result : multicallReader.readAll(calls)) {
+            values.add(result.success() ? (BigInteger) result.values().get(2).getValue() : null);
+        }
+        return values;
+    }
+
+    /* getClaimableDividend(uint256 dividendId, address holder) */
+    public List<BigInteger> claimables(List<ClaimKey> keys) {
+        List<MulticallReader.Call> calls = keys.stream()
+                .map(k -> new MulticallReader.Call(k.distributorAddress(), new Function(
+                        "getClaimableDividend",
+                        List.of(new Uint256(k.dividendId()), new Address(k.holderAddress())),
+                        List.of(new TypeReference<Uint256>() {}))))
+                .toList();
+
+        List<BigInteger> values = new ArrayList<>(keys.size());
+        for (MulticallReader.CallResult result : multicallReader.readAll(calls)) {
+            values.add(result.success() ? result.first() : null);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,120 @@
+package org.landmark.domain.dividend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.domain.dividend.domain.Dividend;
+import org.landmark.domain.dividend.repository.DividendRepository;
+import org.landmark.global.blockchain.indexer.HoldingLedgerBackfillJob;
+import org.landmark.global.config.SchedulingConfig;
+import org.landmark.global.scheduler.runlog.SchedulerRunLogger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.web3j.protocol.Web3j;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 청구 가능액과 컨트랙트 getClaimableDividend 교차 검증.
+ *
+ * 최근 lookback-days 동안 기록된 활성 배당의 미청구 보유자를 모아 (배당, 지갑) 호출을
+ * MulticallReader로 일괄 조회하고, 한 번에 max-calls건까지만 본다 (최신 배당부터).
+ * 불일치는 원장 누락 또는 컨트랙트 balanceOfAt 특성(이후 스냅샷이 찍힌 뒤 변동한 지갑은 현재 잔액을 돌려줌)에서 오므로
+ * 값을 고치지 않고 경고만 남긴다 — failed 건수가 불일치 수.
+ */
+@Slf4j
+@Component
+public class DividendCrossCheckScheduler {
+
+    public static final String JOB_NAME = "DividendClaimableCrossCheck";
+
+    @Nullable
+    private final Web3j web3j;
+    private final DividendRepository dividendRepository;
+    private final DividendChainReader chainReader;
+    private final HoldingLedgerBackfillJob ledgerBackfill;
+    private final SchedulerRunLogger runLogger;
+
+    @Value("${dividend.cross-check.enabled:true}")
+    private boolean enabled;
+
+    @Value("${dividend.cross-check.lookback-days:30}")
+    private int lookbackDays;
+
+    @Value("${dividend.cross-check.max-calls:2000}")
+    private int maxCalls;
+
+    @Autowired
+    public DividendCrossCheckScheduler(@Nullable Web3j web3j,
+                                       DividendRepository dividendRepository,
+                                       DividendChainReader chainReader,
+                                       HoldingLedgerBackfillJob ledgerBackfill,
+                                       SchedulerRunLogger runLogger) {
+        this.web3j = web3j;
+        this.dividendRepository = dividendRepository;
+        this.chainReader = chainReader;
+        this.ledgerBackfill = ledgerBackfill;
+        this.runLogger = runLogger;
+    }
+
+    @Scheduled(fixedDelayString = "${dividend.cross-check.interval-ms:3600000}",
+            initialDelayString = "${dividend.cross-check.initial-delay-ms:300000}",
+            scheduler = SchedulingConfig.LONG_JOB_SCHEDULER)
+    public void crossCheck() {
+        // 원장 backfill 전에는 검사 대상(원장의 보유자)부터 빠져 있어 불일치가 드러나지 않는다
+        if (!enabled || web3j == null || !ledgerBackfill.isComplete()) return;
+
+        List<Dividend> dividends = dividendRepository.findActiveRecordedSince(LocalDateTime.now().minusDays(lookbackDays));
+        if (dividends.isEmpty()) return;
+
+        runLogger.run(JOB_NAME, () -> doCrossCheck(dividends));
+    }
+
+    private SchedulerRunLogger.Result doCrossCheck(List<Dividend> dividends) {
+        Map<Long, Dividend> byId = new HashMap<>();
+        dividends.forEach(d -> byId.put(d.getId(), d));
+
+        List<Object[]> rows = new ArrayList<>(dividendRepository.sumUnclaimedSnapshotBalancesByIdIn(byId.keySet()));
+        // 최신 배당부터 max-calls건
+        rows.sort((a, b) -> Long.compare(((Number) b[0]).longValue(), ((Number) a[0]).longValue()));
+        if (rows.size() > maxCalls) {
+            log.info("배당 교차 검증 대상 {}건 중 {}건만 검사", rows.size(), maxCalls);
+            rows = rows.subList(0, maxCalls);
+        }
+
+        List<DividendChainReader.ClaimKey> keys = new ArrayList<>(rows.size());
+        List<BigInteger> localValues = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Dividend dividend = byId.get(((Number) row[0]).longValue());
+            String wallet = (String) row[1];
+            keys.add(new DividendChainReader.ClaimKey(dividend.getDistributorAddress(), dividend.getDividendId(), wallet));
+            localValues.add(dividend.claimableFor(((Number) row[2]).longValue()));
+        }
+        if (keys.isEmpty()) return new SchedulerRunLogger.Result(0, 0);
+
+        List<BigInteger> onChainValues = chainReader.claimables(keys);
+
+        int checked = 0;
+        int mismatched = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            BigInteger onChain = onChainValues.get(i);
+            if (onChain == null) continue;
+            checked++;
+            if (onChain.compareTo(localValues.get(i)) != 0) {
+                mismatched++;
+                DividendChainReader.ClaimKey key = keys.get(i);
+                log.warn("배당 청구 가능액 불일치 - distributor: {}, dividendId: {}, holder: {}, 로컬: {}, 온체인: {}",
+                        key.distributorAddress(), key.dividendId(), key.holderAddress(), localValues.get(i), onChain);
+            }
+        }
+
+        log.info("배당 교차 검증 완료 - 배당: {}건, 검사: {}건, 불일치: {}건", dividends.size(), checked, mismatched);
+        return new SchedulerRunLogger.Result(checked, mismatched);
+    }
+}
@@ -0,0 +1,307 @@
+package org.landmark.domain.dividend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.domain.dividend.domain.Dividend;
+import org.landmark.domain.dividend.domain.DividendClaim;
+import org.landmark.domain.dividend.domain.TokenSnapshot;
+import org.landmark.domain.dividend.dto.DividendClaimedLog;
+import org.landmark.domain.dividend.dto.DividendCreatedLog;
+import org.landmark.domain.dividend.dto.SnapshotCreatedLog;
+import org.landmark.domain.dividend.dto.UnclaimedWithdrawnLog;
+import org.landmark.domain.dividend.repository.DividendClaimRepository;
+import org.landmark.domain.dividend.repository.DividendRepository;
+import org.landmark.domain.dividend.repository.TokenSnapshotRepository;
+import org.landmark.domain.properties.dto.PropertyContractAddresses;
+import org.landmark.domain.properties.repository.PropertyRepository;
+import org.landmark.global.exception.BusinessException;
+import org.landmark.global.exception.ErrorCode;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DividendDistributor / PropertyToken 배당 관련 로그를 dividends, dividend_claims, token_snapshots에 반영.
+ *
+ * 한 폴링 구간의 로그를 스냅샷 → 배당 생성 → 청구 → 미청구 회수 순으로 처리하므로
+ * 같은 구간 안에서 스냅샷과 배당, 배당과 청구가 함께 들어와도 참조가 맞는다.
+ * 모든 기록은 로그 키로 중복을 걸러 같은 구간을 다시 받아도 한 번만 반영된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DividendIndexService {
+
+    private static final BigInteger ONE_ETHER = BigInteger.TEN.pow(18);
+
+    private final DividendRepository dividendRepository;
+    private final DividendClaimRepository dividendClaimRepository;
+    private final TokenSnapshotRepository tokenSnapshotRepository;
+    private final PropertyRepository propertyRepository;
+    private final DividendChainReader chainReader;
+
+    /* 컨트랙트 주소(소문자) → 매물 ID */
+    private record PropertyIndex(Map<String, String> byToken, Map<String, String> byDistributor) {
+    }
+
+    @Transactional
+    public void record(List<SnapshotCreatedLog> snapshots,
+                       List<DividendCreatedLog> created,
+                       List<DividendClaimedLog> claims,
+                       List<UnclaimedWithdrawnLog> withdrawals) {
+        PropertyIndex properties = propertyIndex();
+
+        recordSnapshots(snapshots, properties);
+        Map<String, Dividend> dividends = recordCreated(created, properties);
+        recordClaims(claims, properties, dividends);
+        recordWithdrawals(withdrawals, dividends);
+    }
+
+    /*
+     * 과거 배당 이력 backfill 마무리 — 스냅샷을 늦게 알게 된 배당의 스냅샷 위치를 채우고 청구 합계를 청구 기록에서 다시 맞춘다.
+     * 반환: 스냅샷 위치를 채운 배당 수
+     */
+    @Transactional
+    public int reconcileBackfilled() {
+        int resolved = dividendRepository.fillSnapshotPositions();
+        int recounted = dividendRepository.recountClaimed();
+        log.info("배당 이력 backfill 정리 - 스냅샷 위치 보정: {}건, 청구 합계 재계산: {}건", resolved, recounted);
+        return resolved;
+    }
+
+    private void recordSnapshots(List<SnapshotCreatedLog> snapshots, PropertyIndex properties) {
+        if (snapshots.isEmpty()) return;
+
+        Set<String> propertyIds = new HashSet<>();
+        Set<Long> snapshotIds = new HashSet<>();
+        for (SnapshotCreatedLog s : snapshots) {
+            String propertyId = properties.byToken().get(s.tokenAddress().toLowerCase());
+            if (propertyId != null) propertyIds.add(propertyId);
+            snapshotIds.add(s.snapshotId());
+        }
+        if (propertyIds.isEmpty()) return;
+
+        Set<String> recorded = new HashSet<>();
+        for (TokenSnapshot existing : tokenSnapshotRepository.findByPropertyIdInAndSnapshotIdIn(propertyIds, snapshotIds)) {
+            recorded.add(existing.getPropertyId() + ":" + existing.getSnapshotId());
+        }
+
+        List<TokenSnapshot> fresh = new ArrayList<>();
+        for (SnapshotCreatedLog s : snapshots) {
+            String propertyId = properties.byToken().get(s.tokenAddress().toLowerCase());
+            if (propertyId == null) {
+                log.warn("SnapshotCreated — 매물 없음 - token: {}, txHash: {}", s.tokenAddress(), s.txHash());
+                continue;
+            }
+            if (!recorded.add(propertyId + ":" + s.snapshotId())) continue;
+            fresh.add(TokenSnapshot.builder()
+                    .propertyId(propertyId)
+                    .snapshotId(s.snapshotId())
+                    .totalSupply(s.totalSupply())
+                    .txHash(s.txHash())
+                    .blockNumber(s.blockNumber())
+                    .logIndex(s.logIndex())
+                    .build());
+        }
+        tokenSnapshotRepository.saveAll(fresh);
+        log.info("토큰 스냅샷 기록 - 수신: {}건, 신규: {}건", snapshots.size(), fresh.size());
+    }
+
+    /*
+     * 배당 생성 기록. 토큰당 배당은 스냅샷 totalSupply로 컨트랙트와 같은 식으로 계산하고,
+     * 스냅샷이 인덱서 시작 전에 찍혀 모르는 경우에만 컨트랙트 dividends()를 일괄 조회한다 (조회 실패 시 예외 — 구간 재시도).
+     * 반환: 이 구간의 청구/회수가 참조할 수 있는 배당 (키: distributor:dividendId)
+     */
+    private Map<String, Dividend> recordCreated(List<DividendCreatedLog> created, PropertyIndex properties) {
+        Map<String, Dividend> dividends = new HashMap<>();
+        if (created.isEmpty()) return dividends;
+
+        Set<String> distributors = new HashSet<>();
+        Set<Long> dividendIds = new HashSet<>();
+        Set<String> propertyIds = new HashSet<>();
+        Set<Long> snapshotIds = new HashSet<>();
+        for (DividendCreatedLog c : created) {
+            distributors.add(c.distributorAddress().toLowerCase());
+            dividendIds.add(c.dividendId());
+            String propertyId = properties.byDistributor().get(c.distributorAddress().toLowerCase());
+            if (propertyId != null) propertyIds.add(propertyId);
+            snapshotIds.add(c.snapshotId());
+        }
+        for (Dividend existing : dividendRepository.findByDistributorAddressInAndDividendIdIn(distributors, dividendIds)) {
+            dividends.put(key(existing.getDistributorAddress(), existing.getDividendId()), existing);
+        }
+
+        Map<String, TokenSnapshot> snapshotByKey = new HashMap<>();
+        if (!propertyIds.isEmpty()) {
+            for (TokenSnapshot s : tokenSnapshotRepository.findByPropertyIdInAndSnapshotIdIn(propertyIds, snapshotIds)) {
+                snapshotByKey.put(s.getPropertyId() + ":" + s.getSnapshotId(), s);
+            }
+        }
+
+        List<DividendCreatedLog> fresh = new ArrayList<>();
+        Set<String> seen = new HashSet<>(dividends.keySet());
+        for (DividendCreatedLog c : created) {
+            if (!properties.byDistributor().containsKey(c.distributorAddress().toLowerCase())) {
+                log.warn("DividendCreated — 매물 없음 - distributor: {}, txHash: {}", c.distributorAddress(), c.txHash());
+                continue;
+            }
+            if (seen.add(key(c.distributorAddress(), c.dividendId()))) fresh.add(c);
+        }
+        if (fresh.isEmpty()) return dividends;
+
+        // 스냅샷을 모르는 배당만 온체인에서 토큰당 배당을 읽는다
+        List<DividendChainReader.DividendKey> unresolved = new ArrayList<>();
+        for (DividendCreatedLog c : fresh) {
+            String propertyId = properties.byDistributor().get(c.distributorAddress().toLowerCase());
+            TokenSnapshot snapshot = snapshotByKey.get(propertyId + ":" + c.snapshotId());
+            if (snapshot == null || snapshot.getTotalSupply() <= 0) {
+                unresolved.add(new DividendChainReader.DividendKey(c.distributorAddress(), c.dividendId()));
+            }
+        }
+        Map<String, BigInteger> onChainPerToken = new HashMap<>();
+        if (!unresolved.isEmpty()) {
+            List<BigInteger> values = chainReader.dividendPerTokens(unresolved);
+            for (int i = 0; i < unresolved.size(); i++) {
+                DividendChainReader.DividendKey k = unresolved.get(i);
+                if (values.get(i) == null) {
+                    log.error("배당 정보 온체인 조회 실패 - distributor: {}, dividendId: {}", k.distributorAddress(), k.dividendId());
+                    throw new BusinessException(ErrorCode.BLOCKCHAIN_BALANCE_QUERY_FAILED);
+                }
+                onChainPerToken.put(key(k.distributorAddress(), k.dividendId()), values.get(i));
+            }
+        }
+
+        List<Dividend> toSave = new ArrayList<>(fresh.size());
+        for (DividendCreatedLog c : fresh) {
+            String propertyId = properties.byDistributor().get(c.distributorAddress().toLowerCase());
+            TokenSnapshot snapshot = snapshotByKey.get(propertyId + ":" + c.snapshotId());
+
+            BigInteger perToken;
+            if (snapshot != null && snapshot.getTotalSupply() > 0) {
+                perToken = c.amount().multiply(ONE_ETHER).divide(BigInteger.valueOf(snapshot.getTotalSupply()));
+            } else {
+                perToken = onChainPerToken.get(key(c.distributorAddress(), c.dividendId()));
+            }
+            if (snapshot == null) {
+                log.warn("배당 스냅샷 위치 모름 — 로컬 청구 가능액 계산 제외 - propertyId: {}, dividendId: {}, snapshotId: {}",
+                        propertyId, c.dividendId(), c.snapshotId());
+            }
+
+            Dividend dividend = Dividend.builder()
+                    .distributorAddress(c.distributorAddress())
+                    .propertyId(propertyId)
+                    .dividendId(c.dividendId())
+                    .snapshotId(c.snapshotId())
+                    .totalAmount(c.amount())
+                    .dividendPerToken(perToken)
+                    .snapshotBlock(snapshot == null ? null : snapshot.getBlockNumber())
+                    .snapshotLogIndex(snapshot == null ? null : snapshot.getLogIndex())
+                    .txHash(c.txHash())
+                    .blockNumber(c.blockNumber())
+                    .blockTimestamp(c.blockTimestamp())
+                    .build();
+            toSave.add(dividend);
+            dividends.put(key(dividend.getDistributorAddress(), dividend.getDividendId()), dividend);
+        }
+        dividendRepository.saveAll(toSave);
+        log.info("배당 생성 기록 - 수신: {}건, 신규: {}건", created.size(), toSave.size());
+        return dividends;
+    }
+
+    private void recordClaims(List<DividendClaimedLog> claims, PropertyIndex properties, Map<String, Dividend> dividends) {
+        if (claims.isEmpty()) return;
+
+        Set<String> txHashes = new HashSet<>();
+        claims.forEach(c -> txHashes.add(c.txHash()));
+        Set<String> recorded = new HashSet<>();
+        for (Object[] row : dividendClaimRepository.findLogKeysByTxHashIn(txHashes)) {
+            recorded.add(row[0] + ":" + row[1]);
+        }
+
+        List<DividendClaim> fresh = new ArrayList<>();
+        for (DividendClaimedLog c : claims) {
+            String propertyId = properties.byDistributor().get(c.distributorAddress().toLowerCase());
+            if (propertyId == null) {
+                log.warn("DividendClaimed — 매물 없음 - distributor: {}, txHash: {}", c.distributorAddress(), c.txHash());
+                continue;
+            }
+            DividendClaim claim = DividendClaim.builder()
+                    .txHash(c.txHash())
+                    .logIndex(c.logIndex())
+                    .distributorAddress(c.distributorAddress())
+                    .propertyId(propertyId)
+                    .dividendId(c.dividendId())
+                    .holderAddress(c.holderAddress())
+                    .amount(c.amount())
+                    .blockNumber(c.blockNumber())
+                    .blockTimestamp(c.blockTimestamp())
+                    .build();
+            if (recorded.add(claim.logKey())) fresh.add(claim);
+        }
+        if (fresh.isEmpty()) return;
+        dividendClaimRepository.saveAll(fresh);
+
+        // 배당별 청구 합계 — 이 구간에서 생성되지 않은 배당은 한 번에 불러온다
+        loadMissing(dividends, fresh.stream().map(c -> key(c.getDistributorAddress(), c.getDividendId())).toList());
+        for (DividendClaim claim : fresh) {
+            Dividend dividend = dividends.get(key(claim.getDistributorAddress(), claim.getDividendId()));
+            if (dividend != null) dividend.addClaimed(claim.getAmount());
+        }
+        log.info("배당 청구 기록 - 수신: {}건, 신규: {}건", claims.size(), fresh.size());
+    }
+
+    private void recordWithdrawals(List<UnclaimedWithdrawnLog> withdrawals, Map<String, Dividend> dividends) {
+        if (withdrawals.isEmpty()) return;
+
+        loadMissing(dividends, withdrawals.stream().map(w -> key(w.distributorAddress(), w.dividendId())).toList());
+        for (UnclaimedWithdrawnLog w : withdrawals) {
+            Dividend dividend = dividends.get(key(w.distributorAddress(), w.dividendId()));
+            if (dividend == null) {
+                log.warn("UnclaimedWithdrawn — 배당 기록 없음 - distributor: {}, dividendId: {}", w.distributorAddress(), w.dividendId());
+                continue;
+            }
+            if (!dividend.isActive()) continue;
+            dividend.withdrawUnclaimed(w.amount());
+            log.info("배당 미청구 회수 - propertyId: {}, dividendId: {}, amount: {}",
+                    dividend.getPropertyId(), dividend.getDividendId(), w.amount());
+        }
+    }
+
+    private void loadMissing(Map<String, Dividend> dividends, List<String> keys) {
+        Set<String> distributors = new HashSet<>();
+        Set<Long> dividendIds = new HashSet<>();
+        for (String k : keys) {
+            if (dividends.containsKey(k)) continue;
+            int sep = k.indexOf(':');
+            distributors.add(k.substring(0, sep));
+            dividendIds.add(Long.parseLong(k.substring(sep + 1)));
+        }
+        if (distributors.isEmpty()) return;
+        for (Dividend d : dividendRepository.findByDistributorAddressInAndDividendIdIn(distributors, dividendIds)) {
+            dividends.putIfAbsent(key(d.getDistributorAddress(), d.getDividendId()), d);
+        }
+    }
+
+    private PropertyIndex propertyIndex() {
+        Map<String, String> byToken = new HashMap<>();
+        Map<String, String> byDistributor = new HashMap<>();
+        for (PropertyContractAddresses p : propertyRepository.findAllContractAddresses()) {
+            byToken.put(p.stoTokenAddress().toLowerCase(), p.stoTokenAddress());
+            if (p.dividendDistributorAddress() != null) {
+                byDistributor.put(p.dividendDistributorAddress().toLowerCase(), p.stoTokenAddress());
+            }
+        }
+        return new PropertyIndex(byToken, byDistributor);
+    }
+
+    private static String key(String distributorAddress, long dividendId) {
+        return distributorAddress.toLowerCase() + ":" + dividendId;
+    }
+}
@@ -0,0 +1,8 @@
+package org.landmark.domain.dividend.service;
+
+import org.landmark.domain.dividend.dto.MyDividendsResponse;
+
+public interface DividendService {
+
+    MyDividendsResponse getMyDividends(String userId);
+}
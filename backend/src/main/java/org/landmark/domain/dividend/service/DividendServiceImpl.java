@@ -0,0 +1,83 @@
+package org.landmark.domain.dividend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.landmark.domain.dividend.domain.Dividend;
+import org.landmark.domain.dividend.domain.DividendClaim;
+import org.landmark.domain.dividend.dto.ClaimableDividendResponse;
+import org.landmark.domain.dividend.dto.MyDividendsResponse;
+import org.landmark.domain.dividend.dto.ReceivedDividendResponse;
+import org.landmark.domain.dividend.repository.DividendClaimRepository;
+import org.landmark.domain.dividend.repository.DividendRepository;
+import org.landmark.domain.user.domain.User;
+import org.landmark.domain.user.repository.UserRepository;
+import org.landmark.global.blockchain.indexer.HoldingLedgerBackfillJob;
+import org.landmark.global.exception.BusinessException;
+import org.landmark.global.exception.ErrorCode;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 내 배당 조회 — 체인을 읽지 않고 인덱싱된 dividends / dividend_claims / holding_events만 사용.
+ * 청구 가능액 = 스냅샷 시점 잔액 × 토큰당 배당 / 1e18 (컨트랙트 getClaimableDividend와 같은 식).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DividendServiceImpl implements DividendService {
+
+    private final DividendRepository dividendRepository;
+    private final DividendClaimRepository dividendClaimRepository;
+    private final UserRepository userRepository;
+    private final HoldingLedgerBackfillJob ledgerBackfill;
+
+    /* 청구 가능액은 holding_events 기준 — 원장 backfill 전에는 원장 도입 이전 보유자가 0으로 보이므로 응답하지 않는다 */
+    @Override
+    public MyDividendsResponse getMyDividends(String userId) {
+        if (!ledgerBackfill.isComplete()) {
+            throw new BusinessException(ErrorCode.HOLDING_LEDGER_NOT_READY);
+        }
+        String wallet = walletOf(userId);
+
+        List<DividendClaim> claims = dividendClaimRepository.findByHolderAddressOrderByBlockNumberDescLogIndexDesc(wallet);
+        BigInteger totalReceived = BigInteger.ZERO;
+        List<ReceivedDividendResponse> received = new ArrayList<>(claims.size());
+        for (DividendClaim claim : claims) {
+            totalReceived = totalReceived.add(claim.getAmount());
+            received.add(ReceivedDividendResponse.from(claim));
+        }
+
+        Map<Long, Long> balances = new HashMap<>();
+        for (Object[] row : dividendRepository.sumUnclaimedSnapshotBalances(wallet)) {
+            balances.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        BigInteger totalClaimable = BigInteger.ZERO;
+        List<ClaimableDividendResponse> claimable = new ArrayList<>(balances.size());
+        for (Dividend dividend : dividendRepository.findAllById(balances.keySet())) {
+            long balance = balances.get(dividend.getId());
+            BigInteger amount = dividend.claimableFor(balance);
+            if (amount.signum() <= 0) continue;
+            totalClaimable = totalClaimable.add(amount);
+            claimable.add(ClaimableDividendResponse.of(dividend, balance, amount));
+        }
+        claimable.sort(Comparator.comparing(ClaimableDividendResponse::createdAt,
+            Comparator.nullsLast(Comparator.reverseOrder())));
+
+        return new MyDividendsResponse(wallet, totalReceived.toString(), totalClaimable.toString(), received, claimable);
+    }
+
+    private String walletOf(String userId) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        if (user.getWalletAddress() == null) {
+            throw new BusinessException(ErrorCode.WALLET_NOT_LINKED);
+        }
+        return user.getWalletAddress().toLowerCase();
+    }
+}
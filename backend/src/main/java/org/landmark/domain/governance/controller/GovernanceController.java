@@ -6,7 +6,10 @@ import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.landmark.global.dto.ApiResponse;
+import org.landmark.domain.governance.domain.ProposalStatus;
+import org.landmark.domain.governance.dto.ProposalPageResponse;
 import org.landmark.domain.governance.dto.ProposalResponse;
+import org.landmark.domain.governance.dto.VotePageResponse;
 import org.landmark.domain.governance.service.GovernanceService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +26,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 @Tag(name = "Governance", description = "거버넌스 제안 관리 API")
 public class GovernanceController {
+  private static final int MAX_PAGE_SIZE = 500;
+
   private final GovernanceService governanceService;
 
   @Operation(summary = "제안 목록 조회", description = "활성화된 거버넌스 제안 목록을 조회합니다. propertyId로 필터링할 수 있습니다.")
@@ -35,6 +40,43 @@ public class GovernanceController {
     return ResponseEntity.ok(ApiResponse.ok(proposals));
   }
 
+  @Operation(summary = "제안 목록 페이지 조회",
+      description = "제안 요약 목록을 최신순으로 cursor 기반 페이지 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하세요. status, propertyId로 필터링할 수 있습니다.")
+  @GetMapping("/proposals/page")
+  public ResponseEntity<ApiResponse<ProposalPageResponse>> getProposalPage(
+      @RequestParam(required = false) Long cursor,
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(required = false) ProposalStatus status,
+      @RequestParam(required = false) String propertyId
+  ) {
+    return ResponseEntity.ok(ApiResponse.ok(
+        governanceService.findProposalPage(cursor, clampSize(size), status, propertyId)));
+  }
+
+  @Operation(summary = "제안 투표자 목록",
+      description = "제안에 투표한 지갑과 찬반, 투표권 수를 투표 순서대로 cursor 기반 페이지 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하세요.")
+  @GetMapping("/proposals/{proposalId}/votes")
+  public ResponseEntity<ApiResponse<VotePageResponse>> getProposalVotes(
+      @PathVariable Long proposalId,
+      @RequestParam(required = false) Long cursor,
+      @RequestParam(defaultValue = "100") int size
+  ) {
+    return ResponseEntity.ok(ApiResponse.ok(
+        governanceService.findVotesByProposal(proposalId, cursor, clampSize(size))));
+  }
+
+  @Operation(summary = "지갑별 투표 이력",
+      description = "지갑 주소의 투표 이력을 최신순으로 cursor 기반 페이지 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하세요.")
+  @GetMapping("/votes")
+  public ResponseEntity<ApiResponse<VotePageResponse>> getVoterHistory(
+      @RequestParam String voterAddress,
+      @RequestParam(required = false) Long cursor,
+      @RequestParam(defaultValue = "100") int size
+  ) {
+    return ResponseEntity.ok(ApiResponse.ok(
+        governanceService.findVotesByVoter(voterAddress, cursor, clampSize(size))));
+  }
+
   @Operation(summary = "제안 취소", description = "생성된 거버넌스 제안을 취소합니다.")
   @DeleteMapping("/proposals/{proposalId}")
   public ResponseEntity<ApiResponse<Object>> cancelProposal(
@@ -50,4 +92,8 @@ public class GovernanceController {
         HttpStatus.OK.value(), "제안이 성공적으로 취소되었습니다.", responseData
     ));
   }
+
+  private static int clampSize(int size) {
+    return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+  }
 }
@@ -13,7 +13,10 @@ import org.landmark.domain.properties.domain.Property;
 import java.util.List;
 
 @Entity
-@Table(name = "Proposals")
+@Table(name = "Proposals", indexes = {
+        @Index(name = "idx_proposal_status_id", columnList = "status, id"),
+        @Index(name = "idx_proposal_property_id", columnList = "property_id, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Proposal {
@@ -78,20 +81,21 @@ public class Proposal {
         this.status = ProposalStatus.ACTIVE;
     }
 
-    public void addVote(boolean support, long votes) {
-        if (support) {
-            this.voteFor += votes;
-        } else {
-            this.voteAgainst += votes;
-        }
-    }
-
     public void activate() {
         if (this.status == ProposalStatus.PENDING) {
             this.status = ProposalStatus.ACTIVE;
         }
     }
 
+    /* 투표 마감 — 찬성이 반대보다 많으면 통과. 이미 닫힌 안건이면 false */
+    public boolean close() {
+        if (this.status != ProposalStatus.PENDING && this.status != ProposalStatus.ACTIVE) {
+            return false;
+        }
+        this.status = this.voteFor > this.voteAgainst ? ProposalStatus.PASSED : ProposalStatus.FAILED;
+        return true;
+    }
+
     public void cancel() {
         if (this.status == ProposalStatus.PENDING || this.status == ProposalStatus.ACTIVE) {
             this.status = ProposalStatus.CANCELLED;
@@ -0,0 +1,55 @@
+package org.landmark.domain.governance.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 온체인 Voted 이벤트 1건 = 1 row. (tx_hash, log_index)가 유일해 같은 블록을 다시 읽어도 중복 집계되지 않는다.
+ * 삽입은 VoteBatchRepository.insertIgnoreAll(INSERT IGNORE)로만 한다.
+ */
+@Entity
+@Table(name = "Votes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_vote_log", columnNames = {"tx_hash", "log_index"}),
+        indexes = {
+                @Index(name = "idx_vote_proposal", columnList = "proposal_id, id"),
+                @Index(name = "idx_vote_voter", columnList = "voter_address, id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Vote {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "proposal_id", nullable = false)
+    private Proposal proposal;
+
+    /* 소문자 정규화 */
+    @Column(name = "voter_address", nullable = false, length = 42)
+    private String voterAddress;
+
+    @Column(nullable = false)
+    private boolean support;
+
+    @Column(nullable = false)
+    private Long weight;
+
+    @Column(name = "tx_hash", nullable = false, length = 66)
+    private String txHash;
+
+    @Column(name = "log_index", nullable = false)
+    private Long logIndex;
+
+    @Column(name = "block_number", nullable = false)
+    private Long blockNumber;
+
+    @CreationTimestamp
+    @Column(name = "recorded_at", nullable = false, updatable = false)
+    private LocalDateTime recordedAt;
+}
@@ -0,0 +1,15 @@
+package org.landmark.domain.governance.dto;
+
+import java.util.List;
+
+/**
+ * 안건 목록 한 페이지. nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회 — null이면 마지막 페이지.
+ */
+public record ProposalPageResponse(
+    List<ProposalSummaryResponse> items,
+    String nextCursor
+) {
+  public static ProposalPageResponse of(List<ProposalSummaryResponse> items, Long nextCursor) {
+    return new ProposalPageResponse(items, nextCursor == null ? null : String.valueOf(nextCursor));
+  }
+}
@@ -0,0 +1,24 @@
+package org.landmark.domain.governance.dto;
+
+import java.math.BigInteger;
+import java.util.List;
+import org.landmark.domain.governance.domain.ProposalStatus;
+
+/* 목록용 JPQL 생성자 프로젝션 — description(@Lob)은 읽지 않는다 */
+public record ProposalSummary(
+    Long id,
+    BigInteger onChainProposalId,
+    String title,
+    String propertyId,
+    String propertyName,
+    String daoContractAddress,
+    Long totalTokens,
+    String proposerAddress,
+    Long startAt,
+    Long endAt,
+    List<String> choices,
+    ProposalStatus status,
+    Long voteFor,
+    Long voteAgainst
+) {
+}
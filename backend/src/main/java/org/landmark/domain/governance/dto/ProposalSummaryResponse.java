@@ -0,0 +1,42 @@
+package org.landmark.domain.governance.dto;
+
+import java.util.List;
+import org.landmark.domain.governance.domain.ProposalStatus;
+
+public record ProposalSummaryResponse(
+    String id,
+    String onChainProposalId,
+    String title,
+
+    String propertyId,
+    String propertyName,
+    String daoContractAddress,
+    Long totalTokens,
+
+    String proposerAddress,
+    Long startAt,
+    Long endAt,
+    List<String> choices,
+    ProposalStatus status,
+    Long voteFor,
+    Long voteAgainst
+) {
+  public static ProposalSummaryResponse from(ProposalSummary summary) {
+    return new ProposalSummaryResponse(
+        String.valueOf(summary.id()),
+        String.valueOf(summary.onChainProposalId()),
+        summary.title(),
+        summary.propertyId(),
+        summary.propertyName(),
+        summary.daoContractAddress(),
+        summary.totalTokens(),
+        summary.proposerAddress(),
+        summary.startAt(),
+        summary.endAt(),
+        summary.choices(),
+        summary.status(),
+        summary.voteFor(),
+        summary.voteAgainst()
+    );
+  }
+}
@@ -0,0 +1,15 @@
+package org.landmark.domain.governance.dto;
+
+import java.math.BigInteger;
+
+/* 온체인 Voted 이벤트 1건 — 인덱서가 폴링 구간 단위로 모아 GovernanceService.recordVotes에 넘긴다 */
+public record VoteLog(
+    BigInteger onChainProposalId,
+    String voterAddress,
+    boolean support,
+    long weight,
+    String txHash,
+    long logIndex,
+    long blockNumber
+) {
+}
@@ -0,0 +1,15 @@
+package org.landmark.domain.governance.dto;
+
+import java.util.List;
+
+/**
+ * 투표 목록 한 페이지. nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회 — null이면 마지막 페이지.
+ */
+public record VotePageResponse(
+    List<VoteResponse> items,
+    String nextCursor
+) {
+  public static VotePageResponse of(List<VoteResponse> items, Long nextCursor) {
+    return new VotePageResponse(items, nextCursor == null ? null : String.valueOf(nextCursor));
+  }
+}
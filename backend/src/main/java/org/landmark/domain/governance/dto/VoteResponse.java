@@ -0,0 +1,26 @@
+package org.landmark.domain.governance.dto;
+
+import java.time.LocalDateTime;
+import org.landmark.domain.governance.domain.Vote;
+
+public record VoteResponse(
+    String proposalId,
+    String voterAddress,
+    boolean support,
+    Long weight,
+    String txHash,
+    Long blockNumber,
+    LocalDateTime recordedAt
+) {
+  public static VoteResponse from(Vote vote) {
+    return new VoteResponse(
+        String.valueOf(vote.getProposal().getId()),
+        vote.getVoterAddress(),
+        vote.isSupport(),
+        vote.getWeight(),
+        vote.getTxHash(),
+        vote.getBlockNumber(),
+        vote.getRecordedAt()
+    );
+  }
+}
@@ -0,0 +1,5 @@
+package org.landmark.domain.governance.event;
+
+/* 안건이 새로 저장됨 — 커밋 후 ProposalLifecycleEngine이 마감 시각(endAt, epoch 초)에 종료를 예약 */
+public record ProposalRecordedEvent(Long proposalId, String propertyId, long endAt) {
+}
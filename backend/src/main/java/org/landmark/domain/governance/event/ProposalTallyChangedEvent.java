@@ -0,0 +1,5 @@
+package org.landmark.domain.governance.event;
+
+/* 투표 반영 후 안건의 누적 찬반 투표권 수 */
+public record ProposalTallyChangedEvent(Long proposalId, String propertyId, long voteFor, long voteAgainst) {
+}
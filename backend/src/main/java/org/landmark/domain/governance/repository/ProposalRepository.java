@@ -4,7 +4,12 @@ import java.math.BigInteger;
 import java.util.Optional;
 import org.landmark.domain.governance.domain.Proposal;
 import org.landmark.domain.governance.domain.ProposalStatus;
+import org.landmark.domain.governance.dto.ProposalSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -17,6 +22,54 @@ public interface ProposalRepository extends JpaRepository<Proposal, Long> {
 
     Optional<Proposal> findByOnChainProposalId(BigInteger onChainProposalId);
 
+    List<Proposal> findByOnChainProposalIdIn(List<BigInteger> onChainProposalIds);
+
+    /* 마감 타이머 복원용 — 진행 중 안건의 (id, endAt)만 */
+    @Query("SELECT p.id, p.endAt FROM Proposal p WHERE p.status IN :statuses")
+    List<Object[]> findIdAndEndAtByStatusIn(@Param("statuses") List<ProposalStatus> statuses);
+
+    /**
+     * id 기준 keyset 페이지 (최신순). cursor 미만 id만 읽으므로 테이블이 커져도 페이지 비용이 일정하다.
+     * Property는 join으로 한 번에 읽고, description은 제외.
+     */
+    @Query("SELECT new org.landmark.domain.governance.dto.ProposalSummary(" +
+            "p.id, p.onChainProposalId, p.title, pr.id, pr.name, pr.daoContractAddress, pr.totalTokens, " +
+            "p.proposerAddress, p.startAt, p.endAt, p.choices, p.status, p.voteFor, p.voteAgainst) " +
+            "FROM Proposal p JOIN p.property pr " +
+            "WHERE (:cursor IS NULL OR p.id < :cursor) " +
+            "AND (:status IS NULL OR p.status = :status) " +
+            "AND (:propertyId IS NULL OR pr.id = :propertyId) " +
+            "ORDER BY p.id DESC")
+    List<ProposalSummary> findSummaryPage(@Param("cursor") Long cursor,
+                                          @Param("status") ProposalStatus status,
+                                          @Param("propertyId") String propertyId,
+                                          Pageable pageable);
+
+    /*
+     * 찬반 집계를 votes 원장에서 다시 계산 — 증분을 더하지 않으므로 INSERT IGNORE가 걸러낸 중복(다른 인스턴스가 먼저 넣은 투표)이
+     * 섞여도, 같은 안건을 여러 번 다시 계산해도 결과가 같다. idx_vote_proposal (proposal_id, id) 범위만 읽는다.
+     */
+    @Modifying
+    @Query(value = "UPDATE proposals p SET " +
+            "p.vote_for = (SELECT COALESCE(SUM(v.weight), 0) FROM votes v WHERE v.proposal_id = p.id AND v.support = TRUE), " +
+            "p.vote_against = (SELECT COALESCE(SUM(v.weight), 0) FROM votes v WHERE v.proposal_id = p.id AND v.support = FALSE) " +
+            "WHERE p.id IN (:ids)",
+            nativeQuery = true)
+    int recountVotes(@Param("ids") List<Long> ids);
+
+    /* 이미 마감된 안건에 늦게 인덱싱된 투표가 더해졌을 때 결과 재판정 — 진행 중/취소 안건은 건드리지 않는다 */
+    @Modifying
+    @Query("UPDATE Proposal p SET p.status = CASE WHEN p.voteFor > p.voteAgainst " +
+            "THEN org.landmark.domain.governance.domain.ProposalStatus.PASSED " +
+            "ELSE org.landmark.domain.governance.domain.ProposalStatus.FAILED END " +
+            "WHERE p.id IN :ids AND p.status IN (org.landmark.domain.governance.domain.ProposalStatus.PASSED, " +
+            "org.landmark.domain.governance.domain.ProposalStatus.FAILED)")
+    int redecideClosed(@Param("ids") List<Long> ids);
+
+    /* recountVotes 이후 누적 찬반 — (id, propertyId, voteFor, voteAgainst). 영속성 컨텍스트를 거치지 않아 방금 갱신한 값이 보인다 */
+    @Query("SELECT p.id, p.property.id, p.voteFor, p.voteAgainst FROM Proposal p WHERE p.id IN :ids")
+    List<Object[]> findTalliesByIdIn(@Param("ids") List<Long> ids);
+
     List<Proposal> findByStatusAndStartAtLessThanEqualAndEndAtGreaterThan(
         ProposalStatus status, Long now1, Long now2
     );
@@ -0,0 +1,57 @@
+package org.landmark.domain.governance.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * votes 대량 추가 — JDBC batch 1회.
+ * 중복 여부는 호출 측이 (tx_hash, log_index)로 미리 거르고, INSERT IGNORE는 그 사이 끼어든 중복만 막는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoteBatchRepository {
+
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO votes " +
+            "(proposal_id, voter_address, support, weight, tx_hash, log_index, block_number, recorded_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record VoteRow(Long proposalId, String voterAddress, boolean support, long weight,
+                          String txHash, long logIndex, long blockNumber) {
+    }
+
+    /**
+     * 반환값은 실제로 들어간 건수. 드라이버가 batch를 다중 VALUES로 재작성해
+     * 건별 결과를 주지 않으면(SUCCESS_NO_INFO) -1.
+     */
+    public int insertIgnoreAll(List<VoteRow> rows) {
+        if (rows.isEmpty()) return 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.proposalId());
+            ps.setString(2, row.voterAddress());
+            ps.setBoolean(3, row.support());
+            ps.setLong(4, row.weight());
+            ps.setString(5, row.txHash());
+            ps.setLong(6, row.logIndex());
+            ps.setLong(7, row.blockNumber());
+            ps.setTimestamp(8, now);
+        });
+        int inserted = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                if (count == Statement.SUCCESS_NO_INFO) return -1;
+                inserted += count;
+            }
+        }
+        return inserted;
+    }
+}
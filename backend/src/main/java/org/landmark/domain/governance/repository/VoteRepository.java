@@ -0,0 +1,33 @@
+package org.landmark.domain.governance.repository;
+
+import org.landmark.domain.governance.domain.Vote;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface VoteRepository extends JpaRepository<Vote, Long> {
+
+    /* 이미 기록된 투표 로그 — (txHash, logIndex) */
+    @Query("SELECT v.txHash, v.logIndex FROM Vote v WHERE v.txHash IN :txHashes")
+    List<Object[]> findLogKeysByTxHashIn(@Param("txHashes") Collection<String> txHashes);
+
+    /* 안건별 투표 keyset 페이지 (투표 순). cursor 초과 id만 읽는다 — idx_vote_proposal */
+    @Query("SELECT v FROM Vote v WHERE v.proposal.id = :proposalId " +
+            "AND (:cursor IS NULL OR v.id > :cursor) ORDER BY v.id ASC")
+    List<Vote> findPageByProposal(@Param("proposalId") Long proposalId,
+                                  @Param("cursor") Long cursor,
+                                  Pageable pageable);
+
+    /* 지갑별 투표 keyset 페이지 (최신순). cursor 미만 id만 읽는다 — idx_vote_voter */
+    @EntityGraph(attributePaths = "proposal")
+    @Query("SELECT v FROM Vote v WHERE v.voterAddress = :voterAddress " +
+            "AND (:cursor IS NULL OR v.id < :cursor) ORDER BY v.id DESC")
+    List<Vote> findPageByVoter(@Param("voterAddress") String voterAddress,
+                               @Param("cursor") Long cursor,
+                               Pageable pageable);
+}
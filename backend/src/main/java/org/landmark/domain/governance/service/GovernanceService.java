@@ -2,12 +2,20 @@ package org.landmark.domain.governance.service;
 
 import java.math.BigInteger;
 import java.util.List;
+import org.landmark.domain.governance.domain.ProposalStatus;
+import org.landmark.domain.governance.dto.ProposalPageResponse;
 import org.landmark.domain.governance.dto.ProposalResponse;
+import org.landmark.domain.governance.dto.VoteLog;
+import org.landmark.domain.governance.dto.VotePageResponse;
 
 public interface GovernanceService {
   List<ProposalResponse> findAllProposals(String propertyId);
+  ProposalPageResponse findProposalPage(Long cursor, int size, ProposalStatus status, String propertyId);
   void recordProposal(BigInteger onChainProposalId, String proposerAddress,
                       String title, String description, String propertyId, long now);
-  void recordVote(BigInteger onChainProposalId, boolean support, long votes);
+  int recordVotes(List<VoteLog> votes);
+  VotePageResponse findVotesByProposal(Long proposalId, Long cursor, int size);
+  VotePageResponse findVotesByVoter(String voterAddress, Long cursor, int size);
   Long cancelProposal(String userId, Long proposalId);
+  void closeProposal(Long proposalId);
 }
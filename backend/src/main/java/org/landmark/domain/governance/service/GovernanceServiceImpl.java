@@ -1,8 +1,14 @@
 package org.landmark.domain.governance.service;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,13 +16,27 @@ import org.landmark.global.exception.BusinessException;
 import org.landmark.global.exception.ErrorCode;
 import org.landmark.domain.governance.domain.Proposal;
 import org.landmark.domain.governance.domain.ProposalStatus;
+import org.landmark.domain.governance.domain.Vote;
 import org.landmark.domain.governance.domain.VoteType;
+import org.landmark.domain.governance.event.ProposalRecordedEvent;
+import org.landmark.domain.governance.event.ProposalTallyChangedEvent;
+import org.landmark.domain.governance.dto.ProposalPageResponse;
 import org.landmark.domain.governance.dto.ProposalResponse;
+import org.landmark.domain.governance.dto.ProposalSummary;
+import org.landmark.domain.governance.dto.ProposalSummaryResponse;
+import org.landmark.domain.governance.dto.VoteLog;
+import org.landmark.domain.governance.dto.VotePageResponse;
+import org.landmark.domain.governance.dto.VoteResponse;
 import org.landmark.domain.governance.repository.ProposalRepository;
+import org.landmark.domain.governance.repository.VoteBatchRepository;
+import org.landmark.domain.governance.repository.VoteBatchRepository.VoteRow;
+import org.landmark.domain.governance.repository.VoteRepository;
 import org.landmark.domain.properties.domain.Property;
 import org.landmark.domain.properties.repository.PropertyRepository;
 import org.landmark.domain.user.domain.User;
 import org.landmark.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +49,9 @@ public class GovernanceServiceImpl implements GovernanceService {
   private final ProposalRepository proposalRepository;
   private final PropertyRepository propertyRepository;
   private final UserRepository userRepository;
+  private final VoteRepository voteRepository;
+  private final VoteBatchRepository voteBatchRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   public List<ProposalResponse> findAllProposals(String propertyId) {
@@ -46,6 +69,20 @@ public class GovernanceServiceImpl implements GovernanceService {
         .collect(Collectors.toList());
   }
 
+  /* size + 1건을 읽어 다음 페이지 존재 여부를 판단 */
+  @Override
+  public ProposalPageResponse findProposalPage(Long cursor, int size, ProposalStatus status, String propertyId) {
+    String propertyFilter = propertyId == null || propertyId.isEmpty() ? null : propertyId;
+    List<ProposalSummary> rows = proposalRepository.findSummaryPage(
+        cursor, status, propertyFilter, PageRequest.of(0, size + 1));
+
+    boolean hasNext = rows.size() > size;
+    List<ProposalSummary> page = hasNext ? rows.subList(0, size) : rows;
+    Long nextCursor = hasNext ? page.get(page.size() - 1).id() : null;
+
+    return ProposalPageResponse.of(page.stream().map(ProposalSummaryResponse::from).toList(), nextCursor);
+  }
+
   @Override
   @Transactional
   public void recordProposal(BigInteger onChainProposalId, String proposerAddress,
@@ -78,19 +115,90 @@ public class GovernanceServiceImpl implements GovernanceService {
         .build();
 
     proposalRepository.save(proposal);
+    eventPublisher.publishEvent(new ProposalRecordedEvent(proposal.getId(), property.getId(), endAt));
     log.info("안건 저장 완료 - onChainProposalId: {}, propertyId: {}", onChainProposalId, propertyId);
   }
 
+  /**
+   * 폴링 구간의 Voted 이벤트를 한 트랜잭션으로 반영.
+   * 이미 기록된 (txHash, logIndex)를 한 번에 조회해 거르고, 남은 투표를 JDBC batch INSERT IGNORE 1회로 원장에 기록한 뒤
+   * 영향받은 안건의 찬반을 원장에서 UPDATE 1회로 다시 계산 — 같은 블록을 다시 읽거나(재기동 lookback 등)
+   * 여러 인스턴스가 같은 투표를 동시에 넣어도 집계가 중복되지 않는다.
+   * (rewriteBatchedStatements면 드라이버가 건별 추가 여부를 알려주지 않아 증분 가산으로는 중복을 막을 수 없다)
+   */
   @Override
   @Transactional
-  public void recordVote(BigInteger onChainProposalId, boolean support, long votes) {
-    Proposal proposal = proposalRepository.findByOnChainProposalId(onChainProposalId)
-        .orElse(null);
-    if (proposal == null) {
-      log.warn("Voted 이벤트 — 해당 안건 없음, 스킵 - onChainProposalId: {}", onChainProposalId);
-      return;
+  public int recordVotes(List<VoteLog> votes) {
+    if (votes.isEmpty()) {
+      return 0;
     }
-    proposal.addVote(support, votes);
+
+    List<BigInteger> onChainIds = votes.stream().map(VoteLog::onChainProposalId).distinct().toList();
+    Map<BigInteger, Long> proposalIds = new HashMap<>();
+    proposalRepository.findByOnChainProposalIdIn(onChainIds)
+        .forEach(p -> proposalIds.put(p.getOnChainProposalId(), p.getId()));
+
+    Set<String> recorded = new HashSet<>();
+    for (Object[] row : voteRepository.findLogKeysByTxHashIn(votes.stream().map(VoteLog::txHash).distinct().toList())) {
+      recorded.add(row[0] + ":" + row[1]);
+    }
+
+    List<VoteRow> fresh = new ArrayList<>(votes.size());
+    Set<Long> touched = new LinkedHashSet<>();
+    for (VoteLog vote : votes) {
+      Long proposalId = proposalIds.get(vote.onChainProposalId());
+      if (proposalId == null) {
+        log.warn("Voted 이벤트 — 해당 안건 없음, 스킵 - onChainProposalId: {}, txHash: {}",
+            vote.onChainProposalId(), vote.txHash());
+        continue;
+      }
+      if (!recorded.add(vote.txHash() + ":" + vote.logIndex())) {
+        continue;
+      }
+      fresh.add(new VoteRow(proposalId, vote.voterAddress().toLowerCase(), vote.support(),
+          vote.weight(), vote.txHash(), vote.logIndex(), vote.blockNumber()));
+      touched.add(proposalId);
+    }
+
+    // 드라이버가 건별 결과를 주지 않으면(-1) 추가 건수는 알 수 없다 — 집계는 원장에서 다시 계산하므로 로그용
+    int inserted = voteBatchRepository.insertIgnoreAll(fresh);
+    int applied = inserted >= 0 ? inserted : fresh.size();
+
+    if (!touched.isEmpty()) {
+      List<Long> proposalIdList = List.copyOf(touched);
+      proposalRepository.recountVotes(proposalIdList);
+      // 마감 이후에 반영된 투표 — 이미 확정된 결과를 새 집계로 다시 판정
+      int redecided = proposalRepository.redecideClosed(proposalIdList);
+      if (redecided > 0) {
+        log.warn("마감된 안건에 늦은 투표 반영 — 결과 재판정: {}건", redecided);
+      }
+      // 반영 후 누적값 — 커밋되면 실시간 구독자에게 전달
+      for (Object[] row : proposalRepository.findTalliesByIdIn(proposalIdList)) {
+        eventPublisher.publishEvent(new ProposalTallyChangedEvent(
+            (Long) row[0], (String) row[1], (Long) row[2], (Long) row[3]));
+      }
+    }
+    log.info("투표 반영 - 수신: {}건, 신규: {}건{}, 안건: {}건", votes.size(), applied,
+        inserted >= 0 ? "" : " (건별 결과 없음)", touched.size());
+    return applied;
+  }
+
+  @Override
+  public VotePageResponse findVotesByProposal(Long proposalId, Long cursor, int size) {
+    return votePage(voteRepository.findPageByProposal(proposalId, cursor, PageRequest.of(0, size + 1)), size);
+  }
+
+  @Override
+  public VotePageResponse findVotesByVoter(String voterAddress, Long cursor, int size) {
+    return votePage(voteRepository.findPageByVoter(voterAddress.toLowerCase(), cursor, PageRequest.of(0, size + 1)), size);
+  }
+
+  /* size + 1건을 읽어 다음 페이지 유무 판단 — nextCursor는 이 페이지 마지막 투표 id */
+  private static VotePageResponse votePage(List<Vote> rows, int size) {
+    boolean hasNext = rows.size() > size;
+    List<Vote> page = hasNext ? rows.subList(0, size) : rows;
+    Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+    return VotePageResponse.of(page.stream().map(VoteResponse::from).toList(), nextCursor);
   }
 
   @Override
@@ -113,4 +221,18 @@ public class GovernanceServiceImpl implements GovernanceService {
     proposal.cancel();
     return proposal.getId();
   }
+
+  /* 마감 시각이 된 안건 종료 — ProposalLifecycleEngine이 인덱서가 endAt까지 처리한 뒤 호출 */
+  @Override
+  @Transactional
+  public void closeProposal(Long proposalId) {
+    Proposal proposal = proposalRepository.findById(proposalId).orElse(null);
+    if (proposal == null) {
+      return;
+    }
+    if (proposal.close()) {
+      log.info("안건 투표 마감 - proposalId: {}, 결과: {}, 찬성: {}, 반대: {}",
+          proposalId, proposal.getStatus(), proposal.getVoteFor(), proposal.getVoteAgainst());
+    }
+  }
 }
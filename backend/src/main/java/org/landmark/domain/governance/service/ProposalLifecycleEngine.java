@@ -0,0 +1,110 @@
+package org.landmark.domain.governance.service;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.domain.governance.domain.ProposalStatus;
+import org.landmark.domain.governance.event.ProposalRecordedEvent;
+import org.landmark.domain.governance.repository.ProposalRepository;
+import org.landmark.global.blockchain.indexer.ChainEventIndexer;
+import org.landmark.global.blockchain.indexer.service.ChainCursorTransactionService;
+import org.landmark.global.blockchain.service.ChainLookupCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 안건 투표 마감 타이머.
+ *
+ * 진행 중인 안건마다 endAt 시각에 한 번 실행되는 작업을 TaskScheduler(지연 큐)에 예약해 두고,
+ * 시각이 되면 해당 안건만 닫아 결과(PASSED/FAILED)를 확정한다 — 주기적으로 테이블을 훑지 않는다.
+ * 단, 인덱서가 endAt 시각의 블록까지 처리하기 전에는 닫지 않는다. 마감 직전 투표는 보통 아직 인덱싱 전이라
+ * 벽시계 기준으로 닫으면 덜 모인 집계로 결과가 굳는다 — cursor 블록 시각이 endAt에 닿을 때까지 index-recheck-ms마다 재확인.
+ *
+ * - 기동 시: PENDING/ACTIVE 안건의 (id, endAt)만 읽어 다시 예약 (이미 지난 것은 즉시 종료)
+ * - 새 안건: recordProposal 커밋 후 ProposalRecordedEvent로 예약
+ * - 종료는 상태를 확인하고 바꾸므로 중복 예약/여러 인스턴스가 같은 안건을 닫아도 결과는 한 번만 확정된다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProposalLifecycleEngine {
+
+  private static final List<ProposalStatus> OPEN_STATUSES = List.of(ProposalStatus.PENDING, ProposalStatus.ACTIVE);
+
+  private final ProposalRepository proposalRepository;
+  private final GovernanceService governanceService;
+  private final TaskScheduler taskScheduler;
+  private final ChainCursorTransactionService cursorTxService;
+  private final ChainLookupCache lookupCache;
+
+  @Value("${governance.lifecycle.index-recheck-ms:15000}")
+  private long indexRecheckMs;
+
+  /* 안건 id → 예약된 종료 작업 */
+  private final Map<Long, ScheduledFuture<?>> scheduled = new ConcurrentHashMap<>();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    List<Object[]> deadlines = proposalRepository.findIdAndEndAtByStatusIn(OPEN_STATUSES);
+    deadlines.forEach(row -> schedule((Long) row[0], (Long) row[1]));
+    log.info("안건 마감 타이머 복원 - 진행 중 안건: {}건", deadlines.size());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProposalRecorded(ProposalRecordedEvent event) {
+    schedule(event.proposalId(), event.endAt());
+  }
+
+  public int scheduledCount() {
+    return scheduled.size();
+  }
+
+  private void schedule(Long proposalId, long endAt) {
+    schedule(proposalId, endAt, Instant.ofEpochSecond(endAt));
+  }
+
+  private void schedule(Long proposalId, long endAt, Instant runAt) {
+    scheduled.computeIfAbsent(proposalId, id ->
+        taskScheduler.schedule(() -> close(id, endAt), runAt));
+  }
+
+  private void close(Long proposalId, long endAt) {
+    try {
+      if (!indexedThrough(endAt)) {
+        scheduled.remove(proposalId);
+        schedule(proposalId, endAt, Instant.now().plusMillis(indexRecheckMs));
+        return;
+      }
+      governanceService.closeProposal(proposalId);
+      scheduled.remove(proposalId);
+    } catch (Exception e) {
+      // 실패하면 예약을 지우고 1분 뒤 다시 시도
+      log.error("안건 마감 처리 실패 — 재예약 - proposalId: {}", proposalId, e);
+      scheduled.remove(proposalId);
+      schedule(proposalId, endAt, Instant.now().plusSeconds(60));
+    }
+  }
+
+  /* 인덱서 cursor 블록의 시각이 endAt 이상인지. cursor가 없으면 인덱서가 돌지 않는 환경 — 기다릴 투표도 없다 */
+  private boolean indexedThrough(long endAt) {
+    Long cursor = cursorTxService.findLastProcessedBlock(ChainEventIndexer.CURSOR_NAME).orElse(null);
+    if (cursor == null) {
+      return true;
+    }
+    Long indexedAt = lookupCache.blockTimestamp(BigInteger.valueOf(cursor)).orElse(null);
+    if (indexedAt == null || indexedAt < endAt) {
+      log.debug("안건 마감 대기 — 인덱서 미반영 - cursor: {}, 블록 시각: {}, endAt: {}", cursor, indexedAt, endAt);
+      return false;
+    }
+    return true;
+  }
+}
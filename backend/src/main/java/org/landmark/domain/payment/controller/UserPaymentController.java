@@ -1,5 +1,7 @@
 package org.landmark.domain.payment.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -7,12 +9,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.landmark.domain.payment.dto.ChargeRequest;
 import org.landmark.domain.payment.dto.ChargeResponse;
+import org.landmark.domain.payment.service.TossWebhookInboxTransactionService;
 import org.landmark.domain.payment.service.UserPaymentService;
-import org.landmark.domain.rental.service.RentalIncomeService;
 import org.landmark.global.dto.ApiResponse;
-import org.landmark.global.toss.client.TossPaymentsClient;
+import org.landmark.global.exception.BusinessException;
+import org.landmark.global.exception.ErrorCode;
 import org.landmark.global.toss.dto.TossDepositCallbackRequest;
-import org.landmark.global.toss.dto.TossPaymentInquiryResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -25,11 +27,9 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "User Payment", description = "사용자 KRWT 충전 + 토스 webhook 통합 처리")
 public class UserPaymentController {
 
-    private static final String RENTAL_ORDER_ID_PREFIX = "RENTAL_";
-
     private final UserPaymentService userPaymentService;
-    private final RentalIncomeService rentalIncomeService;
-    private final TossPaymentsClient tossPaymentsClient;
+    private final TossWebhookInboxTransactionService webhookInboxTxService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "KRWT 충전 요청 (가상계좌 발급)")
     @PostMapping("/charge")
@@ -41,37 +41,29 @@ public class UserPaymentController {
     }
 
     @Operation(summary = "토스페이먼츠 가상계좌 입금 webhook (DEPOSIT_CALLBACK 통합)",
-            description = "토스 docs 기준 flat 형식. orderId prefix로 분기: RENTAL_* → 임대 수익, 그 외 → 사용자 KRWT 충전. " +
-                    "DEPOSIT_CALLBACK엔 amount/paymentKey가 없어 결제 조회 API로 별도 조회 후 처리.")
+            description = "원본 콜백을 수신함에 저장하고 즉시 200 응답. transactionKey 기준 중복 수신은 무시. " +
+                    "결제 조회와 충전/임대 수익 처리는 수신함 worker가 orderId별 순서대로 비동기 수행.")
     @PostMapping("/webhook/toss")
-    public ResponseEntity<ApiResponse<Void>> handleTossWebhook(
-            @RequestBody TossDepositCallbackRequest request) {
+    public ResponseEntity<ApiResponse<Void>> handleTossWebhook(@RequestBody String rawBody) {
+        TossDepositCallbackRequest request;
+        try {
+            request = objectMapper.readValue(rawBody, TossDepositCallbackRequest.class);
+        } catch (JsonProcessingException e) {
+            log.warn("토스 webhook 파싱 실패 - body: {}", rawBody);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
         log.info("토스 webhook 수신 - orderId: {}, status: {}, transactionKey: {}",
                 request.orderId(), request.status(), request.transactionKey());
 
-        if (!"DONE".equals(request.status())) {
-            log.info("처리 대상 아님 - status: {}", request.status());
-            return ResponseEntity.ok(ApiResponse.ok(200, "Webhook 수신 (처리 대상 아님)"));
-        }
+        // transactionKey가 없으면 콜백 내용으로 대체 키 구성 — 같은 콜백 재전송은 같은 키가 된다
+        String dedupKey = request.transactionKey() != null
+                ? request.transactionKey()
+                : request.orderId() + ":" + request.status() + ":" + request.createdAt();
 
-        TossPaymentInquiryResponse payment = tossPaymentsClient.getPaymentByOrderId(request.orderId());
-
-        if (request.orderId().startsWith(RENTAL_ORDER_ID_PREFIX)) {
-            log.info("임대 수익 입금으로 분기 - orderId: {}", request.orderId());
-            rentalIncomeService.completeRentalIncome(
-                    payment.orderId(),
-                    payment.paymentKey(),
-                    payment.totalAmount()
-            );
-        } else {
-            log.info("KRWT 충전 입금으로 분기 - orderId: {}", request.orderId());
-            userPaymentService.completeCharge(
-                    payment.orderId(),
-                    payment.paymentKey(),
-                    payment.totalAmount()
-            );
+        if (!webhookInboxTxService.receive(dedupKey, request.orderId(), request.status(), rawBody)) {
+            log.info("중복 webhook 무시 - transactionKey: {}", dedupKey);
+            return ResponseEntity.ok(ApiResponse.ok(200, "Webhook 수신 (중복)"));
         }
-
-        return ResponseEntity.ok(ApiResponse.ok(200, "Webhook 처리 완료"));
+        return ResponseEntity.ok(ApiResponse.ok(200, "Webhook 수신 완료"));
     }
 }
@@ -0,0 +1,105 @@
+package org.landmark.domain.payment.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토스 webhook 수신함. 요청 스레드는 원본을 저장만 하고 바로 200을 돌려주며,
+ * 결제 조회와 충전/임대 수익 처리는 TossWebhookInboxWorker가 비동기로 수행한다.
+ *
+ * transactionKey unique — 토스가 같은 콜백을 재전송해도 한 번만 처리된다.
+ * row 저장은 INSERT IGNORE(native)로만 하므로 생성자/빌더가 없다.
+ */
+@Entity
+@Table(name = "TossWebhookInbox", indexes = {
+        @Index(name = "idx_toss_webhook_transaction_key", columnList = "transaction_key", unique = true),
+        @Index(name = "idx_toss_webhook_status_received", columnList = "status, received_at"),
+        @Index(name = "idx_toss_webhook_order_id", columnList = "order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TossWebhookInbox {
+
+    @Id
+    @Column(length = 36, updatable = false, nullable = false)
+    private String id;
+
+    @Column(name = "transaction_key", nullable = false, length = 200, updatable = false)
+    private String transactionKey;
+
+    @Column(name = "order_id", length = 100, updatable = false)
+    private String orderId;
+
+    /* 콜백의 입금 상태 (DONE, WAITING_FOR_DEPOSIT, CANCELED ...) */
+    @Column(name = "callback_status", length = 50, updatable = false)
+    private String callbackStatus;
+
+    @Lob
+    @Column(name = "payload", updatable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private TossWebhookStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "received_at", nullable = false, updatable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime receivedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public void claim(String instanceId, LocalDateTime until) {
+        this.claimedBy = instanceId;
+        this.claimedUntil = until;
+    }
+
+    public void markDone() {
+        this.status = TossWebhookStatus.DONE;
+        this.attemptCount++;
+        this.processedAt = LocalDateTime.now();
+        releaseClaim();
+    }
+
+    public void markIgnored() {
+        this.status = TossWebhookStatus.IGNORED;
+        this.processedAt = LocalDateTime.now();
+        releaseClaim();
+    }
+
+    /* 실패 — 한도 내면 nextAttemptAt 이후 재시도, 초과하면 DEAD */
+    public void markFailed(String error, int maxAttempts, LocalDateTime nextAttemptAt) {
+        this.attemptCount++;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (this.attemptCount >= maxAttempts) {
+            this.status = TossWebhookStatus.DEAD;
+            this.processedAt = LocalDateTime.now();
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+        releaseClaim();
+    }
+
+    public void releaseClaim() {
+        this.claimedBy = null;
+        this.claimedUntil = null;
+    }
+}
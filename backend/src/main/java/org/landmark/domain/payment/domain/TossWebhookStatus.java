@@ -0,0 +1,8 @@
+package org.landmark.domain.payment.domain;
+
+public enum TossWebhookStatus {
+    RECEIVED,   // 처리 대기 (재시도 대기 포함)
+    DONE,       // 처리 완료
+    IGNORED,    // 처리 대상 아님 (status != DONE 등)
+    DEAD        // 재시도 한도 초과 — 수동 확인 필요
+}
@@ -0,0 +1,49 @@
+package org.landmark.domain.payment.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.landmark.domain.payment.domain.TossWebhookInbox;
+import org.landmark.domain.payment.domain.TossWebhookStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TossWebhookInboxRepository extends JpaRepository<TossWebhookInbox, String> {
+
+    /* transactionKey 중복이면 무시 — 반환값 0이면 이미 수신한 콜백 */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO toss_webhook_inbox " +
+            "(id, transaction_key, order_id, callback_status, payload, status, attempt_count, next_attempt_at, received_at) " +
+            "VALUES (:id, :transactionKey, :orderId, :callbackStatus, :payload, 'RECEIVED', 0, NOW(6), NOW(6))",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id,
+                       @Param("transactionKey") String transactionKey,
+                       @Param("orderId") String orderId,
+                       @Param("callbackStatus") String callbackStatus,
+                       @Param("payload") String payload);
+
+    /**
+     * 처리 가능한 row를 잠그고(SKIP LOCKED) 반환.
+     * 같은 orderId에 먼저 수신된 미처리 row가 있으면 제외 — orderId별 수신 순서대로 한 건씩 처리된다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")})
+    @Query("SELECT w FROM TossWebhookInbox w WHERE w.status = :status " +
+            "AND w.nextAttemptAt <= :now " +
+            "AND (w.claimedUntil IS NULL OR w.claimedUntil < :now) " +
+            "AND NOT EXISTS (SELECT p.id FROM TossWebhookInbox p WHERE p.orderId = w.orderId AND p.status = :status " +
+            "AND (p.receivedAt < w.receivedAt OR (p.receivedAt = w.receivedAt AND p.id < w.id))) " +
+            "ORDER BY w.receivedAt ASC")
+    List<TossWebhookInbox> findReadyForProcessing(@Param("status") TossWebhookStatus status,
+                                                  @Param("now") LocalDateTime now,
+                                                  Pageable pageable);
+
+    long countByStatus(TossWebhookStatus status);
+}
@@ -0,0 +1,69 @@
+package org.landmark.domain.payment.service;
+
+import lombok.RequiredArgsConstructor;
+import org.landmark.domain.payment.domain.TossWebhookInbox;
+import org.landmark.domain.payment.domain.TossWebhookStatus;
+import org.landmark.domain.payment.repository.TossWebhookInboxRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/** 토스 webhook 수신함 전용 트랜잭션 경계 서비스 */
+@Service
+@RequiredArgsConstructor
+public class TossWebhookInboxTransactionService {
+
+    private final TossWebhookInboxRepository inboxRepository;
+
+    /* 수신 저장. 이미 같은 transactionKey가 있으면 false */
+    @Transactional
+    public boolean receive(String transactionKey, String orderId, String callbackStatus, String payload) {
+        return inboxRepository.insertIfAbsent(
+                UUID.randomUUID().toString(), transactionKey, orderId, callbackStatus, payload) > 0;
+    }
+
+    /* 처리 가능한 row를 잠그고 임대를 걸어 반환 — 임대 만료 전에는 다른 인스턴스가 가져가지 않는다 */
+    @Transactional
+    public List<TossWebhookInbox> lockReadyBatch(int batchSize, String instanceId, long leaseMs) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TossWebhookInbox> batch = inboxRepository.findReadyForProcessing(
+                TossWebhookStatus.RECEIVED, now, PageRequest.of(0, batchSize));
+        LocalDateTime until = now.plus(Duration.ofMillis(leaseMs));
+        batch.forEach(w -> w.claim(instanceId, until));
+        return batch;
+    }
+
+    @Transactional
+    public void releaseClaims(List<String> ids) {
+        inboxRepository.findAllById(ids).forEach(TossWebhookInbox::releaseClaim);
+    }
+
+    @Transactional
+    public void markDone(String id) {
+        inboxRepository.findById(id).orElseThrow().markDone();
+    }
+
+    @Transactional
+    public void markIgnored(String id) {
+        inboxRepository.findById(id).orElseThrow().markIgnored();
+    }
+
+    @Transactional
+    public TossWebhookStatus markFailed(String id, String error, int maxAttempts, long backoffMs) {
+        TossWebhookInbox inbox = inboxRepository.findById(id).orElseThrow();
+        // 시도할수록 대기 시간을 두 배로 (최대 2^6배)
+        long delay = backoffMs << Math.min(inbox.getAttemptCount(), 6);
+        inbox.markFailed(error, maxAttempts, LocalDateTime.now().plus(Duration.ofMillis(delay)));
+        return inbox.getStatus();
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return inboxRepository.countByStatus(TossWebhookStatus.RECEIVED);
+    }
+}
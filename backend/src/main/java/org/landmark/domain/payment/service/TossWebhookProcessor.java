@@ -0,0 +1,54 @@
+package org.landmark.domain.payment.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.domain.payment.domain.TossWebhookInbox;
+import org.landmark.domain.rental.service.RentalIncomeService;
+import org.landmark.global.toss.client.TossPaymentsClient;
+import org.landmark.global.toss.dto.TossPaymentInquiryResponse;
+import org.springframework.stereotype.Service;
+
+/**
+ * 수신함에 저장된 DEPOSIT_CALLBACK 한 건 처리.
+ * orderId prefix로 분기: RENTAL_* → 임대 수익, 그 외 → 사용자 KRWT 충전.
+ * DEPOSIT_CALLBACK엔 amount/paymentKey가 없어 결제 조회 API로 별도 조회 후 처리.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TossWebhookProcessor {
+
+    private static final String RENTAL_ORDER_ID_PREFIX = "RENTAL_";
+    private static final String DEPOSIT_DONE = "DONE";
+
+    private final UserPaymentService userPaymentService;
+    private final RentalIncomeService rentalIncomeService;
+    private final TossPaymentsClient tossPaymentsClient;
+
+    /* 처리 대상이면 true, 대상 아님(무시)이면 false. 실패 시 예외 — 호출부가 재시도 예약 */
+    public boolean process(TossWebhookInbox inbox) {
+        if (!DEPOSIT_DONE.equals(inbox.getCallbackStatus())) {
+            log.info("처리 대상 아님 - orderId: {}, status: {}", inbox.getOrderId(), inbox.getCallbackStatus());
+            return false;
+        }
+
+        TossPaymentInquiryResponse payment = tossPaymentsClient.getPaymentByOrderId(inbox.getOrderId());
+
+        if (inbox.getOrderId().startsWith(RENTAL_ORDER_ID_PREFIX)) {
+            log.info("임대 수익 입금으로 분기 - orderId: {}", inbox.getOrderId());
+            rentalIncomeService.completeRentalIncome(
+                    payment.orderId(),
+                    payment.paymentKey(),
+                    payment.totalAmount()
+            );
+        } else {
+            log.info("KRWT 충전 입금으로 분기 - orderId: {}", inbox.getOrderId());
+            userPaymentService.completeCharge(
+                    payment.orderId(),
+                    payment.paymentKey(),
+                    payment.totalAmount()
+            );
+        }
+        return true;
+    }
+}
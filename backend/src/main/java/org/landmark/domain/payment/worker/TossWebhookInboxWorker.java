@@ -0,0 +1,143 @@
+package org.landmark.domain.payment.worker;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.domain.payment.domain.TossWebhookInbox;
+import org.landmark.domain.payment.domain.TossWebhookStatus;
+import org.landmark.domain.payment.service.TossWebhookInboxTransactionService;
+import org.landmark.domain.payment.service.TossWebhookProcessor;
+import org.landmark.global.blockchain.config.BlockchainConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 토스 webhook 수신함 처리 worker.
+ *
+ * - 수신함에서 처리 가능한 row를 임대(claimed_by/claimed_until)로 가져와 stripe 스레드에 배분
+ * - stripe = hash(orderId) % stripes — 같은 orderId는 항상 같은 단일 스레드에서 순서대로 처리되고,
+ *   서로 다른 orderId는 병렬로 처리된다
+ * - 인스턴스 간 순서는 조회 쿼리가 보장 (같은 orderId의 앞선 미처리 row가 있으면 가져오지 않음)
+ * - 실패하면 지수 backoff로 재시도, max-attempts 초과 시 DEAD
+ */
+@Slf4j
+@Component
+public class TossWebhookInboxWorker {
+
+    private final TossWebhookInboxTransactionService inboxTxService;
+    private final TossWebhookProcessor processor;
+    private final BlockchainConfig blockchainConfig;
+
+    @Value("${toss.webhook.inbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${toss.webhook.inbox.claim-lease-ms:300000}")
+    private long claimLeaseMs;
+
+    @Value("${toss.webhook.inbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${toss.webhook.inbox.retry-backoff-ms:5000}")
+    private long retryBackoffMs;
+
+    private final ExecutorService[] stripes;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Autowired
+    public TossWebhookInboxWorker(TossWebhookInboxTransactionService inboxTxService,
+                                  TossWebhookProcessor processor,
+                                  BlockchainConfig blockchainConfig,
+                                  @Value("${toss.webhook.inbox.stripes:8}") int stripeCount) {
+        this.inboxTxService = inboxTxService;
+        this.processor = processor;
+        this.blockchainConfig = blockchainConfig;
+        this.stripes = new ExecutorService[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            String name = "toss-webhook-" + i;
+            this.stripes[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, name);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ExecutorService stripe : stripes) {
+            stripe.shutdown();
+        }
+        for (ExecutorService stripe : stripes) {
+            stripe.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${toss.webhook.inbox.polling-interval-ms:1000}")
+    public void poll() {
+        int capacity = batchSize - inFlight.get();
+        if (capacity <= 0) return;
+
+        List<TossWebhookInbox> batch;
+        try {
+            batch = inboxTxService.lockReadyBatch(capacity, blockchainConfig.getInstanceId(), claimLeaseMs);
+        } catch (Exception e) {
+            log.error("토스 webhook 수신함 조회 실패", e);
+            return;
+        }
+
+        List<String> rejected = new ArrayList<>();
+        for (TossWebhookInbox inbox : batch) {
+            inFlight.incrementAndGet();
+            try {
+                stripeOf(inbox.getOrderId()).execute(() -> handle(inbox));
+            } catch (Exception e) {
+                // 종료 중 — 임대 반납 후 다른 인스턴스/재기동 후 처리
+                inFlight.decrementAndGet();
+                rejected.add(inbox.getId());
+            }
+        }
+        if (!rejected.isEmpty()) {
+            inboxTxService.releaseClaims(rejected);
+        }
+    }
+
+    private void handle(TossWebhookInbox inbox) {
+        try {
+            if (processor.process(inbox)) {
+                inboxTxService.markDone(inbox.getId());
+                log.info("토스 webhook 처리 완료 - orderId: {}, transactionKey: {}",
+                        inbox.getOrderId(), inbox.getTransactionKey());
+            } else {
+                inboxTxService.markIgnored(inbox.getId());
+            }
+        } catch (Exception e) {
+            try {
+                TossWebhookStatus status = inboxTxService.markFailed(inbox.getId(), e.getMessage(), maxAttempts, retryBackoffMs);
+                if (status == TossWebhookStatus.DEAD) {
+                    log.error("토스 webhook 처리 포기 (재시도 한도 초과) - orderId: {}, transactionKey: {}",
+                            inbox.getOrderId(), inbox.getTransactionKey(), e);
+                } else {
+                    log.warn("토스 webhook 처리 실패 — 재시도 예약 - orderId: {}, attempt: {}",
+                            inbox.getOrderId(), inbox.getAttemptCount() + 1, e);
+                }
+            } catch (Exception markError) {
+                log.error("토스 webhook 실패 기록 실패 - id: {} (임대 만료 후 재처리)", inbox.getId(), markError);
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private ExecutorService stripeOf(String orderId) {
+        int hash = orderId == null ? 0 : orderId.hashCode();
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+}
@@ -3,14 +3,20 @@ package org.landmark.domain.portfolio.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.landmark.domain.portfolio.dto.HoldingBalanceResponse;
+import org.landmark.domain.portfolio.dto.HoldingEventResponse;
 import org.landmark.domain.portfolio.dto.PortfolioResponse;
 import org.landmark.domain.portfolio.service.PortfolioService;
 import org.landmark.global.dto.ApiResponse;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/portfolio")
 @RequiredArgsConstructor
@@ -26,4 +32,23 @@ public class PortfolioController {
         PortfolioResponse portfolio = portfolioService.getUserPortfolio(userId);
         return ApiResponse.ok(200, "포트폴리오 조회 성공", portfolio);
     }
+
+    @Operation(summary = "시점 보유량 조회",
+            description = "보유 원장 기준으로 특정 블록(blockNumber) 또는 시각(timestamp, epoch 초) 시점의 보유 토큰 수량을 조회합니다. 둘 다 없으면 현재 수량입니다.")
+    @GetMapping("/me/holdings/{propertyId}/balance")
+    public ApiResponse<HoldingBalanceResponse> getBalanceAt(Authentication authentication,
+                                                            @PathVariable String propertyId,
+                                                            @RequestParam(required = false) Long blockNumber,
+                                                            @RequestParam(required = false) Long timestamp) {
+        String userId = (String) authentication.getPrincipal();
+        return ApiResponse.ok(portfolioService.getBalanceAt(userId, propertyId, blockNumber, timestamp));
+    }
+
+    @Operation(summary = "보유 이력 조회", description = "매물에 대한 내 지갑의 구매/전송 원장을 오래된 순으로 조회합니다.")
+    @GetMapping("/me/holdings/{propertyId}/events")
+    public ApiResponse<List<HoldingEventResponse>> getHoldingHistory(Authentication authentication,
+                                                                     @PathVariable String propertyId) {
+        String userId = (String) authentication.getPrincipal();
+        return ApiResponse.ok(portfolioService.getHoldingHistory(userId, propertyId));
+    }
 }
@@ -0,0 +1,90 @@
+package org.landmark.domain.portfolio.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보유량 원장 — 온체인 로그가 지갑 잔액을 바꿀 때마다 1 row, 추가만 하고 고치지 않는다.
+ *
+ * Transfer 1건은 송신/수신 두 지갑에 각각 row가 생기므로 (tx_hash, log_index, wallet_address)가 유일 키.
+ * 어느 시점(블록/시각)의 잔액이든 amount_delta 합으로 계산하고, user_holdings는 이 원장을 접은 캐시다.
+ * 저장은 HoldingEventBatchRepository(JDBC batch)로만 한다.
+ */
+@Entity
+@Table(name = "HoldingEvents",
+        uniqueConstraints = @UniqueConstraint(name = "uk_holding_event_log",
+                columnNames = {"tx_hash", "log_index", "wallet_address"}),
+        indexes = {
+                @Index(name = "idx_holding_event_wallet_block", columnList = "property_id, wallet_address, block_number"),
+                @Index(name = "idx_holding_event_wallet_time", columnList = "property_id, wallet_address, block_timestamp"),
+                @Index(name = "idx_holding_event_property_block", columnList = "property_id, block_number")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HoldingEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tx_hash", nullable = false, length = 66)
+    private String txHash;
+
+    @Column(name = "log_index", nullable = false)
+    private Long logIndex;
+
+    /* 소문자 정규화 */
+    @Column(name = "wallet_address", nullable = false, length = 42)
+    private String walletAddress;
+
+    @Column(name = "property_id", nullable = false, length = 42)
+    private String propertyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private HoldingEventType eventType;
+
+    /* 잔액 변화량 — 송신/소각은 음수 */
+    @Column(name = "amount_delta", nullable = false)
+    private Long amountDelta;
+
+    @Column(name = "krwt_cost_delta", nullable = false)
+    private Long krwtCostDelta;
+
+    @Column(name = "block_number", nullable = false)
+    private Long blockNumber;
+
+    /* 블록 시각 (epoch 초) */
+    @Column(name = "block_timestamp", nullable = false)
+    private Long blockTimestamp;
+
+    @CreationTimestamp
+    @Column(name = "recorded_at", nullable = false, updatable = false)
+    private LocalDateTime recordedAt;
+
+    @Builder
+    public HoldingEvent(String txHash, Long logIndex, String walletAddress, String propertyId,
+                        HoldingEventType eventType, Long amountDelta, Long krwtCostDelta,
+                        Long blockNumber, Long blockTimestamp) {
+        this.txHash = txHash;
+        this.logIndex = logIndex;
+        this.walletAddress = walletAddress.toLowerCase();
+        this.propertyId = propertyId;
+        this.eventType = eventType;
+        this.amountDelta = amountDelta;
+        this.krwtCostDelta = krwtCostDelta == null ? 0L : krwtCostDelta;
+        this.blockNumber = blockNumber;
+        this.blockTimestamp = blockTimestamp;
+    }
+
+    /* 중복 판정 키 */
+    public String logKey() {
+        return txHash + ":" + logIndex + ":" + walletAddress;
+    }
+}
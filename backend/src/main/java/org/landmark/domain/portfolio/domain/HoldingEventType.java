@@ -0,0 +1,9 @@
+package org.landmark.domain.portfolio.domain;
+
+public enum HoldingEventType {
+    PURCHASE,       // TokensPurchased — 매수 비용만 (수량은 같은 tx의 MINT)
+    MINT,           // Transfer(0x0 → to) — 구매 발행 포함
+    BURN,           // Transfer(from → 0x0)
+    TRANSFER_IN,    // Transfer 수신 측
+    TRANSFER_OUT    // Transfer 송신 측
+}
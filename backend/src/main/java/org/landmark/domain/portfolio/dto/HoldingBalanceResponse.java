@@ -0,0 +1,10 @@
+package org.landmark.domain.portfolio.dto;
+
+public record HoldingBalanceResponse(
+    String propertyId,
+    String walletAddress,
+    Long blockNumber,  // 블록 기준 조회일 때
+    Long timestamp,    // 시각(epoch 초) 기준 조회일 때
+    long balance
+) {
+}
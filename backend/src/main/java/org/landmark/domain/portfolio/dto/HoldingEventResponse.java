@@ -0,0 +1,24 @@
+package org.landmark.domain.portfolio.dto;
+
+import org.landmark.domain.portfolio.domain.HoldingEvent;
+import org.landmark.domain.portfolio.domain.HoldingEventType;
+
+public record HoldingEventResponse(
+    HoldingEventType eventType,
+    Long amountDelta,
+    Long krwtCostDelta,
+    Long blockNumber,
+    Long blockTimestamp,
+    String txHash
+) {
+    public static HoldingEventResponse from(HoldingEvent event) {
+        return new HoldingEventResponse(
+            event.getEventType(),
+            event.getAmountDelta(),
+            event.getKrwtCostDelta(),
+            event.getBlockNumber(),
+            event.getBlockTimestamp(),
+            event.getTxHash()
+        );
+    }
+}
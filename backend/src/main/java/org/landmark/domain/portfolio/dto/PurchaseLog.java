@@ -0,0 +1,14 @@
+package org.landmark.domain.portfolio.dto;
+
+/* 온체인 TokensPurchased 이벤트 1건 — 인덱서가 폴링 구간 단위로 모아 HoldingService.recordPurchases에 넘긴다 */
+public record PurchaseLog(
+        String buyerAddress,
+        String propertyId,
+        long amount,
+        long krwtCost,
+        String txHash,
+        long logIndex,
+        long blockNumber,
+        long blockTimestamp  // epoch 초
+) {
+}
@@ -0,0 +1,14 @@
+package org.landmark.domain.portfolio.dto;
+
+/* 온체인 PropertyToken Transfer 이벤트 1건 — from/to가 0x0이면 발행/소각 */
+public record TransferLog(
+        String propertyId,
+        String fromAddress,
+        String toAddress,
+        long amount,
+        String txHash,
+        long logIndex,
+        long blockNumber,
+        long blockTimestamp  // epoch 초
+) {
+}
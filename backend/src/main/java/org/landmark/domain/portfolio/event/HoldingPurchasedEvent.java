@@ -0,0 +1,6 @@
+package org.landmark.domain.portfolio.event;
+
+/* TokensPurchased 반영 완료 — amount/krwtCost는 이번 구매분, holding*은 반영 후 누적, totalTokens는 매물 전체 유통량 */
+public record HoldingPurchasedEvent(String userId, String propertyId, long amount, long krwtCost,
+                                    long holdingAmount, long holdingCost, long totalTokens) {
+}
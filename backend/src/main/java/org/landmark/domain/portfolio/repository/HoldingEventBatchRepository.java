@@ -0,0 +1,44 @@
+package org.landmark.domain.portfolio.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.landmark.domain.portfolio.domain.HoldingEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * holding_events 대량 추가 — JDBC batch 1회.
+ * 중복 여부는 호출 측이 미리 거른다. 그 사이 다른 인스턴스가 먼저 넣었으면 유일 키 위반으로
+ * 트랜잭션 전체가 롤백되고, 다음 폴링에서 다시 걸러진다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HoldingEventBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO holding_events (tx_hash, log_index, wallet_address, property_id, event_type, " +
+            "amount_delta, krwt_cost_delta, block_number, block_timestamp, recorded_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<HoldingEvent> events) {
+        if (events.isEmpty()) return;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, e) -> {
+            ps.setString(1, e.getTxHash());
+            ps.setLong(2, e.getLogIndex());
+            ps.setString(3, e.getWalletAddress());
+            ps.setString(4, e.getPropertyId());
+            ps.setString(5, e.getEventType().name());
+            ps.setLong(6, e.getAmountDelta());
+            ps.setLong(7, e.getKrwtCostDelta());
+            ps.setLong(8, e.getBlockNumber());
+            ps.setLong(9, e.getBlockTimestamp());
+            ps.setTimestamp(10, now);
+        });
+    }
+}
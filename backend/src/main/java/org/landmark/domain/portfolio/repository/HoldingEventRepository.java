@@ -0,0 +1,40 @@
+package org.landmark.domain.portfolio.repository;
+
+import org.landmark.domain.portfolio.domain.HoldingEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface HoldingEventRepository extends JpaRepository<HoldingEvent, Long> {
+
+    /* 이미 기록된 로그 — (txHash, logIndex, walletAddress) */
+    @Query("SELECT e.txHash, e.logIndex, e.walletAddress FROM HoldingEvent e WHERE e.txHash IN :txHashes")
+    List<Object[]> findLogKeysByTxHashIn(@Param("txHashes") Collection<String> txHashes);
+
+    /* 지갑의 블록 시점 잔액 (해당 블록 포함) */
+    @Query("SELECT COALESCE(SUM(e.amountDelta), 0) FROM HoldingEvent e " +
+            "WHERE e.propertyId = :propertyId AND e.walletAddress = :walletAddress AND e.blockNumber <= :blockNumber")
+    Long sumBalanceAtBlock(@Param("propertyId") String propertyId,
+                           @Param("walletAddress") String walletAddress,
+                           @Param("blockNumber") long blockNumber);
+
+    /* 지갑의 시각 시점 잔액 (epoch 초, 해당 시각 포함) */
+    @Query("SELECT COALESCE(SUM(e.amountDelta), 0) FROM HoldingEvent e " +
+            "WHERE e.propertyId = :propertyId AND e.walletAddress = :walletAddress AND e.blockTimestamp <= :timestamp")
+    Long sumBalanceAtTime(@Param("propertyId") String propertyId,
+                          @Param("walletAddress") String walletAddress,
+                          @Param("timestamp") long timestamp);
+
+    /* 매물의 블록 시점 보유자별 잔액 — (walletAddress, balance), 잔액 0 이하 제외 */
+    @Query("SELECT e.walletAddress, SUM(e.amountDelta) FROM HoldingEvent e " +
+            "WHERE e.propertyId = :propertyId AND e.blockNumber <= :blockNumber " +
+            "GROUP BY e.walletAddress HAVING SUM(e.amountDelta) > 0")
+    List<Object[]> sumBalancesAtBlock(@Param("propertyId") String propertyId,
+                                      @Param("blockNumber") long blockNumber);
+
+    /* 감사용 — 지갑의 원장 이력 (오래된 순) */
+    List<HoldingEvent> findByPropertyIdAndWalletAddressOrderByBlockNumberAscLogIndexAsc(String propertyId, String walletAddress);
+}
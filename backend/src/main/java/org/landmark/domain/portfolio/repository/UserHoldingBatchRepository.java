@@ -0,0 +1,60 @@
+package org.landmark.domain.portfolio.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * user_holdings 대량 반영 — JPA 엔티티를 거치지 않고 JDBC batch 한 번으로 upsert.
+ * (user_id, property_id) 유니크 키에 걸리면 기존 row에 더한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserHoldingBatchRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO user_holdings (user_id, property_id, amount, krwt_cost, created_at) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount), krwt_cost = krwt_cost + VALUES(krwt_cost)";
+
+    /* 원장 합계로 덮어쓴다 — 등록된 지갑만 (원장 지갑 주소는 소문자) */
+    private static final String REBUILD_FROM_LEDGER_SQL =
+            "INSERT INTO user_holdings (user_id, property_id, amount, krwt_cost, created_at) " +
+            "SELECT u.id, e.property_id, SUM(e.amount_delta), SUM(e.krwt_cost_delta), UNIX_TIMESTAMP() " +
+            "FROM holding_events e JOIN users u ON LOWER(u.wallet_address) = e.wallet_address " +
+            "GROUP BY u.id, e.property_id " +
+            "ON DUPLICATE KEY UPDATE amount = VALUES(amount), krwt_cost = VALUES(krwt_cost)";
+
+    /* 원장에 근거가 없는 보유 row는 0으로 */
+    private static final String RESET_WITHOUT_LEDGER_SQL =
+            "UPDATE user_holdings h SET h.amount = 0, h.krwt_cost = 0 " +
+            "WHERE (h.amount <> 0 OR h.krwt_cost <> 0) AND NOT EXISTS (" +
+            "SELECT 1 FROM holding_events e JOIN users u ON LOWER(u.wallet_address) = e.wallet_address " +
+            "WHERE u.id = h.user_id AND e.property_id = h.property_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record HoldingDelta(String userId, String propertyId, long amount, long krwtCost) {
+    }
+
+    public void upsertAll(List<HoldingDelta> deltas) {
+        if (deltas.isEmpty()) return;
+        long now = System.currentTimeMillis() / 1000L;
+        jdbcTemplate.batchUpdate(UPSERT_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setString(1, delta.userId());
+            ps.setString(2, delta.propertyId());
+            ps.setLong(3, delta.amount());
+            ps.setLong(4, delta.krwtCost());
+            ps.setLong(5, now);
+        });
+    }
+
+    public int rebuildFromLedger() {
+        return jdbcTemplate.update(REBUILD_FROM_LEDGER_SQL);
+    }
+
+    public int resetWithoutLedger() {
+        return jdbcTemplate.update(RESET_WITHOUT_LEDGER_SQL);
+    }
+}
@@ -6,14 +6,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserHoldingRepository extends JpaRepository<UserHolding, Long> {
 
-    /* 사용자의 모든 보유 자산 조회 (Property 정보 함께 fetch) */
+    /* 사용자의 보유 자산 조회 (Property 정보 함께 fetch). 전량 전송해 0이 된 row는 minAmount로 제외 */
     @EntityGraph(attributePaths = {"property"})
-    List<UserHolding> findAllByUserIdOrderByCreatedAtDesc(String userId);
+    List<UserHolding> findAllByUserIdAndAmountGreaterThanOrderByCreatedAtDesc(String userId, Long minAmount);
 
     /* 사용자가 특정 부동산을 보유하고 있는지 확인 */
     boolean existsByUserIdAndPropertyId(String userId, String propertyId);
@@ -21,15 +22,16 @@ public interface UserHoldingRepository extends JpaRepository<UserHolding, Long>
     /* upsert 시 기존 row 조회 */
     Optional<UserHolding> findByUserIdAndPropertyId(String userId, String propertyId);
 
-    /* Property별 전체 보유 토큰 합산 (대사용) */
-    @Query("SELECT COALESCE(SUM(h.amount), 0) FROM UserHolding h WHERE h.property.id = :propertyId")
-    Long sumAmountByPropertyId(@Param("propertyId") String propertyId);
+    /* 대량 반영 전 기존 보유량 — (userId, propertyId, amount, krwtCost). 조합 밖의 row도 섞일 수 있어 호출 측에서 거른다 */
+    @Query("SELECT h.user.id, h.property.id, h.amount, h.krwtCost FROM UserHolding h " +
+            "WHERE h.user.id IN :userIds AND h.property.id IN :propertyIds")
+    List<Object[]> findAmountsByUserIdInAndPropertyIdIn(@Param("userIds") Collection<String> userIds,
+                                                        @Param("propertyIds") Collection<String> propertyIds);
+
+    /* Property별 보유 토큰 합산 일괄 조회 (대사용). 보유자가 없는 Property는 결과에 없음 */
+    @Query("SELECT h.property.id, SUM(h.amount) FROM UserHolding h WHERE h.property.id IN :propertyIds GROUP BY h.property.id")
+    List<Object[]> sumAmountGroupByPropertyIdIn(@Param("propertyIds") List<String> propertyIds);
 
     /* 특정 Property의 보유자 목록 조회 (대사용) */
     List<UserHolding> findByPropertyId(String propertyId);
-
-    long countByPropertyId(String propertyId);
-
-    @Query("SELECT h.property.id, COUNT(h) FROM UserHolding h WHERE h.property.id IN :propertyIds GROUP BY h.property.id")
-    List<Object[]> countGroupByPropertyIdIn(@Param("propertyIds") List<String> propertyIds);
 }
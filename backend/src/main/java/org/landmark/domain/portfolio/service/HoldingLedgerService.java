@@ -0,0 +1,82 @@
+package org.landmark.domain.portfolio.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.domain.portfolio.domain.HoldingEvent;
+import org.landmark.domain.portfolio.repository.HoldingEventBatchRepository;
+import org.landmark.domain.portfolio.repository.HoldingEventRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * holding_events 원장 기록/조회.
+ *
+ * 같은 로그를 다시 받아도(재폴링, WebSocket과 폴링 겹침) 원장에는 한 번만 들어가고,
+ * 새로 들어간 row만 돌려주므로 호출 측은 그것만 user_holdings에 접으면 된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HoldingLedgerService {
+
+    private final HoldingEventRepository holdingEventRepository;
+    private final HoldingEventBatchRepository holdingEventBatchRepository;
+
+    /* 이미 기록된 로그를 걸러 추가하고, 새로 추가된 것만 반환 */
+    @Transactional
+    public List<HoldingEvent> appendNew(List<HoldingEvent> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> txHashes = new HashSet<>();
+        events.forEach(e -> txHashes.add(e.getTxHash()));
+        Set<String> recorded = new HashSet<>();
+        for (Object[] row : holdingEventRepository.findLogKeysByTxHashIn(txHashes)) {
+            recorded.add(row[0] + ":" + row[1] + ":" + row[2]);
+        }
+
+        List<HoldingEvent> fresh = new ArrayList<>(events.size());
+        for (HoldingEvent event : events) {
+            if (recorded.add(event.logKey())) {
+                fresh.add(event);
+            }
+        }
+        holdingEventBatchRepository.insertAll(fresh);
+
+        if (fresh.size() < events.size()) {
+            log.info("보유 원장 중복 로그 제외 - 수신: {}건, 신규: {}건", events.size(), fresh.size());
+        }
+        return fresh;
+    }
+
+    public long balanceAtBlock(String propertyId, String walletAddress, long blockNumber) {
+        return holdingEventRepository.sumBalanceAtBlock(propertyId, walletAddress.toLowerCase(), blockNumber);
+    }
+
+    public long balanceAtTime(String propertyId, String walletAddress, long timestamp) {
+        return holdingEventRepository.sumBalanceAtTime(propertyId, walletAddress.toLowerCase(), timestamp);
+    }
+
+    /* 블록 시점 보유자별 잔액 (지갑 주소 → 잔액). 배당 미리보기/감사용 */
+    public Map<String, Long> balancesAtBlock(String propertyId, long blockNumber) {
+        Map<String, Long> balances = new HashMap<>();
+        for (Object[] row : holdingEventRepository.sumBalancesAtBlock(propertyId, blockNumber)) {
+            balances.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return balances;
+    }
+
+    public List<HoldingEvent> history(String propertyId, String walletAddress) {
+        return holdingEventRepository.findByPropertyIdAndWalletAddressOrderByBlockNumberAscLogIndexAsc(
+                propertyId, walletAddress.toLowerCase());
+    }
+}
@@ -2,66 +2,303 @@ package org.landmark.domain.portfolio.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.landmark.domain.portfolio.domain.UserHolding;
+import org.landmark.domain.portfolio.domain.HoldingEvent;
+import org.landmark.domain.portfolio.domain.HoldingEventType;
+import org.landmark.domain.portfolio.dto.PurchaseLog;
+import org.landmark.domain.portfolio.dto.TransferLog;
+import org.landmark.domain.portfolio.event.HoldingPurchasedEvent;
+import org.landmark.domain.portfolio.repository.UserHoldingBatchRepository;
+import org.landmark.domain.portfolio.repository.UserHoldingBatchRepository.HoldingDelta;
 import org.landmark.domain.portfolio.repository.UserHoldingRepository;
 import org.landmark.domain.properties.domain.Property;
 import org.landmark.domain.properties.repository.PropertyRepository;
+import org.landmark.domain.properties.service.PropertyStatsService;
 import org.landmark.domain.user.domain.User;
 import org.landmark.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class HoldingService {
 
+    public static final String ZERO_ADDRESS = "0x0000000000000000000000000000000000000000";
+
     private final UserHoldingRepository userHoldingRepository;
+    private final UserHoldingBatchRepository userHoldingBatchRepository;
     private final UserRepository userRepository;
     private final PropertyRepository propertyRepository;
+    private final PropertyStatsService propertyStatsService;
+    private final HoldingLedgerService holdingLedgerService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private record HoldingKey(String userId, String propertyId) {
+    }
+
+    /* 원장 → user_holdings 반영 결과. before/deltas 값은 {amount, krwtCost} */
+    private record FoldResult(int applied,
+                              Set<String> freshLogKeys,
+                              Map<String, String> userIdByWallet,
+                              Map<HoldingKey, long[]> deltas,
+                              Map<HoldingKey, long[]> before,
+                              Map<String, Long> totals) {
+
+        static FoldResult empty() {
+            return new FoldResult(0, Set.of(), Map.of(), Map.of(), Map.of(), Map.of());
+        }
+    }
+
+    /**
+     * PropertyToken 컨트랙트의 TokensPurchased 이벤트를 폴링 구간 단위로 반영.
+     *
+     * 먼저 holding_events 원장에 추가하고(이미 받은 로그는 제외), 새로 들어간 것만 user_holdings에 접는다.
+     * 수량은 같은 tx의 발행 Transfer(MINT)가 반영하므로 구매 row는 매수 비용만 더한다 —
+     * 두 로그가 다른 구간으로 나뉘어 들어와도 이중 집계되지 않는다.
+     * 지갑/매물은 IN 조회 2회로 한 번에 확인하고, (사용자, 매물)별로 메모리에서 합산한 뒤
+     * INSERT ... ON DUPLICATE KEY UPDATE를 JDBC batch 1회로 보낸다. 매물 집계는 매물당 증분 1회.
+     * 등록되지 않은 매물은 건너뛰고, 등록되지 않은 지갑은 원장에만 남긴다. 반환값은 user_holdings에 반영한 이벤트 수.
+     */
+    @Transactional
+    public int recordPurchases(List<PurchaseLog> purchases) {
+        if (purchases.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Property> propertyById = findProperties(purchases.stream().map(PurchaseLog::propertyId).toList());
+        Map<String, PurchaseLog> byLogKey = new HashMap<>();
+        List<HoldingEvent> ledger = new ArrayList<>(purchases.size());
+        for (PurchaseLog purchase : purchases) {
+            HoldingEvent event = purchaseEvent(purchase, propertyById);
+            if (event == null) continue;
+            ledger.add(event);
+            byLogKey.put(event.logKey(), purchase);
+        }
+
+        FoldResult result = fold(ledger, propertyById);
+
+        // 실시간 알림용 구매 수량 — 새로 기록된 구매만
+        Map<HoldingKey, Long> purchased = new LinkedHashMap<>();
+        for (String logKey : result.freshLogKeys()) {
+            PurchaseLog purchase = byLogKey.get(logKey);
+            String userId = purchase == null ? null : result.userIdByWallet().get(purchase.buyerAddress().toLowerCase());
+            if (userId == null) continue;
+            String propertyId = propertyById.get(purchase.propertyId().toLowerCase()).getId();
+            purchased.merge(new HoldingKey(userId, propertyId), purchase.amount(), Long::sum);
+        }
+        result.deltas().forEach((key, delta) -> {
+            long[] previous = result.before().getOrDefault(key, new long[2]);
+            eventPublisher.publishEvent(new HoldingPurchasedEvent(key.userId(), key.propertyId(),
+                    purchased.getOrDefault(key, 0L), delta[1], previous[0] + delta[0], previous[1] + delta[1],
+                    result.totals().get(key.propertyId())));
+        });
+
+        log.info("TokensPurchased 반영 - 수신: {}건, 반영: {}건, 보유 row: {}건, 매물: {}건",
+                purchases.size(), result.applied(), result.deltas().size(), result.totals().size());
+        return result.applied();
+    }
+
+    /**
+     * PropertyToken Transfer 이벤트를 폴링 구간 단위로 반영 — 송신 측 차감, 수신 측 가산.
+     *
+     * from이 0x0이면 발행(MINT, 수신 측만 — 구매 발행 포함), to가 0x0이면 소각(BURN, 송신 측만).
+     * 자기 자신에게 보낸 전송은 잔액 변화가 없어 기록하지 않는다. 전송은 매수 비용을 옮기지 않는다.
+     */
+    @Transactional
+    public int recordTransfers(List<TransferLog> transfers) {
+        if (transfers.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Property> propertyById = findProperties(transfers.stream().map(TransferLog::propertyId).toList());
+        FoldResult result = fold(transferLedger(transfers, propertyById), propertyById);
+        log.info("Transfer 반영 - 수신: {}건, 원장 신규: {}건, 보유 row: {}건, 매물: {}건",
+                transfers.size(), result.applied(), result.deltas().size(), result.totals().size());
+        return result.applied();
+    }
+
+    /**
+     * 원장 backfill 전용 — 과거 Transfer/TokensPurchased 로그를 holding_events에만 추가한다.
+     * user_holdings/property_stats는 이미 그 로그들을 반영하고 있어 여기서 접으면 이중 집계가 되므로 건드리지 않고,
+     * 원장을 다 채운 뒤 rebuildFromLedger로 한 번에 다시 만든다. 반환값은 원장에 새로 들어간 row 수.
+     */
+    @Transactional
+    public int appendToLedger(List<TransferLog> transfers, List<PurchaseLog> purchases) {
+        List<String> propertyIds = new ArrayList<>();
+        transfers.forEach(t -> propertyIds.add(t.propertyId()));
+        purchases.forEach(p -> propertyIds.add(p.propertyId()));
+        if (propertyIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Property> propertyById = findProperties(propertyIds);
+        List<HoldingEvent> ledger = transferLedger(transfers, propertyById);
+        for (PurchaseLog purchase : purchases) {
+            HoldingEvent event = purchaseEvent(purchase, propertyById);
+            if (event != null) ledger.add(event);
+        }
+        return holdingLedgerService.appendNew(ledger).size();
+    }
 
     /**
-     * PropertyToken 컨트랙트의 TokensPurchased 이벤트로부터 호출됨.
-     * 동일 사용자/부동산이면 누적 합산 update, 신규면 insert.
+     * user_holdings를 원장 합계로 다시 만들고 property_stats도 그 기준으로 재집계.
+     * 원장에 없는 보유 row는 0으로 — 반환값은 갱신/초기화된 보유 row 수.
      */
     @Transactional
-    public void recordPurchase(String buyerWalletAddress, String propertyId,
-                               Long amount, Long krwtCost) {
-        User user = userRepository.findByWalletAddress(buyerWalletAddress).orElse(null);
-        if (user == null) {
-            log.warn("TokensPurchased 이벤트 — 등록되지 않은 지갑 주소, 스킵 - buyer: {}, propertyId: {}",
-                    buyerWalletAddress, propertyId);
-            return;
+    public int rebuildFromLedger() {
+        int upserted = userHoldingBatchRepository.rebuildFromLedger();
+        int reset = userHoldingBatchRepository.resetWithoutLedger();
+        propertyStatsService.rebuild();
+        log.info("보유 현황 원장 기준 재생성 - upsert 영향 row: {}, 초기화: {}건", upserted, reset);
+        return upserted + reset;
+    }
+
+    /* from이 0x0이면 발행(수신 측만), to가 0x0이면 소각(송신 측만). 금액 0/자기 전송은 제외 */
+    private List<HoldingEvent> transferLedger(List<TransferLog> transfers, Map<String, Property> propertyById) {
+        List<HoldingEvent> ledger = new ArrayList<>(transfers.size() * 2);
+        for (TransferLog transfer : transfers) {
+            Property property = propertyById.get(transfer.propertyId().toLowerCase());
+            if (property == null) {
+                log.warn("Transfer 이벤트 — 등록되지 않은 부동산, 스킵 - propertyId: {}, txHash: {}",
+                        transfer.propertyId(), transfer.txHash());
+                continue;
+            }
+            boolean mint = ZERO_ADDRESS.equalsIgnoreCase(transfer.fromAddress());
+            boolean burn = ZERO_ADDRESS.equalsIgnoreCase(transfer.toAddress());
+            if (transfer.amount() == 0 || (!mint && !burn && transfer.fromAddress().equalsIgnoreCase(transfer.toAddress()))) {
+                continue;
+            }
+
+            if (!mint) {
+                ledger.add(transferEvent(transfer, property, transfer.fromAddress(),
+                        burn ? HoldingEventType.BURN : HoldingEventType.TRANSFER_OUT, -transfer.amount()));
+            }
+            if (!burn) {
+                ledger.add(transferEvent(transfer, property, transfer.toAddress(),
+                        mint ? HoldingEventType.MINT : HoldingEventType.TRANSFER_IN, transfer.amount()));
+            }
         }
+        return ledger;
+    }
 
-        Property property = propertyRepository.findById(propertyId).orElse(null);
+    /* 구매 row는 매수 비용만 — 수량은 같은 tx의 발행 Transfer(MINT)가 반영. 등록되지 않은 매물이면 null */
+    private HoldingEvent purchaseEvent(PurchaseLog purchase, Map<String, Property> propertyById) {
+        Property property = propertyById.get(purchase.propertyId().toLowerCase());
         if (property == null) {
-            log.warn("TokensPurchased 이벤트 — 등록되지 않은 부동산, 스킵 - propertyId: {}", propertyId);
-            return;
+            log.warn("TokensPurchased 이벤트 — 등록되지 않은 부동산, 스킵 - propertyId: {}, txHash: {}",
+                    purchase.propertyId(), purchase.txHash());
+            return null;
+        }
+        return HoldingEvent.builder()
+                .txHash(purchase.txHash())
+                .logIndex(purchase.logIndex())
+                .walletAddress(purchase.buyerAddress())
+                .propertyId(property.getId())
+                .eventType(HoldingEventType.PURCHASE)
+                .amountDelta(0L)
+                .krwtCostDelta(purchase.krwtCost())
+                .blockNumber(purchase.blockNumber())
+                .blockTimestamp(purchase.blockTimestamp())
+                .build();
+    }
+
+    private static HoldingEvent transferEvent(TransferLog transfer, Property property, String wallet,
+                                              HoldingEventType type, long amountDelta) {
+        return HoldingEvent.builder()
+                .txHash(transfer.txHash())
+                .logIndex(transfer.logIndex())
+                .walletAddress(wallet)
+                .propertyId(property.getId())
+                .eventType(type)
+                .amountDelta(amountDelta)
+                .krwtCostDelta(0L)
+                .blockNumber(transfer.blockNumber())
+                .blockTimestamp(transfer.blockTimestamp())
+                .build();
+    }
+
+    private Map<String, Property> findProperties(List<String> propertyIds) {
+        Set<String> ids = propertyIds.stream().map(String::toLowerCase).collect(Collectors.toSet());
+        Map<String, Property> propertyById = new HashMap<>();
+        for (Property property : propertyRepository.findAllById(ids)) {
+            propertyById.put(property.getId().toLowerCase(), property);
         }
+        return propertyById;
+    }
+
+    /**
+     * 원장 추가 후 새 row만 user_holdings / property_stats에 접는다.
+     * 투자자 수는 보유량이 0 이하 → 양수가 되면 +1, 양수 → 0 이하가 되면 -1.
+     */
+    private FoldResult fold(List<HoldingEvent> ledger, Map<String, Property> propertyById) {
+        List<HoldingEvent> fresh = holdingLedgerService.appendNew(ledger);
+        if (fresh.isEmpty()) {
+            return FoldResult.empty();
+        }
+
+        Set<String> wallets = fresh.stream().map(HoldingEvent::getWalletAddress).collect(Collectors.toSet());
+        Map<String, String> userIdByWallet = new HashMap<>();
+        for (User user : userRepository.findByWalletAddressIn(wallets)) {
+            userIdByWallet.put(user.getWalletAddress().toLowerCase(), user.getId());
+        }
+
+        Map<HoldingKey, long[]> deltas = new LinkedHashMap<>();
+        int applied = 0;
+        for (HoldingEvent event : fresh) {
+            String userId = userIdByWallet.get(event.getWalletAddress());
+            if (userId == null) {
+                log.debug("등록되지 않은 지갑 — 원장만 기록 - wallet: {}, propertyId: {}, txHash: {}",
+                        event.getWalletAddress(), event.getPropertyId(), event.getTxHash());
+                continue;
+            }
+            long[] delta = deltas.computeIfAbsent(new HoldingKey(userId, event.getPropertyId()), k -> new long[2]);
+            delta[0] += event.getAmountDelta();
+            delta[1] += event.getKrwtCostDelta();
+            applied++;
+        }
+        Set<String> freshLogKeys = fresh.stream().map(HoldingEvent::logKey).collect(Collectors.toSet());
+        if (deltas.isEmpty()) {
+            return new FoldResult(0, freshLogKeys, userIdByWallet, Map.of(), Map.of(), Map.of());
+        }
+
+        // 반영 전 보유량 — 투자자 수 증감과 반영 후 누적값 계산용
+        Map<HoldingKey, long[]> before = new HashMap<>();
+        Set<String> userIds = deltas.keySet().stream().map(HoldingKey::userId).collect(Collectors.toSet());
+        Set<String> holdingPropertyIds = deltas.keySet().stream().map(HoldingKey::propertyId).collect(Collectors.toSet());
+        for (Object[] row : userHoldingRepository.findAmountsByUserIdInAndPropertyIdIn(userIds, holdingPropertyIds)) {
+            before.put(new HoldingKey((String) row[0], (String) row[1]), new long[]{(Long) row[2], (Long) row[3]});
+        }
+
+        List<HoldingDelta> rows = new ArrayList<>(deltas.size());
+        Map<String, long[]> propertyDeltas = new LinkedHashMap<>();
+        deltas.forEach((key, delta) -> {
+            rows.add(new HoldingDelta(key.userId(), key.propertyId(), delta[0], delta[1]));
+            long previous = before.getOrDefault(key, new long[2])[0];
+            long after = previous + delta[0];
+            long[] propertyDelta = propertyDeltas.computeIfAbsent(key.propertyId(), id -> new long[3]);
+            if (previous <= 0 && after > 0) propertyDelta[0]++;
+            if (previous > 0 && after <= 0) propertyDelta[0]--;
+            propertyDelta[1] += delta[0];
+            propertyDelta[2] += delta[1];
+        });
+        userHoldingBatchRepository.upsertAll(rows);
+
+        Map<String, Long> totals = new HashMap<>();
+        propertyDeltas.forEach((propertyId, delta) -> {
+            long total = propertyStatsService.applyDelta(propertyId, delta[0], delta[1], delta[2]);
+            propertyById.get(propertyId.toLowerCase()).updateTotalTokens(total);
+            totals.put(propertyId, total);
+        });
 
-        userHoldingRepository.findByUserIdAndPropertyId(user.getId(), propertyId)
-                .ifPresentOrElse(
-                        existing -> {
-                            existing.addPurchase(amount, krwtCost);
-                            log.info("UserHolding 누적 update - userId: {}, propertyId: {}, +amount: {}, +cost: {}, 총amount: {}, 총cost: {}",
-                                    user.getId(), propertyId, amount, krwtCost,
-                                    existing.getAmount(), existing.getKrwtCost());
-                        },
-                        () -> {
-                            UserHolding created = UserHolding.builder()
-                                    .user(user)
-                                    .property(property)
-                                    .amount(amount)
-                                    .krwtCost(krwtCost)
-                                    .build();
-                            userHoldingRepository.save(created);
-                            log.info("UserHolding 신규 insert - userId: {}, propertyId: {}, amount: {}, cost: {}",
-                                    user.getId(), propertyId, amount, krwtCost);
-                        }
-                );
-
-        Long total = userHoldingRepository.sumAmountByPropertyId(propertyId);
-        property.updateTotalTokens(total);
+        return new FoldResult(applied, freshLogKeys, userIdByWallet, deltas, before, totals);
     }
 }
@@ -1,8 +1,16 @@
 package org.landmark.domain.portfolio.service;
 
+import org.landmark.domain.portfolio.dto.HoldingBalanceResponse;
+import org.landmark.domain.portfolio.dto.HoldingEventResponse;
 import org.landmark.domain.portfolio.dto.PortfolioResponse;
 
+import java.util.List;
+
 public interface PortfolioService {
 
     PortfolioResponse getUserPortfolio(String userId);
+
+    HoldingBalanceResponse getBalanceAt(String userId, String propertyId, Long blockNumber, Long timestamp);
+
+    List<HoldingEventResponse> getHoldingHistory(String userId, String propertyId);
 }
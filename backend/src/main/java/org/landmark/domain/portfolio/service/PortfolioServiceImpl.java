@@ -3,9 +3,16 @@ package org.landmark.domain.portfolio.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.landmark.domain.portfolio.domain.UserHolding;
+import org.landmark.domain.portfolio.dto.HoldingBalanceResponse;
+import org.landmark.domain.portfolio.dto.HoldingEventResponse;
 import org.landmark.domain.portfolio.dto.PortfolioResponse;
 import org.landmark.domain.portfolio.dto.PropertyHoldingResponse;
 import org.landmark.domain.portfolio.repository.UserHoldingRepository;
+import org.landmark.domain.properties.service.PropertyStatsService;
+import org.landmark.domain.user.domain.User;
+import org.landmark.domain.user.repository.UserRepository;
+import org.landmark.global.exception.BusinessException;
+import org.landmark.global.exception.ErrorCode;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,13 +27,16 @@ import java.util.stream.Collectors;
 public class PortfolioServiceImpl implements PortfolioService {
 
     private final UserHoldingRepository userHoldingRepository;
+    private final PropertyStatsService propertyStatsService;
+    private final HoldingLedgerService holdingLedgerService;
+    private final UserRepository userRepository;
 
     @Override
     public PortfolioResponse getUserPortfolio(String userId) {
         log.info("사용자 포트폴리오 조회 - userId: {}", userId);
 
         // DB에서 사용자가 보유한 부동산 목록 조회 (Property 정보 함께 fetch)
-        List<UserHolding> holdings = userHoldingRepository.findAllByUserIdOrderByCreatedAtDesc(userId);
+        List<UserHolding> holdings = userHoldingRepository.findAllByUserIdAndAmountGreaterThanOrderByCreatedAtDesc(userId, 0L);
 
         if (holdings.isEmpty()) {
             log.info("사용자 보유 자산 없음 - userId: {}", userId);
@@ -37,13 +47,7 @@ public class PortfolioServiceImpl implements PortfolioService {
             .map(h -> h.getProperty().getId())
             .collect(Collectors.toList());
 
-        Map<String, Long> investorCountMap = userHoldingRepository
-            .countGroupByPropertyIdIn(propertyIds)
-            .stream()
-            .collect(Collectors.toMap(
-                row -> (String) row[0],
-                row -> (Long) row[1]
-            ));
+        Map<String, Long> investorCountMap = propertyStatsService.getInvestorCounts(propertyIds);
 
         List<PropertyHoldingResponse> propertyHoldings = holdings.stream()
             .map(h -> PropertyHoldingResponse.from(h, investorCountMap.getOrDefault(h.getProperty().getId(), 0L)))
@@ -52,4 +56,35 @@ public class PortfolioServiceImpl implements PortfolioService {
         log.info("사용자 포트폴리오 조회 완료 - userId: {}, 보유 부동산 수: {}", userId, propertyHoldings.size());
         return PortfolioResponse.of(userId, propertyHoldings);
     }
+
+    /* 원장 기준 시점 잔액 — 블록 번호가 있으면 블록, 없으면 시각 기준. 둘 다 없으면 현재 */
+    @Override
+    public HoldingBalanceResponse getBalanceAt(String userId, String propertyId, Long blockNumber, Long timestamp) {
+        String wallet = walletOf(userId);
+        long balance;
+        if (blockNumber != null) {
+            balance = holdingLedgerService.balanceAtBlock(propertyId, wallet, blockNumber);
+        } else if (timestamp != null) {
+            balance = holdingLedgerService.balanceAtTime(propertyId, wallet, timestamp);
+        } else {
+            balance = holdingLedgerService.balanceAtBlock(propertyId, wallet, Long.MAX_VALUE);
+        }
+        return new HoldingBalanceResponse(propertyId, wallet, blockNumber, blockNumber == null ? timestamp : null, balance);
+    }
+
+    @Override
+    public List<HoldingEventResponse> getHoldingHistory(String userId, String propertyId) {
+        return holdingLedgerService.history(propertyId, walletOf(userId)).stream()
+            .map(HoldingEventResponse::from)
+            .toList();
+    }
+
+    private String walletOf(String userId) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        if (user.getWalletAddress() == null) {
+            throw new BusinessException(ErrorCode.WALLET_NOT_LINKED);
+        }
+        return user.getWalletAddress().toLowerCase();
+    }
 }
@@ -0,0 +1,38 @@
+package org.landmark.domain.properties.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매물별 집계 projection — 투자자 수, 유통 토큰 수, 누적 KRWT 모금액.
+ *
+ * 구매 반영 시 PropertyStatsRepository.applyDelta(upsert)로 증분만 더하고 (row가 없던 매물은 user_holdings에서 처음 만든다),
+ * 상세/포트폴리오 조회는 보유자 집계 대신 이 row 하나를 읽는다.
+ * 어긋나면 PropertyStatsRebuildScheduler가 user_holdings에서 다시 만든다.
+ */
+@Entity
+@Table(name = "PropertyStats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PropertyStats {
+
+    @Id
+    @Column(name = "property_id", length = 42, updatable = false, nullable = false)
+    private String propertyId;
+
+    @Column(name = "investor_count", nullable = false)
+    private long investorCount;
+
+    @Column(name = "circulating_amount", nullable = false)
+    private long circulatingAmount;
+
+    @Column(name = "total_krwt_raised", nullable = false)
+    private long totalKrwtRaised;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
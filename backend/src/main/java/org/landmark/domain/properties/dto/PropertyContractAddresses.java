@@ -0,0 +1,9 @@
+package org.landmark.domain.properties.dto;
+
+/** 체인 이벤트 인덱서가 구독할 매물별 컨트랙트 주소 */
+public record PropertyContractAddresses(
+        String stoTokenAddress,
+        String daoContractAddress,
+        String dividendDistributorAddress
+) {
+}
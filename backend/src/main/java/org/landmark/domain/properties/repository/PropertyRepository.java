@@ -2,6 +2,7 @@ package org.landmark.domain.properties.repository;
 
 import org.landmark.domain.properties.domain.Property;
 import org.landmark.domain.properties.domain.PropertyStatus;
+import org.landmark.domain.properties.dto.PropertyContractAddresses;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,4 +22,8 @@ public interface PropertyRepository extends JpaRepository<Property, String> {
 
     @Query("SELECT p FROM Property p WHERE LOWER(p.daoContractAddress) = LOWER(:address)")
     Optional<Property> findByDaoContractAddressIgnoreCase(@Param("address") String address);
+
+    @Query("SELECT new org.landmark.domain.properties.dto.PropertyContractAddresses(" +
+            "p.id, p.daoContractAddress, p.dividendDistributorAddress) FROM Property p")
+    List<PropertyContractAddresses> findAllContractAddresses();
 }
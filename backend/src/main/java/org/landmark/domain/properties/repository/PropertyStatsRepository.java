@@ -0,0 +1,68 @@
+package org.landmark.domain.properties.repository;
+
+import org.landmark.domain.properties.domain.PropertyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface PropertyStatsRepository extends JpaRepository<PropertyStats, String> {
+
+    /* 증분 반영 — row가 없으면 delta 값으로 생성. 동시 반영도 DB에서 원자적으로 더해진다 */
+    @Modifying
+    @Query(value = "INSERT INTO property_stats (property_id, investor_count, circulating_amount, total_krwt_raised, updated_at) " +
+            "VALUES (:propertyId, :investorDelta, :amountDelta, :costDelta, NOW()) " +
+            "ON DUPLICATE KEY UPDATE investor_count = investor_count + VALUES(investor_count), " +
+            "circulating_amount = circulating_amount + VALUES(circulating_amount), " +
+            "total_krwt_raised = total_krwt_raised + VALUES(total_krwt_raised), updated_at = NOW()",
+            nativeQuery = true)
+    int applyDelta(@Param("propertyId") String propertyId,
+                   @Param("investorDelta") long investorDelta,
+                   @Param("amountDelta") long amountDelta,
+                   @Param("costDelta") long costDelta);
+
+    /*
+     * row가 없을 때만 user_holdings에서 만든다 (집계 도입 전부터 있던 매물). 이미 있으면 아무것도 하지 않는다.
+     * 반환: 생성된 row 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO property_stats (property_id, investor_count, circulating_amount, total_krwt_raised, updated_at) " +
+            "SELECT h.property_id, SUM(h.amount > 0), SUM(h.amount), SUM(h.krwt_cost), NOW() " +
+            "FROM user_holdings h WHERE h.property_id = :propertyId GROUP BY h.property_id",
+            nativeQuery = true)
+    int insertFromHoldingsIfAbsent(@Param("propertyId") String propertyId);
+
+    /* row가 없는 매물 전체를 user_holdings에서 채운다 — 기존 row는 건드리지 않는다 */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO property_stats (property_id, investor_count, circulating_amount, total_krwt_raised, updated_at) " +
+            "SELECT h.property_id, SUM(h.amount > 0), SUM(h.amount), SUM(h.krwt_cost), NOW() " +
+            "FROM user_holdings h GROUP BY h.property_id",
+            nativeQuery = true)
+    int insertMissingFromHoldings();
+
+    /* 스칼라 조회 — 영속성 컨텍스트를 거치지 않아 applyDelta 직후 값이 보인다 */
+    @Query("SELECT s.circulatingAmount FROM PropertyStats s WHERE s.propertyId = :propertyId")
+    Optional<Long> findCirculatingAmount(@Param("propertyId") String propertyId);
+
+    /* 복구 — user_holdings 전체에서 다시 집계해 덮어쓴다 */
+    @Modifying
+    @Query(value = "INSERT INTO property_stats (property_id, investor_count, circulating_amount, total_krwt_raised, updated_at) " +
+            "SELECT h.property_id, SUM(h.amount > 0), SUM(h.amount), SUM(h.krwt_cost), NOW() " +
+            "FROM user_holdings h GROUP BY h.property_id " +
+            "ON DUPLICATE KEY UPDATE investor_count = VALUES(investor_count), " +
+            "circulating_amount = VALUES(circulating_amount), " +
+            "total_krwt_raised = VALUES(total_krwt_raised), updated_at = NOW()",
+            nativeQuery = true)
+    int rebuildFromHoldings();
+
+    /* 복구 — 보유자가 모두 사라진 매물은 0으로 */
+    @Modifying
+    @Query(value = "UPDATE property_stats s SET s.investor_count = 0, s.circulating_amount = 0, s.total_krwt_raised = 0, " +
+            "s.updated_at = NOW() " +
+            "WHERE NOT EXISTS (SELECT 1 FROM user_holdings h WHERE h.property_id = s.property_id) " +
+            "AND (s.investor_count <> 0 OR s.circulating_amount <> 0 OR s.total_krwt_raised <> 0)",
+            nativeQuery = true)
+    int resetWithoutHoldings();
+}
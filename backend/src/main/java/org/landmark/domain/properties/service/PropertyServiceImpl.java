@@ -4,7 +4,6 @@ import lombok.RequiredArgsConstructor;
 import org.landmark.global.exception.BusinessException;
 import org.landmark.global.exception.ErrorCode;
 import org.landmark.global.service.S3Service;
-import org.landmark.domain.portfolio.repository.UserHoldingRepository;
 import org.landmark.domain.properties.domain.Property;
 import org.landmark.domain.properties.dto.PropertyCreateRequest;
 import org.landmark.domain.properties.dto.PropertyListResponse;
@@ -20,7 +19,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PropertyServiceImpl implements PropertyService {
   private final PropertyRepository propertyRepository;
-  private final UserHoldingRepository userHoldingRepository;
+  private final PropertyStatsService propertyStatsService;
   private final S3Service s3Service;
 
   @Transactional
@@ -50,7 +49,7 @@ public class PropertyServiceImpl implements PropertyService {
     Property property = propertyRepository.findById(propertyId)
             .orElseThrow(() -> new BusinessException(ErrorCode.PROPERTY_NOT_FOUND));
 
-    long investorCount = userHoldingRepository.countByPropertyId(propertyId);
+    long investorCount = propertyStatsService.getInvestorCount(propertyId);
     return PropertyResponse.from(property, investorCount);
   }
 }
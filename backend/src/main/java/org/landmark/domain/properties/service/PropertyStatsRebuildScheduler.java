@@ -0,0 +1,40 @@
+package org.landmark.domain.properties.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.global.config.SchedulingConfig;
+import org.landmark.global.scheduler.runlog.SchedulerRunLogger;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * property_stats 복구 (매일 새벽 1시 50분) — 증분 반영이 빠지거나 수동 보정이 있었어도
+ * user_holdings 기준으로 다시 맞춘다. 보유량 대사(2시) 전에 돈다.
+ * 기동 시에는 row가 없는 매물만 채워, 집계 도입 전부터 있던 매물의 투자자 수가 첫 복구 전까지 0으로 보이지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PropertyStatsRebuildScheduler {
+
+    public static final String JOB_NAME = "RebuildPropertyStats";
+
+    private final PropertyStatsService propertyStatsService;
+    private final SchedulerRunLogger runLogger;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissing() {
+        try {
+            propertyStatsService.fillMissing();
+        } catch (Exception e) {
+            log.error("기동 시 매물 집계 row 채움 실패 — 첫 증분 반영 시 매물별로 채워짐", e);
+        }
+    }
+
+    @Scheduled(cron = "0 50 1 * * *", scheduler = SchedulingConfig.LONG_JOB_SCHEDULER)
+    public void rebuild() {
+        runLogger.run(JOB_NAME, () -> new SchedulerRunLogger.Result(propertyStatsService.rebuild(), 0));
+    }
+}
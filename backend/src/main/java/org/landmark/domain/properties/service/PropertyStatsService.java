@@ -0,0 +1,70 @@
+package org.landmark.domain.properties.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.domain.properties.domain.PropertyStats;
+import org.landmark.domain.properties.repository.PropertyStatsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PropertyStatsService {
+
+    private final PropertyStatsRepository propertyStatsRepository;
+
+    /**
+     * 증분 반영. investorDelta는 보유량이 0 → 양수가 된 보유자 수에서 양수 → 0이 된 수를 뺀 값.
+     * 반영 후 유통 토큰 수를 돌려준다.
+     *
+     * user_holdings에 이번 증분을 반영한 뒤 호출해야 한다. 집계 row가 아직 없는 매물(도입 전부터 있던 매물)은
+     * 증분만으로 row를 만들면 기존 보유분이 빠지므로 user_holdings 전체로 만들고, 이번 증분은 거기 이미 들어 있어 더하지 않는다.
+     */
+    @Transactional
+    public long applyDelta(String propertyId, long investorDelta, long amountDelta, long krwtCostDelta) {
+        if (propertyStatsRepository.insertFromHoldingsIfAbsent(propertyId) > 0) {
+            log.info("매물 집계 row 없음 — user_holdings에서 생성 - propertyId: {}", propertyId);
+        } else {
+            propertyStatsRepository.applyDelta(propertyId, investorDelta, amountDelta, krwtCostDelta);
+        }
+        return propertyStatsRepository.findCirculatingAmount(propertyId).orElse(0L);
+    }
+
+    @Transactional(readOnly = true)
+    public long getInvestorCount(String propertyId) {
+        return propertyStatsRepository.findById(propertyId).map(PropertyStats::getInvestorCount).orElse(0L);
+    }
+
+    /* 매물 id → 투자자 수. 집계 row가 없는 매물은 결과에 없음 */
+    @Transactional(readOnly = true)
+    public Map<String, Long> getInvestorCounts(List<String> propertyIds) {
+        Map<String, Long> counts = new HashMap<>();
+        propertyStatsRepository.findAllById(propertyIds)
+                .forEach(s -> counts.put(s.getPropertyId(), s.getInvestorCount()));
+        return counts;
+    }
+
+    /* 집계 row가 없는 매물을 user_holdings에서 채운다 — 반환값은 생성된 row 수 */
+    @Transactional
+    public int fillMissing() {
+        int created = propertyStatsRepository.insertMissingFromHoldings();
+        if (created > 0) {
+            log.info("매물 집계 row 채움 - {}건", created);
+        }
+        return created;
+    }
+
+    /* user_holdings에서 전체 재집계 — 반환값은 갱신/초기화된 매물 수 */
+    @Transactional
+    public int rebuild() {
+        int upserted = propertyStatsRepository.rebuildFromHoldings();
+        int reset = propertyStatsRepository.resetWithoutHoldings();
+        log.info("매물 집계 재생성 - upsert 영향 row: {}, 초기화: {}건", upserted, reset);
+        return upserted + reset;
+    }
+}
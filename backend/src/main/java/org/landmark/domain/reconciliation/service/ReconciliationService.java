@@ -6,21 +6,23 @@ import org.landmark.global.blockchain.service.BlockchainWalletService;
 import org.landmark.domain.portfolio.repository.UserHoldingRepository;
 import org.landmark.domain.properties.domain.Property;
 import org.landmark.domain.properties.domain.PropertyStatus;
-import org.landmark.global.exception.BusinessException;
-import org.landmark.global.exception.ErrorCode;
 import org.landmark.domain.properties.repository.PropertyRepository;
 import org.landmark.domain.reconciliation.domain.ReconciliationType;
 import org.landmark.domain.rental.domain.RentalIncome;
 import org.landmark.domain.rental.domain.RentalIncomeStatus;
 import org.landmark.domain.rental.repository.RentalIncomeRepository;
+import org.landmark.global.config.SchedulingConfig;
 import org.landmark.global.scheduler.runlog.SchedulerRunLogger;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 
 import java.math.BigInteger;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -34,13 +36,17 @@ public class ReconciliationService {
     private final ReconciliationTransactionService transactionService;
     private final SchedulerRunLogger runLogger;
 
+    /* 대사 1회 일괄 조회 단위 (IN 절 크기 / Multicall 호출 수) */
+    @Value("${reconciliation.chunk-size:500}")
+    private int reconcileChunkSize;
+
     /**
      * 온·오프체인 보유량 대사 (매일 새벽 2시)
      *
      * DB의 UserHolding 합계와 블록체인의 totalSupply를 비교하여
      * 불일치 시 ReconciliationLog에 기록
      */
-    @Scheduled(cron = "0 0 2 * * *")
+    @Scheduled(cron = "0 0 2 * * *", scheduler = SchedulingConfig.LONG_JOB_SCHEDULER)
     public void reconcileHoldings() {
         runLogger.run("ReconcileHoldings", this::doReconcileHoldings);
     }
@@ -51,28 +57,52 @@ public class ReconciliationService {
         List<Property> activeProperties = propertyRepository.findByStatus(PropertyStatus.ACTIVE);
         int mismatchCount = 0;
 
-        for (Property property : activeProperties) {
-            try {
-                Long dbTotal = userHoldingRepository.sumAmountByPropertyId(property.getId());
-                BigInteger onChainTotal = blockchainWalletService.getTotalSupply(property.getId());
-
-                if (!BigInteger.valueOf(dbTotal).equals(onChainTotal)) {
-                    mismatchCount++;
-                    log.error("잔액 불일치 감지 - propertyId: {}, DB합계: {}, 온체인totalSupply: {}",
-                            property.getId(), dbTotal, onChainTotal);
+        // DB 합계/온체인 totalSupply를 청크 단위로 일괄 조회 — 매물 수만큼 왕복하지 않는다
+        for (int from = 0; from < activeProperties.size(); from += reconcileChunkSize) {
+            List<String> propertyIds = activeProperties
+                    .subList(from, Math.min(from + reconcileChunkSize, activeProperties.size()))
+                    .stream().map(Property::getId).toList();
 
-                    transactionService.saveReconciliationLog(
-                            ReconciliationType.HOLDING_MISMATCH,
-                            property.getId(),
-                            dbTotal,
-                            onChainTotal,
-                            null
-                    );
-                } else {
-                    log.debug("대사 일치 - propertyId: {}, amount: {}", property.getId(), dbTotal);
+            Map<String, Long> dbTotals = new HashMap<>();
+            Map<String, BigInteger> onChainTotals;
+            try {
+                for (Object[] row : userHoldingRepository.sumAmountGroupByPropertyIdIn(propertyIds)) {
+                    dbTotals.put((String) row[0], ((Number) row[1]).longValue());
                 }
+                onChainTotals = blockchainWalletService.getTotalSupplies(propertyIds);
             } catch (Exception e) {
-                log.error("대사 중 오류 발생 - propertyId: {}", property.getId(), e);
+                log.error("대사 일괄 조회 중 오류 발생 - propertyIds: {} ~ {}",
+                        propertyIds.get(0), propertyIds.get(propertyIds.size() - 1), e);
+                continue;
+            }
+
+            for (String propertyId : propertyIds) {
+                BigInteger onChainTotal = onChainTotals.get(propertyId);
+                if (onChainTotal == null) {
+                    log.error("대사 중 온체인 조회 실패 - propertyId: {}", propertyId);
+                    continue;
+                }
+                Long dbTotal = dbTotals.getOrDefault(propertyId, 0L);
+
+                try {
+                    if (!BigInteger.valueOf(dbTotal).equals(onChainTotal)) {
+                        mismatchCount++;
+                        log.error("잔액 불일치 감지 - propertyId: {}, DB합계: {}, 온체인totalSupply: {}",
+                                propertyId, dbTotal, onChainTotal);
+
+                        transactionService.saveReconciliationLog(
+                                ReconciliationType.HOLDING_MISMATCH,
+                                propertyId,
+                                dbTotal,
+                                onChainTotal,
+                                null
+                        );
+                    } else {
+                        log.debug("대사 일치 - propertyId: {}, amount: {}", propertyId, dbTotal);
+                    }
+                } catch (Exception e) {
+                    log.error("대사 중 오류 발생 - propertyId: {}", propertyId, e);
+                }
             }
         }
 
@@ -87,7 +117,7 @@ public class ReconciliationService {
      * DISTRIBUTED 상태의 RentalIncome 중 최근 24시간 내 처리된 건의
      * 블록체인 TX 상태를 확인하여 실제 실패한 건을 감지
      */
-    @Scheduled(cron = "0 30 2 * * *")
+    @Scheduled(cron = "0 30 2 * * *", scheduler = SchedulingConfig.LONG_JOB_SCHEDULER)
     public void verifyDistributionTransactions() {
         runLogger.run("VerifyDistributionTransactions", this::doVerifyDistributionTransactions);
     }
@@ -134,9 +164,10 @@ public class ReconciliationService {
     /**
      * FAILED 배당 자동 재시도 (5분마다)
      *
-     * 2-Phase: DB 상태 변경(트랜잭션) → 블록체인 호출(트랜잭션 밖) → 결과 반영(트랜잭션)
+     * FAILED 건을 PENDING으로 되돌리기만 한다 — 분배 등록은 묶음 스케줄러, 결과 반영은 컨펌/실패 이벤트.
+     * processed는 재시도로 돌린 건수.
      */
-    @Scheduled(fixedDelay = 300000)
+    @Scheduled(fixedDelay = 300000, scheduler = SchedulingConfig.LONG_JOB_SCHEDULER)
     public void retryFailedDistributions() {
         runLogger.run("RetryFailedDistributions", this::doRetryFailedDistributions);
     }
@@ -161,23 +192,8 @@ public class ReconciliationService {
                 log.info("배당 재시도 - rentalIncomeId: {}, retryCount: {}",
                         income.getId(), income.getRetryCount());
 
-                // Phase 1: DB 상태 변경 (트랜잭션)
+                // PENDING으로 되돌리면 RentalIncomeDistributionScheduler가 다음 묶음에 포함해 다시 등록
                 transactionService.prepareRetry(income);
-
-                // Phase 2: 블록체인 호출 (트랜잭션 밖)
-                String propertyTokenAddress = income.getPropertyId();
-                Property property = propertyRepository.findById(propertyTokenAddress)
-                        .orElseThrow(() -> new BusinessException(ErrorCode.PROPERTY_NOT_FOUND));
-                String distributorAddress = property.getDividendDistributorAddress();
-                BigInteger krwtAmount = income.getKrwtAmountAsBigInteger();
-                BigInteger snapshotId = blockchainWalletService.createSnapshot(propertyTokenAddress);
-                blockchainWalletService.approveKrwtAndWait(distributorAddress, krwtAmount);
-                String txHash = blockchainWalletService.createDividend(
-                        distributorAddress, snapshotId, krwtAmount);
-
-                // Phase 3: 성공 반영 (트랜잭션)
-                transactionService.completeRetry(income, txHash);
-                log.info("배당 재시도 성공 - rentalIncomeId: {}, txHash: {}", income.getId(), txHash);
                 processed++;
 
             } catch (Exception e) {
@@ -46,17 +46,15 @@ public class ReconciliationTransactionService {
 
     @Transactional
     public void prepareRetry(RentalIncome income) {
-        income.incrementRetryCount();
-        income.resetToPending();
-    }
-
-    @Transactional
-    public void completeRetry(RentalIncome income, String txHash) {
-        income.completeDistribution(txHash);
+        // 스케줄러가 트랜잭션 밖에서 조회한 엔티티라 다시 읽어서 변경해야 반영된다
+        rentalIncomeRepository.findById(income.getId()).ifPresent(managed -> {
+            managed.incrementRetryCount();
+            managed.resetToPending();
+        });
     }
 
     @Transactional
     public void failRetry(RentalIncome income) {
-        income.failDistribution();
+        rentalIncomeRepository.findById(income.getId()).ifPresent(RentalIncome::failDistribution);
     }
 }
@@ -10,7 +10,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "RentalIncomes")
+@Table(name = "RentalIncomes", indexes = {
+        @Index(name = "idx_rental_income_status_property", columnList = "status, property_id"),
+        @Index(name = "idx_rental_income_group", columnList = "distribution_group_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RentalIncome {
@@ -44,6 +47,10 @@ public class RentalIncome {
     @Column(name = "toss_payment_key", unique = true)
     private String tossPaymentKey;
 
+    /* 같은 스냅샷/배당으로 묶여 분배되는 입금 묶음 (null이면 아직 묶이지 않음) */
+    @Column(name = "distribution_group_id", length = 36)
+    private String distributionGroupId;
+
     @Column(name = "retry_count", nullable = false)
     private int retryCount = 0;
 
@@ -69,6 +76,11 @@ public class RentalIncome {
         this.tossPaymentKey = paymentKey;
     }
 
+    /* 분배 묶음 배정 */
+    public void assignDistributionGroup(String groupId) {
+        this.distributionGroupId = groupId;
+    }
+
     /* KRWT 분배 완료 처리 */
     public void completeDistribution(String txHash) {
         this.status = RentalIncomeStatus.DISTRIBUTED;
@@ -91,9 +103,10 @@ public class RentalIncome {
         return this.retryCount < 3;
     }
 
-    /* PENDING 상태로 재설정 (재시도 시) */
+    /* PENDING 상태로 재설정 (재시도 시) — 다음 묶음에 다시 포함되도록 묶음 배정 해제 */
     public void resetToPending() {
         this.status = RentalIncomeStatus.PENDING;
+        this.distributionGroupId = null;
     }
 
     /* 블록체인 전송을 위한 KRWT 수량. KRWT는 18 decimals이므로 사람 단위 → wei 단위 변환. */
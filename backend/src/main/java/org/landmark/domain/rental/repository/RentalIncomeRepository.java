@@ -2,8 +2,12 @@ package org.landmark.domain.rental.repository;
 
 import org.landmark.domain.rental.domain.RentalIncome;
 import org.landmark.domain.rental.domain.RentalIncomeStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -19,6 +23,22 @@ public interface RentalIncomeRepository extends JpaRepository<RentalIncome, Stri
     List<RentalIncome> findByPropertyIdAndStatusOrderByDepositDateDesc(String propertyId, RentalIncomeStatus status);
     List<RentalIncome> findByStatus(RentalIncomeStatus status);
 
+    List<RentalIncome> findByDistributionGroupId(String distributionGroupId);
+
+    /* 아직 묶이지 않은 PENDING 입금 중 가장 오래된 건이 cutoff 이전인 매물 — 묶음 창이 닫힌 매물 */
+    @Query("SELECT r.propertyId FROM RentalIncome r " +
+            "WHERE r.status = :status AND r.distributionGroupId IS NULL " +
+            "GROUP BY r.propertyId HAVING MIN(r.depositDate) <= :cutoff")
+    List<String> findPropertyIdsWithUngroupedBefore(@Param("status") RentalIncomeStatus status,
+                                                    @Param("cutoff") LocalDateTime cutoff);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")})
+    @Query("SELECT r FROM RentalIncome r WHERE r.propertyId = :propertyId " +
+            "AND r.status = :status AND r.distributionGroupId IS NULL ORDER BY r.depositDate ASC")
+    List<RentalIncome> findUngroupedForUpdate(@Param("propertyId") String propertyId,
+                                              @Param("status") RentalIncomeStatus status);
+
     @Query("SELECT r FROM RentalIncome r WHERE r.status = :status AND r.distributedAt >= :after")
     List<RentalIncome> findByStatusAndDistributedAtAfter(
             @Param("status") RentalIncomeStatus status,
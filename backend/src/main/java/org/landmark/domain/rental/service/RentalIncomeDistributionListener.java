@@ -0,0 +1,37 @@
+package org.landmark.domain.rental.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.global.blockchain.outbox.event.OutboxChainCompletedEvent;
+import org.landmark.global.blockchain.outbox.event.OutboxChainFailedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배당 분배 아웃박스 연쇄 작업의 결과를 묶음(distributionGroupId)의 모든 RentalIncome에 반영.
+ * 이벤트는 아웃박스 상태 전이 트랜잭션 안에서 발행되므로 같은 트랜잭션으로 함께 커밋된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RentalIncomeDistributionListener {
+
+    private final RentalIncomeTransactionService transactionService;
+
+    @EventListener
+    public void onCompleted(OutboxChainCompletedEvent event) {
+        if (!RentalIncomeService.DISTRIBUTION_AGGREGATE_TYPE.equals(event.aggregateType())) return;
+
+        int count = transactionService.updateGroupDistributionSuccess(event.aggregateId(), event.txHash());
+        log.info("임대 수익 분배 완료 - groupId: {}, 입금: {}건, txHash: {}", event.aggregateId(), count, event.txHash());
+    }
+
+    @EventListener
+    public void onFailed(OutboxChainFailedEvent event) {
+        if (!RentalIncomeService.DISTRIBUTION_AGGREGATE_TYPE.equals(event.aggregateType())) return;
+
+        int count = transactionService.updateGroupDistributionFailed(event.aggregateId());
+        log.error("임대 수익 분배 실패 - groupId: {}, 입금: {}건, 단계: {}, error: {}",
+                event.aggregateId(), count, event.failedStep(), event.error());
+    }
+}
@@ -0,0 +1,64 @@
+package org.landmark.domain.rental.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.domain.rental.domain.RentalIncomeStatus;
+import org.landmark.domain.rental.repository.RentalIncomeRepository;
+import org.landmark.global.scheduler.runlog.SchedulerRunLogger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 임대 수익 분배 묶음 스케줄러.
+ *
+ * 같은 매물로 들어온 입금(호실별 가상계좌 등)을 coalesce-window-ms 동안 모아
+ * 스냅샷 1회 + approve 1회 + 배당 1회로 분배한다 — 입금마다 TX 3건을 쓰지 않도록.
+ * 매물의 가장 오래된 미분배 입금이 창을 넘기면 그 시점까지 쌓인 PENDING 입금을 모두 합쳐 등록.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RentalIncomeDistributionScheduler {
+
+    public static final String JOB_NAME = "CoalesceRentalDistributions";
+
+    private final RentalIncomeRepository rentalIncomeRepository;
+    private final RentalIncomeTransactionService transactionService;
+    private final SchedulerRunLogger runLogger;
+
+    @Value("${rental.distribution.coalesce-window-ms:600000}")
+    private long coalesceWindowMs;
+
+    @Scheduled(fixedDelayString = "${rental.distribution.coalesce-interval-ms:30000}")
+    public void coalesce() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(coalesceWindowMs * 1_000_000L);
+        List<String> propertyIds;
+        try {
+            propertyIds = rentalIncomeRepository.findPropertyIdsWithUngroupedBefore(RentalIncomeStatus.PENDING, cutoff);
+        } catch (Exception e) {
+            log.error("분배 묶음 대상 조회 실패", e);
+            return;
+        }
+        if (propertyIds.isEmpty()) return;
+
+        runLogger.run(JOB_NAME, () -> doCoalesce(propertyIds));
+    }
+
+    private SchedulerRunLogger.Result doCoalesce(List<String> propertyIds) {
+        int processed = 0;
+        int failed = 0;
+        for (String propertyId : propertyIds) {
+            try {
+                processed += transactionService.coalesceAndEnqueue(propertyId);
+            } catch (Exception e) {
+                log.error("임대 수익 분배 묶음 등록 실패 - propertyId: {}", propertyId, e);
+                failed++;
+            }
+        }
+        return new SchedulerRunLogger.Result(processed, failed);
+    }
+}
@@ -2,11 +2,9 @@ package org.landmark.domain.rental.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.landmark.global.blockchain.service.BlockchainWalletService;
 import org.landmark.global.toss.client.TossPaymentsClient;
 import org.landmark.global.toss.dto.TossVirtualAccountRequest;
 import org.landmark.global.toss.dto.TossVirtualAccountResponse;
-import org.landmark.domain.properties.domain.Property;
 import org.landmark.domain.properties.repository.PropertyRepository;
 import org.landmark.domain.rental.domain.PropertyVirtualAccount;
 import org.landmark.domain.rental.domain.RentalIncome;
@@ -22,7 +20,6 @@ import org.landmark.global.util.BankCode;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigInteger;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -32,11 +29,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class RentalIncomeService {
 
+    /* 배당 분배 아웃박스 aggregate_type — aggregate_id는 RentalIncome.distributionGroupId */
+    public static final String DISTRIBUTION_AGGREGATE_TYPE = "RENTAL_INCOME_GROUP";
+
     private final RentalIncomeRepository rentalIncomeRepository;
     private final PropertyVirtualAccountRepository propertyVirtualAccountRepository;
     private final PropertyRepository propertyRepository;
     private final TossPaymentsClient tossPaymentsClient;
-    private final BlockchainWalletService blockchainWalletService;
     private final RentalIncomeTransactionService transactionService;
 
     /* Property별 임대 수익 전용 가상계좌 발급 */
@@ -86,7 +85,7 @@ public class RentalIncomeService {
      *
      * 2-Phase 처리:
      * Phase 1: DB에 RentalIncome PENDING 저장 (트랜잭션) — RentalIncomeTransactionService
-     * Phase 2: 블록체인 호출 → 성공/실패 업데이트 (각각 별도 트랜잭션)
+     * Phase 2: 같은 매물 입금을 묶음 창 단위로 합쳐 아웃박스에 등록 → 결과는 컨펌/실패 이벤트로 반영
      *
      * 멱등성: paymentKey로 중복 체크하여 동일 webhook 재시도 시 안전하게 무시
      */
@@ -120,55 +119,16 @@ public class RentalIncomeService {
         // Phase 1: DB에 RentalIncome 저장 (PENDING) — 별도 빈의 @Transactional
         RentalIncome rentalIncome = transactionService.saveRentalIncome(accountNumberOrOrderId, paymentKey, amount);
 
-        // Phase 2: 블록체인 호출 (DB 트랜잭션 밖에서 실행)
-        executeBlockchainDistribution(rentalIncome);
-    }
-
-    /**
-     * Phase 2: 블록체인 배당 분배 실행 (트랜잭션 밖)
-     */
-    private void executeBlockchainDistribution(RentalIncome rentalIncome) {
-        String propertyTokenAddress = rentalIncome.getPropertyId();
-        log.info("블록체인 배당 분배 시작 - rentalIncomeId: {}, propertyId: {}", rentalIncome.getId(), propertyTokenAddress);
-
-        Property property = propertyRepository.findById(propertyTokenAddress)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PROPERTY_NOT_FOUND));
-
-        String distributorAddress = property.getDividendDistributorAddress();
-        BigInteger krwtAmount = rentalIncome.getKrwtAmountAsBigInteger();
-
-        try {
-            // Step 1: PropertyToken 스냅샷 — 분배 기준 시점의 토큰 보유량 기록
-            BigInteger snapshotId = blockchainWalletService.createSnapshot(propertyTokenAddress);
-            log.info("Snapshot 생성 완료 - snapshotId: {}", snapshotId);
-
-            // Step 2: distributor가 백엔드 지갑의 KRWT를 transferFrom할 수 있도록 approve
-            blockchainWalletService.approveKrwtAndWait(distributorAddress, krwtAmount);
-            log.info("KRWT approve 완료 - spender: {}, amount: {}", distributorAddress, krwtAmount);
-
-            // Step 3: 분배 실행 (내부적으로 KRWT.transferFrom 호출됨)
-            String txHash = blockchainWalletService.createDividend(
-                    distributorAddress, snapshotId, krwtAmount);
-
-            // 성공: DB 업데이트 — 별도 빈의 @Transactional
-            transactionService.updateDistributionSuccess(rentalIncome.getId(), txHash);
-            log.info("임대 수익 분배 완료 - rentalIncomeId: {}, txHash: {}, snapshotId: {}, krwtAmount: {}",
-                    rentalIncome.getId(), txHash, snapshotId, krwtAmount);
-
-        } catch (Exception e) {
-            log.error("임대 수익 분배 실패 - rentalIncomeId: {}, propertyId: {}",
-                    rentalIncome.getId(), propertyTokenAddress, e);
-            transactionService.updateDistributionFailed(rentalIncome.getId());
-            throw new BusinessException(ErrorCode.RENTAL_INCOME_DISTRIBUTION_FAILED);
-        }
+        // Phase 2: 묶음 창이 닫히면 RentalIncomeDistributionScheduler가 같은 매물 입금과 합쳐 분배 등록
+        log.info("임대 수익 입금 저장 - 분배 대기 - rentalIncomeId: {}, propertyId: {}",
+                rentalIncome.getId(), rentalIncome.getPropertyId());
     }
 
     /**
-     * FAILED 건 블록체인 재시도
+     * FAILED 건 블록체인 재시도 — PENDING으로 되돌리면 다음 묶음에 포함된다
      */
     private void retryBlockchainDistribution(RentalIncome rentalIncome) {
         transactionService.incrementRetryAndResetToPending(rentalIncome.getId());
-        executeBlockchainDistribution(rentalIncome);
     }
 
     /* Property별 임대 수익 내역 조회 — 분배 완료된 것만 반환 */
@@ -2,15 +2,22 @@ package org.landmark.domain.rental.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.landmark.domain.properties.domain.Property;
+import org.landmark.domain.properties.repository.PropertyRepository;
 import org.landmark.domain.rental.domain.PropertyVirtualAccount;
 import org.landmark.domain.rental.domain.RentalIncome;
+import org.landmark.domain.rental.domain.RentalIncomeStatus;
 import org.landmark.domain.rental.repository.PropertyVirtualAccountRepository;
 import org.landmark.domain.rental.repository.RentalIncomeRepository;
+import org.landmark.global.blockchain.outbox.service.BlockchainOutboxService;
 import org.landmark.global.exception.BusinessException;
 import org.landmark.global.exception.ErrorCode;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.UUID;
+
 /**
  * RentalIncome DB 트랜잭션 전용 서비스
  *
@@ -25,6 +32,8 @@ public class RentalIncomeTransactionService {
 
     private final RentalIncomeRepository rentalIncomeRepository;
     private final PropertyVirtualAccountRepository propertyVirtualAccountRepository;
+    private final PropertyRepository propertyRepository;
+    private final BlockchainOutboxService outboxService;
 
     @Transactional
     public RentalIncome saveRentalIncome(String accountNumberOrOrderId, String paymentKey, Long amount) {
@@ -50,18 +59,52 @@ public class RentalIncomeTransactionService {
         return rentalIncomeRepository.save(rentalIncome);
     }
 
+    /**
+     * 매물의 묶이지 않은 PENDING 입금을 하나의 분배 묶음으로 잠그고(SKIP LOCKED) 합계 금액으로 배당 아웃박스 등록.
+     * 묶음 배정과 아웃박스 등록이 같은 트랜잭션이라 어느 한쪽만 남지 않는다.
+     *
+     * @return 묶인 입금 건수 (다른 인스턴스가 먼저 가져갔으면 0)
+     */
     @Transactional
-    public void updateDistributionSuccess(String rentalIncomeId, String txHash) {
-        RentalIncome income = rentalIncomeRepository.findById(rentalIncomeId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.RENTAL_INCOME_NOT_FOUND));
-        income.completeDistribution(txHash);
+    public int coalesceAndEnqueue(String propertyId) {
+        List<RentalIncome> incomes = rentalIncomeRepository.findUngroupedForUpdate(propertyId, RentalIncomeStatus.PENDING);
+        if (incomes.isEmpty()) return 0;
+
+        Property property = propertyRepository.findById(propertyId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROPERTY_NOT_FOUND));
+
+        String groupId = UUID.randomUUID().toString();
+        long totalKrwt = 0;
+        for (RentalIncome income : incomes) {
+            income.assignDistributionGroup(groupId);
+            totalKrwt += income.getKrwtAmount();
+        }
+
+        outboxService.enqueueDividendDistribution(
+                RentalIncomeService.DISTRIBUTION_AGGREGATE_TYPE,
+                groupId,
+                propertyId,
+                property.getDividendDistributorAddress(),
+                String.valueOf(totalKrwt)
+        );
+        log.info("임대 수익 분배 묶음 등록 - propertyId: {}, groupId: {}, 입금: {}건, krwtAmount: {}",
+                propertyId, groupId, incomes.size(), totalKrwt);
+        return incomes.size();
     }
 
+    /* 묶음 전체 분배 완료 — 모든 입금 건이 같은 배당 tx hash를 가진다 */
     @Transactional
-    public void updateDistributionFailed(String rentalIncomeId) {
-        RentalIncome income = rentalIncomeRepository.findById(rentalIncomeId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.RENTAL_INCOME_NOT_FOUND));
-        income.failDistribution();
+    public int updateGroupDistributionSuccess(String groupId, String txHash) {
+        List<RentalIncome> incomes = rentalIncomeRepository.findByDistributionGroupId(groupId);
+        incomes.forEach(income -> income.completeDistribution(txHash));
+        return incomes.size();
+    }
+
+    @Transactional
+    public int updateGroupDistributionFailed(String groupId) {
+        List<RentalIncome> incomes = rentalIncomeRepository.findByDistributionGroupId(groupId);
+        incomes.forEach(RentalIncome::failDistribution);
+        return incomes.size();
     }
 
     @Transactional
@@ -4,6 +4,8 @@ import org.landmark.domain.user.domain.AuthProvider;
 import org.landmark.domain.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, String> {
@@ -13,4 +15,6 @@ public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByProviderAndProviderId(AuthProvider provider, String providerId);
 
     Optional<User> findByWalletAddress(String walletAddress);
+
+    List<User> findByWalletAddressIn(Collection<String> walletAddresses);
 }
@@ -30,6 +30,14 @@ public class BlockchainConfig {
     @Value("${blockchain.wallet.private-key:}")
     private String privateKey;
 
+    /* KRWT minter 권한이 부여된 추가 운영 지갑들 (콤마 구분). 지갑마다 별도 nonce lane으로 동작 */
+    @Value("${blockchain.wallet.minter-private-keys:}")
+    private String[] minterPrivateKeys;
+
+    /* 인스턴스 식별자 — DB nonce 할당/아웃박스 claim 주체 기록용. 미설정 시 기동마다 랜덤 */
+    @Value("${blockchain.instance-id:${random.uuid}}")
+    private String instanceId;
+
     @Value("${blockchain.contract.krwt-token-address:}")
     private String krwtTokenAddress;
 
@@ -0,0 +1,27 @@
+package org.landmark.global.blockchain.indexer;
+
+import org.web3j.abi.datatypes.Event;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ChainEventIndexer가 수집한 로그를 받아 처리하는 핸들러.
+ * 인덱서는 (핸들러, 컨트랙트) 스트림마다 처리 위치를 따로 두고, 같은 위치의 스트림을 합쳐 eth_getLogs 한 번으로 조회한 뒤
+ * topic0 + 컨트랙트 주소가 맞는 로그만 블록/로그 순서대로 넘겨준다.
+ * 여러 핸들러가 같은 블록 범위를 받을 때 호출 순서는 @Order를 따른다.
+ */
+public interface ChainEventHandler {
+
+    /* 핸들러 이름 (로그용) */
+    String name();
+
+    List<Event> events();
+
+    /* 구독할 컨트랙트 주소 (소문자) */
+    Set<String> contractAddresses(ContractAddressBook addressBook);
+
+    /* 한 폴링 범위의 로그 일괄 처리. 예외를 던지면 이 핸들러의 cursor만 멈추고 다음 주기에 같은 범위를 다시 받는다. */
+    void handle(List<Log> logs);
+}
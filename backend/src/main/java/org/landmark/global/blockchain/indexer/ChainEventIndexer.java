@@ -0,0 +1,414 @@
+package org.landmark.global.blockchain.indexer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.global.blockchain.indexer.service.ChainCursorTransactionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 매물 컨트랙트 이벤트 통합 인덱서.
+ *
+ * 처리 위치는 (핸들러, 컨트랙트) 스트림마다 ChainCursors에 따로 저장해 재기동 후에도 빠짐/중복 없이 이어서 읽는다.
+ * - 같은 cursor에 있는 스트림끼리 묶어 eth_getLogs 1회로 조회 (모든 이벤트를 topic0 OR 조건으로) — 평소엔 모두 같은 위치라 폴링당 1회
+ * - 나중에 추가된 매물/핸들러의 스트림은 start-block부터 자기 이력을 따로 읽다가 앞선 스트림의 cursor에 닿으면 합류
+ * - 핸들러가 실패하면 그 핸들러의 스트림만 멈춘다 — 이미 성공한 핸들러에 같은 구간을 다시 보내지 않는다
+ * 모든 스트림이 처리를 마친 블록(최솟값)은 CURSOR_NAME으로 기록해 안건 마감/원장 backfill이 참고한다.
+ * provider가 큰 블록 범위를 거부하면 범위를 절반씩 줄여 재시도하고, 성공하면 다시 늘린다.
+ *
+ * WebSocket 구독(ChainLogSubscriber)이 살아 있는 동안에는 폴링을 쉬고 head-catch-up-ms마다 head까지만 확인하며,
+ * 구독이 끊기면 폴링이 다시 HTTP로 따라잡는다. 두 경로가 겹치는 로그는 최근 로그 키(LRU)로 걸러낸다.
+ */
+@Slf4j
+@Component
+public class ChainEventIndexer {
+
+    /* 모든 스트림이 처리를 마친 블록 — 단일 cursor 시절의 이름을 그대로 쓴다 */
+    public static final String CURSOR_NAME = "property-contracts";
+    /* (핸들러, 컨트랙트) 스트림 cursor 이름: indexer:{핸들러}:{주소} */
+    public static final String STREAM_CURSOR_PREFIX = "indexer:";
+    /* 단일 cursor → 스트림 cursor 이전을 마쳤다는 표시 */
+    private static final String MIGRATED_CURSOR = "property-contracts-migrated";
+
+    @Nullable
+    private final Web3j web3j;
+    private final List<ChainEventHandler> handlers;
+    private final ContractAddressBook addressBook;
+    private final ChainCursorTransactionService cursorTxService;
+
+    @Value("${blockchain.indexer.max-block-range:2000}")
+    private int maxBlockRange;
+
+    @Value("${blockchain.indexer.max-ranges-per-cycle:10}")
+    private int maxRangesPerCycle;
+
+    /*
+     * 스트림 cursor가 없을 때 시작 블록. 음수면 head - initial-lookback부터.
+     * 운영에서는 첫 컨트랙트 배포 블록으로 둬야 나중에 추가된 매물/핸들러가 과거 이력을 빠짐없이 읽는다.
+     */
+    @Value("${blockchain.indexer.start-block:-1}")
+    private long startBlock;
+
+    @Value("${blockchain.indexer.initial-lookback:200}")
+    private long initialLookback;
+
+    @Value("${blockchain.indexer.dedupe-size:10000}")
+    private int dedupeSize;
+
+    private int currentRange = -1;
+
+    /* WebSocket 구독이 로그를 밀어주는 중이면 폴링 생략 */
+    private volatile boolean pushActive = false;
+
+    private boolean migrated = false;
+    private long publishedThrough = Long.MIN_VALUE;
+
+    /* 최근 처리한 로그 키 (txHash:logIndex) — 폴링/구독/재연결 backfill 사이 중복 제거 */
+    private final Map<String, Boolean> recentLogKeys = new LinkedHashMap<>(1024, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > dedupeSize;
+        }
+    };
+
+    @Autowired
+    public ChainEventIndexer(@Nullable Web3j web3j,
+                             List<ChainEventHandler> handlers,
+                             ContractAddressBook addressBook,
+                             ChainCursorTransactionService cursorTxService) {
+        this.web3j = web3j;
+        this.handlers = handlers;
+        this.addressBook = addressBook;
+        this.cursorTxService = cursorTxService;
+    }
+
+    /* (핸들러, 컨트랙트) 단위 처리 스트림 */
+    private record Stream(ChainEventHandler handler, Set<String> topics, String address) {
+        String cursorName() {
+            return STREAM_CURSOR_PREFIX + handler.name() + ":" + address;
+        }
+
+        boolean matches(Log eventLog) {
+            return !eventLog.getTopics().isEmpty()
+                    && topics.contains(eventLog.getTopics().get(0))
+                    && address.equals(eventLog.getAddress().toLowerCase());
+        }
+    }
+
+    public void setPushActive(boolean pushActive) {
+        this.pushActive = pushActive;
+    }
+
+    @Scheduled(fixedDelayString = "${blockchain.indexer.polling-interval-ms:10000}")
+    public void poll() {
+        if (web3j == null || pushActive) return;
+
+        try {
+            catchUpTo(fetchHead());
+        } catch (Exception e) {
+            log.error("체인 이벤트 인덱싱 오류", e);
+        }
+    }
+
+    /*
+     * 푸시 중에는 구독 로그가 올 때만 cursor가 움직여, 이벤트 없는 블록이 이어지면 처리 위치가 멈춘다.
+     * 주기적으로 head까지 HTTP로 확인해 cursor를 올린다 — 안건 마감이 처리 위치를 기다리므로.
+     * 구독으로 이미 받은 로그는 중복 제거로 걸러진다.
+     */
+    @Scheduled(fixedDelayString = "${blockchain.indexer.ws.head-catch-up-ms:15000}")
+    public void catchUpWhilePushing() {
+        if (web3j == null || !pushActive) return;
+
+        try {
+            catchUpTo(fetchHead());
+        } catch (Exception e) {
+            log.error("푸시 중 head 따라잡기 오류", e);
+        }
+    }
+
+    long fetchHead() throws Exception {
+        return web3j.ethBlockNumber().send().getBlockNumber().longValueExact();
+    }
+
+    /*
+     * 스트림별 cursor 다음 블록부터 head까지 처리. 한 번에 max-ranges-per-cycle 구간까지만 — 나머지는 다음 주기.
+     * 가장 뒤처진 스트림 묶음부터 읽고, 다음 묶음의 cursor에 닿으면 합쳐서 함께 읽는다.
+     * 반환: 모든 스트림이 처리를 마친 마지막 블록
+     */
+    public synchronized long catchUpTo(long head) {
+        if (web3j == null) return -1L;
+
+        List<Stream> streams = streams();
+        Map<String, Long> cursors = cursors(streams, head);
+        if (streams.isEmpty()) {
+            return publishProcessedThrough(head);
+        }
+
+        if (currentRange < 1) currentRange = maxBlockRange;
+        // 이번 주기에 핸들러가 실패한 스트림 — 같은 구간을 곧바로 다시 보내지 않는다
+        Set<String> stalled = new HashSet<>();
+        int ranges = 0;
+        while (ranges < maxRangesPerCycle) {
+            List<Stream> active = streams.stream().filter(s -> !stalled.contains(s.cursorName())).toList();
+            if (active.isEmpty()) break;
+            long low = active.stream().mapToLong(s -> cursors.get(s.cursorName())).min().orElseThrow();
+            if (low >= head) break;
+            long joinAt = active.stream().mapToLong(s -> cursors.get(s.cursorName()))
+                    .filter(c -> c > low).min().orElse(head);
+            List<Stream> group = active.stream().filter(s -> cursors.get(s.cursorName()) == low).toList();
+
+            long from = low + 1;
+            long to = Math.min(Math.min(head, joinAt), from + currentRange - 1);
+
+            Set<String> addresses = new LinkedHashSet<>();
+            Set<String> topics = new LinkedHashSet<>();
+            group.forEach(s -> {
+                addresses.add(s.address());
+                topics.addAll(s.topics());
+            });
+
+            List<Log> logs;
+            try {
+                logs = fetchLogs(addresses, topics, from, to);
+            } catch (Exception e) {
+                if (currentRange == 1) {
+                    log.error("eth_getLogs 실패 (단일 블록) - block: {}", from, e);
+                    break;
+                }
+                currentRange = Math.max(1, currentRange / 2);
+                log.warn("eth_getLogs 범위 축소 후 재시도 - block {} ~ {}, 새 범위: {}, 원인: {}",
+                        from, to, currentRange, e.getMessage());
+                continue;
+            }
+
+            stalled.addAll(dispatch(group, cursors, logs, to));
+            ranges++;
+
+            if (currentRange < maxBlockRange) {
+                currentRange = Math.min(maxBlockRange, currentRange * 2);
+            }
+        }
+        return publishProcessedThrough(minCursor(cursors, head));
+    }
+
+    /*
+     * 이미 수집된 로그(WebSocket 구독)를 핸들러로 전달하고 스트림 cursor를 마지막 블록 직전까지 전진.
+     * 구독 micro-batch는 한 블록의 로그를 두 flush로 나눠 보낼 수 있어 마지막 블록은 완료로 치지 않는다
+     * — 남은 로그는 다음 푸시/폴링/재연결 backfill이 그 블록부터 다시 읽고, 이미 받은 로그는 중복 제거로 걸러진다.
+     * 어느 스트림이든 첫 푸시 블록 전에 빈 구간이 있으면 먼저 HTTP로 채우고, 다 채우지 못하면 cursor를 건드리지 않고 던진다
+     * — 빈 구간을 건너뛰어 cursor를 올리면 그 사이 이벤트는 영구히 빠진다.
+     * 실패한 핸들러가 있으면 나머지는 반영한 뒤 던져 폴링이 그 스트림만 다시 읽게 한다.
+     */
+    public synchronized void dispatchPushed(List<Log> logs) {
+        if (logs.isEmpty()) return;
+
+        long firstBlock = logs.stream().map(Log::getBlockNumber).min(Comparator.naturalOrder())
+                .orElseThrow().longValueExact();
+        long cursor = lastProcessedBlock(firstBlock - 1);
+        while (cursor < firstBlock - 1) {
+            long reached = catchUpTo(firstBlock - 1);
+            if (reached <= cursor) {
+                throw new IllegalStateException("푸시 로그 이전 구간 backfill 실패 - cursor: " + cursor
+                        + ", 첫 푸시 블록: " + firstBlock);
+            }
+            cursor = reached;
+        }
+
+        long lastBlock = logs.stream().map(Log::getBlockNumber).max(Comparator.naturalOrder())
+                .orElseThrow().longValueExact();
+        List<Stream> streams = streams();
+        Map<String, Long> cursors = cursors(streams, lastBlock);
+        Set<String> failed = dispatch(streams, cursors, logs, lastBlock - 1);
+        publishProcessedThrough(minCursor(cursors, lastBlock));
+        if (!failed.isEmpty()) {
+            throw new IllegalStateException("푸시 로그 처리 실패 - 스트림: " + failed);
+        }
+    }
+
+    /* 인덱서 처리(폴링/푸시)와 겹치지 않게 실행 — 원장 backfill 후 보유 현황 재생성용 */
+    public synchronized void runExclusive(Runnable task) {
+        task.run();
+    }
+
+    /* 현재 구독 대상 전체 — WebSocket 구독 필터 구성용 */
+    public synchronized Set<String> subscribedAddresses() {
+        Set<String> addresses = new LinkedHashSet<>();
+        streams().forEach(s -> addresses.add(s.address()));
+        return addresses;
+    }
+
+    public synchronized Set<String> subscribedTopics() {
+        Set<String> topics = new LinkedHashSet<>();
+        streams().forEach(s -> topics.addAll(s.topics()));
+        return topics;
+    }
+
+    /*
+     * 스트림마다 자기 cursor 이후 로그만 골라 핸들러 순서(@Order)대로 전달하고, 성공한 핸들러의 스트림만 to까지 전진.
+     * 반환: 핸들러가 실패해 멈춘 스트림의 cursor 이름
+     */
+    private Set<String> dispatch(List<Stream> streams, Map<String, Long> cursors, List<Log> logs, long to) {
+        List<Log> ordered = new ArrayList<>(logs.size());
+        for (Log eventLog : logs) {
+            if (eventLog.isRemoved()) {
+                log.warn("reorg로 제거된 로그 무시 - txHash: {}, block: {}",
+                        eventLog.getTransactionHash(), eventLog.getBlockNumber());
+                continue;
+            }
+            if (!recentLogKeys.containsKey(logKey(eventLog))) {
+                ordered.add(eventLog);
+            }
+        }
+        ordered.sort(Comparator.comparing(Log::getBlockNumber).thenComparing(Log::getLogIndex));
+
+        Map<ChainEventHandler, List<Stream>> byHandler = new LinkedHashMap<>();
+        streams.forEach(s -> byHandler.computeIfAbsent(s.handler(), k -> new ArrayList<>()).add(s));
+
+        Set<String> failed = new HashSet<>();
+        for (Map.Entry<ChainEventHandler, List<Stream>> entry : byHandler.entrySet()) {
+            ChainEventHandler handler = entry.getKey();
+            List<Stream> handlerStreams = entry.getValue();
+            List<String> names = handlerStreams.stream().map(Stream::cursorName).toList();
+            List<Log> matched = ordered.stream()
+                    .filter(l -> handlerStreams.stream().anyMatch(s -> s.matches(l)
+                            && l.getBlockNumber().longValueExact() > cursors.get(s.cursorName())))
+                    .toList();
+
+            if (!matched.isEmpty()) {
+                log.info("{} 이벤트 {}건 처리 (block {} ~ {})", handler.name(), matched.size(),
+                        matched.get(0).getBlockNumber(), matched.get(matched.size() - 1).getBlockNumber());
+                try {
+                    handler.handle(matched);
+                } catch (Exception e) {
+                    log.error("{} 이벤트 처리 실패 — 해당 스트림 {}개 cursor 정지, 다음 주기에 재시도 (block ~ {})",
+                            handler.name(), names.size(), to, e);
+                    failed.addAll(names);
+                    continue;
+                }
+                // 성공한 핸들러의 로그만 처리 완료로 기록 — 실패한 핸들러는 다음 주기에 같은 로그를 다시 받는다
+                matched.forEach(eventLog -> recentLogKeys.put(logKey(eventLog), Boolean.TRUE));
+            }
+            cursorTxService.advanceAll(names, to);
+            names.forEach(name -> cursors.merge(name, to, Math::max));
+        }
+        return failed;
+    }
+
+    /*
+     * 스트림별 cursor. 없는 스트림은 start-block(미설정이면 head - initial-lookback) 직전부터 시작하고 바로 저장한다.
+     * 단일 cursor(CURSOR_NAME)만 쓰던 배포에서 처음 올라오면 그 위치를 당시 스트림에 한 번만 물려준다
+     * — 이후에 생기는 스트림은 자기 이력을 처음부터 읽는다.
+     */
+    private Map<String, Long> cursors(List<Stream> streams, long head) {
+        Map<String, Long> persisted = cursorTxService.findLastProcessedBlocks(STREAM_CURSOR_PREFIX);
+
+        Long legacy = null;
+        if (!migrated) {
+            migrated = cursorTxService.findLastProcessedBlock(MIGRATED_CURSOR).isPresent();
+            if (!migrated) {
+                legacy = cursorTxService.findLastProcessedBlock(CURSOR_NAME).orElse(null);
+            }
+        }
+        long initial = legacy != null ? legacy
+                : startBlock >= 0 ? startBlock - 1 : Math.max(0, head - initialLookback);
+
+        Map<String, Long> cursors = new HashMap<>();
+        List<String> created = new ArrayList<>();
+        for (Stream stream : streams) {
+            Long cursor = persisted.get(stream.cursorName());
+            if (cursor == null) {
+                cursor = initial;
+                created.add(stream.cursorName());
+            }
+            cursors.put(stream.cursorName(), cursor);
+        }
+        if (!created.isEmpty()) {
+            cursorTxService.advanceAll(created, initial);
+            log.info("새 인덱서 스트림 {}개 — 블록 {}부터 처리{}", created.size(), initial + 1,
+                    legacy != null ? " (단일 cursor에서 이전)" : "");
+        }
+        if (!migrated) {
+            cursorTxService.advance(MIGRATED_CURSOR, initial);
+            migrated = true;
+        }
+        return cursors;
+    }
+
+    private static long minCursor(Map<String, Long> cursors, long whenEmpty) {
+        return cursors.values().stream().mapToLong(Long::longValue).min().orElse(whenEmpty);
+    }
+
+    /* 모든 스트림이 처리를 마친 블록 기록 — 새 스트림이 생기면 뒤로도 간다 (그 스트림이 따라잡을 때까지 마감 대기) */
+    private long publishProcessedThrough(long block) {
+        if (block != publishedThrough) {
+            cursorTxService.advance(CURSOR_NAME, block);
+            publishedThrough = block;
+        }
+        return block;
+    }
+
+    private static String logKey(Log eventLog) {
+        return eventLog.getTransactionHash() + ":" + eventLog.getLogIndexRaw();
+    }
+
+    List<Log> fetchLogs(Set<String> addresses, Set<String> topics, long from, long to) throws Exception {
+        EthFilter filter = new EthFilter(
+                DefaultBlockParameter.valueOf(BigInteger.valueOf(from)),
+                DefaultBlockParameter.valueOf(BigInteger.valueOf(to)),
+                new ArrayList<>(addresses)
+        );
+        filter.addOptionalTopics(topics.toArray(String[]::new));
+
+        EthLog ethLog = web3j.ethGetLogs(filter).send();
+        if (ethLog.hasError()) {
+            throw new IllegalStateException(ethLog.getError().getMessage());
+        }
+
+        List<Log> logs = new ArrayList<>();
+        for (EthLog.LogResult<?> result : ethLog.getLogs()) {
+            if (result instanceof EthLog.LogObject logObject) {
+                logs.add(logObject.get());
+            }
+        }
+        return logs;
+    }
+
+    /* 모든 스트림이 처리를 마친 블록 (스트림 cursor의 최솟값). 구독 대상이 없으면 head */
+    public synchronized long lastProcessedBlock(long head) {
+        return minCursor(cursors(streams(), head), head);
+    }
+
+    private List<Stream> streams() {
+        List<Stream> streams = new ArrayList<>();
+        for (ChainEventHandler handler : handlers) {
+            Set<String> topics = new HashSet<>();
+            for (Event event : handler.events()) {
+                topics.add(EventEncoder.encode(event));
+            }
+            for (String address : handler.contractAddresses(addressBook)) {
+                streams.add(new Stream(handler, topics, address));
+            }
+        }
+        return streams;
+    }
+}
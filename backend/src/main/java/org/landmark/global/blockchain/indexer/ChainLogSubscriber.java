@@ -0,0 +1,238 @@
+package org.landmark.global.blockchain.indexer;
+
+import io.reactivex.disposables.Disposable;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.global.blockchain.config.BlockchainConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthSubscribe;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.protocol.websocket.WebSocketService;
+import org.web3j.protocol.websocket.events.Notification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * blockchain.indexer.mode=WEBSOCKET일 때 blockchain.network.ws-url로 eth_subscribe("logs")를 구독한다.
+ *
+ * - 연결 직후 구독을 먼저 열고(수신 로그는 버퍼링) cursor가 head에 닿을 때까지 HTTP로 backfill한 뒤 푸시 처리를 시작 — 빈 구간 없음
+ * - 수신 로그는 flush-interval-ms마다 모아서 ChainEventIndexer로 넘긴다 (블록 단위 micro-batch)
+ * - 연결이 끊기면 HTTP 폴링을 재개하고, 지수 backoff로 재연결 후 다시 backfill
+ * - 구독 주소(매물)가 바뀌면 재구독. 구독할 주소가 하나도 없으면 구독하지 않는다
+ *   (주소 필터가 비면 eth_subscribe는 체인의 모든 로그를 보낸다) — 매물이 생길 때까지 HTTP 폴링 유지
+ *
+ * 구독 필터는 eth_getLogs와 같게 주소 + topic0 OR 조건([[topicA, topicB, ...]])으로 건다.
+ * web3j의 logsNotifications는 topics를 위치별 단일 값으로만 받으므로 eth_subscribe 요청을 직접 만든다.
+ * 알림은 core Log로 받아 removed 플래그(reorg)를 그대로 인덱서에 넘긴다 — 인덱서가 removed 로그는 반영하지 않는다.
+ */
+@Slf4j
+@Component
+public class ChainLogSubscriber {
+
+    private final ChainEventIndexer indexer;
+    private final BlockchainConfig blockchainConfig;
+    @Nullable
+    private final Web3j httpWeb3j;
+
+    @Value("${blockchain.indexer.mode:POLLING}")
+    private IndexerMode mode;
+
+    @Value("${blockchain.indexer.ws.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    @Value("${blockchain.indexer.ws.reconnect-initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Value("${blockchain.indexer.ws.reconnect-max-backoff-ms:60000}")
+    private long maxBackoffMs;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "chain-log-subscriber");
+        t.setDaemon(true);
+        return t;
+    });
+    private final ConcurrentLinkedQueue<Log> buffer = new ConcurrentLinkedQueue<>();
+
+    /* 아래 상태는 모두 executor 스레드에서만 변경 */
+    private WebSocketService webSocketService;
+    private Disposable subscription;
+    private Set<String> subscribedAddresses = Set.of();
+    private Set<String> subscribedTopics = Set.of();
+    private volatile boolean live = false;
+    /* 구독할 주소가 없어 연결을 미룬 상태 — flush가 주소가 생기는지 본다 */
+    private boolean awaitingAddresses = false;
+    private long backoffMs;
+    private boolean reconnectPending = false;
+    /* 연결마다 증가 — 이전 연결의 늦은 콜백이 새 연결을 끊지 않도록 */
+    private int generation = 0;
+
+    /* logs 구독 알림 — result를 eth_getLogs와 같은 core Log로 받는다 (removed 포함) */
+    public static class PushedLogNotification extends Notification<Log> {
+    }
+
+    @Autowired
+    public ChainLogSubscriber(ChainEventIndexer indexer,
+                              BlockchainConfig blockchainConfig,
+                              @Nullable Web3j httpWeb3j) {
+        this.indexer = indexer;
+        this.blockchainConfig = blockchainConfig;
+        this.httpWeb3j = httpWeb3j;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (mode != IndexerMode.WEBSOCKET) return;
+        String wsUrl = blockchainConfig.getWsUrl();
+        if (wsUrl == null || wsUrl.isBlank() || httpWeb3j == null) {
+            log.warn("WebSocket 인덱싱 비활성 — ws-url/rpc-url 미설정, HTTP 폴링 유지");
+            return;
+        }
+        backoffMs = initialBackoffMs;
+        executor.execute(this::connect);
+        executor.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void connect() {
+        reconnectPending = false;
+        int gen = ++generation;
+        try {
+            closeQuietly();
+            subscribedAddresses = indexer.subscribedAddresses();
+            subscribedTopics = indexer.subscribedTopics();
+            awaitingAddresses = subscribedAddresses.isEmpty();
+            if (awaitingAddresses) {
+                live = false;
+                indexer.setPushActive(false);
+                log.info("WebSocket 구독 대상 주소 없음 — 매물이 생길 때까지 HTTP 폴링 유지");
+                return;
+            }
+
+            webSocketService = new WebSocketService(blockchainConfig.getWsUrl(), false);
+            webSocketService.connect(
+                    message -> { },
+                    error -> executor.execute(() -> onDisconnected(gen, "오류: " + error.getMessage())),
+                    () -> executor.execute(() -> onDisconnected(gen, "연결 종료"))
+            );
+
+            // 구독을 먼저 열어 backfill 동안 들어오는 로그도 버퍼에 쌓는다
+            subscription = webSocketService.subscribe(logsRequest(), "eth_unsubscribe", PushedLogNotification.class)
+                    .subscribe(this::onLog, error -> executor.execute(() -> onDisconnected(gen, "구독 오류: " + error.getMessage())));
+
+            // 한 번의 catchUpTo는 max-ranges-per-cycle 구간까지만 처리하므로 head에 닿을 때까지 반복
+            long head = httpWeb3j.ethBlockNumber().send().getBlockNumber().longValueExact();
+            long cursor = indexer.lastProcessedBlock(head);
+            while (cursor < head) {
+                long reached = indexer.catchUpTo(head);
+                if (reached <= cursor) {
+                    throw new IllegalStateException("backfill 진행 없음 - cursor: " + cursor + ", head: " + head);
+                }
+                cursor = reached;
+            }
+
+            live = true;
+            indexer.setPushActive(true);
+            backoffMs = initialBackoffMs;
+            log.info("WebSocket 로그 구독 시작 - 주소 {}개, backfill head: {}", subscribedAddresses.size(), head);
+        } catch (Exception e) {
+            onDisconnected(gen, "연결 실패: " + e.getMessage());
+        }
+    }
+
+    /* eth_subscribe("logs", {address: [...], topics: [[topic0 OR 목록]]}) */
+    private Request<?, EthSubscribe> logsRequest() {
+        Map<String, Object> filter = new LinkedHashMap<>();
+        filter.put("address", new ArrayList<>(subscribedAddresses));
+        filter.put("topics", List.of(new ArrayList<>(subscribedTopics)));
+        return new Request<>("eth_subscribe", List.of("logs", filter), webSocketService, EthSubscribe.class);
+    }
+
+    private void onLog(PushedLogNotification notification) {
+        buffer.add(notification.getParams().getResult());
+    }
+
+    private void flush() {
+        try {
+            if (awaitingAddresses) {
+                if (!indexer.subscribedAddresses().isEmpty()) {
+                    log.info("구독 대상 주소 생김 — WebSocket 구독 시작");
+                    connect();
+                }
+                return;
+            }
+            if (!live) return;
+
+            // 매물이 추가되면 주소 필터가 달라지므로 재구독 (backfill 포함)
+            if (!indexer.subscribedAddresses().equals(subscribedAddresses)
+                    || !indexer.subscribedTopics().equals(subscribedTopics)) {
+                log.info("구독 주소 변경 감지 — 재구독");
+                live = false;
+                connect();
+                return;
+            }
+
+            List<Log> batch = new ArrayList<>();
+            Log next;
+            while ((next = buffer.poll()) != null) {
+                batch.add(next);
+            }
+            indexer.dispatchPushed(batch);
+        } catch (Exception e) {
+            log.error("WebSocket 로그 처리 실패 — HTTP 폴링으로 재처리", e);
+            onDisconnected(generation, "처리 실패");
+        }
+    }
+
+    private void onDisconnected(int gen, String reason) {
+        if (executor.isShutdown() || gen != generation || reconnectPending) return;
+        reconnectPending = true;
+        boolean wasLive = live;
+        live = false;
+        indexer.setPushActive(false);
+        buffer.clear();
+        closeQuietly();
+
+        if (wasLive) {
+            log.warn("WebSocket 로그 구독 중단 ({}) — HTTP 폴링으로 전환, {}ms 후 재연결", reason, backoffMs);
+        } else {
+            log.warn("WebSocket 재연결 실패 ({}) — {}ms 후 재시도", reason, backoffMs);
+        }
+        executor.schedule(this::connect, backoffMs, TimeUnit.MILLISECONDS);
+        backoffMs = Math.min(maxBackoffMs, backoffMs * 2);
+    }
+
+    private void closeQuietly() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+        if (webSocketService != null) {
+            try {
+                webSocketService.close();
+            } catch (Exception ignored) {
+                // 이미 끊긴 연결
+            }
+            webSocketService = null;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+        closeQuietly();
+    }
+}
@@ -0,0 +1,65 @@
+package org.landmark.global.blockchain.indexer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.domain.properties.dto.PropertyContractAddresses;
+import org.landmark.domain.properties.repository.PropertyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인덱서가 구독할 매물 컨트랙트 주소 목록.
+ * 매 폴링마다 Properties를 읽지 않도록 refresh-ms 동안 캐시한다 (주소는 소문자로 정규화).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContractAddressBook {
+
+    private final PropertyRepository propertyRepository;
+
+    @Value("${blockchain.indexer.address-refresh-ms:60000}")
+    private long refreshMs;
+
+    private volatile List<PropertyContractAddresses> cached = List.of();
+    private volatile long loadedAt = 0L;
+
+    public Set<String> propertyTokens() {
+        return collect(PropertyContractAddresses::stoTokenAddress);
+    }
+
+    public Set<String> daoContracts() {
+        return collect(PropertyContractAddresses::daoContractAddress);
+    }
+
+    public Set<String> dividendDistributors() {
+        return collect(PropertyContractAddresses::dividendDistributorAddress);
+    }
+
+    private Set<String> collect(Function<PropertyContractAddresses, String> getter) {
+        return snapshot().stream()
+                .map(getter)
+                .filter(addr -> addr != null && addr.startsWith("0x"))
+                .map(String::toLowerCase)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private List<PropertyContractAddresses> snapshot() {
+        long now = System.currentTimeMillis();
+        if (now - loadedAt >= refreshMs) {
+            synchronized (this) {
+                if (now - loadedAt >= refreshMs) {
+                    cached = propertyRepository.findAllContractAddresses();
+                    loadedAt = now;
+                    log.debug("구독 컨트랙트 주소 갱신 - 매물 {}건", cached.size());
+                }
+            }
+        }
+        return cached;
+    }
+}
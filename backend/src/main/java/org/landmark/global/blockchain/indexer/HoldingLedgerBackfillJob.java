@@ -0,0 +1,286 @@
+package org.landmark.global.blockchain.indexer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.domain.dividend.service.DividendIndexService;
+import org.landmark.domain.portfolio.dto.PurchaseLog;
+import org.landmark.domain.portfolio.dto.TransferLog;
+import org.landmark.domain.portfolio.service.HoldingService;
+import org.landmark.domain.properties.domain.Property;
+import org.landmark.domain.properties.repository.PropertyRepository;
+import org.landmark.global.blockchain.indexer.service.ChainCursorTransactionService;
+import org.landmark.global.blockchain.listener.DividendEventHandler;
+import org.landmark.global.blockchain.listener.TokensPurchasedEventHandler;
+import org.landmark.global.blockchain.listener.TransferEventHandler;
+import org.landmark.global.config.SchedulingConfig;
+import org.landmark.global.scheduler.runlog.SchedulerRunLogger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.web3j.abi.EventEncoder;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * holding_events 원장 1회 backfill.
+ *
+ * 원장은 도입 시점부터 비어 있어 기존 보유자의 balanceAtBlock/balanceAtTime이 0으로 나온다.
+ * 인덱서 cursor를 되돌리면 과거 구매가 user_holdings에 한 번 더 접혀 이중 집계되므로,
+ * 각 토큰의 발행 블록부터 인덱서 cursor까지 Transfer/TokensPurchased 로그를 다시 읽어 원장에만 넣고
+ * (원장이 (txHash, logIndex, 지갑)으로 중복을 거르므로 인덱서가 이미 넣은 로그와 겹쳐도 된다)
+ * 다 채우면 인덱서를 잠시 멈춘 상태에서 user_holdings/property_stats를 원장 기준으로 다시 만든다.
+ *
+ * 원장을 다 채운 뒤에는 같은 구간의 배당 이력(SnapshotCreated / DividendCreated / DividendClaimed / UnclaimedWithdrawn)을
+ * DividendEventHandler로 다시 반영한다. 인덱서 시작 전 스냅샷을 모르면 배당의 스냅샷 위치가 비어 청구 가능액에서 빠지기 때문.
+ * 배당 컨트랙트는 토큰 발행 이후에 배포되므로 같은 시작 블록에서 읽는다.
+ *
+ * 진행 위치는 ChainCursors의 BACKFILL_CURSOR / DIVIDEND_BACKFILL_CURSOR, 완료 여부는 DONE_CURSOR / DIVIDEND_DONE_CURSOR로 남아
+ * 재기동해도 이어서/한 번만 돈다 (원장 backfill이 이미 끝난 배포도 배당 이력은 따로 채운다).
+ * 시작 블록은 매물 mint_tx_hash의 블록 중 가장 이른 것 — 하나라도 모르면 from-block.
+ */
+@Slf4j
+@Component
+public class HoldingLedgerBackfillJob {
+
+    public static final String JOB_NAME = "HoldingLedgerBackfill";
+    public static final String BACKFILL_CURSOR = "holding-ledger-backfill";
+    public static final String DONE_CURSOR = "holding-ledger-backfill-done";
+    public static final String DIVIDEND_JOB_NAME = "DividendHistoryBackfill";
+    public static final String DIVIDEND_BACKFILL_CURSOR = "dividend-history-backfill";
+    public static final String DIVIDEND_DONE_CURSOR = "dividend-history-backfill-done";
+
+    @Nullable
+    private final Web3j web3j;
+    private final ChainEventIndexer indexer;
+    private final ContractAddressBook addressBook;
+    private final ChainCursorTransactionService cursorTxService;
+    private final TransferEventHandler transferEventHandler;
+    private final TokensPurchasedEventHandler tokensPurchasedEventHandler;
+    private final DividendEventHandler dividendEventHandler;
+    private final HoldingService holdingService;
+    private final DividendIndexService dividendIndexService;
+    private final PropertyRepository propertyRepository;
+    private final SchedulerRunLogger runLogger;
+
+    @Value("${blockchain.ledger.backfill.enabled:true}")
+    private boolean enabled;
+
+    /* 발행 블록을 모를 때 시작 블록 */
+    @Value("${blockchain.ledger.backfill.from-block:0}")
+    private long fromBlock;
+
+    @Value("${blockchain.ledger.backfill.max-block-range:2000}")
+    private int maxBlockRange;
+
+    @Value("${blockchain.ledger.backfill.max-ranges-per-run:50}")
+    private int maxRangesPerRun;
+
+    private volatile boolean complete;
+
+    @Autowired
+    public HoldingLedgerBackfillJob(@Nullable Web3j web3j,
+                                    ChainEventIndexer indexer,
+                                    ContractAddressBook addressBook,
+                                    ChainCursorTransactionService cursorTxService,
+                                    TransferEventHandler transferEventHandler,
+                                    TokensPurchasedEventHandler tokensPurchasedEventHandler,
+                                    DividendEventHandler dividendEventHandler,
+                                    HoldingService holdingService,
+                                    DividendIndexService dividendIndexService,
+                                    PropertyRepository propertyRepository,
+                                    SchedulerRunLogger runLogger) {
+        this.web3j = web3j;
+        this.indexer = indexer;
+        this.addressBook = addressBook;
+        this.cursorTxService = cursorTxService;
+        this.transferEventHandler = transferEventHandler;
+        this.tokensPurchasedEventHandler = tokensPurchasedEventHandler;
+        this.dividendEventHandler = dividendEventHandler;
+        this.holdingService = holdingService;
+        this.dividendIndexService = dividendIndexService;
+        this.propertyRepository = propertyRepository;
+        this.runLogger = runLogger;
+    }
+
+    /*
+     * 원장과 배당 기록이 과거 이력까지 담고 있는지 — 원장 기준 조회(배당 청구 가능액 등)의 선행 조건.
+     * backfill을 끈 환경(원장 도입 전 보유자가 없는 신규 배포)이나 체인 연동이 없는 환경은 채울 대상이 없어 완료로 본다.
+     */
+    public boolean isComplete() {
+        if (!enabled || web3j == null) return true;
+        if (!complete) {
+            complete = isDone(DONE_CURSOR) && isDone(DIVIDEND_DONE_CURSOR);
+        }
+        return complete;
+    }
+
+    private boolean isDone(String doneCursor) {
+        return cursorTxService.findLastProcessedBlock(doneCursor).isPresent();
+    }
+
+    @Scheduled(fixedDelayString = "${blockchain.ledger.backfill.interval-ms:60000}",
+            initialDelayString = "${blockchain.ledger.backfill.initial-delay-ms:30000}",
+            scheduler = SchedulingConfig.LONG_JOB_SCHEDULER)
+    public void backfill() {
+        if (isComplete()) return;
+
+        // 인덱서가 아직 시작 전이면 따라잡을 끝이 없다
+        long target = cursorTxService.findLastProcessedBlock(ChainEventIndexer.CURSOR_NAME).orElse(-1L);
+        if (target < 0) return;
+
+        if (!isDone(DONE_CURSOR)) {
+            runLogger.run(JOB_NAME, () -> doBackfill(target));
+        } else {
+            runLogger.run(DIVIDEND_JOB_NAME, () -> doDividendBackfill(target));
+        }
+    }
+
+    private SchedulerRunLogger.Result doBackfill(long target) {
+        Set<String> tokens = addressBook.propertyTokens();
+        Set<String> topics = Set.of(
+                EventEncoder.encode(TransferEventHandler.TRANSFER_EVENT),
+                EventEncoder.encode(TokensPurchasedEventHandler.TOKENS_PURCHASED_EVENT));
+
+        long cursor = cursorTxService.findLastProcessedBlock(BACKFILL_CURSOR).orElseGet(() -> startBlock() - 1);
+        int appended = 0;
+        int ranges = 0;
+        while (cursor < target && ranges < maxRangesPerRun) {
+            long from = cursor + 1;
+            long to = Math.min(target, from + maxBlockRange - 1);
+
+            if (!tokens.isEmpty()) {
+                List<Log> logs = fetchLogs(tokens, topics, from, to).stream()
+                        .filter(l -> !l.isRemoved())
+                        .toList();
+                appended += appendToLedger(logs);
+            }
+            cursorTxService.advance(BACKFILL_CURSOR, to);
+            cursor = to;
+            ranges++;
+        }
+
+        if (cursor < target) {
+            log.info("보유 원장 backfill 진행 - block {} / {}, 이번 원장 신규: {}건", cursor, target, appended);
+            return new SchedulerRunLogger.Result(appended, 0);
+        }
+
+        // cursor 이후 블록은 인덱서가 원장에 넣고 있다 — 인덱서를 멈춘 채 원장 전체로 보유 현황을 다시 만든다
+        int[] rebuilt = new int[1];
+        indexer.runExclusive(() -> {
+            rebuilt[0] = holdingService.rebuildFromLedger();
+            cursorTxService.advance(DONE_CURSOR, target);
+        });
+        log.info("보유 원장 backfill 완료 - block {}까지, 원장 신규: {}건, 보유 row 재생성: {}건", target, appended, rebuilt[0]);
+        return new SchedulerRunLogger.Result(appended + rebuilt[0], 0);
+    }
+
+    /*
+     * 배당 이력 backfill. 한 구간씩 인덱서를 멈춘 채 DividendEventHandler로 반영한다 —
+     * 같은 배당의 청구/회수를 인덱서와 동시에 고치지 않도록 (기록은 로그 키로 중복을 걸러 인덱서와 겹쳐도 된다).
+     */
+    private SchedulerRunLogger.Result doDividendBackfill(long target) {
+        Set<String> addresses = dividendEventHandler.contractAddresses(addressBook);
+        Set<String> topics = topics();
+
+        long cursor = cursorTxService.findLastProcessedBlock(DIVIDEND_BACKFILL_CURSOR).orElseGet(() -> startBlock() - 1);
+        int received = 0;
+        int ranges = 0;
+        while (cursor < target && ranges < maxRangesPerRun) {
+            long from = cursor + 1;
+            long to = Math.min(target, from + maxBlockRange - 1);
+            received += replayDividends(addresses, topics, from, to);
+            cursorTxService.advance(DIVIDEND_BACKFILL_CURSOR, to);
+            cursor = to;
+            ranges++;
+        }
+
+        if (cursor < target) {
+            log.info("배당 이력 backfill 진행 - block {} / {}, 이번 수신: {}건", cursor, target, received);
+            return new SchedulerRunLogger.Result(received, 0);
+        }
+
+        // 이번 실행 뒤 인덱서가 지나간 구간에서 아직 모르던 배당을 참조한 회수/청구가 있을 수 있다 —
+        // 인덱서를 멈춘 채 지금 cursor까지 마저 반영하고, 스냅샷 위치와 청구 합계를 맞춘 뒤 완료 표시
+        int[] tail = new int[2];
+        indexer.runExclusive(() -> {
+            long end = cursorTxService.findLastProcessedBlock(ChainEventIndexer.CURSOR_NAME).orElse(target);
+            for (long from = target + 1; from <= end; from += maxBlockRange) {
+                tail[0] += replayDividends(addresses, topics, from, Math.min(end, from + maxBlockRange - 1));
+            }
+            tail[1] = dividendIndexService.reconcileBackfilled();
+            cursorTxService.advance(DIVIDEND_BACKFILL_CURSOR, Math.max(target, end));
+            cursorTxService.advance(DIVIDEND_DONE_CURSOR, Math.max(target, end));
+        });
+        complete = true;
+        log.info("배당 이력 backfill 완료 - 수신: {}건, 스냅샷 위치 보정: {}건", received + tail[0], tail[1]);
+        return new SchedulerRunLogger.Result(received + tail[0], 0);
+    }
+
+    /* 반환: 반영한 로그 수 */
+    private int replayDividends(Set<String> addresses, Set<String> topics, long from, long to) {
+        if (addresses.isEmpty()) return 0;
+        List<Log> logs = fetchLogs(addresses, topics, from, to).stream()
+                .filter(l -> !l.isRemoved())
+                .toList();
+        if (logs.isEmpty()) return 0;
+        indexer.runExclusive(() -> dividendEventHandler.handle(logs));
+        return logs.size();
+    }
+
+    private Set<String> topics() {
+        Set<String> topics = new LinkedHashSet<>();
+        dividendEventHandler.events().forEach(e -> topics.add(EventEncoder.encode(e)));
+        return topics;
+    }
+
+    private int appendToLedger(List<Log> logs) {
+        if (logs.isEmpty()) return 0;
+        String transferTopic = EventEncoder.encode(TransferEventHandler.TRANSFER_EVENT);
+        List<Log> transferLogs = logs.stream().filter(l -> transferTopic.equals(l.getTopics().get(0))).toList();
+        List<Log> purchaseLogs = logs.stream().filter(l -> !transferTopic.equals(l.getTopics().get(0))).toList();
+
+        List<TransferLog> transfers = transferLogs.isEmpty() ? List.of() : transferEventHandler.decodeAll(transferLogs);
+        List<PurchaseLog> purchases = purchaseLogs.isEmpty() ? List.of() : tokensPurchasedEventHandler.decodeAll(purchaseLogs);
+        return holdingService.appendToLedger(transfers, purchases);
+    }
+
+    private List<Log> fetchLogs(Set<String> addresses, Set<String> topics, long from, long to) {
+        try {
+            return indexer.fetchLogs(addresses, topics, from, to);
+        } catch (Exception e) {
+            throw new IllegalStateException("이력 backfill eth_getLogs 실패 - block " + from + " ~ " + to, e);
+        }
+    }
+
+    /* 매물 토큰 발행 tx의 블록 중 가장 이른 것. 하나라도 모르면 from-block */
+    private long startBlock() {
+        long earliest = Long.MAX_VALUE;
+        for (Property property : propertyRepository.findAll()) {
+            if (property.getMintTxHash() == null) {
+                log.info("발행 tx를 모르는 매물 — from-block {}부터 backfill - propertyId: {}", fromBlock, property.getId());
+                return fromBlock;
+            }
+            try {
+                EthGetTransactionReceipt response = web3j.ethGetTransactionReceipt(property.getMintTxHash()).send();
+                TransactionReceipt receipt = response.getTransactionReceipt().orElse(null);
+                if (receipt == null) {
+                    log.info("발행 tx receipt 없음 — from-block {}부터 backfill - propertyId: {}", fromBlock, property.getId());
+                    return fromBlock;
+                }
+                earliest = Math.min(earliest, receipt.getBlockNumber().longValueExact());
+            } catch (Exception e) {
+                throw new IllegalStateException("발행 tx 블록 조회 실패 - propertyId: " + property.getId(), e);
+            }
+        }
+        long start = earliest == Long.MAX_VALUE ? fromBlock : Math.max(fromBlock, earliest);
+        log.info("보유 원장 backfill 시작 블록: {}", start);
+        return start;
+    }
+}
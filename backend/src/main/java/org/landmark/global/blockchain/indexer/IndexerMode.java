@@ -0,0 +1,7 @@
+package org.landmark.global.blockchain.indexer;
+
+/** 체인 이벤트 수집 방식 */
+public enum IndexerMode {
+    POLLING,    // HTTP eth_getLogs 주기 폴링
+    WEBSOCKET   // eth_subscribe("logs") 푸시 + 끊기면 HTTP 폴링으로 대체
+}
@@ -0,0 +1,42 @@
+package org.landmark.global.blockchain.indexer.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 체인 이벤트 인덱서의 처리 위치.
+ * 재기동해도 마지막으로 반영한 블록 다음부터 이어서 읽는다.
+ */
+@Entity
+@Table(name = "ChainCursors")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChainCursor {
+
+    @Id
+    @Column(length = 100, updatable = false, nullable = false)
+    private String name;
+
+    @Column(name = "last_processed_block", nullable = false)
+    private long lastProcessedBlock;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static ChainCursor create(String name, long lastProcessedBlock) {
+        ChainCursor cursor = new ChainCursor();
+        cursor.name = name;
+        cursor.lastProcessedBlock = lastProcessedBlock;
+        cursor.updatedAt = LocalDateTime.now();
+        return cursor;
+    }
+
+    public void advance(long block) {
+        this.lastProcessedBlock = block;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
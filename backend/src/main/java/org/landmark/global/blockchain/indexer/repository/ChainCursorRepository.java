@@ -0,0 +1,11 @@
+package org.landmark.global.blockchain.indexer.repository;
+
+import org.landmark.global.blockchain.indexer.domain.ChainCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ChainCursorRepository extends JpaRepository<ChainCursor, String> {
+
+    List<ChainCursor> findByNameStartingWith(String prefix);
+}
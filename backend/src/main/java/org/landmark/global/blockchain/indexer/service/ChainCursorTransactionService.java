@@ -0,0 +1,57 @@
+package org.landmark.global.blockchain.indexer.service;
+
+import lombok.RequiredArgsConstructor;
+import org.landmark.global.blockchain.indexer.domain.ChainCursor;
+import org.landmark.global.blockchain.indexer.repository.ChainCursorRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/** 인덱서 cursor 전용 트랜잭션 경계 서비스 */
+@Service
+@RequiredArgsConstructor
+public class ChainCursorTransactionService {
+
+    private final ChainCursorRepository cursorRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<Long> findLastProcessedBlock(String name) {
+        return cursorRepository.findById(name).map(ChainCursor::getLastProcessedBlock);
+    }
+
+    /* 이름이 prefix로 시작하는 cursor 전체 (이름 → 블록) */
+    @Transactional(readOnly = true)
+    public Map<String, Long> findLastProcessedBlocks(String prefix) {
+        Map<String, Long> blocks = new HashMap<>();
+        cursorRepository.findByNameStartingWith(prefix)
+                .forEach(cursor -> blocks.put(cursor.getName(), cursor.getLastProcessedBlock()));
+        return blocks;
+    }
+
+    /* 여러 cursor를 한 트랜잭션에서 block까지 전진 (뒤로는 돌리지 않음) */
+    @Transactional
+    public void advanceAll(Collection<String> names, long block) {
+        Map<String, ChainCursor> existing = new HashMap<>();
+        cursorRepository.findAllById(names).forEach(cursor -> existing.put(cursor.getName(), cursor));
+        for (String name : names) {
+            ChainCursor cursor = existing.get(name);
+            if (cursor == null) {
+                cursorRepository.save(ChainCursor.create(name, block));
+            } else if (block > cursor.getLastProcessedBlock()) {
+                cursor.advance(block);
+            }
+        }
+    }
+
+    @Transactional
+    public void advance(String name, long block) {
+        cursorRepository.findById(name).ifPresentOrElse(
+                cursor -> cursor.advance(block),
+                () -> cursorRepository.save(ChainCursor.create(name, block))
+        );
+    }
+}
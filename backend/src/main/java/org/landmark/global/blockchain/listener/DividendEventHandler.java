@@ -0,0 +1,197 @@
+package org.landmark.global.blockchain.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.domain.dividend.dto.DividendClaimedLog;
+import org.landmark.domain.dividend.dto.DividendCreatedLog;
+import org.landmark.domain.dividend.dto.SnapshotCreatedLog;
+import org.landmark.domain.dividend.dto.UnclaimedWithdrawnLog;
+import org.landmark.domain.dividend.service.DividendIndexService;
+import org.landmark.global.blockchain.indexer.ChainEventHandler;
+import org.landmark.global.blockchain.indexer.ContractAddressBook;
+import org.landmark.global.blockchain.service.ChainLookupCache;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 배당 이벤트 인덱싱 — DividendDistributor의 DividendCreated / DividendClaimed / UnclaimedWithdrawn과
+ * 배당 스냅샷 위치를 알기 위한 PropertyToken의 SnapshotCreated를 DividendIndexService.record 1회로 반영.
+ *
+ * 스냅샷 잔액은 holding_events에서 계산하므로 같은 구간의 Transfer가 먼저 반영되도록 가장 뒤 순서.
+ * 반영 실패는 그대로 던져 cursor를 멈추고 같은 구간을 다시 받는다 (기록은 로그 키로 중복 제거).
+ */
+@Slf4j
+@Component
+@Order(4)
+@RequiredArgsConstructor
+public class DividendEventHandler implements ChainEventHandler {
+
+    private static final Event SNAPSHOT_CREATED_EVENT = new Event(
+            "SnapshotCreated",
+            Arrays.asList(
+                    new TypeReference<Uint256>(true) {},   // indexed snapshotId
+                    new TypeReference<Uint256>(false) {}   // totalSupply
+            )
+    );
+
+    private static final Event DIVIDEND_CREATED_EVENT = new Event(
+            "DividendCreated",
+            Arrays.asList(
+                    new TypeReference<Uint256>(true) {},   // indexed dividendId
+                    new TypeReference<Uint256>(false) {},  // snapshotId
+                    new TypeReference<Uint256>(false) {}   // amount
+            )
+    );
+
+    private static final Event DIVIDEND_CLAIMED_EVENT = new Event(
+            "DividendClaimed",
+            Arrays.asList(
+                    new TypeReference<Uint256>(true) {},   // indexed dividendId
+                    new TypeReference<Address>(true) {},   // indexed holder
+                    new TypeReference<Uint256>(false) {}   // amount
+            )
+    );
+
+    private static final Event UNCLAIMED_WITHDRAWN_EVENT = new Event(
+            "UnclaimedWithdrawn",
+            Arrays.asList(
+                    new TypeReference<Uint256>(true) {},   // indexed dividendId
+                    new TypeReference<Uint256>(false) {}   // amount
+            )
+    );
+
+    private static final String SNAPSHOT_CREATED_TOPIC = EventEncoder.encode(SNAPSHOT_CREATED_EVENT);
+    private static final String DIVIDEND_CREATED_TOPIC = EventEncoder.encode(DIVIDEND_CREATED_EVENT);
+    private static final String DIVIDEND_CLAIMED_TOPIC = EventEncoder.encode(DIVIDEND_CLAIMED_EVENT);
+    private static final String UNCLAIMED_WITHDRAWN_TOPIC = EventEncoder.encode(UNCLAIMED_WITHDRAWN_EVENT);
+
+    private final DividendIndexService dividendIndexService;
+    private final ChainLookupCache lookupCache;
+
+    @Override
+    public String name() {
+        return "Dividend";
+    }
+
+    @Override
+    public List<Event> events() {
+        return List.of(SNAPSHOT_CREATED_EVENT, DIVIDEND_CREATED_EVENT, DIVIDEND_CLAIMED_EVENT, UNCLAIMED_WITHDRAWN_EVENT);
+    }
+
+    /* SnapshotCreated는 토큰, 나머지는 배당 컨트랙트에서 나온다 */
+    @Override
+    public Set<String> contractAddresses(ContractAddressBook addressBook) {
+        Set<String> addresses = new HashSet<>(addressBook.propertyTokens());
+        addresses.addAll(addressBook.dividendDistributors());
+        return addresses;
+    }
+
+    @Override
+    public void handle(List<Log> logs) {
+        // 생성/청구 시각 — 구간 내 블록을 batch 1회로 조회, 못 읽으면 구간 재시도
+        Map<BigInteger, Long> timestamps = lookupCache.requireBlockTimestamps(logs.stream()
+                .filter(l -> !SNAPSHOT_CREATED_TOPIC.equals(l.getTopics().get(0)))
+                .map(Log::getBlockNumber).toList());
+
+        List<SnapshotCreatedLog> snapshots = new ArrayList<>();
+        List<DividendCreatedLog> created = new ArrayList<>();
+        List<DividendClaimedLog> claims = new ArrayList<>();
+        List<UnclaimedWithdrawnLog> withdrawals = new ArrayList<>();
+        // 디코딩 실패도 건너뛰지 않고 던진다 — 건너뛴 배당/청구는 cursor가 지나가면 다시 받을 수 없다
+        for (Log eventLog : logs) {
+            String topic = eventLog.getTopics().get(0);
+            if (SNAPSHOT_CREATED_TOPIC.equals(topic)) {
+                snapshots.add(decodeSnapshotCreated(eventLog));
+            } else if (DIVIDEND_CREATED_TOPIC.equals(topic)) {
+                created.add(decodeDividendCreated(eventLog, timestamps.get(eventLog.getBlockNumber())));
+            } else if (DIVIDEND_CLAIMED_TOPIC.equals(topic)) {
+                claims.add(decodeDividendClaimed(eventLog, timestamps.get(eventLog.getBlockNumber())));
+            } else if (UNCLAIMED_WITHDRAWN_TOPIC.equals(topic)) {
+                withdrawals.add(decodeUnclaimedWithdrawn(eventLog));
+            }
+        }
+        if (snapshots.isEmpty() && created.isEmpty() && claims.isEmpty() && withdrawals.isEmpty()) return;
+
+        dividendIndexService.record(snapshots, created, claims, withdrawals);
+    }
+
+    private SnapshotCreatedLog decodeSnapshotCreated(Log eventLog) {
+        List<Type> values = decodeData(eventLog, 1);
+        return new SnapshotCreatedLog(
+                eventLog.getAddress().toLowerCase(),
+                topicUint(eventLog, 1).longValueExact(),
+                ((BigInteger) values.get(0).getValue()).longValueExact(),
+                eventLog.getTransactionHash(),
+                eventLog.getLogIndex().longValueExact(),
+                eventLog.getBlockNumber().longValueExact());
+    }
+
+    private DividendCreatedLog decodeDividendCreated(Log eventLog, long blockTimestamp) {
+        List<Type> values = decodeData(eventLog, 2);
+        return new DividendCreatedLog(
+                eventLog.getAddress().toLowerCase(),
+                topicUint(eventLog, 1).longValueExact(),
+                ((BigInteger) values.get(0).getValue()).longValueExact(),
+                (BigInteger) values.get(1).getValue(),
+                eventLog.getTransactionHash(),
+                eventLog.getLogIndex().longValueExact(),
+                eventLog.getBlockNumber().longValueExact(),
+                blockTimestamp);
+    }
+
+    private DividendClaimedLog decodeDividendClaimed(Log eventLog, long blockTimestamp) {
+        String holderTopic = eventLog.getTopics().get(2);
+        List<Type> values = decodeData(eventLog, 1);
+        return new DividendClaimedLog(
+                eventLog.getAddress().toLowerCase(),
+                topicUint(eventLog, 1).longValueExact(),
+                "0x" + holderTopic.substring(holderTopic.length() - 40),
+                (BigInteger) values.get(0).getValue(),
+                eventLog.getTransactionHash(),
+                eventLog.getLogIndex().longValueExact(),
+                eventLog.getBlockNumber().longValueExact(),
+                blockTimestamp);
+    }
+
+    private UnclaimedWithdrawnLog decodeUnclaimedWithdrawn(Log eventLog) {
+        List<Type> values = decodeData(eventLog, 1);
+        return new UnclaimedWithdrawnLog(
+                eventLog.getAddress().toLowerCase(),
+                topicUint(eventLog, 1).longValueExact(),
+                (BigInteger) values.get(0).getValue(),
+                eventLog.getTransactionHash(),
+                eventLog.getLogIndex().longValueExact(),
+                eventLog.getBlockNumber().longValueExact());
+    }
+
+    private static BigInteger topicUint(Log eventLog, int index) {
+        return new BigInteger(eventLog.getTopics().get(index).substring(2), 16);
+    }
+
+    /* non-indexed uint256 count개 디코딩 */
+    private static List<Type> decodeData(Log eventLog, int count) {
+        List<TypeReference<Type>> outputs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            @SuppressWarnings({"rawtypes", "unchecked"})
+            TypeReference<Type> ref = (TypeReference) new TypeReference<Uint256>() {};
+            outputs.add(ref);
+        }
+        return FunctionReturnDecoder.decode(eventLog.getData(), outputs);
+    }
+}
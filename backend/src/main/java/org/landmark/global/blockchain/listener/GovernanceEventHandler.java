@@ -0,0 +1,173 @@
+package org.landmark.global.blockchain.listener;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.domain.governance.dto.VoteLog;
+import org.landmark.domain.governance.service.GovernanceService;
+import org.landmark.global.blockchain.indexer.ChainEventHandler;
+import org.landmark.global.blockchain.indexer.ContractAddressBook;
+import org.landmark.global.blockchain.service.ChainLookupCache;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.methods.response.Log;
+
+/**
+ * DAO 컨트랙트의 ProposalCreated / Voted 이벤트를 DB에 반영.
+ * Voted는 투표 원장(Votes)에 (txHash, logIndex) 기준으로 한 번만 기록되고 그때만 안건 집계에 더해진다.
+ * 로그 수집과 처리 위치(cursor) 관리는 ChainEventIndexer가 담당 — ProposalCreated와 Voted는 한 번의 eth_getLogs로 함께 받는다.
+ * 안건 저장과 투표 원장이 모두 멱등이므로 디코딩/조회/저장 실패는 그대로 던져 cursor를 멈추고 같은 구간을 다시 받는다
+ * (삼키면 안건이 영구히 빠지고 이후 Voted도 전부 "안건 없음"으로 버려진다).
+ */
+@Slf4j
+@Component
+@Order(3)
+@RequiredArgsConstructor
+public class GovernanceEventHandler implements ChainEventHandler {
+
+    private static final Event PROPOSAL_CREATED_EVENT = new Event(
+            "ProposalCreated",
+            Arrays.asList(
+                    new TypeReference<Uint256>(true) {},   // indexed proposalId
+                    new TypeReference<Utf8String>(false) {}// description
+            )
+    );
+
+    private static final Event VOTED_EVENT = new Event(
+            "Voted",
+            Arrays.asList(
+                    new TypeReference<Uint256>(true) {},   // indexed proposalId
+                    new TypeReference<Address>(false) {},  // voter
+                    new TypeReference<Bool>(false) {},     // support
+                    new TypeReference<Uint256>(false) {}   // votes
+            )
+    );
+
+    private static final String PROPOSAL_CREATED_TOPIC = EventEncoder.encode(PROPOSAL_CREATED_EVENT);
+    private static final String VOTED_TOPIC = EventEncoder.encode(VOTED_EVENT);
+
+    private final GovernanceService governanceService;
+    private final ChainLookupCache lookupCache;
+
+    @Override
+    public String name() {
+        return "Governance";
+    }
+
+    @Override
+    public List<Event> events() {
+        return List.of(PROPOSAL_CREATED_EVENT, VOTED_EVENT);
+    }
+
+    @Override
+    public Set<String> contractAddresses(ContractAddressBook addressBook) {
+        return addressBook.daoContracts();
+    }
+
+    @Override
+    public void handle(List<Log> logs) {
+        // 제안 생성자(tx.from)와 블록 시각을 범위 전체에 대해 batch 1회로 미리 조회
+        List<Log> proposals = logs.stream()
+                .filter(l -> PROPOSAL_CREATED_TOPIC.equals(l.getTopics().get(0)))
+                .toList();
+        if (!proposals.isEmpty()) {
+            lookupCache.prefetch(
+                    proposals.stream().map(Log::getBlockNumber).toList(),
+                    proposals.stream().map(Log::getTransactionHash).toList());
+        }
+
+        // 투표는 구간 전체를 모아 한 번에 반영 — 같은 구간에서 생성된 안건이 먼저 저장된 뒤
+        List<VoteLog> votes = new ArrayList<>();
+        for (Log eventLog : logs) {
+            String topic = eventLog.getTopics().get(0);
+            if (PROPOSAL_CREATED_TOPIC.equals(topic)) {
+                handleProposalCreated(eventLog);
+            } else if (VOTED_TOPIC.equals(topic)) {
+                votes.add(decodeVoted(eventLog));
+            }
+        }
+        if (!votes.isEmpty()) {
+            governanceService.recordVotes(votes);
+        }
+    }
+
+    private void handleProposalCreated(Log eventLog) {
+        String proposalIdHex = eventLog.getTopics().get(1);
+        BigInteger onChainProposalId = new BigInteger(proposalIdHex.substring(2), 16);
+
+        String daoContractAddress = eventLog.getAddress();
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        List<TypeReference<Type>> outputs = (List) List.of(new TypeReference<Utf8String>() {});
+        List<Type> values = FunctionReturnDecoder.decode(eventLog.getData(), outputs);
+        String rawDescription = (String) values.get(0).getValue();
+
+        String title;
+        String description;
+        String[] parts = rawDescription.split("\n\n", 2);
+        if (parts.length == 2) {
+            title = parts[0].trim();
+            description = parts[1].trim();
+        } else {
+            title = rawDescription.trim();
+            description = "";
+        }
+
+        String proposerAddress = fetchFromAddress(eventLog.getTransactionHash());
+        long blockTimestamp = fetchBlockTimestamp(eventLog.getBlockNumber());
+
+        log.info("ProposalCreated 처리 - onChainProposalId: {}, daoContract: {}, proposer: {}",
+                onChainProposalId, daoContractAddress, proposerAddress);
+
+        governanceService.recordProposal(onChainProposalId, proposerAddress,
+                title, description, daoContractAddress, blockTimestamp);
+    }
+
+    private VoteLog decodeVoted(Log eventLog) {
+        String proposalIdHex = eventLog.getTopics().get(1);
+        BigInteger onChainProposalId = new BigInteger(proposalIdHex.substring(2), 16);
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        List<TypeReference<Type>> outputs = (List) Arrays.asList(
+                new TypeReference<Address>() {},
+                new TypeReference<Bool>() {},
+                new TypeReference<Uint256>() {}
+        );
+        List<Type> values = FunctionReturnDecoder.decode(eventLog.getData(), outputs);
+
+        String voter = (String) values.get(0).getValue();
+        boolean support = (boolean) values.get(1).getValue();
+        BigInteger votesRaw = (BigInteger) values.get(2).getValue();
+        long votes = votesRaw.longValueExact();
+
+        log.info("Voted 처리 - onChainProposalId: {}, voter: {}, support: {}, votes: {}",
+                onChainProposalId, voter, support, votes);
+
+        return new VoteLog(onChainProposalId, voter, support, votes, eventLog.getTransactionHash(),
+                eventLog.getLogIndex().longValueExact(), eventLog.getBlockNumber().longValueExact());
+    }
+
+    /* 조회 실패는 추정값으로 대체하지 않고 던진다 — 같은 구간 재시도 */
+    private String fetchFromAddress(String txHash) {
+        return lookupCache.transactionSender(txHash)
+                .orElseThrow(() -> new IllegalStateException("tx.from 조회 실패 - txHash: " + txHash));
+    }
+
+    private long fetchBlockTimestamp(BigInteger blockNumber) {
+        return lookupCache.blockTimestamp(blockNumber)
+                .orElseThrow(() -> new IllegalStateException("block.timestamp 조회 실패 - blockNumber: " + blockNumber));
+    }
+}
@@ -0,0 +1,119 @@
+package org.landmark.global.blockchain.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.domain.portfolio.dto.PurchaseLog;
+import org.landmark.domain.portfolio.service.HoldingService;
+import org.landmark.global.blockchain.indexer.ChainEventHandler;
+import org.landmark.global.blockchain.indexer.ContractAddressBook;
+import org.landmark.global.blockchain.service.ChainLookupCache;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PropertyToken의 TokensPurchased(address indexed buyer, uint256 amount, uint256 cost) 이벤트를
+ * user_holdings에 upsert. 폴링 구간의 이벤트를 모아 HoldingService.recordPurchases 1회로 반영.
+ * 토큰 수량은 같은 tx의 발행 Transfer를 TransferEventHandler가 반영하고, 여기서는 매수 비용만 더한다.
+ *
+ * 로그 수집과 처리 위치(cursor) 관리는 ChainEventIndexer가 담당.
+ * Transfer 다음, 거버넌스 이벤트보다 먼저 처리.
+ */
+@Slf4j
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class TokensPurchasedEventHandler implements ChainEventHandler {
+
+    public static final Event TOKENS_PURCHASED_EVENT = new Event(
+            "TokensPurchased",
+            Arrays.asList(
+                    new TypeReference<Address>(true) {},
+                    new TypeReference<Uint256>(false) {},
+                    new TypeReference<Uint256>(false) {}
+            )
+    );
+
+    private final HoldingService holdingService;
+    private final ChainLookupCache lookupCache;
+
+    @Override
+    public String name() {
+        return "TokensPurchased";
+    }
+
+    @Override
+    public List<Event> events() {
+        return List.of(TOKENS_PURCHASED_EVENT);
+    }
+
+    @Override
+    public Set<String> contractAddresses(ContractAddressBook addressBook) {
+        return addressBook.propertyTokens();
+    }
+
+    /*
+     * 폴링 구간의 구매를 모아 한 번에 반영. 원장이 (txHash, logIndex)로 중복을 거르므로
+     * 반영 실패는 그대로 던져 cursor를 멈추고 다음 폴링에서 같은 구간을 다시 받는다.
+     */
+    @Override
+    public void handle(List<Log> logs) {
+        List<PurchaseLog> purchases = decodeAll(logs);
+        if (purchases.isEmpty()) return;
+
+        holdingService.recordPurchases(purchases);
+    }
+
+    /* 원장 backfill도 같은 디코딩을 쓴다 */
+    public List<PurchaseLog> decodeAll(List<Log> logs) {
+        // 원장의 블록 시각 — 구간 내 블록을 batch 1회로 조회, 못 읽으면 구간 재시도
+        Map<BigInteger, Long> timestamps = lookupCache.requireBlockTimestamps(
+                logs.stream().map(Log::getBlockNumber).toList());
+
+        List<PurchaseLog> purchases = new ArrayList<>(logs.size());
+        for (Log eventLog : logs) {
+            purchases.add(decode(eventLog, timestamps.get(eventLog.getBlockNumber())));
+        }
+        return purchases;
+    }
+
+    /* 디코딩 실패도 건너뛰지 않고 던진다 — 건너뛴 구매는 cursor가 지나가면 다시 받을 수 없다 */
+    private PurchaseLog decode(Log eventLog, long blockTimestamp) {
+        String propertyId = eventLog.getAddress().toLowerCase();
+
+        String buyerTopic = eventLog.getTopics().get(1);
+        String buyerAddress = "0x" + buyerTopic.substring(buyerTopic.length() - 40);
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        List<TypeReference<Type>> outputs = (List) Arrays.asList(
+                new TypeReference<Uint256>() {},
+                new TypeReference<Uint256>() {}
+        );
+        List<Type> values = FunctionReturnDecoder.decode(eventLog.getData(), outputs);
+        BigInteger amountRaw = (BigInteger) values.get(0).getValue();
+        BigInteger costRaw = (BigInteger) values.get(1).getValue();
+
+        long amount = amountRaw.longValueExact();
+        long cost = costRaw.longValueExact();
+
+        log.debug("TokensPurchased 수신 - txHash: {}, buyer: {}, propertyId: {}, amount: {}, cost: {}",
+                eventLog.getTransactionHash(), buyerAddress, propertyId, amount, cost);
+
+        return new PurchaseLog(buyerAddress, propertyId, amount, cost, eventLog.getTransactionHash(),
+                eventLog.getLogIndex().longValueExact(), eventLog.getBlockNumber().longValueExact(),
+                blockTimestamp);
+    }
+}
@@ -0,0 +1,110 @@
+package org.landmark.global.blockchain.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.domain.portfolio.dto.TransferLog;
+import org.landmark.domain.portfolio.service.HoldingService;
+import org.landmark.global.blockchain.indexer.ChainEventHandler;
+import org.landmark.global.blockchain.indexer.ContractAddressBook;
+import org.landmark.global.blockchain.service.ChainLookupCache;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PropertyToken의 ERC-20 Transfer(address indexed from, address indexed to, uint256 value) 이벤트를
+ * holding_events 원장과 user_holdings에 반영 — transfer / transferFrom / permitTransferFrom /
+ * forcedTransfer / mint / burn, 그리고 구매(buy) 시 발행까지 모든 잔액 이동이 이 이벤트로 들어온다.
+ *
+ * 잔액 수량은 이 핸들러가, 매수 비용은 TokensPurchasedEventHandler가 반영한다.
+ * 같은 구간에서 구매보다 먼저 처리되도록 가장 앞 순서.
+ */
+@Slf4j
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class TransferEventHandler implements ChainEventHandler {
+
+    public static final Event TRANSFER_EVENT = new Event(
+            "Transfer",
+            Arrays.asList(
+                    new TypeReference<Address>(true) {},
+                    new TypeReference<Address>(true) {},
+                    new TypeReference<Uint256>(false) {}
+            )
+    );
+
+    private final HoldingService holdingService;
+    private final ChainLookupCache lookupCache;
+
+    @Override
+    public String name() {
+        return "Transfer";
+    }
+
+    @Override
+    public List<Event> events() {
+        return List.of(TRANSFER_EVENT);
+    }
+
+    @Override
+    public Set<String> contractAddresses(ContractAddressBook addressBook) {
+        return addressBook.propertyTokens();
+    }
+
+    /* 원장이 (txHash, logIndex, 지갑)으로 중복을 거르므로 실패는 그대로 던져 같은 구간을 다시 받는다 */
+    @Override
+    public void handle(List<Log> logs) {
+        List<TransferLog> transfers = decodeAll(logs);
+        if (transfers.isEmpty()) return;
+
+        holdingService.recordTransfers(transfers);
+    }
+
+    /* 원장 backfill도 같은 디코딩을 쓴다 */
+    public List<TransferLog> decodeAll(List<Log> logs) {
+        // 원장의 블록 시각 — 구간 내 블록을 batch 1회로 조회, 못 읽으면 구간 재시도
+        Map<BigInteger, Long> timestamps = lookupCache.requireBlockTimestamps(
+                logs.stream().map(Log::getBlockNumber).toList());
+
+        List<TransferLog> transfers = new ArrayList<>(logs.size());
+        for (Log eventLog : logs) {
+            transfers.add(decode(eventLog, timestamps.get(eventLog.getBlockNumber())));
+        }
+        return transfers;
+    }
+
+    /* 디코딩 실패도 건너뛰지 않고 던진다 — 건너뛴 전송은 cursor가 지나가면 다시 받을 수 없다 */
+    private TransferLog decode(Log eventLog, long blockTimestamp) {
+        String fromTopic = eventLog.getTopics().get(1);
+        String toTopic = eventLog.getTopics().get(2);
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        List<TypeReference<Type>> outputs = (List) List.of(new TypeReference<Uint256>() {});
+        List<Type> values = FunctionReturnDecoder.decode(eventLog.getData(), outputs);
+        BigInteger value = (BigInteger) values.get(0).getValue();
+
+        return new TransferLog(
+                eventLog.getAddress().toLowerCase(),
+                "0x" + fromTopic.substring(fromTopic.length() - 40),
+                "0x" + toTopic.substring(toTopic.length() - 40),
+                value.longValueExact(),
+                eventLog.getTransactionHash(),
+                eventLog.getLogIndex().longValueExact(),
+                eventLog.getBlockNumber().longValueExact(),
+                blockTimestamp);
+    }
+}
@@ -0,0 +1,7 @@
+package org.landmark.global.blockchain.nonce;
+
+/** nonce 할당 방식 */
+public enum NonceMode {
+    LOCAL,     // JVM 메모리 카운터 — 단일 인스턴스 전용
+    DATABASE   // wallet_nonces row lock — 여러 인스턴스가 같은 지갑을 공유할 때
+}
@@ -0,0 +1,63 @@
+package org.landmark.global.blockchain.nonce.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 운영 지갑별 다음 nonce — 여러 인스턴스가 공유하는 nonce 할당 카운터.
+ * 할당은 항상 이 row에 PESSIMISTIC_WRITE를 잡고 수행한다.
+ */
+@Entity
+@Table(name = "WalletNonces")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WalletNonce {
+
+    @Id
+    @Column(length = 42, updatable = false, nullable = false)
+    private String address;
+
+    @Column(name = "next_nonce", nullable = false)
+    private long nextNonce;
+
+    @Column(name = "allocated_by", length = 100)
+    private String allocatedBy;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static WalletNonce create(String address, long chainNonce) {
+        WalletNonce n = new WalletNonce();
+        n.address = address;
+        n.nextNonce = chainNonce;
+        n.updatedAt = LocalDateTime.now();
+        return n;
+    }
+
+    public long allocate(String instanceId) {
+        long allocated = this.nextNonce++;
+        this.allocatedBy = instanceId;
+        this.updatedAt = LocalDateTime.now();
+        return allocated;
+    }
+
+    /* 방금 할당한 nonce를 전송하지 못했으면 반납 (그 사이 다른 할당이 없었을 때만) */
+    public boolean rollback(long failedNonce) {
+        if (failedNonce != this.nextNonce - 1) return false;
+        this.nextNonce--;
+        this.updatedAt = LocalDateTime.now();
+        return true;
+    }
+
+    /* 외부 전송 등으로 체인 nonce가 앞서 있으면 따라간다 (뒤로는 돌리지 않음) */
+    public boolean advanceTo(long chainNonce) {
+        if (chainNonce <= this.nextNonce) return false;
+        this.nextNonce = chainNonce;
+        this.updatedAt = LocalDateTime.now();
+        return true;
+    }
+}
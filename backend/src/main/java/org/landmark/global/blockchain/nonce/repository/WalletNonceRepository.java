@@ -0,0 +1,23 @@
+package org.landmark.global.blockchain.nonce.repository;
+
+import jakarta.persistence.LockModeType;
+import org.landmark.global.blockchain.nonce.domain.WalletNonce;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface WalletNonceRepository extends JpaRepository<WalletNonce, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM WalletNonce n WHERE n.address = :address")
+    Optional<WalletNonce> findForUpdate(@Param("address") String address);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO wallet_nonces (address, next_nonce, updated_at) VALUES (:address, :nextNonce, NOW())",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("address") String address, @Param("nextNonce") long nextNonce);
+}
@@ -0,0 +1,64 @@
+package org.landmark.global.blockchain.nonce.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.global.blockchain.nonce.domain.WalletNonce;
+import org.landmark.global.blockchain.nonce.repository.WalletNonceRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * DB 기반 nonce 할당의 트랜잭션 경계.
+ * row lock(SELECT ... FOR UPDATE) 구간은 카운터 증가뿐이라 짧고, 체인 전송은 락 밖에서 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WalletNonceTransactionService {
+
+    private final WalletNonceRepository walletNonceRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long allocate(String address, String instanceId) {
+        WalletNonce row = walletNonceRepository.findForUpdate(address)
+                .orElseThrow(() -> new IllegalStateException("nonce row 미초기화 - address: " + address));
+        return row.allocate(instanceId);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean rollback(String address, long failedNonce) {
+        return walletNonceRepository.findForUpdate(address)
+                .map(row -> row.rollback(failedNonce))
+                .orElse(false);
+    }
+
+    /* 체인 nonce가 DB보다 앞서 있으면 DB를 끌어올린다. 반환: 갱신 후 next nonce */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long advanceTo(String address, long chainNonce) {
+        WalletNonce row = walletNonceRepository.findForUpdate(address)
+                .orElseThrow(() -> new IllegalStateException("nonce row 미초기화 - address: " + address));
+        if (row.advanceTo(chainNonce)) {
+            log.warn("DB nonce를 체인에 맞춰 전진 - address: {}, next: {}", address, row.getNextNonce());
+        }
+        return row.getNextNonce();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<WalletNonce> find(String address) {
+        return walletNonceRepository.findById(address);
+    }
+
+    /* row가 없으면 체인 PENDING nonce로 생성. 동시 생성 경합은 INSERT IGNORE로 먼저 들어간 쪽이 이긴다 */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void ensureExists(String address, LongSupplier chainNonce) {
+        if (walletNonceRepository.existsById(address)) return;
+        long next = chainNonce.getAsLong();
+        if (walletNonceRepository.insertIfAbsent(address, next) > 0) {
+            log.info("nonce row 생성 - address: {}, next: {}", address, next);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.landmark.global.blockchain.nonce.worker;
+
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.global.blockchain.outbox.service.OutboxTransactionService;
+import org.landmark.global.blockchain.service.BlockchainWalletService;
+import org.landmark.global.blockchain.service.JsonRpcBatchExecutor;
+import org.landmark.global.blockchain.service.NonceManager;
+import org.landmark.global.blockchain.wallet.WalletLane;
+import org.landmark.global.blockchain.wallet.WalletLaneRegistry;
+import org.landmark.global.scheduler.runlog.SchedulerRunLogger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 할당된 nonce와 체인 PENDING nonce를 비교해 nonce gap을 찾아 메운다.
+ *
+ * - chain > next: 외부 전송 등으로 체인이 앞서 있음 → 할당 카운터를 체인에 맞춰 전진
+ * - chain < next 이고 nonce(chain)로 전송된 아웃박스 row가 없음:
+ *   할당만 되고 전송되지 못한 nonce가 뒤 nonce 전체를 막고 있는 상태.
+ *   할당 직후 전송 중일 수 있으므로 두 번 연속 같은 gap이 관측되면 0 value 자기 송금으로 메운다.
+ *
+ * 아웃박스 row가 있는데 mempool에서 사라진 경우는 여기서 다루지 않는다 (같은 mint를 두 번 보낼 위험).
+ */
+@Slf4j
+@Component
+public class NonceGapDetector {
+
+    public static final String JOB_NAME = "BlockchainNonceGapDetector";
+
+    @Nullable
+    private final Web3j web3j;
+    private final JsonRpcBatchExecutor batchExecutor;
+    private final WalletLaneRegistry laneRegistry;
+    private final NonceManager nonceManager;
+    private final OutboxTransactionService outboxTxService;
+    private final BlockchainWalletService blockchainWalletService;
+    private final SchedulerRunLogger runLogger;
+
+    /* lane별 직전 tick에 관측한 gap nonce */
+    private final Map<String, Long> suspectedGaps = new ConcurrentHashMap<>();
+
+    @Autowired
+    public NonceGapDetector(@Nullable Web3j web3j,
+                            JsonRpcBatchExecutor batchExecutor,
+                            WalletLaneRegistry laneRegistry,
+                            NonceManager nonceManager,
+                            OutboxTransactionService outboxTxService,
+                            BlockchainWalletService blockchainWalletService,
+                            SchedulerRunLogger runLogger) {
+        this.web3j = web3j;
+        this.batchExecutor = batchExecutor;
+        this.laneRegistry = laneRegistry;
+        this.nonceManager = nonceManager;
+        this.outboxTxService = outboxTxService;
+        this.blockchainWalletService = blockchainWalletService;
+        this.runLogger = runLogger;
+    }
+
+    private record Gap(WalletLane lane, long nonce) {}
+
+    @Scheduled(fixedDelayString = "${blockchain.nonce.gap-check-interval-ms:30000}")
+    public void detect() {
+        if (web3j == null || laneRegistry.ownerLane() == null) return;
+
+        List<WalletLane> lanes = laneRegistry.allLanes();
+        List<Request<?, ? extends Response<?>>> requests = new ArrayList<>(lanes.size());
+        for (WalletLane lane : lanes) {
+            requests.add(web3j.ethGetTransactionCount(lane.address(), DefaultBlockParameterName.PENDING));
+        }
+
+        List<Response<?>> responses;
+        try {
+            responses = batchExecutor.execute(requests);
+        } catch (Exception e) {
+            log.error("nonce gap 검사 실패 - PENDING nonce 조회 불가", e);
+            return;
+        }
+
+        List<Gap> gaps = new ArrayList<>();
+        for (int i = 0; i < lanes.size(); i++) {
+            WalletLane lane = lanes.get(i);
+            EthGetTransactionCount response = (EthGetTransactionCount) responses.get(i);
+            if (response == null || response.hasError()) continue;
+            try {
+                Gap gap = inspect(lane, response.getTransactionCount().longValueExact());
+                if (gap != null) gaps.add(gap);
+            } catch (Exception e) {
+                log.error("nonce gap 검사 실패 - address: {}", lane.address(), e);
+            }
+        }
+        if (gaps.isEmpty()) return;
+
+        runLogger.run(JOB_NAME, () -> {
+            int processed = 0;
+            int failed = 0;
+            for (Gap gap : gaps) {
+                try {
+                    blockchainWalletService.sendNoopTransfer(gap.lane().credentials(), BigInteger.valueOf(gap.nonce()));
+                    suspectedGaps.remove(gap.lane().key());
+                    processed++;
+                } catch (Exception e) {
+                    log.error("nonce gap 메우기 실패 - address: {}, nonce: {}", gap.lane().address(), gap.nonce(), e);
+                    failed++;
+                }
+            }
+            return new SchedulerRunLogger.Result(processed, failed);
+        });
+    }
+
+    @Nullable
+    private Gap inspect(WalletLane lane, long chainPending) {
+        long next = nonceManager.peekNext(lane.address());
+        if (next < 0) return null;
+
+        if (chainPending > next) {
+            log.warn("체인 nonce가 할당 카운터보다 앞섬 — 재동기화 - address: {}, chain: {}, next: {}",
+                    lane.address(), chainPending, next);
+            nonceManager.refreshFromChain(lane.address());
+            suspectedGaps.remove(lane.key());
+            return null;
+        }
+
+        if (chainPending == next
+                || outboxTxService.existsSentWithNonce(lane.address(), chainPending, lane.owner())) {
+            suspectedGaps.remove(lane.key());
+            return null;
+        }
+
+        Long previous = suspectedGaps.put(lane.key(), chainPending);
+        if (previous == null || previous != chainPending) {
+            log.warn("nonce gap 의심 - address: {}, gap nonce: {}, next: {} (다음 검사에서 재확인)",
+                    lane.address(), chainPending, next);
+            return null;
+        }
+        log.error("nonce gap 확정 — no-op TX로 메움 - address: {}, nonce: {}", lane.address(), chainPending);
+        return new Gap(lane, chainPending);
+    }
+}
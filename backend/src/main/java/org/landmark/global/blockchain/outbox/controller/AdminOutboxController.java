@@ -0,0 +1,28 @@
+package org.landmark.global.blockchain.outbox.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.landmark.global.blockchain.outbox.dto.OutboxPipelineStatsResponse;
+import org.landmark.global.blockchain.outbox.service.OutboxTransactionService;
+import org.landmark.global.blockchain.outbox.worker.OutboxPipelineWindow;
+import org.landmark.global.dto.ApiResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/outbox")
+@RequiredArgsConstructor
+@Tag(name = "Admin Outbox", description = "관리자 - 블록체인 아웃박스 상태")
+public class AdminOutboxController {
+
+    private final OutboxPipelineWindow pipelineWindow;
+    private final OutboxTransactionService outboxTxService;
+
+    @Operation(summary = "파이프라인 윈도우 현황", description = "지갑(lane)별 in-flight nonce 수, 윈도우 점유율, 최근 1분 전송/채굴 처리량, backpressure 발생 횟수")
+    @GetMapping("/pipeline")
+    public ApiResponse<OutboxPipelineStatsResponse> pipeline() {
+        return ApiResponse.ok(OutboxPipelineStatsResponse.of(pipelineWindow.stats(), outboxTxService.countReady()));
+    }
+}
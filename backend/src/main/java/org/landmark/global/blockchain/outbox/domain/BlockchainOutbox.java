@@ -7,13 +7,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 
+import java.math.BigInteger;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
 @Table(name = "BlockchainOutbox", indexes = {
         @Index(name = "idx_outbox_status_created", columnList = "status, created_at"),
-        @Index(name = "idx_outbox_aggregate", columnList = "aggregate_type, aggregate_id")
+        @Index(name = "idx_outbox_aggregate", columnList = "aggregate_type, aggregate_id"),
+        @Index(name = "idx_outbox_sender_nonce", columnList = "sender_address, nonce"),
+        @Index(name = "idx_outbox_parent", columnList = "parent_id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -46,16 +52,48 @@ public class BlockchainOutbox {
     @Column(name = "payload")
     private String payload;
 
+    /* 연쇄 단계(스냅샷 → approve → 배당)에서 이 row를 만든 앞 단계 row */
+    @Column(name = "parent_id", length = 36, updatable = false)
+    private String parentId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 30)
     private OutboxStatus status;
 
+    /* 서명한 운영 지갑 — nonce는 이 지갑 기준 (null이면 owner 지갑) */
+    @Column(name = "sender_address", length = 42)
+    private String senderAddress;
+
     @Column(name = "nonce")
     private Long nonce;
 
     @Column(name = "tx_hash", length = 80)
     private String txHash;
 
+    /* 전송에 쓴 수수료 (wei). priority fee가 null이면 legacy gasPrice 전송 */
+    @Column(name = "max_fee_per_gas")
+    private BigInteger maxFeePerGas;
+
+    @Column(name = "max_priority_fee_per_gas")
+    private BigInteger maxPriorityFeePerGas;
+
+    /* 같은 nonce로 수수료를 올려 재전송한 횟수와 교체 전 tx hash들 (콤마 구분) — 교체 전 TX가 먼저 채굴될 수 있어 함께 추적 */
+    @Column(name = "replacement_count", nullable = false)
+    private int replacementCount;
+
+    @Column(name = "replaced_tx_hashes", length = 1000)
+    private String replacedTxHashes;
+
+    @Column(name = "receipt_block_number")
+    private Long receiptBlockNumber;
+
+    /* 처리 중인 인스턴스와 임대 만료 시각 — 만료 전에는 다른 인스턴스가 가져가지 않는다 */
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
     @Column(name = "retry_count", nullable = false)
     private int retryCount;
 
@@ -80,7 +118,8 @@ public class BlockchainOutbox {
 
     @Builder
     public BlockchainOutbox(String aggregateType, String aggregateId, OutboxTxType txType,
-                            String contractAddress, String toAddress, String amount, String payload) {
+                            String contractAddress, String toAddress, String amount, String payload,
+                            String parentId) {
         this.id = UUID.randomUUID().toString();
         this.aggregateType = aggregateType;
         this.aggregateId = aggregateId;
@@ -89,22 +128,74 @@ public class BlockchainOutbox {
         this.toAddress = toAddress;
         this.amount = amount;
         this.payload = payload;
+        this.parentId = parentId;
         this.status = OutboxStatus.READY;
         this.retryCount = 0;
+        this.replacementCount = 0;
+    }
+
+    public void claim(String instanceId, LocalDateTime until) {
+        this.claimedBy = instanceId;
+        this.claimedUntil = until;
+    }
+
+    public void releaseClaim() {
+        this.claimedBy = null;
+        this.claimedUntil = null;
     }
 
-    public void markSubmitted(Long nonce, String txHash) {
+    public void markSubmitted(String senderAddress, Long nonce, String txHash,
+                              BigInteger maxFeePerGas, BigInteger maxPriorityFeePerGas) {
         this.status = OutboxStatus.SUBMITTED;
+        releaseClaim();
+        this.senderAddress = senderAddress;
         this.nonce = nonce;
         this.txHash = txHash;
+        this.maxFeePerGas = maxFeePerGas;
+        this.maxPriorityFeePerGas = maxPriorityFeePerGas;
+        this.replacementCount = 0;
+        this.replacedTxHashes = null;
         this.submittedAt = LocalDateTime.now();
     }
 
-    public void markConfirmed() {
+    /* 같은 nonce, 인상된 수수료로 재전송. 교체 대기 시간은 새 전송 시각부터 다시 센다 */
+    public void markReplaced(String newTxHash, BigInteger maxFeePerGas, BigInteger maxPriorityFeePerGas) {
+        this.replacedTxHashes = replacedTxHashes == null ? txHash : replacedTxHashes + "," + txHash;
+        this.txHash = newTxHash;
+        this.maxFeePerGas = maxFeePerGas;
+        this.maxPriorityFeePerGas = maxPriorityFeePerGas;
+        this.replacementCount++;
+        this.submittedAt = LocalDateTime.now();
+    }
+
+    /* 교체 전 TX가 채굴된 경우 — 채굴된 hash를 현재 hash로 */
+    public void adoptMinedTxHash(String minedTxHash) {
+        this.txHash = minedTxHash;
+    }
+
+    /* 현재 hash + 교체 전 hash들 */
+    public List<String> candidateTxHashes() {
+        List<String> hashes = new ArrayList<>();
+        hashes.add(txHash);
+        if (replacedTxHashes != null && !replacedTxHashes.isEmpty()) {
+            hashes.addAll(Arrays.asList(replacedTxHashes.split(",")));
+        }
+        return hashes;
+    }
+
+    public void markConfirmed(Long receiptBlockNumber) {
         this.status = OutboxStatus.CONFIRMED;
+        this.receiptBlockNumber = receiptBlockNumber;
         this.confirmedAt = LocalDateTime.now();
     }
 
+    /* reorg로 영수증이 사라지면 SUBMITTED로 되돌려 다시 추적 */
+    public void revertToSubmitted() {
+        this.status = OutboxStatus.SUBMITTED;
+        this.receiptBlockNumber = null;
+        this.confirmedAt = null;
+    }
+
     public void markFinalized() {
         this.status = OutboxStatus.FINALIZED;
         this.finalizedAt = LocalDateTime.now();
@@ -116,6 +207,12 @@ public class BlockchainOutbox {
         this.retryCount++;
     }
 
+    /* 여러 row를 실은 mint 묶음이 revert — 어느 row 탓인지 모르므로 재시도 횟수는 그대로 두고, txHash는 묶음 분할 기준으로 남긴다 */
+    public void markBatchReverted(String error) {
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        resetToReady();
+    }
+
     public void markDead(String error) {
         this.status = OutboxStatus.DEAD;
         this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
@@ -123,6 +220,7 @@ public class BlockchainOutbox {
 
     public void resetToReady() {
         this.status = OutboxStatus.READY;
+        releaseClaim();
     }
 
     public boolean isRetryable(int maxRetry) {
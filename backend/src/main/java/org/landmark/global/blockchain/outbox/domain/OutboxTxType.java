@@ -3,6 +3,7 @@ package org.landmark.global.blockchain.outbox.domain;
 public enum OutboxTxType {
     KRWT_MINT,
     KRWT_TRANSFER,
+    KRWT_APPROVE,
     SNAPSHOT,
     CREATE_DIVIDEND
 }
@@ -0,0 +1,23 @@
+package org.landmark.global.blockchain.outbox.dto;
+
+/**
+ * 배당 분배 연쇄 단계(SNAPSHOT → KRWT_APPROVE → CREATE_DIVIDEND)의 아웃박스 payload.
+ * 각 단계가 컨펌되면 다음 단계 row에 그대로 넘기고, SNAPSHOT 영수증의 snapshotId를 채워 넣는다.
+ *
+ * @param amount 사람 단위 KRWT 수량 (아웃박스 amount와 동일 규칙)
+ */
+public record DividendStepPayload(
+        String propertyTokenAddress,
+        String distributorAddress,
+        String amount,
+        Long snapshotId
+) {
+
+    public static DividendStepPayload of(String propertyTokenAddress, String distributorAddress, String amount) {
+        return new DividendStepPayload(propertyTokenAddress, distributorAddress, amount, null);
+    }
+
+    public DividendStepPayload withSnapshotId(long snapshotId) {
+        return new DividendStepPayload(propertyTokenAddress, distributorAddress, amount, snapshotId);
+    }
+}
@@ -0,0 +1,37 @@
+package org.landmark.global.blockchain.outbox.dto;
+
+import org.landmark.global.blockchain.outbox.worker.OutboxPipelineWindow;
+
+import java.util.Map;
+
+public record OutboxPipelineStatsResponse(
+        boolean pipelineEnabled,
+        int windowSize,
+        int lanes,
+        int inFlight,
+        double windowOccupancy,
+        Map<String, Integer> inFlightByLane,
+        long readyCount,
+        long submittedTotal,
+        long releasedTotal,
+        long backpressureCount,
+        int submittedLastMinute,
+        int releasedLastMinute
+) {
+    public static OutboxPipelineStatsResponse of(OutboxPipelineWindow.Stats stats, long readyCount) {
+        return new OutboxPipelineStatsResponse(
+                stats.enabled(),
+                stats.windowSize(),
+                stats.lanes(),
+                stats.inFlight(),
+                stats.occupancy(),
+                stats.inFlightByLane(),
+                readyCount,
+                stats.submittedTotal(),
+                stats.releasedTotal(),
+                stats.backpressureCount(),
+                stats.submittedLastMinute(),
+                stats.releasedLastMinute()
+        );
+    }
+}
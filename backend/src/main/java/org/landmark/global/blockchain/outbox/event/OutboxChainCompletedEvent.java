@@ -0,0 +1,5 @@
+package org.landmark.global.blockchain.outbox.event;
+
+/** 연쇄 아웃박스 작업의 마지막 단계가 컨펌됨 — txHash는 마지막 단계 TX */
+public record OutboxChainCompletedEvent(String aggregateType, String aggregateId, String txHash) {
+}
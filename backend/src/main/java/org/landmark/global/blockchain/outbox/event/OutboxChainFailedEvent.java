@@ -0,0 +1,7 @@
+package org.landmark.global.blockchain.outbox.event;
+
+import org.landmark.global.blockchain.outbox.domain.OutboxTxType;
+
+/** 연쇄 아웃박스 작업의 한 단계가 재시도 한도를 넘겨 DEAD가 됨 — 이후 단계는 등록되지 않는다 */
+public record OutboxChainFailedEvent(String aggregateType, String aggregateId, OutboxTxType failedStep, String error) {
+}
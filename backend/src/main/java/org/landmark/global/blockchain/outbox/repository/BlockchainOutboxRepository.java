@@ -3,6 +3,7 @@ package org.landmark.global.blockchain.outbox.repository;
 import jakarta.persistence.LockModeType;
 import org.landmark.global.blockchain.outbox.domain.BlockchainOutbox;
 import org.landmark.global.blockchain.outbox.domain.OutboxStatus;
+import org.landmark.global.blockchain.outbox.domain.OutboxTxType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
@@ -11,16 +12,66 @@ import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BlockchainOutboxRepository extends JpaRepository<BlockchainOutbox, String> {
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")})
-    @Query("SELECT o FROM BlockchainOutbox o WHERE o.status = :status ORDER BY o.createdAt ASC")
-    List<BlockchainOutbox> findReadyForProcessing(@Param("status") OutboxStatus status, Pageable pageable);
+    @Query("SELECT o FROM BlockchainOutbox o WHERE o.status = :status " +
+            "AND (o.claimedUntil IS NULL OR o.claimedUntil < :now) ORDER BY o.createdAt ASC")
+    List<BlockchainOutbox> findReadyForProcessing(@Param("status") OutboxStatus status,
+                                                  @Param("now") LocalDateTime now,
+                                                  Pageable pageable);
+
+    /* findReadyForProcessing에서 한 타입을 뺀 것 — mint 묶음 전송 시 mint는 따로 가져온다 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")})
+    @Query("SELECT o FROM BlockchainOutbox o WHERE o.status = :status AND o.txType <> :excludedType " +
+            "AND (o.claimedUntil IS NULL OR o.claimedUntil < :now) ORDER BY o.createdAt ASC")
+    List<BlockchainOutbox> findReadyForProcessingExcluding(@Param("status") OutboxStatus status,
+                                                           @Param("excludedType") OutboxTxType excludedType,
+                                                           @Param("now") LocalDateTime now,
+                                                           Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")})
+    @Query("SELECT o FROM BlockchainOutbox o WHERE o.status = :status AND o.txType = :txType " +
+            "AND (o.claimedUntil IS NULL OR o.claimedUntil < :now) ORDER BY o.createdAt ASC")
+    List<BlockchainOutbox> findReadyForProcessingOfType(@Param("status") OutboxStatus status,
+                                                        @Param("txType") OutboxTxType txType,
+                                                        @Param("now") LocalDateTime now,
+                                                        Pageable pageable);
 
     List<BlockchainOutbox> findByStatusOrderByCreatedAtAsc(OutboxStatus status);
 
     List<BlockchainOutbox> findByStatusInOrderByCreatedAtAsc(List<OutboxStatus> statuses);
+
+    List<BlockchainOutbox> findByStatusInOrderBySubmittedAtAsc(List<OutboxStatus> statuses, Pageable pageable);
+
+    List<BlockchainOutbox> findByStatusAndSubmittedAtBeforeOrderBySubmittedAtAsc(OutboxStatus status,
+                                                                                 LocalDateTime submittedBefore,
+                                                                                 Pageable pageable);
+
+    long countByStatus(OutboxStatus status);
+
+    /* 같은 TX로 묶여 전송된 row들 (mint 묶음) */
+    List<BlockchainOutbox> findByTxHashOrderByCreatedAtAsc(String txHash);
+
+    boolean existsByParentId(String parentId);
+
+    List<BlockchainOutbox> findByTxTypeAndContractAddressAndStatusIn(OutboxTxType txType, String contractAddress,
+                                                                      List<OutboxStatus> statuses);
+
+    List<BlockchainOutbox> findByTxTypeAndToAddressAndStatusIn(OutboxTxType txType, String toAddress,
+                                                                List<OutboxStatus> statuses);
+
+    /* 해당 지갑/nonce로 전송된 row 존재 여부 (sender_address가 없는 기존 row는 owner 지갑 것) */
+    @Query("SELECT COUNT(o) > 0 FROM BlockchainOutbox o WHERE o.nonce = :nonce AND o.status IN :statuses " +
+            "AND (o.senderAddress = :sender OR (:includeLegacy = true AND o.senderAddress IS NULL))")
+    boolean existsSentWithNonce(@Param("sender") String sender,
+                                @Param("nonce") Long nonce,
+                                @Param("includeLegacy") boolean includeLegacy,
+                                @Param("statuses") List<OutboxStatus> statuses);
 }
@@ -1,9 +1,14 @@
 package org.landmark.global.blockchain.outbox.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.landmark.global.blockchain.outbox.domain.BlockchainOutbox;
 import org.landmark.global.blockchain.outbox.domain.OutboxTxType;
+import org.landmark.global.blockchain.outbox.dto.DividendStepPayload;
 import org.landmark.global.blockchain.outbox.repository.BlockchainOutboxRepository;
+import org.landmark.global.blockchain.outbox.worker.OutboxWakeUpEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +17,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class BlockchainOutboxService {
 
     private final BlockchainOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** KRWT mint 아웃박스 등록 */
     @Transactional
@@ -25,6 +32,69 @@ public class BlockchainOutboxService {
                 .toAddress(toAddress)
                 .amount(amount)
                 .build();
-        return outboxRepository.save(outbox);
+        return save(outbox);
+    }
+
+    /**
+     * 배당 분배 아웃박스 등록 — 첫 단계(SNAPSHOT)만 등록하고,
+     * 이후 (KRWT_APPROVE →) CREATE_DIVIDEND는 앞 단계가 컨펌될 때 DividendDistributionChain이 등록한다.
+     *
+     * @param amount 사람 단위 KRWT 수량
+     */
+    @Transactional
+    public BlockchainOutbox enqueueDividendDistribution(String aggregateType, String aggregateId,
+                                                        String propertyTokenAddress, String distributorAddress,
+                                                        String amount) {
+        DividendStepPayload payload = DividendStepPayload.of(propertyTokenAddress, distributorAddress, amount);
+        BlockchainOutbox outbox = BlockchainOutbox.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .txType(OutboxTxType.SNAPSHOT)
+                .contractAddress(propertyTokenAddress)
+                .amount(amount)
+                .payload(writePayload(payload))
+                .build();
+        return save(outbox);
+    }
+
+    /* 앞 단계 row를 부모로 다음 단계 등록 (같은 aggregate). amount는 이 단계 TX의 금액 — approve는 배당 금액과 다를 수 있다 */
+    @Transactional
+    public BlockchainOutbox enqueueNextStep(BlockchainOutbox parent, OutboxTxType txType,
+                                            String contractAddress, String toAddress, String amount,
+                                            DividendStepPayload payload) {
+        BlockchainOutbox outbox = BlockchainOutbox.builder()
+                .aggregateType(parent.getAggregateType())
+                .aggregateId(parent.getAggregateId())
+                .txType(txType)
+                .contractAddress(contractAddress)
+                .toAddress(toAddress)
+                .amount(amount)
+                .payload(writePayload(payload))
+                .parentId(parent.getId())
+                .build();
+        return save(outbox);
+    }
+
+    /* 저장 후 worker 깨우기 — OutboxWorker가 커밋 뒤에 받는다 */
+    private BlockchainOutbox save(BlockchainOutbox outbox) {
+        BlockchainOutbox saved = outboxRepository.save(outbox);
+        eventPublisher.publishEvent(new OutboxWakeUpEvent(saved.getTxType() + " 등록"));
+        return saved;
+    }
+
+    public DividendStepPayload readPayload(BlockchainOutbox outbox) {
+        try {
+            return objectMapper.readValue(outbox.getPayload(), DividendStepPayload.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 payload 파싱 실패 - id: " + outbox.getId(), e);
+        }
+    }
+
+    private String writePayload(DividendStepPayload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 payload 직렬화 실패", e);
+        }
     }
 }
@@ -0,0 +1,113 @@
+package org.landmark.global.blockchain.outbox.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.global.blockchain.outbox.domain.BlockchainOutbox;
+import org.landmark.global.blockchain.outbox.domain.OutboxTxType;
+import org.landmark.global.blockchain.outbox.dto.DividendStepPayload;
+import org.landmark.global.blockchain.outbox.event.OutboxChainCompletedEvent;
+import org.landmark.global.blockchain.outbox.repository.BlockchainOutboxRepository;
+import org.landmark.global.blockchain.config.BlockchainConfig;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.utils.Numeric;
+
+import java.util.Arrays;
+
+/**
+ * 배당 분배 연쇄: SNAPSHOT → (KRWT_APPROVE) → CREATE_DIVIDEND.
+ * approve는 KrwtAllowanceManager가 남은 allowance로 부족하다고 판단할 때만 끼워 넣는다.
+ *
+ * 앞 단계가 컨펌되면 OutboxConfirmationTracker가 호출해 다음 단계 row를 등록한다.
+ * 모든 단계가 같은 owner 지갑 lane에서 NonceManager가 매긴 nonce로 나간다.
+ * - SNAPSHOT 영수증의 SnapshotCreated 로그에서 snapshotId를 꺼내 payload에 실어 보낸다
+ * - reorg 후 재컨펌 등으로 다시 호출돼도 parent_id로 이미 등록된 다음 단계는 만들지 않는다
+ * - CREATE_DIVIDEND 컨펌 시 OutboxChainCompletedEvent 발행 (업무 도메인이 결과 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DividendDistributionChain {
+
+    public static final Event SNAPSHOT_CREATED_EVENT = new Event(
+            "SnapshotCreated",
+            Arrays.asList(
+                    new TypeReference<Uint256>(true) {},
+                    new TypeReference<Uint256>(false) {}
+            )
+    );
+    private static final String SNAPSHOT_CREATED_TOPIC = EventEncoder.encode(SNAPSHOT_CREATED_EVENT);
+
+    private final BlockchainOutboxRepository outboxRepository;
+    private final BlockchainOutboxService outboxService;
+    private final BlockchainConfig blockchainConfig;
+    private final KrwtAllowanceManager allowanceManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public static boolean isChained(OutboxTxType txType) {
+        return txType == OutboxTxType.SNAPSHOT
+                || txType == OutboxTxType.KRWT_APPROVE
+                || txType == OutboxTxType.CREATE_DIVIDEND;
+    }
+
+    @Transactional
+    public void onStepConfirmed(String outboxId, TransactionReceipt receipt) {
+        BlockchainOutbox step = outboxRepository.findById(outboxId).orElseThrow();
+        if (!isChained(step.getTxType())) return;
+
+        DividendStepPayload payload = outboxService.readPayload(step);
+        switch (step.getTxType()) {
+            case SNAPSHOT -> {
+                if (outboxRepository.existsByParentId(step.getId())) return;
+                long snapshotId = extractSnapshotId(receipt);
+                DividendStepPayload next = payload.withSnapshotId(snapshotId);
+                String approveAmount = allowanceManager.requiredApproveAmount(payload.distributorAddress(), payload.amount());
+                if (approveAmount == null) {
+                    enqueueCreateDividend(step, next);
+                    log.info("배당 연쇄 - 스냅샷 컨펌, createDividend 등록 (approve 생략) - aggregateId: {}, snapshotId: {}",
+                            step.getAggregateId(), snapshotId);
+                    return;
+                }
+                outboxService.enqueueNextStep(step, OutboxTxType.KRWT_APPROVE,
+                        blockchainConfig.getKrwtTokenAddress(), payload.distributorAddress(), approveAmount, next);
+                log.info("배당 연쇄 - 스냅샷 컨펌, approve 등록 - aggregateId: {}, snapshotId: {}, approve: {}",
+                        step.getAggregateId(), snapshotId, approveAmount);
+            }
+            case KRWT_APPROVE -> {
+                if (outboxRepository.existsByParentId(step.getId())) return;
+                enqueueCreateDividend(step, payload);
+                log.info("배당 연쇄 - approve 컨펌, createDividend 등록 - aggregateId: {}, snapshotId: {}",
+                        step.getAggregateId(), payload.snapshotId());
+            }
+            case CREATE_DIVIDEND -> {
+                log.info("배당 연쇄 완료 - aggregateId: {}, txHash: {}", step.getAggregateId(), receipt.getTransactionHash());
+                eventPublisher.publishEvent(new OutboxChainCompletedEvent(
+                        step.getAggregateType(), step.getAggregateId(), receipt.getTransactionHash()));
+            }
+            default -> { }
+        }
+    }
+
+    private void enqueueCreateDividend(BlockchainOutbox parent, DividendStepPayload payload) {
+        outboxService.enqueueNextStep(parent, OutboxTxType.CREATE_DIVIDEND,
+                payload.distributorAddress(), null, payload.amount(), payload);
+    }
+
+    private long extractSnapshotId(TransactionReceipt receipt) {
+        for (Log eventLog : receipt.getLogs()) {
+            if (!eventLog.getTopics().isEmpty()
+                    && SNAPSHOT_CREATED_TOPIC.equals(eventLog.getTopics().get(0))
+                    && eventLog.getTopics().size() > 1) {
+                return Numeric.toBigInt(eventLog.getTopics().get(1)).longValueExact();
+            }
+        }
+        throw new IllegalStateException("SnapshotCreated 이벤트 없음 - txHash: " + receipt.getTransactionHash());
+    }
+}
@@ -0,0 +1,93 @@
+package org.landmark.global.blockchain.outbox.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.global.blockchain.outbox.domain.BlockchainOutbox;
+import org.landmark.global.blockchain.outbox.domain.OutboxStatus;
+import org.landmark.global.blockchain.outbox.domain.OutboxTxType;
+import org.landmark.global.blockchain.outbox.repository.BlockchainOutboxRepository;
+import org.landmark.global.blockchain.service.BlockchainWalletService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * 배당 컨트랙트(DividendDistributor)별 KRWT allowance 관리.
+ *
+ * 배당마다 approve를 보내지 않고 top-up-amount만큼 넉넉히 허용해 두고,
+ * 남은 allowance가 다음 배당 금액보다 부족할 때만 approve 단계를 끼워 넣는다.
+ *
+ * 남은 allowance = 온체인 allowance(eth_call) - 아직 채굴되지 않은 CREATE_DIVIDEND 금액 합계.
+ * 같은 배당 컨트랙트로 approve가 진행 중이면 온체인 값이 곧 덮어써지므로 건너뛰지 않는다.
+ * approve 금액은 진행 중인 배당/approve 대기 배당 금액까지 포함 — approve는 값을 덮어쓰므로
+ * 먼저 잡혀 있던 배당 몫이 사라지지 않도록.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KrwtAllowanceManager {
+
+    private static final BigInteger KRWT_UNIT = BigInteger.TEN.pow(18);
+    private static final List<OutboxStatus> IN_FLIGHT = List.of(OutboxStatus.READY, OutboxStatus.SUBMITTED);
+
+    private final BlockchainOutboxRepository outboxRepository;
+    private final BlockchainWalletService blockchainWalletService;
+    private final BlockchainOutboxService outboxService;
+
+    @Value("${blockchain.krwt.allowance.enabled:true}")
+    private boolean enabled;
+
+    /* approve 1회에 추가로 허용해 두는 여유분 (사람 단위 KRWT) */
+    @Value("${blockchain.krwt.allowance.top-up-amount:1000000000}")
+    private long topUpAmount;
+
+    /**
+     * 다음 배당(amount, 사람 단위)을 위해 approve가 필요하면 approve할 금액(사람 단위), 남은 allowance로 충분하면 null.
+     * 호출 측 트랜잭션 안에서 진행 중인 아웃박스 row를 읽는다.
+     */
+    @Nullable
+    public String requiredApproveAmount(String distributorAddress, String amount) {
+        BigInteger needed = new BigInteger(amount);
+        if (!enabled) {
+            return amount;
+        }
+
+        BigInteger inFlightDividends = sumAmounts(outboxRepository.findByTxTypeAndContractAddressAndStatusIn(
+                OutboxTxType.CREATE_DIVIDEND, distributorAddress, IN_FLIGHT), false);
+        List<BlockchainOutbox> inFlightApproves = outboxRepository.findByTxTypeAndToAddressAndStatusIn(
+                OutboxTxType.KRWT_APPROVE, distributorAddress, IN_FLIGHT);
+
+        if (inFlightApproves.isEmpty()) {
+            try {
+                BigInteger onChain = blockchainWalletService.getKrwtAllowance(distributorAddress);
+                BigInteger remaining = onChain.subtract(inFlightDividends.multiply(KRWT_UNIT));
+                if (remaining.compareTo(needed.multiply(KRWT_UNIT)) >= 0) {
+                    log.info("KRWT allowance 충분 — approve 생략 - distributor: {}, 남은 allowance: {}, 배당: {}",
+                            distributorAddress, remaining.divide(KRWT_UNIT), needed);
+                    return null;
+                }
+            } catch (Exception e) {
+                log.warn("KRWT allowance 조회 실패 — approve 단계 포함 - distributor: {}", distributorAddress, e);
+            }
+        }
+
+        BigInteger awaitingApprove = sumAmounts(inFlightApproves, true);
+        BigInteger approveAmount = inFlightDividends.add(awaitingApprove).add(needed).add(BigInteger.valueOf(topUpAmount));
+        log.info("KRWT allowance 보충 - distributor: {}, approve: {}, 진행 중 배당: {}, approve 대기 배당: {}",
+                distributorAddress, approveAmount, inFlightDividends, awaitingApprove);
+        return approveAmount.toString();
+    }
+
+    /* fromPayload=true면 approve row가 기다리는 배당 금액(payload), 아니면 row 금액 */
+    private BigInteger sumAmounts(List<BlockchainOutbox> rows, boolean fromPayload) {
+        BigInteger sum = BigInteger.ZERO;
+        for (BlockchainOutbox row : rows) {
+            String amount = fromPayload ? outboxService.readPayload(row).amount() : row.getAmount();
+            sum = sum.add(new BigInteger(amount));
+        }
+        return sum;
+    }
+}
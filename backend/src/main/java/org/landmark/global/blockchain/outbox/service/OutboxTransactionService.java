@@ -3,11 +3,18 @@ package org.landmark.global.blockchain.outbox.service;
 import lombok.RequiredArgsConstructor;
 import org.landmark.global.blockchain.outbox.domain.BlockchainOutbox;
 import org.landmark.global.blockchain.outbox.domain.OutboxStatus;
+import org.landmark.global.blockchain.outbox.domain.OutboxTxType;
+import org.landmark.global.blockchain.outbox.event.OutboxChainFailedEvent;
 import org.landmark.global.blockchain.outbox.repository.BlockchainOutboxRepository;
+import org.landmark.global.blockchain.service.FeeOracle;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /** Outbox worker 전용 트랜잭션 경계 서비스 */
@@ -16,16 +23,78 @@ import java.util.List;
 public class OutboxTransactionService {
 
     private final BlockchainOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * READY row를 잠그고(SKIP LOCKED) 임대를 걸어 반환.
+     * 트랜잭션이 끝나 row lock이 풀려도 claimedUntil 전까지는 다른 인스턴스가 가져가지 않는다.
+     */
     @Transactional
-    public List<BlockchainOutbox> lockReadyBatch(int batchSize) {
-        return outboxRepository.findReadyForProcessing(OutboxStatus.READY, PageRequest.of(0, batchSize));
+    public List<BlockchainOutbox> lockReadyBatch(int batchSize, String instanceId, long leaseMs) {
+        return lockReadyBatch(batchSize, instanceId, leaseMs, null, null);
     }
 
+    /* lockReadyBatch와 같되 한 타입만(only) 또는 한 타입을 빼고(excluded) 가져온다 */
     @Transactional
-    public void markSubmitted(String id, Long nonce, String txHash) {
+    public List<BlockchainOutbox> lockReadyBatch(int batchSize, String instanceId, long leaseMs,
+                                                 @Nullable OutboxTxType only, @Nullable OutboxTxType excluded) {
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest page = PageRequest.of(0, batchSize);
+        List<BlockchainOutbox> batch;
+        if (only != null) {
+            batch = outboxRepository.findReadyForProcessingOfType(OutboxStatus.READY, only, now, page);
+        } else if (excluded != null) {
+            batch = outboxRepository.findReadyForProcessingExcluding(OutboxStatus.READY, excluded, now, page);
+        } else {
+            batch = outboxRepository.findReadyForProcessing(OutboxStatus.READY, now, page);
+        }
+        LocalDateTime until = now.plus(Duration.ofMillis(leaseMs));
+        batch.forEach(o -> o.claim(instanceId, until));
+        return batch;
+    }
+
+    /* 이번 tick에 전송하지 않은 row의 임대 반납 */
+    @Transactional
+    public void releaseClaims(List<String> ids) {
+        outboxRepository.findAllById(ids).forEach(BlockchainOutbox::releaseClaim);
+    }
+
+    @Transactional
+    public void markSubmitted(String id, String senderAddress, Long nonce, String txHash, FeeOracle.Fees fees) {
         BlockchainOutbox o = outboxRepository.findById(id).orElseThrow();
-        o.markSubmitted(nonce, txHash);
+        o.markSubmitted(senderAddress, nonce, txHash, fees.maxFeePerGas(), fees.eip1559() ? fees.maxPriorityFeePerGas() : null);
+    }
+
+    /* 여러 row를 TX 하나로 묶어 보낸 경우 — 모두 같은 nonce/txHash */
+    @Transactional
+    public void markSubmittedAll(List<String> ids, String senderAddress, Long nonce, String txHash, FeeOracle.Fees fees) {
+        outboxRepository.findAllById(ids).forEach(o -> o.markSubmitted(
+                senderAddress, nonce, txHash, fees.maxFeePerGas(), fees.eip1559() ? fees.maxPriorityFeePerGas() : null));
+    }
+
+    /* 같은 TX로 나간 row 전체(mint 묶음 포함)를 새 hash로 교체 기록 */
+    @Transactional
+    public void markReplaced(List<String> ids, String newTxHash, FeeOracle.Fees fees) {
+        outboxRepository.findAllById(ids).forEach(o ->
+                o.markReplaced(newTxHash, fees.maxFeePerGas(), fees.eip1559() ? fees.maxPriorityFeePerGas() : null));
+    }
+
+    @Transactional
+    public void adoptMinedTxHash(String id, String minedTxHash) {
+        BlockchainOutbox o = outboxRepository.findById(id).orElseThrow();
+        o.adoptMinedTxHash(minedTxHash);
+    }
+
+    @Transactional(readOnly = true)
+    public List<BlockchainOutbox> findByTxHash(String txHash) {
+        return outboxRepository.findByTxHashOrderByCreatedAtAsc(txHash);
+    }
+
+    /* 전송 후 timeout이 지나도록 채굴되지 않은 row — 수수료 인상 교체 대상 */
+    @Transactional(readOnly = true)
+    public List<BlockchainOutbox> findStuckSubmitted(LocalDateTime submittedBefore, int limit) {
+        return outboxRepository.findByStatusAndSubmittedAtBeforeOrderBySubmittedAtAsc(
+                OutboxStatus.SUBMITTED, submittedBefore, PageRequest.of(0, limit));
     }
 
     @Transactional
@@ -34,14 +103,75 @@ public class OutboxTransactionService {
         o.markFailed(error);
         if (!o.isRetryable(maxRetry)) {
             o.markDead(error);
+            // 연쇄 단계가 죽으면 다음 단계가 등록되지 않으므로 업무 도메인에 실패를 알린다 (같은 트랜잭션)
+            if (DividendDistributionChain.isChained(o.getTxType())) {
+                eventPublisher.publishEvent(new OutboxChainFailedEvent(
+                        o.getAggregateType(), o.getAggregateId(), o.getTxType(), error));
+            }
         } else {
             o.resetToReady();
         }
     }
 
+    /*
+     * mint 묶음 TX revert — 재시도 횟수를 쓰지 않고 READY로 돌린다.
+     * worker가 같은 txHash끼리 절반으로 나눠 다시 보내고, 단건까지 내려가면 그때부터 markFailed로 재시도 한도를 센다.
+     */
+    @Transactional
+    public void markBatchReverted(String id, String error) {
+        BlockchainOutbox o = outboxRepository.findById(id).orElseThrow();
+        o.markBatchReverted(error);
+    }
+
+    /*
+     * 재전송하면 안 되는 실패 — 재시도 없이 DEAD (수동 확인).
+     * 실제로는 채굴됐을 수 있으므로 연쇄 실패 이벤트도 내지 않는다 (업무 도메인이 재시도하면 이중 실행)
+     */
+    @Transactional
+    public void markDead(String id, String error) {
+        BlockchainOutbox o = outboxRepository.findById(id).orElseThrow();
+        o.markDead(error);
+    }
+
+    /* 전송됐지만 아직 채굴되지 않은 row — 파이프라인 윈도우 복원용 */
+    @Transactional(readOnly = true)
+    public List<BlockchainOutbox> findInFlight() {
+        return outboxRepository.findByStatusOrderByCreatedAtAsc(OutboxStatus.SUBMITTED);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean existsSentWithNonce(String sender, long nonce, boolean ownerLane) {
+        return outboxRepository.existsSentWithNonce(sender, nonce, ownerLane,
+                List.of(OutboxStatus.SUBMITTED, OutboxStatus.CONFIRMED, OutboxStatus.FINALIZED));
+    }
+
+    @Transactional(readOnly = true)
+    public long countReady() {
+        return outboxRepository.countByStatus(OutboxStatus.READY);
+    }
+
+    /* 영수증 추적 대상 — 전송됐지만 아직 FINALIZED 되지 않은 row */
+    @Transactional(readOnly = true)
+    public List<BlockchainOutbox> findAwaitingConfirmation(int limit) {
+        return outboxRepository.findByStatusInOrderBySubmittedAtAsc(
+                List.of(OutboxStatus.SUBMITTED, OutboxStatus.CONFIRMED), PageRequest.of(0, limit));
+    }
+
+    @Transactional
+    public void markConfirmed(String id, long receiptBlockNumber) {
+        BlockchainOutbox o = outboxRepository.findById(id).orElseThrow();
+        o.markConfirmed(receiptBlockNumber);
+    }
+
+    @Transactional
+    public void markFinalized(String id) {
+        BlockchainOutbox o = outboxRepository.findById(id).orElseThrow();
+        o.markFinalized();
+    }
+
     @Transactional
-    public void markConfirmed(String id) {
+    public void revertToSubmitted(String id) {
         BlockchainOutbox o = outboxRepository.findById(id).orElseThrow();
-        o.markConfirmed();
+        o.revertToSubmitted();
     }
 }
@@ -0,0 +1,110 @@
+package org.landmark.global.blockchain.outbox.worker;
+
+import lombok.RequiredArgsConstructor;
+import org.landmark.global.blockchain.outbox.domain.BlockchainOutbox;
+import org.landmark.global.blockchain.outbox.domain.OutboxTxType;
+import org.landmark.global.blockchain.outbox.dto.DividendStepPayload;
+import org.landmark.global.blockchain.outbox.service.BlockchainOutboxService;
+import org.landmark.global.blockchain.service.BlockchainWalletService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * 아웃박스 row → (대상 컨트랙트, calldata).
+ * 최초 전송(OutboxWorker)과 수수료 교체 재전송(OutboxStuckTxReplacer)이 같은 calldata를 만들어야
+ * 같은 nonce의 교체가 같은 작업이 된다.
+ *
+ * mintBatch는 수신자 수에 비례해 gas가 들어 기본 gas limit(500k)으로는 수십 건 묶음이 out-of-gas로 revert한다.
+ * 그래서 묶음 TX는 base-gas + per-mint-gas × 건수로 gas limit을 잡고 (교체 재전송도 같은 값),
+ * 묶음 크기는 그 값이 max-gas를 넘지 않는 건수로 제한한다.
+ * per-mint-gas는 새 잔액 슬롯 기록(약 22k) + Transfer 로그 + calldata 64바이트에 여유를 둔 값 —
+ * contract 테스트(test_KRWT_MintBatch_GasFitsBackendBudget)가 최대 묶음의 실제 사용량이 이 예산 안인지 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxCallBuilder {
+
+    private final BlockchainWalletService blockchainWalletService;
+    private final BlockchainOutboxService outboxService;
+
+    /* 묶음 TX 고정 비용 — intrinsic 21k + 함수/배열 헤더 calldata + 여유 */
+    @Value("${blockchain.outbox.mint-batch.base-gas:40000}")
+    private long mintBatchBaseGas;
+
+    @Value("${blockchain.outbox.mint-batch.per-mint-gas:35000}")
+    private long perMintGas;
+
+    /* 묶음 TX 하나의 gas limit 상한 (블록 gas limit보다 충분히 작게) */
+    @Value("${blockchain.outbox.mint-batch.max-gas:3000000}")
+    private long mintBatchMaxGas;
+
+    /* gasLimit이 null이면 기본 gas limit */
+    public record OutboxCall(String to, String data, @Nullable BigInteger gasLimit) {
+
+        public OutboxCall(String to, String data) {
+            this(to, data, null);
+        }
+    }
+
+    /* 설정한 묶음 크기와 gas 상한 안에 들어가는 건수 중 작은 값 */
+    public int mintBatchCapacity(int configuredMaxSize) {
+        long fits = (mintBatchMaxGas - mintBatchBaseGas) / perMintGas;
+        return (int) Math.max(1, Math.min(configuredMaxSize, fits));
+    }
+
+    /* TX 하나로 묶어 보낼 row들. 2건 이상은 KRWT_MINT 묶음만 가능 — mintBatch 한 번으로 발행 */
+    public OutboxCall build(List<BlockchainOutbox> rows) {
+        if (rows.size() == 1) {
+            return build(rows.get(0));
+        }
+        if (rows.stream().anyMatch(o -> o.getTxType() != OutboxTxType.KRWT_MINT)) {
+            throw new IllegalStateException("KRWT_MINT 외 타입은 묶어 보낼 수 없음");
+        }
+        return new OutboxCall(
+                blockchainWalletService.requireKrwtAddress(),
+                blockchainWalletService.encodeKrwtMintBatch(
+                        rows.stream().map(BlockchainOutbox::getToAddress).toList(),
+                        rows.stream().map(o -> toWei(o.getAmount())).toList()),
+                BigInteger.valueOf(mintBatchBaseGas + perMintGas * rows.size())
+        );
+    }
+
+    public OutboxCall build(BlockchainOutbox outbox) {
+        return switch (outbox.getTxType()) {
+            case KRWT_MINT -> new OutboxCall(
+                    blockchainWalletService.requireKrwtAddress(),
+                    blockchainWalletService.encodeKrwtMint(outbox.getToAddress(), toWei(outbox.getAmount()))
+            );
+            case KRWT_APPROVE -> new OutboxCall(
+                    blockchainWalletService.requireKrwtAddress(),
+                    blockchainWalletService.encodeKrwtApprove(outbox.getToAddress(), toWei(outbox.getAmount()))
+            );
+            case SNAPSHOT -> new OutboxCall(
+                    outbox.getContractAddress(),
+                    blockchainWalletService.encodeSnapshot()
+            );
+            case CREATE_DIVIDEND -> {
+                DividendStepPayload payload = outboxService.readPayload(outbox);
+                if (payload.snapshotId() == null) {
+                    throw new IllegalStateException("CREATE_DIVIDEND payload에 snapshotId 없음 - id: " + outbox.getId());
+                }
+                yield new OutboxCall(
+                        outbox.getContractAddress(),
+                        blockchainWalletService.encodeCreateDividend(
+                                BigInteger.valueOf(payload.snapshotId()), toWei(outbox.getAmount()))
+                );
+            }
+            case KRWT_TRANSFER -> throw new UnsupportedOperationException(
+                    "아웃박스 타입 미구현: " + outbox.getTxType());
+        };
+    }
+
+    /* outbox.amount(사람 단위, 예: "2000000")를 KRWT 18 decimals 적용한 wei 단위로 변환. */
+    static BigInteger toWei(String humanAmount) {
+        return new BigInteger(humanAmount).multiply(BigInteger.TEN.pow(18));
+    }
+}
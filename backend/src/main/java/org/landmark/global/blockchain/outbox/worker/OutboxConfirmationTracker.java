@@ -0,0 +1,386 @@
+package org.landmark.global.blockchain.outbox.worker;
+
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.global.blockchain.outbox.domain.BlockchainOutbox;
+import org.landmark.global.blockchain.outbox.domain.OutboxStatus;
+import org.landmark.global.blockchain.outbox.service.DividendDistributionChain;
+import org.landmark.global.blockchain.outbox.service.OutboxTransactionService;
+import org.landmark.global.blockchain.service.JsonRpcBatchExecutor;
+import org.landmark.global.blockchain.wallet.WalletLane;
+import org.landmark.global.blockchain.wallet.WalletLaneRegistry;
+import org.landmark.global.scheduler.runlog.SchedulerRunLogger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.EthTransaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SUBMITTED/CONFIRMED 아웃박스 row의 영수증을 추적해 상태를 전이시킨다.
+ *
+ * tick마다 eth_blockNumber만 먼저 보고, 새 블록이 나왔을 때만 발신 지갑(lane)별 nonce(LATEST) + 모든 영수증을
+ * JSON-RPC batch 1회로 조회한다 — 새 블록당 영수증 batch 1회, 블록이 그대로면 영수증도 그대로이므로 건너뛴다.
+ * 영수증을 기다리는 후속 작업은 스레드를 붙잡지 않고 컨펌 시점에 이어 붙인다 (DividendDistributionChain, 컨펌 이벤트).
+ * 수수료 교체(OutboxStuckTxReplacer)된 row는 교체 전 hash 중 먼저 채굴된 것을 채택한다.
+ * - status 0x1 → CONFIRMED, 이후 confirmation-depth 만큼 블록이 쌓이면 FINALIZED
+ *   (연쇄 작업이면 컨펌 시 DividendDistributionChain이 다음 단계를 등록)
+ * - revert → FAILED (재시도 한도 내면 READY로 복귀해 재전송)
+ *   여러 row를 실은 mint 묶음이면 재시도 횟수를 쓰지 않고 READY로 돌려 worker가 절반씩 나눠 다시 보낸다
+ * - 영수증 없음 + 해당 nonce가 이미 소비됨 → 후보 hash 전부를 eth_getTransactionByHash로 다시 확인하고,
+ *   어느 것도 노드에 없고 confirmation-depth 전 블록 기준으로도 nonce가 소비됐으면 DEAD (수동 확인).
+ *   노드 지연/누락된 교체 hash일 수 있어 자동 재전송하지 않는다 — 재전송하면 mint/배당이 이중 실행된다
+ * - CONFIRMED였는데 영수증이 사라짐 → reorg, SUBMITTED로 복귀
+ *
+ * 전송 경로(OutboxWorker)는 영수증을 기다리지 않는다.
+ * nonce가 채굴/실패로 판정되면 파이프라인 윈도우에서 release하고 worker를 즉시 깨운다.
+ */
+@Slf4j
+@Component
+public class OutboxConfirmationTracker {
+
+    public static final String JOB_NAME = "BlockchainOutboxConfirmationTracker";
+
+    @Nullable
+    private final Web3j web3j;
+    private final JsonRpcBatchExecutor batchExecutor;
+    private final OutboxTransactionService outboxTxService;
+    private final WalletLaneRegistry laneRegistry;
+    private final SchedulerRunLogger runLogger;
+    private final OutboxPipelineWindow pipelineWindow;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DividendDistributionChain dividendChain;
+
+    /* 마지막으로 영수증을 조회한 head — 같은 블록에서는 다시 조회하지 않는다 */
+    private volatile long lastTrackedHead = -1L;
+
+    @Value("${blockchain.outbox.confirmation.batch-size:200}")
+    private int batchSize;
+
+    @Value("${blockchain.outbox.confirmation.depth:12}")
+    private long confirmationDepth;
+
+    @Value("${blockchain.outbox.confirmation.dropped-grace-ms:60000}")
+    private long droppedGraceMs;
+
+    @Value("${blockchain.outbox.max-retry:5}")
+    private int maxRetry;
+
+    @Autowired
+    public OutboxConfirmationTracker(@Nullable Web3j web3j,
+                                     JsonRpcBatchExecutor batchExecutor,
+                                     OutboxTransactionService outboxTxService,
+                                     WalletLaneRegistry laneRegistry,
+                                     SchedulerRunLogger runLogger,
+                                     OutboxPipelineWindow pipelineWindow,
+                                     ApplicationEventPublisher eventPublisher,
+                                     DividendDistributionChain dividendChain) {
+        this.web3j = web3j;
+        this.batchExecutor = batchExecutor;
+        this.outboxTxService = outboxTxService;
+        this.laneRegistry = laneRegistry;
+        this.runLogger = runLogger;
+        this.pipelineWindow = pipelineWindow;
+        this.eventPublisher = eventPublisher;
+        this.dividendChain = dividendChain;
+    }
+
+    @Scheduled(fixedDelayString = "${blockchain.outbox.confirmation.polling-interval-ms:3000}")
+    public void track() {
+        if (web3j == null) return;
+
+        List<BlockchainOutbox> pending;
+        try {
+            pending = outboxTxService.findAwaitingConfirmation(batchSize);
+        } catch (Exception e) {
+            log.error("영수증 추적 대상 조회 실패", e);
+            return;
+        }
+        if (pending.isEmpty() || laneRegistry.ownerLane() == null) return;
+
+        long head;
+        try {
+            EthBlockNumber blockNumber = web3j.ethBlockNumber().send();
+            if (blockNumber.hasError()) {
+                log.error("영수증 추적 중단 - blockNumber 조회 실패: {}", blockNumber.getError().getMessage());
+                return;
+            }
+            head = blockNumber.getBlockNumber().longValueExact();
+        } catch (Exception e) {
+            log.error("영수증 추적 중단 - blockNumber 조회 실패", e);
+            return;
+        }
+        if (head == lastTrackedHead) return;
+
+        runLogger.run(JOB_NAME, () -> doTrack(pending, head));
+    }
+
+    private SchedulerRunLogger.Result doTrack(List<BlockchainOutbox> pending, long head) {
+        Set<String> senders = new LinkedHashSet<>();
+        for (BlockchainOutbox outbox : pending) {
+            senders.add(senderOf(outbox));
+        }
+        List<String> senderList = new ArrayList<>(senders);
+
+        // 수수료 교체된 row는 교체 전 hash들의 영수증도 함께 조회.
+        // mint 묶음은 여러 row가 같은 hash를 가지므로 hash당 1회만 요청하고 요청 위치를 기록
+        List<Request<?, ? extends Response<?>>> requests = new ArrayList<>(pending.size() + senderList.size());
+        for (String sender : senderList) {
+            requests.add(web3j.ethGetTransactionCount(sender, DefaultBlockParameterName.LATEST));
+        }
+        Map<String, Integer> receiptIndex = new HashMap<>();
+        Map<String, Integer> rowsPerTx = new HashMap<>();
+        for (BlockchainOutbox outbox : pending) {
+            rowsPerTx.merge(outbox.getTxHash(), 1, Integer::sum);
+            for (String txHash : outbox.candidateTxHashes()) {
+                if (!receiptIndex.containsKey(txHash)) {
+                    receiptIndex.put(txHash, requests.size());
+                    requests.add(web3j.ethGetTransactionReceipt(txHash));
+                }
+            }
+        }
+
+        List<Response<?>> responses;
+        try {
+            responses = batchExecutor.execute(requests);
+        } catch (Exception e) {
+            log.error("영수증 batch 조회 실패 - 대상: {}건", pending.size(), e);
+            return new SchedulerRunLogger.Result(0, pending.size());
+        }
+
+        Map<String, Long> minedNonces = new HashMap<>();
+        for (int i = 0; i < senderList.size(); i++) {
+            EthGetTransactionCount nonceResponse = (EthGetTransactionCount) responses.get(i);
+            if (nonceResponse == null || nonceResponse.hasError()) {
+                log.warn("지갑 nonce 조회 실패 - drop 판정 생략 - address: {}", senderList.get(i));
+                continue;
+            }
+            minedNonces.put(senderList.get(i), nonceResponse.getTransactionCount().longValueExact());
+        }
+
+        int processed = 0;
+        int failed = 0;
+        int released = 0;
+        List<BlockchainOutbox> suspectedDrops = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            BlockchainOutbox outbox = pending.get(i);
+            String sender = senderOf(outbox);
+            List<String> candidates = outbox.candidateTxHashes();
+            TransactionReceipt receipt = null;
+            boolean responseError = false;
+            for (String candidate : candidates) {
+                EthGetTransactionReceipt receiptResponse = (EthGetTransactionReceipt) responses.get(receiptIndex.get(candidate));
+                if (receiptResponse == null || receiptResponse.hasError()) {
+                    responseError = true;
+                    continue;
+                }
+                receipt = receiptResponse.getTransactionReceipt().orElse(null);
+                if (receipt != null) break;
+            }
+            if (receipt == null && responseError) {
+                log.warn("영수증 조회 응답 오류 - id: {}, txHash: {}", outbox.getId(), outbox.getTxHash());
+                continue;
+            }
+
+            try {
+                if (receipt != null && !receipt.getTransactionHash().equalsIgnoreCase(outbox.getTxHash())) {
+                    log.info("교체 전 TX가 채굴됨 - id: {}, nonce: {}, minedTxHash: {}",
+                            outbox.getId(), outbox.getNonce(), receipt.getTransactionHash());
+                    outboxTxService.adoptMinedTxHash(outbox.getId(), receipt.getTransactionHash());
+                }
+                Transition transition = apply(outbox, receipt, head, minedNonces.get(sender),
+                        rowsPerTx.get(outbox.getTxHash()));
+                switch (transition) {
+                    case ADVANCED -> processed++;
+                    case FAILED -> failed++;
+                    case SUSPECTED_DROP -> suspectedDrops.add(outbox);
+                    case UNCHANGED -> { }
+                }
+                // 영수증이 있거나(채굴) 실패 판정이면 더 이상 in-flight 아님
+                if ((receipt != null || transition == Transition.FAILED) && pipelineWindow.release(sender, outbox.getNonce())) {
+                    released++;
+                }
+            } catch (Exception e) {
+                log.error("영수증 반영 실패 - id: {}, txHash: {}", outbox.getId(), outbox.getTxHash(), e);
+            }
+        }
+
+        if (!suspectedDrops.isEmpty()) {
+            int dead = resolveSuspectedDrops(suspectedDrops, head);
+            failed += dead;
+            released += dead;
+        }
+
+        if (released > 0) {
+            eventPublisher.publishEvent(new OutboxWakeUpEvent("nonce " + released + "건 채굴/해제"));
+        }
+        lastTrackedHead = head;
+        return new SchedulerRunLogger.Result(processed, failed);
+    }
+
+    private Transition apply(BlockchainOutbox outbox, @Nullable TransactionReceipt receipt, long head,
+                             @Nullable Long minedNonce, int batchRows) {
+        if (receipt == null) {
+            if (outbox.getStatus() == OutboxStatus.CONFIRMED) {
+                log.warn("영수증 소실 (reorg 추정) — SUBMITTED로 복귀 - id: {}, txHash: {}",
+                        outbox.getId(), outbox.getTxHash());
+                outboxTxService.revertToSubmitted(outbox.getId());
+                return Transition.ADVANCED;
+            }
+            if (isDropped(outbox, minedNonce)) {
+                return Transition.SUSPECTED_DROP;
+            }
+            return Transition.UNCHANGED;
+        }
+
+        if (!"0x1".equals(receipt.getStatus())) {
+            String error = "TX reverted (status " + receipt.getStatus() + ")";
+            if (batchRows > 1) {
+                log.error("mint 묶음 TX revert — 절반씩 나눠 재전송 - id: {}, txHash: {}, 묶음: {}건",
+                        outbox.getId(), outbox.getTxHash(), batchRows);
+                outboxTxService.markBatchReverted(outbox.getId(), error);
+            } else {
+                log.error("TX revert - id: {}, txHash: {}, status: {}", outbox.getId(), outbox.getTxHash(), receipt.getStatus());
+                outboxTxService.markFailed(outbox.getId(), error, maxRetry);
+            }
+            return Transition.FAILED;
+        }
+
+        long receiptBlock = receipt.getBlockNumber().longValueExact();
+        boolean advanced = false;
+        if (outbox.getStatus() == OutboxStatus.SUBMITTED
+                || !Long.valueOf(receiptBlock).equals(outbox.getReceiptBlockNumber())) {
+            // 다음 단계 등록을 먼저 — 실패하면 SUBMITTED로 남아 다음 tick에 다시 시도 (등록은 parent_id로 멱등)
+            if (DividendDistributionChain.isChained(outbox.getTxType())) {
+                dividendChain.onStepConfirmed(outbox.getId(), receipt);
+            }
+            outboxTxService.markConfirmed(outbox.getId(), receiptBlock);
+            log.info("TX 컨펌 - id: {}, txHash: {}, block: {}", outbox.getId(), outbox.getTxHash(), receiptBlock);
+            advanced = true;
+        }
+
+        if (head - receiptBlock + 1 >= confirmationDepth) {
+            outboxTxService.markFinalized(outbox.getId());
+            log.info("TX 확정 - id: {}, txHash: {}, confirmations: {}",
+                    outbox.getId(), outbox.getTxHash(), head - receiptBlock + 1);
+            advanced = true;
+        }
+        return advanced ? Transition.ADVANCED : Transition.UNCHANGED;
+    }
+
+    /*
+     * nonce가 소비됐는데 영수증이 없는 row 재확인 — batch 1회로 후보 hash별 eth_getTransactionByHash와
+     * 발신 지갑별 (head - confirmation-depth) 블록 기준 nonce를 조회한다.
+     * 후보 중 하나라도 노드가 알고 있으면 영수증만 늦은 것이므로 다음 tick을 기다리고,
+     * 아무것도 없고 깊이가 확보된 블록에서도 nonce가 소비됐으면 DEAD로 돌려 운영자가 확인하게 한다.
+     * 반환: DEAD 처리 건수
+     */
+    private int resolveSuspectedDrops(List<BlockchainOutbox> suspects, long head) {
+        long depthBlock = head - confirmationDepth;
+        if (depthBlock < 0) return 0;
+
+        List<Request<?, ? extends Response<?>>> requests = new ArrayList<>();
+        Map<String, Integer> txIndex = new HashMap<>();
+        Map<String, Integer> nonceIndex = new HashMap<>();
+        for (BlockchainOutbox outbox : suspects) {
+            for (String txHash : outbox.candidateTxHashes()) {
+                if (!txIndex.containsKey(txHash)) {
+                    txIndex.put(txHash, requests.size());
+                    requests.add(web3j.ethGetTransactionByHash(txHash));
+                }
+            }
+            String sender = senderOf(outbox);
+            if (!nonceIndex.containsKey(sender)) {
+                nonceIndex.put(sender, requests.size());
+                requests.add(web3j.ethGetTransactionCount(sender,
+                        DefaultBlockParameter.valueOf(BigInteger.valueOf(depthBlock))));
+            }
+        }
+
+        List<Response<?>> responses;
+        try {
+            responses = batchExecutor.execute(requests);
+        } catch (Exception e) {
+            log.error("drop 의심 TX 재확인 실패 - 대상: {}건", suspects.size(), e);
+            return 0;
+        }
+
+        int dead = 0;
+        for (BlockchainOutbox outbox : suspects) {
+            boolean known = false;
+            boolean unknownResponse = false;
+            for (String txHash : outbox.candidateTxHashes()) {
+                if (!(responses.get(txIndex.get(txHash)) instanceof EthTransaction tx) || tx.hasError()) {
+                    unknownResponse = true;
+                } else if (tx.getTransaction().isPresent()) {
+                    known = true;
+                }
+            }
+            if (known) {
+                log.warn("nonce 소비됐지만 TX가 노드에 존재 — 영수증 지연으로 보고 대기 - id: {}, nonce: {}, txHash: {}",
+                        outbox.getId(), outbox.getNonce(), outbox.getTxHash());
+                continue;
+            }
+            if (unknownResponse) continue;
+
+            String sender = senderOf(outbox);
+            if (!(responses.get(nonceIndex.get(sender)) instanceof EthGetTransactionCount count) || count.hasError()
+                    || count.getTransactionCount().longValueExact() <= outbox.getNonce()) {
+                continue;
+            }
+
+            try {
+                log.error("TX drop/교체 추정 — nonce 소비됨, 후보 TX 없음 — 수동 확인 필요 (재전송 안 함) - id: {}, sender: {}, nonce: {}, txHashes: {}",
+                        outbox.getId(), sender, outbox.getNonce(), outbox.candidateTxHashes());
+                outboxTxService.markDead(outbox.getId(),
+                        "TX dropped 추정 (nonce " + outbox.getNonce() + " 소비됨, 후보 TX 없음) — 수동 확인 필요");
+                pipelineWindow.release(sender, outbox.getNonce());
+                dead++;
+            } catch (Exception e) {
+                log.error("DEAD 처리 실패 - id: {}", outbox.getId(), e);
+            }
+        }
+        return dead;
+    }
+
+    /* sender_address가 없는 기존 row는 owner 지갑에서 전송된 것 */
+    private String senderOf(BlockchainOutbox outbox) {
+        if (outbox.getSenderAddress() != null) return WalletLane.normalize(outbox.getSenderAddress());
+        WalletLane owner = laneRegistry.ownerLane();
+        return owner == null ? null : owner.key();
+    }
+
+    /* 영수증이 없는데 발신 지갑의 mined nonce가 이미 이 row의 nonce를 넘어섰으면 다른 TX가 그 nonce를 차지한 것 */
+    private boolean isDropped(BlockchainOutbox outbox, @Nullable Long minedNonce) {
+        if (minedNonce == null || outbox.getNonce() == null || outbox.getNonce() >= minedNonce) return false;
+        return outbox.getSubmittedAt() != null
+                && Duration.between(outbox.getSubmittedAt(), LocalDateTime.now()).toMillis() >= droppedGraceMs;
+    }
+
+    private enum Transition {
+        ADVANCED,
+        FAILED,
+        SUSPECTED_DROP,
+        UNCHANGED
+    }
+}
@@ -0,0 +1,54 @@
+package org.landmark.global.blockchain.outbox.worker;
+
+import lombok.RequiredArgsConstructor;
+import org.landmark.global.blockchain.outbox.domain.BlockchainOutbox;
+import org.landmark.global.blockchain.outbox.domain.OutboxTxType;
+import org.landmark.global.blockchain.wallet.LaneRouting;
+import org.landmark.global.blockchain.wallet.WalletLane;
+import org.landmark.global.blockchain.wallet.WalletLaneRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 아웃박스 row를 전송할 운영 지갑(lane) 선택.
+ * KRWT mint만 minter lane으로 분산하고, 스냅샷/배당 등 onlyOwner 호출은 항상 owner lane.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxLaneRouter {
+
+    private final WalletLaneRegistry laneRegistry;
+    private final OutboxPipelineWindow pipelineWindow;
+
+    @Value("${blockchain.outbox.lane-routing:LEAST_IN_FLIGHT}")
+    private LaneRouting routing;
+
+    public List<WalletLane> candidates(OutboxTxType txType) {
+        if (txType == OutboxTxType.KRWT_MINT) {
+            return laneRegistry.mintLanes();
+        }
+        WalletLane owner = laneRegistry.ownerLane();
+        return owner == null ? List.of() : List.of(owner);
+    }
+
+    /* requireSlot이면 윈도우가 가득 찬 lane은 고르지 않는다 — 배정할 lane이 없으면 null (row는 READY 유지) */
+    @Nullable
+    public WalletLane select(BlockchainOutbox outbox, boolean requireSlot) {
+        List<WalletLane> lanes = candidates(outbox.getTxType());
+        if (lanes.isEmpty()) return null;
+
+        if (routing == LaneRouting.HASH) {
+            WalletLane lane = lanes.get(Math.floorMod(outbox.getAggregateId().hashCode(), lanes.size()));
+            return !requireSlot || pipelineWindow.availableSlots(lane.address()) > 0 ? lane : null;
+        }
+
+        return lanes.stream()
+                .filter(lane -> !requireSlot || pipelineWindow.availableSlots(lane.address()) > 0)
+                .min(Comparator.comparingInt(lane -> pipelineWindow.inFlight(lane.address())))
+                .orElse(null);
+    }
+}
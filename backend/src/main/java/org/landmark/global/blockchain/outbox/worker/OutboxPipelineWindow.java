@@ -0,0 +1,162 @@
+package org.landmark.global.blockchain.outbox.worker;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.global.blockchain.outbox.domain.BlockchainOutbox;
+import org.landmark.global.blockchain.outbox.service.OutboxTransactionService;
+import org.landmark.global.blockchain.wallet.WalletLane;
+import org.landmark.global.blockchain.wallet.WalletLaneRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 파이프라인 모드의 in-flight nonce 윈도우.
+ *
+ * 전송됐지만 아직 채굴되지 않은(SUBMITTED) nonce를 지갑(lane)마다 최대 window-size개까지 유지한다.
+ * 윈도우가 가득 차면 OutboxWorker는 READY를 가져오지 않고(backpressure),
+ * OutboxConfirmationTracker가 nonce 채굴/실패를 확인해 release하면 즉시 다시 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxPipelineWindow {
+
+    private static final long THROUGHPUT_WINDOW_MS = 60_000L;
+
+    private final OutboxTransactionService outboxTxService;
+    private final WalletLaneRegistry laneRegistry;
+
+    @Value("${blockchain.outbox.pipeline.enabled:false}")
+    private boolean enabled;
+
+    @Value("${blockchain.outbox.pipeline.window-size:16}")
+    private int windowSize;
+
+    private final Map<String, NavigableSet<Long>> inFlightNonces = new ConcurrentHashMap<>();
+    private final Deque<Long> recentSubmits = new ConcurrentLinkedDeque<>();
+    private final Deque<Long> recentReleases = new ConcurrentLinkedDeque<>();
+    private final AtomicLong submittedTotal = new AtomicLong();
+    private final AtomicLong releasedTotal = new AtomicLong();
+    private final AtomicLong backpressureCount = new AtomicLong();
+    private volatile boolean initialized = false;
+
+    public record Stats(boolean enabled, int windowSize, int lanes, int inFlight, double occupancy,
+                        Map<String, Integer> inFlightByLane,
+                        long submittedTotal, long releasedTotal, long backpressureCount,
+                        int submittedLastMinute, int releasedLastMinute) {}
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /* lane에 추가로 전송 가능한 슬롯 수 */
+    public int availableSlots(String laneAddress) {
+        return Math.max(0, windowSize - inFlight(laneAddress));
+    }
+
+    public int availableSlots(Collection<WalletLane> lanes) {
+        int total = 0;
+        for (WalletLane lane : lanes) {
+            total += availableSlots(lane.address());
+        }
+        return total;
+    }
+
+    public int inFlight(String laneAddress) {
+        ensureInitialized();
+        return nonces(laneAddress).size();
+    }
+
+    public void acquire(String laneAddress, long nonce) {
+        ensureInitialized();
+        if (nonces(laneAddress).add(nonce)) {
+            submittedTotal.incrementAndGet();
+            record(recentSubmits);
+        }
+    }
+
+    /* nonce가 채굴됐거나(성공/revert) drop 처리됨 — 윈도우에서 제거. 중복 호출 안전. */
+    public boolean release(String laneAddress, Long nonce) {
+        if (laneAddress == null || nonce == null || !nonces(laneAddress).remove(nonce)) return false;
+        releasedTotal.incrementAndGet();
+        record(recentReleases);
+        return true;
+    }
+
+    public void recordBackpressure() {
+        backpressureCount.incrementAndGet();
+    }
+
+    public Stats stats() {
+        ensureInitialized();
+        Map<String, Integer> byLane = new TreeMap<>();
+        for (WalletLane lane : laneRegistry.allLanes()) {
+            byLane.put(lane.address(), nonces(lane.address()).size());
+        }
+        int inFlight = byLane.values().stream().mapToInt(Integer::intValue).sum();
+        int capacity = windowSize * Math.max(1, byLane.size());
+        return new Stats(
+                enabled,
+                windowSize,
+                byLane.size(),
+                inFlight,
+                capacity == 0 ? 0 : (double) inFlight / capacity,
+                byLane,
+                submittedTotal.get(),
+                releasedTotal.get(),
+                backpressureCount.get(),
+                countRecent(recentSubmits),
+                countRecent(recentReleases)
+        );
+    }
+
+    private NavigableSet<Long> nonces(String laneAddress) {
+        return inFlightNonces.computeIfAbsent(WalletLane.normalize(laneAddress), k -> new ConcurrentSkipListSet<>());
+    }
+
+    /* 재기동 시 DB의 SUBMITTED row로 lane별 윈도우 복원 */
+    private void ensureInitialized() {
+        if (initialized) return;
+        synchronized (this) {
+            if (initialized) return;
+            int restored = 0;
+            for (BlockchainOutbox outbox : outboxTxService.findInFlight()) {
+                WalletLane lane = laneRegistry.findByAddress(outbox.getSenderAddress());
+                if (lane == null || outbox.getNonce() == null) continue;
+                nonces(lane.address()).add(outbox.getNonce());
+                restored++;
+            }
+            initialized = true;
+            log.info("Outbox 파이프라인 윈도우 초기화 - enabled: {}, windowSize: {}, lanes: {}, inFlight: {}",
+                    enabled, windowSize, laneRegistry.allLanes().size(), restored);
+        }
+    }
+
+    private static void record(Deque<Long> timestamps) {
+        long now = System.currentTimeMillis();
+        timestamps.addLast(now);
+        trim(timestamps, now);
+    }
+
+    private static int countRecent(Deque<Long> timestamps) {
+        trim(timestamps, System.currentTimeMillis());
+        return timestamps.size();
+    }
+
+    private static void trim(Deque<Long> timestamps, long now) {
+        Long head;
+        while ((head = timestamps.peekFirst()) != null && now - head > THROUGHPUT_WINDOW_MS) {
+            timestamps.pollFirst();
+        }
+    }
+}
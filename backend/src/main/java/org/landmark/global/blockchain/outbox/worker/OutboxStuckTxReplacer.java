@@ -0,0 +1,202 @@
+package org.landmark.global.blockchain.outbox.worker;
+
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.global.blockchain.outbox.domain.BlockchainOutbox;
+import org.landmark.global.blockchain.outbox.service.OutboxTransactionService;
+import org.landmark.global.blockchain.service.BlockchainWalletService;
+import org.landmark.global.blockchain.service.FeeOracle;
+import org.landmark.global.blockchain.service.JsonRpcBatchExecutor;
+import org.landmark.global.blockchain.wallet.WalletLane;
+import org.landmark.global.blockchain.wallet.WalletLaneRegistry;
+import org.landmark.global.scheduler.runlog.SchedulerRunLogger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 전송 후 timeout-ms가 지나도록 채굴되지 않은 SUBMITTED row를 같은 nonce, 인상된 수수료로 재서명해 교체한다.
+ *
+ * 수수료가 낮아 mempool에 묶인 TX 하나가 같은 지갑의 이후 nonce를 전부 막는 head-of-line 정체를
+ * 운영자 개입 없이 풀기 위함. 교체 전 hash는 row에 남겨 두고, 어느 쪽이 채굴되든
+ * OutboxConfirmationTracker가 채굴된 hash를 채택한다.
+ *
+ * - 발신 지갑의 LATEST nonce보다 작은 row는 이미 그 nonce가 소비된 것이므로 건너뛴다 (tracker가 판정)
+ * - max-replacements회 교체했거나 상한 안에서 노드 최소 인상폭을 맞출 수 없으면 더 올리지 않고 경고만 남긴다
+ */
+@Slf4j
+@Component
+public class OutboxStuckTxReplacer {
+
+    public static final String JOB_NAME = "BlockchainOutboxStuckTxReplacer";
+
+    @Nullable
+    private final Web3j web3j;
+    private final JsonRpcBatchExecutor batchExecutor;
+    private final OutboxTransactionService outboxTxService;
+    private final BlockchainWalletService blockchainWalletService;
+    private final FeeOracle feeOracle;
+    private final OutboxCallBuilder callBuilder;
+    private final WalletLaneRegistry laneRegistry;
+    private final SchedulerRunLogger runLogger;
+
+    @Value("${blockchain.fee.replacement.enabled:true}")
+    private boolean enabled;
+
+    @Value("${blockchain.fee.replacement.timeout-ms:90000}")
+    private long timeoutMs;
+
+    @Value("${blockchain.fee.replacement.max-replacements:5}")
+    private int maxReplacements;
+
+    @Value("${blockchain.fee.replacement.batch-size:50}")
+    private int batchSize;
+
+    @Autowired
+    public OutboxStuckTxReplacer(@Nullable Web3j web3j,
+                                 JsonRpcBatchExecutor batchExecutor,
+                                 OutboxTransactionService outboxTxService,
+                                 BlockchainWalletService blockchainWalletService,
+                                 FeeOracle feeOracle,
+                                 OutboxCallBuilder callBuilder,
+                                 WalletLaneRegistry laneRegistry,
+                                 SchedulerRunLogger runLogger) {
+        this.web3j = web3j;
+        this.batchExecutor = batchExecutor;
+        this.outboxTxService = outboxTxService;
+        this.blockchainWalletService = blockchainWalletService;
+        this.feeOracle = feeOracle;
+        this.callBuilder = callBuilder;
+        this.laneRegistry = laneRegistry;
+        this.runLogger = runLogger;
+    }
+
+    @Scheduled(fixedDelayString = "${blockchain.fee.replacement.check-interval-ms:15000}")
+    public void replaceStuck() {
+        if (!enabled || web3j == null || laneRegistry.ownerLane() == null) return;
+
+        List<BlockchainOutbox> stuck;
+        try {
+            stuck = outboxTxService.findStuckSubmitted(LocalDateTime.now().minusNanos(timeoutMs * 1_000_000L), batchSize);
+        } catch (Exception e) {
+            log.error("교체 대상 조회 실패", e);
+            return;
+        }
+        if (stuck.isEmpty()) return;
+
+        runLogger.run(JOB_NAME, () -> doReplace(stuck));
+    }
+
+    private SchedulerRunLogger.Result doReplace(List<BlockchainOutbox> stuck) {
+        Map<String, Long> minedNonces = fetchMinedNonces(stuck);
+
+        int replaced = 0;
+        int failed = 0;
+        List<BlockchainOutbox> ordered = new ArrayList<>(stuck);
+        ordered.sort(Comparator.comparing(BlockchainOutbox::getNonce, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        Set<String> handledTxHashes = new HashSet<>();
+        for (BlockchainOutbox outbox : ordered) {
+            // mint 묶음은 row 여러 개가 TX 하나 — 묶음당 한 번만 교체
+            if (!handledTxHashes.add(outbox.getTxHash())) continue;
+            String sender = senderOf(outbox);
+            Long mined = minedNonces.get(sender);
+            if (outbox.getNonce() == null || mined == null || outbox.getNonce() < mined) continue;
+
+            if (outbox.getReplacementCount() >= maxReplacements) {
+                log.warn("TX 교체 한도 도달 — 수동 확인 필요 - id: {}, sender: {}, nonce: {}, 교체: {}회",
+                        outbox.getId(), sender, outbox.getNonce(), outbox.getReplacementCount());
+                continue;
+            }
+
+            FeeOracle.Fees previous = feesOf(outbox);
+            FeeOracle.Fees bumped = feeOracle.replacementFees(previous);
+            if (bumped == null) {
+                log.warn("TX 교체 불가 — 수수료 상한 안에서 최소 인상폭을 맞출 수 없음 - id: {}, nonce: {}, maxFee: {}",
+                        outbox.getId(), outbox.getNonce(), previous.maxFeePerGas());
+                continue;
+            }
+
+            try {
+                List<BlockchainOutbox> rows = outboxTxService.findByTxHash(outbox.getTxHash());
+                String newTxHash = resend(rows, sender, bumped);
+                outboxTxService.markReplaced(rows.stream().map(BlockchainOutbox::getId).toList(), newTxHash, bumped);
+                log.warn("정체 TX 교체 - id: {}, sender: {}, nonce: {}, maxFee: {} → {}, txHash: {} → {}",
+                        outbox.getId(), sender, outbox.getNonce(), previous.maxFeePerGas(), bumped.maxFeePerGas(),
+                        outbox.getTxHash(), newTxHash);
+                replaced++;
+            } catch (Exception e) {
+                // 교체 전 TX가 막 채굴됐으면 nonce too low로 실패 — 다음 tick에 tracker가 정리
+                log.error("정체 TX 교체 실패 - id: {}, sender: {}, nonce: {}", outbox.getId(), sender, outbox.getNonce(), e);
+                failed++;
+            }
+        }
+        return new SchedulerRunLogger.Result(replaced, failed);
+    }
+
+    /* 같은 TX로 나간 row 전체로 calldata를 다시 만들어 같은 nonce로 재서명 */
+    private String resend(List<BlockchainOutbox> rows, String sender, FeeOracle.Fees fees) {
+        WalletLane lane = laneRegistry.findByAddress(sender);
+        if (lane == null) {
+            throw new IllegalStateException("발신 지갑 lane 없음: " + sender);
+        }
+        OutboxCallBuilder.OutboxCall call = callBuilder.build(rows);
+        return blockchainWalletService.sendRawWithNonce(
+                lane.credentials(), call.to(), call.data(), BigInteger.valueOf(rows.get(0).getNonce()), fees, call.gasLimit());
+    }
+
+    private Map<String, Long> fetchMinedNonces(List<BlockchainOutbox> stuck) {
+        Set<String> senders = new LinkedHashSet<>();
+        stuck.forEach(o -> senders.add(senderOf(o)));
+        List<String> senderList = new ArrayList<>(senders);
+
+        List<Request<?, ? extends Response<?>>> requests = new ArrayList<>(senderList.size());
+        senderList.forEach(s -> requests.add(web3j.ethGetTransactionCount(s, DefaultBlockParameterName.LATEST)));
+
+        Map<String, Long> minedNonces = new HashMap<>();
+        try {
+            List<Response<?>> responses = batchExecutor.execute(requests);
+            for (int i = 0; i < senderList.size(); i++) {
+                if (responses.get(i) instanceof EthGetTransactionCount count && !count.hasError()) {
+                    minedNonces.put(senderList.get(i), count.getTransactionCount().longValueExact());
+                }
+            }
+        } catch (Exception e) {
+            log.error("지갑 nonce 조회 실패 - 교체 생략", e);
+        }
+        return minedNonces;
+    }
+
+    /* 수수료 기록이 없는 기존 row는 고정 gasPrice로 보낸 legacy TX */
+    private FeeOracle.Fees feesOf(BlockchainOutbox outbox) {
+        if (outbox.getMaxFeePerGas() == null) {
+            return FeeOracle.Fees.legacy(feeOracle.currentFees().maxFeePerGas());
+        }
+        if (outbox.getMaxPriorityFeePerGas() == null) {
+            return FeeOracle.Fees.legacy(outbox.getMaxFeePerGas());
+        }
+        return new FeeOracle.Fees(outbox.getMaxFeePerGas(), outbox.getMaxPriorityFeePerGas(), true);
+    }
+
+    private String senderOf(BlockchainOutbox outbox) {
+        if (outbox.getSenderAddress() != null) return WalletLane.normalize(outbox.getSenderAddress());
+        return laneRegistry.ownerLane().key();
+    }
+}
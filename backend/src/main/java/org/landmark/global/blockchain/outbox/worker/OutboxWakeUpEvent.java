@@ -0,0 +1,5 @@
+package org.landmark.global.blockchain.outbox.worker;
+
+/** OutboxWorker를 polling 주기를 기다리지 않고 즉시 깨우기 위한 신호 */
+public record OutboxWakeUpEvent(String reason) {
+}
@@ -2,18 +2,33 @@ package org.landmark.global.blockchain.outbox.worker;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.landmark.global.blockchain.config.BlockchainConfig;
 import org.landmark.global.blockchain.outbox.domain.BlockchainOutbox;
 import org.landmark.global.blockchain.outbox.domain.OutboxTxType;
 import org.landmark.global.blockchain.outbox.service.OutboxTransactionService;
 import org.landmark.global.blockchain.service.BlockchainWalletService;
+import org.landmark.global.blockchain.service.FeeOracle;
 import org.landmark.global.blockchain.service.NonceManager;
+import org.landmark.global.blockchain.wallet.WalletLane;
+import org.landmark.global.blockchain.wallet.WalletLaneRegistry;
 import org.landmark.global.scheduler.runlog.SchedulerRunLogger;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Component
@@ -26,6 +41,13 @@ public class OutboxWorker {
     private final BlockchainWalletService blockchainWalletService;
     private final NonceManager nonceManager;
     private final SchedulerRunLogger runLogger;
+    private final OutboxPipelineWindow pipelineWindow;
+    private final OutboxLaneRouter laneRouter;
+    private final WalletLaneRegistry laneRegistry;
+    private final TaskScheduler taskScheduler;
+    private final BlockchainConfig blockchainConfig;
+    private final FeeOracle feeOracle;
+    private final OutboxCallBuilder callBuilder;
 
     @Value("${blockchain.outbox.batch-size:10}")
     private int batchSize;
@@ -33,60 +55,192 @@ public class OutboxWorker {
     @Value("${blockchain.outbox.max-retry:5}")
     private int maxRetry;
 
+    @Value("${blockchain.outbox.claim-lease-ms:60000}")
+    private long claimLeaseMs;
+
+    /* 충전 mint를 KRWT.mintBatch TX 하나로 묶어 전송 */
+    @Value("${blockchain.outbox.mint-batch.enabled:true}")
+    private boolean mintBatchEnabled;
+
+    @Value("${blockchain.outbox.mint-batch.max-size:50}")
+    private int mintBatchMaxSize;
+
+    @Value("${blockchain.outbox.mint-batch.window-ms:2000}")
+    private long mintBatchWindowMs;
+
+    private final AtomicBoolean wakeUpScheduled = new AtomicBoolean(false);
+
     /**
      * 단일 스레드 순차 실행 보장을 위해 fixedDelay 사용.
-     * @Scheduled 기본 TaskScheduler는 단일 스레드이므로 nonce 직렬화가 보장된다.
+     * 평소에는 OutboxWakeUpEvent(등록 커밋 직후 등)로 즉시 깨어나고, polling은 이벤트를 놓친 row
+     * (다른 인스턴스가 등록, 임대 만료 등)를 줍는 안전망이라 주기가 길다.
+     * 인스턴스 내부는 @Scheduled 기본 TaskScheduler(SchedulingConfig.taskScheduler, 단일 스레드)로 직렬화되고,
+     * 인스턴스 간에는 READY row 임대(claimed_by/claimed_until)와
+     * DB nonce 할당(blockchain.nonce.mode=DATABASE)으로 같은 row·nonce를 중복 사용하지 않는다.
+     *
+     * 파이프라인 모드(blockchain.outbox.pipeline.enabled)에서는 batch-size 대신
+     * in-flight 윈도우의 남은 슬롯만큼 READY를 가져오고, 윈도우가 가득 차면 READY를 건드리지 않는다.
+     *
+     * 각 row는 OutboxLaneRouter가 고른 운영 지갑(lane)의 nonce로 전송된다.
+     * nonce는 lane별로 독립이라 minter 지갑 수만큼 블록당 처리량이 늘어난다.
+     *
+     * mint 묶음(blockchain.outbox.mint-batch)이 켜져 있으면 KRWT_MINT는 따로 가져와
+     * mintBatch TX 하나에 최대 max-size건씩 실어 보낸다 — 묶인 row는 nonce/txHash를 공유하고,
+     * 영수증 결과(성공/revert)도 묶음 전체에 똑같이 반영된다.
      */
-    @Scheduled(fixedDelayString = "${blockchain.outbox.polling-interval-ms:2000}")
+    @Scheduled(fixedDelayString = "${blockchain.outbox.polling-interval-ms:30000}")
     public void process() {
+        wakeUpScheduled.set(false);
+
+        boolean pipelined = pipelineWindow.isEnabled();
+        int limit = batchSize;
+        if (pipelined) {
+            limit = pipelineWindow.availableSlots(laneRegistry.allLanes());
+            if (limit <= 0) {
+                pipelineWindow.recordBackpressure();
+                return;
+            }
+        }
+
         List<BlockchainOutbox> batch;
+        List<BlockchainOutbox> mints;
         try {
-            batch = outboxTxService.lockReadyBatch(batchSize);
+            if (mintBatchEnabled) {
+                batch = outboxTxService.lockReadyBatch(limit, blockchainConfig.getInstanceId(), claimLeaseMs,
+                        null, OutboxTxType.KRWT_MINT);
+                mints = outboxTxService.lockReadyBatch(limit * mintBatchMaxSize, blockchainConfig.getInstanceId(),
+                        claimLeaseMs, OutboxTxType.KRWT_MINT, null);
+            } else {
+                batch = outboxTxService.lockReadyBatch(limit, blockchainConfig.getInstanceId(), claimLeaseMs);
+                mints = List.of();
+            }
         } catch (Exception e) {
             log.error("Outbox batch 조회 실패", e);
             return;
         }
-        if (batch.isEmpty()) return;
+        if (batch.isEmpty() && mints.isEmpty()) return;
+
+        List<String> skipped = new ArrayList<>();
+        List<List<BlockchainOutbox>> units = new ArrayList<>();
+        batch.forEach(outbox -> units.add(List.of(outbox)));
+        units.addAll(groupMints(mints, skipped));
+        if (units.isEmpty()) {
+            outboxTxService.releaseClaims(skipped);
+            return;
+        }
 
         runLogger.run(JOB_NAME, () -> {
             int processed = 0;
             int failed = 0;
-            for (BlockchainOutbox outbox : batch) {
+            Set<String> failedLanes = new HashSet<>();
+            for (List<BlockchainOutbox> unit : units) {
+                WalletLane lane = laneRouter.select(unit.get(0), pipelined);
+                // 배정 가능한 lane이 없거나 이번 tick에 실패한 lane이면 READY로 남겨 다음 tick에 처리
+                if (lane == null || failedLanes.contains(lane.key())) {
+                    unit.forEach(outbox -> skipped.add(outbox.getId()));
+                    continue;
+                }
                 try {
-                    dispatch(outbox);
-                    processed++;
+                    dispatch(unit, lane);
+                    processed += unit.size();
                 } catch (Exception e) {
-                    log.error("Outbox 처리 실패 - id: {}", outbox.getId(), e);
-                    outboxTxService.markFailed(outbox.getId(), e.getMessage(), maxRetry);
-                    failed++;
+                    log.error("Outbox 처리 실패 - id: {}, 묶음: {}건, lane: {}",
+                            unit.get(0).getId(), unit.size(), lane.address(), e);
+                    unit.forEach(outbox -> outboxTxService.markFailed(outbox.getId(), e.getMessage(), maxRetry));
+                    failed += unit.size();
+                    // 파이프라인에서는 실패한 lane에 nonce를 계속 쌓지 않는다 — 다른 lane은 계속 진행
+                    if (pipelined) failedLanes.add(lane.key());
                 }
             }
+            if (!skipped.isEmpty()) {
+                outboxTxService.releaseClaims(skipped);
+            }
             return new SchedulerRunLogger.Result(processed, failed);
         });
     }
 
-    private void dispatch(BlockchainOutbox outbox) {
-        long nonce = nonceManager.nextNonce();
+    /**
+     * READY mint를 mintBatch TX 단위로 묶는다 (최대 mint-batch.max-size건).
+     * - revert된 묶음(txHash가 남은 row)은 같은 txHash끼리 절반으로 나눠 보낸다 — 문제 있는 row 하나가 묶음 전체를
+     *   계속 실패시키지 않으면서, 나머지 row가 한꺼번에 단건으로 쏟아지지 않도록 (다시 revert되면 또 절반, 단건까지)
+     * - 전송 실패로 재시도 중인 row는 단건 전송
+     * - 새 row가 한 묶음에 못 미치고 가장 오래된 것이 window-ms 안쪽이면 이번 tick은 보내지 않고 더 모은다
+     */
+    private List<List<BlockchainOutbox>> groupMints(List<BlockchainOutbox> mints, List<String> held) {
+        List<List<BlockchainOutbox>> groups = new ArrayList<>();
+        List<BlockchainOutbox> fresh = new ArrayList<>();
+        Map<String, List<BlockchainOutbox>> reverted = new LinkedHashMap<>();
+        for (BlockchainOutbox mint : mints) {
+            if (mint.getTxHash() != null) {
+                reverted.computeIfAbsent(mint.getTxHash(), k -> new ArrayList<>()).add(mint);
+            } else if (mint.getRetryCount() > 0) {
+                groups.add(List.of(mint));
+            } else {
+                fresh.add(mint);
+            }
+        }
+        for (List<BlockchainOutbox> previous : reverted.values()) {
+            int half = (previous.size() + 1) / 2;
+            groups.add(previous.subList(0, half));
+            if (half < previous.size()) groups.add(previous.subList(half, previous.size()));
+        }
+        if (fresh.isEmpty()) return groups;
+
+        // 묶음 gas limit이 max-gas를 넘지 않는 건수로 제한
+        int batchSize = callBuilder.mintBatchCapacity(mintBatchMaxSize);
+        LocalDateTime windowStart = LocalDateTime.now().minusNanos(mintBatchWindowMs * 1_000_000L);
+        if (fresh.size() < batchSize && fresh.get(0).getCreatedAt().isAfter(windowStart)) {
+            fresh.forEach(mint -> held.add(mint.getId()));
+            // polling 주기를 기다리지 않도록 창이 닫히는 시점에 다시 깨운다
+            Instant windowEnd = fresh.get(0).getCreatedAt().plusNanos(mintBatchWindowMs * 1_000_000L)
+                    .atZone(ZoneId.systemDefault()).toInstant();
+            scheduleWakeUp(windowEnd, "mint 묶음 창 종료");
+            return groups;
+        }
+        for (int from = 0; from < fresh.size(); from += batchSize) {
+            groups.add(fresh.subList(from, Math.min(from + batchSize, fresh.size())));
+        }
+        return groups;
+    }
+
+    /**
+     * 새 row 등록(BlockchainOutboxService — 커밋 후), 윈도우 슬롯 반환 등으로 즉시 처리할 거리가 생겼을 때.
+     * 트랜잭션 안에서 발행되면 커밋 뒤에 실행 — 커밋 전에 깨우면 worker가 아직 안 보이는 row를 놓친다.
+     * 스케줄러 스레드에 한 번만 예약.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWakeUp(OutboxWakeUpEvent event) {
+        scheduleWakeUp(Instant.now(), event.reason());
+    }
+
+    private void scheduleWakeUp(Instant at, String reason) {
+        if (wakeUpScheduled.compareAndSet(false, true)) {
+            log.debug("Outbox worker wake-up - reason: {}", reason);
+            taskScheduler.schedule(this::process, at);
+        }
+    }
+
+    /* rows는 TX 하나로 나간다 — 단건이거나 같은 lane의 mint 묶음 */
+    private void dispatch(List<BlockchainOutbox> rows, WalletLane lane) {
+        BlockchainOutbox first = rows.get(0);
+        long nonce = nonceManager.nextNonce(lane.address());
+        FeeOracle.Fees fees = feeOracle.currentFees();
         try {
-            String txHash = switch (outbox.getTxType()) {
-                case KRWT_MINT -> blockchainWalletService.mintKrwt(
-                        outbox.getToAddress(),
-                        toWei(outbox.getAmount()),
-                        nonce
-                );
-                case KRWT_TRANSFER, SNAPSHOT, CREATE_DIVIDEND ->
-                        throw new UnsupportedOperationException(
-                                "아웃박스 타입 미구현: " + outbox.getTxType());
-            };
-            outboxTxService.markSubmitted(outbox.getId(), nonce, txHash);
+            OutboxCallBuilder.OutboxCall call = callBuilder.build(rows);
+            log.info("Outbox 전송 - id: {}, type: {}, 묶음: {}건, from: {}, nonce: {}",
+                    first.getId(), first.getTxType(), rows.size(), lane.address(), nonce);
+            String txHash = blockchainWalletService.sendRawWithNonce(
+                    lane.credentials(), call.to(), call.data(), BigInteger.valueOf(nonce), fees, call.gasLimit());
+            if (rows.size() == 1) {
+                outboxTxService.markSubmitted(first.getId(), lane.address(), nonce, txHash, fees);
+            } else {
+                outboxTxService.markSubmittedAll(rows.stream().map(BlockchainOutbox::getId).toList(),
+                        lane.address(), nonce, txHash, fees);
+            }
+            pipelineWindow.acquire(lane.address(), nonce);
         } catch (Exception e) {
-            nonceManager.rollback(nonce);
+            nonceManager.rollback(lane.address(), nonce);
             throw e;
         }
     }
-
-    /* outbox.amount(사람 단위, 예: "2000000")를 KRWT 18 decimals 적용한 wei 단위로 변환. */
-    private static BigInteger toWei(String humanAmount) {
-        return new BigInteger(humanAmount).multiply(BigInteger.TEN.pow(18));
-    }
 }
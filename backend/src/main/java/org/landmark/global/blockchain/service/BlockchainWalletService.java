@@ -19,9 +19,6 @@ import org.web3j.protocol.core.methods.response.EthSendTransaction;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.crypto.RawTransaction;
 import org.web3j.crypto.TransactionEncoder;
-import org.web3j.tx.RawTransactionManager;
-import org.web3j.tx.TransactionManager;
-import org.web3j.tx.gas.DefaultGasProvider;
 import org.web3j.utils.Convert;
 import org.web3j.utils.Numeric;
 
@@ -29,7 +26,9 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -40,17 +39,20 @@ public class BlockchainWalletService {
     @Nullable
     private final Credentials credentials;
     private final BlockchainConfig blockchainConfig;
-    private final DefaultGasProvider gasProvider;
+    private final FeeOracle feeOracle;
+    private final MulticallReader multicallReader;
 
     @Autowired
     public BlockchainWalletService(@Nullable Web3j web3j,
                                     @Nullable Credentials credentials,
                                     BlockchainConfig blockchainConfig,
-                                    DefaultGasProvider gasProvider) {
+                                    FeeOracle feeOracle,
+                                    MulticallReader multicallReader) {
         this.web3j = web3j;
         this.credentials = credentials;
         this.blockchainConfig = blockchainConfig;
-        this.gasProvider = gasProvider;
+        this.feeOracle = feeOracle;
+        this.multicallReader = multicallReader;
     }
 
     /* 현재 지갑 주소 조회 */
@@ -119,6 +121,46 @@ public class BlockchainWalletService {
         }
     }
 
+    /* 운영 지갑이 spender(배당 컨트랙트 등)에 허용한 현재 KRWT allowance (wei) */
+    public BigInteger getKrwtAllowance(String spenderAddress) {
+        validateInitialized();
+
+        try {
+            Function function = new Function(
+                    "allowance",
+                    Arrays.asList(
+                            new org.web3j.abi.datatypes.Address(credentials.getAddress()),
+                            new org.web3j.abi.datatypes.Address(spenderAddress)
+                    ),
+                    Arrays.asList(new TypeReference<Uint256>() {})
+            );
+
+            org.web3j.protocol.core.methods.response.EthCall response = web3j.ethCall(
+                    org.web3j.protocol.core.methods.request.Transaction.createEthCallTransaction(
+                            credentials.getAddress(),
+                            requireKrwtAddress(),
+                            FunctionEncoder.encode(function)),
+                    DefaultBlockParameterName.LATEST
+            ).send();
+
+            if (response.hasError() || response.isReverted()) {
+                log.error("KRWT allowance 조회 실패 - spender: {}, error: {}", spenderAddress,
+                        response.hasError() ? response.getError().getMessage() : response.getRevertReason());
+                throw new BusinessException(ErrorCode.BLOCKCHAIN_BALANCE_QUERY_FAILED);
+            }
+
+            List<org.web3j.abi.datatypes.Type> results = org.web3j.abi.FunctionReturnDecoder.decode(
+                    response.getValue(), function.getOutputParameters());
+            return (BigInteger) results.get(0).getValue();
+
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("KRWT allowance 조회 중 오류 발생 - spender: {}", spenderAddress, e);
+            throw new BusinessException(ErrorCode.BLOCKCHAIN_BALANCE_QUERY_FAILED);
+        }
+    }
+
     /* PropertyToken의 총 발행량 조회 (대사용) */
     public BigInteger getTotalSupply(String propertyTokenAddress) {
         validateInitialized();
@@ -161,145 +203,112 @@ public class BlockchainWalletService {
         }
     }
 
-    /* PropertyToken 컨트랙트의 snapshot 함수 호출 */
-    public BigInteger createSnapshot(String propertyTokenAddress) {
+    /**
+     * 여러 PropertyToken의 totalSupply 일괄 조회 (대사용).
+     * Multicall3/JSON-RPC batch로 묶어 왕복 몇 회로 끝낸다. 조회에 실패한 토큰은 결과에서 빠진다.
+     */
+    public Map<String, BigInteger> getTotalSupplies(List<String> propertyTokenAddresses) {
         validateInitialized();
 
-        log.info("Snapshot 생성 시작 - propertyTokenAddress: {}", propertyTokenAddress);
-
-        try {
-            // snapshot() 함수 - 파라미터 없음, uint256 리턴
-            Function function = new Function(
-                "snapshot",
-                Collections.emptyList(),
-                Arrays.asList(new TypeReference<Uint256>() {})
-            );
-
-            String encodedFunction = FunctionEncoder.encode(function);
-
-            // 트랜잭션 매니저 생성
-            TransactionManager txManager = new RawTransactionManager(
-                web3j,
-                credentials,
-                blockchainConfig.getChainId()
-            );
-
-            // 트랜잭션 전송
-            EthSendTransaction transactionResponse = txManager.sendTransaction(
-                gasProvider.getGasPrice(),
-                gasProvider.getGasLimit(),
-                propertyTokenAddress,
-                encodedFunction,
-                BigInteger.ZERO
-            );
-
-            if (transactionResponse.hasError()) {
-                log.error("Snapshot 생성 실패 - error: {}", transactionResponse.getError().getMessage());
-                throw new BusinessException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED);
+        List<MulticallReader.Call> calls = propertyTokenAddresses.stream()
+                .map(address -> new MulticallReader.Call(address, new Function(
+                        "totalSupply",
+                        Collections.emptyList(),
+                        Arrays.asList(new TypeReference<Uint256>() {})
+                )))
+                .toList();
+
+        List<MulticallReader.CallResult> results = multicallReader.readAll(calls);
+
+        Map<String, BigInteger> totalSupplies = new LinkedHashMap<>();
+        for (int i = 0; i < calls.size(); i++) {
+            if (results.get(i).success()) {
+                totalSupplies.put(propertyTokenAddresses.get(i), results.get(i).first());
+            } else {
+                log.warn("totalSupply 일괄 조회 중 개별 실패 - address: {}", propertyTokenAddresses.get(i));
             }
-
-            String txHash = transactionResponse.getTransactionHash();
-            log.info("Snapshot 트랜잭션 전송 성공 - txHash: {}", txHash);
-
-            // 트랜잭션 영수증 대기 및 조회
-            TransactionReceipt receipt = waitForTransactionReceipt(txHash);
-            if (!"0x1".equals(receipt.getStatus())) {
-                log.error("Snapshot 트랜잭션 revert - txHash: {}, status: {} (SNAPSHOT_ROLE 미부여 또는 컨트랙트 조건 미충족)",
-                        txHash, receipt.getStatus());
-                throw new BusinessException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED);
-            }
-
-            // Snapshot 이벤트에서 snapshotId 추출
-            BigInteger snapshotId = extractSnapshotIdFromReceipt(receipt);
-            log.info("Snapshot ID 추출 완료 - snapshotId: {}", snapshotId);
-
-            return snapshotId;
-
-        } catch (BusinessException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Snapshot 생성 중 오류 발생", e);
-            throw new BusinessException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED);
         }
+        log.info("totalSupply 일괄 조회 완료 - 요청: {}건, 성공: {}건", calls.size(), totalSupplies.size());
+        return totalSupplies;
     }
 
-    /* DividendDistributor 컨트랙트의 createDividend 함수 호출 */
-    public String createDividend(String dividendDistributorAddress, BigInteger snapshotId, BigInteger amount) {
+    /* 여러 주소의 KRWT 잔액 일괄 조회. 조회에 실패한 주소는 결과에서 빠진다. */
+    public Map<String, BigInteger> getKrwtBalances(List<String> targetAddresses) {
         validateInitialized();
 
-        if (dividendDistributorAddress == null || dividendDistributorAddress.isEmpty()) {
-            throw new BusinessException(ErrorCode.BLOCKCHAIN_NOT_INITIALIZED);
+        String krwtAddress = blockchainConfig.getKrwtTokenAddress();
+        List<MulticallReader.Call> calls = targetAddresses.stream()
+                .map(target -> new MulticallReader.Call(krwtAddress, new Function(
+                        "balanceOf",
+                        Arrays.asList(new org.web3j.abi.datatypes.Address(target)),
+                        Arrays.asList(new TypeReference<Uint256>() {})
+                )))
+                .toList();
+
+        List<MulticallReader.CallResult> results = multicallReader.readAll(calls);
+
+        Map<String, BigInteger> balances = new LinkedHashMap<>();
+        for (int i = 0; i < calls.size(); i++) {
+            if (results.get(i).success()) {
+                balances.put(targetAddresses.get(i), results.get(i).first());
+            }
         }
+        return balances;
+    }
 
-        log.info("배당 생성 시작 - distributorAddress: {}, snapshotId: {}, amount: {}",
-                dividendDistributorAddress, snapshotId, amount);
+    /* PropertyToken snapshot() calldata — SnapshotCreated(snapshotId, totalSupply) 이벤트 발생 */
+    public String encodeSnapshot() {
+        Function function = new Function(
+            "snapshot",
+            Collections.emptyList(),
+            Arrays.asList(new TypeReference<Uint256>() {})
+        );
+        return FunctionEncoder.encode(function);
+    }
 
-        try {
-            // createDividend(uint256 snapshotId, uint256 amount) 함수
-            Function function = new Function(
-                "createDividend",
+    /* DividendDistributor createDividend(uint256 snapshotId, uint256 amount) calldata */
+    public String encodeCreateDividend(BigInteger snapshotId, BigInteger amount) {
+        Function function = new Function(
+            "createDividend",
+            Arrays.asList(
+                new Uint256(snapshotId),
+                new Uint256(amount)
+            ),
+            Collections.emptyList()
+        );
+        return FunctionEncoder.encode(function);
+    }
+
+    /* KRWT approve(address spender, uint256 amount) calldata — spender(=DividendDistributor)가 owner 지갑의 KRWT를 transferFrom */
+    public String encodeKrwtApprove(String spenderAddress, BigInteger amount) {
+        Function function = new Function(
+                "approve",
                 Arrays.asList(
-                    new Uint256(snapshotId),
-                    new Uint256(amount)
+                        new org.web3j.abi.datatypes.Address(spenderAddress),
+                        new Uint256(amount)
                 ),
-                Collections.emptyList()
-            );
-
-            String encodedFunction = FunctionEncoder.encode(function);
-
-            // 트랜잭션 매니저 생성
-            TransactionManager txManager = new RawTransactionManager(
-                web3j,
-                credentials,
-                blockchainConfig.getChainId()
-            );
-
-            // 트랜잭션 전송
-            EthSendTransaction transactionResponse = txManager.sendTransaction(
-                gasProvider.getGasPrice(),
-                gasProvider.getGasLimit(),
-                dividendDistributorAddress,
-                encodedFunction,
-                BigInteger.ZERO
-            );
-
-            if (transactionResponse.hasError()) {
-                log.error("배당 생성 실패 - error: {}", transactionResponse.getError().getMessage());
-                throw new BusinessException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED);
-            }
-
-            String txHash = transactionResponse.getTransactionHash();
-            log.info("배당 생성 TX 전송 - txHash: {}, snapshotId: {}, amount: {}", txHash, snapshotId, amount);
-
-            // 영수증 대기 + revert 검증 — 안 하면 체인 revert를 우리는 성공으로 잘못 마킹함
-            TransactionReceipt receipt = waitForTransactionReceipt(txHash);
-            if (!"0x1".equals(receipt.getStatus())) {
-                log.error("배당 생성 트랜잭션 revert - txHash: {}, status: {}", txHash, receipt.getStatus());
-                throw new BusinessException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED);
-            }
-
-            log.info("배당 생성 컨펌 완료 - txHash: {}, snapshotId: {}, amount: {}", txHash, snapshotId, amount);
-            return txHash;
-
-        } catch (BusinessException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("배당 생성 중 오류 발생 - snapshotId: {}, amount: {}", snapshotId, amount, e);
-            throw new BusinessException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED);
-        }
+                Arrays.asList(new TypeReference<org.web3j.abi.datatypes.Bool>() {})
+        );
+        return FunctionEncoder.encode(function);
     }
 
     /* KRWT mint — 지정 nonce로 raw transaction 전송 (영수증 대기 없음) */
     public String mintKrwt(String toAddress, BigInteger amount, long nonce) {
         validateInitialized();
+        return mintKrwt(credentials, toAddress, amount, nonce);
+    }
 
-        String krwtAddress = blockchainConfig.getKrwtTokenAddress();
-        if (krwtAddress == null || krwtAddress.isEmpty()) {
-            throw new BusinessException(ErrorCode.BLOCKCHAIN_NOT_INITIALIZED);
-        }
+    /* KRWT mint — signer(owner 또는 minter lane 지갑)의 nonce로 전송 */
+    public String mintKrwt(Credentials signer, String toAddress, BigInteger amount, long nonce) {
+        validateInitialized();
+
+        log.info("KRWT mint 전송 - from: {}, to: {}, amount: {}, nonce: {}", signer.getAddress(), toAddress, amount, nonce);
 
-        log.info("KRWT mint 전송 - to: {}, amount: {}, nonce: {}", toAddress, amount, nonce);
+        return sendRawWithNonce(signer, requireKrwtAddress(), encodeKrwtMint(toAddress, amount), BigInteger.valueOf(nonce));
+    }
 
+    /* mint(address to, uint256 amount) calldata */
+    public String encodeKrwtMint(String toAddress, BigInteger amount) {
         Function function = new Function(
                 "mint",
                 Arrays.asList(
@@ -308,96 +317,127 @@ public class BlockchainWalletService {
                 ),
                 Collections.emptyList()
         );
-        return sendRawWithNonce(krwtAddress, FunctionEncoder.encode(function), BigInteger.valueOf(nonce));
+        return FunctionEncoder.encode(function);
     }
 
-    /* KRWT approve 후 영수증 컨펌까지 대기. spender(=DividendDistributor)가 백엔드 지갑의 KRWT를 transferFrom할 수 있도록 권한 부여. */
-    public TransactionReceipt approveKrwtAndWait(String spenderAddress, BigInteger amount) {
-        validateInitialized();
+    /* KRWT mintBatch(address[], uint256[]) calldata — 여러 충전 건을 TX 하나로 발행 */
+    public String encodeKrwtMintBatch(List<String> toAddresses, List<BigInteger> amounts) {
+        Function function = new Function(
+                "mintBatch",
+                Arrays.asList(
+                        new org.web3j.abi.datatypes.DynamicArray<>(org.web3j.abi.datatypes.Address.class,
+                                toAddresses.stream().map(org.web3j.abi.datatypes.Address::new).toList()),
+                        new org.web3j.abi.datatypes.DynamicArray<>(Uint256.class,
+                                amounts.stream().map(Uint256::new).toList())
+                ),
+                Collections.emptyList()
+        );
+        return FunctionEncoder.encode(function);
+    }
 
+    public String requireKrwtAddress() {
         String krwtAddress = blockchainConfig.getKrwtTokenAddress();
         if (krwtAddress == null || krwtAddress.isEmpty()) {
             throw new BusinessException(ErrorCode.BLOCKCHAIN_NOT_INITIALIZED);
         }
+        return krwtAddress;
+    }
 
-        log.info("KRWT approve (sync) 시작 - spender: {}, amount: {}", spenderAddress, amount);
+    /* 지정된 nonce로 raw transaction 서명 및 전송 (영수증 대기는 호출부에서) */
+    public String sendRawWithNonce(String contractAddress, String encodedFunction, BigInteger nonce) {
+        validateInitialized();
+        return sendRawWithNonce(credentials, contractAddress, encodedFunction, nonce);
+    }
 
-        Function function = new Function(
-                "approve",
-                Arrays.asList(
-                        new org.web3j.abi.datatypes.Address(spenderAddress),
-                        new Uint256(amount)
-                ),
-                Arrays.asList(new TypeReference<org.web3j.abi.datatypes.Bool>() {})
-        );
-        String encodedFunction = FunctionEncoder.encode(function);
+    /* signer 지갑으로 서명 — nonce는 signer 주소 기준이어야 한다 */
+    public String sendRawWithNonce(Credentials signer, String contractAddress, String encodedFunction, BigInteger nonce) {
+        return sendRawWithNonce(signer, contractAddress, encodedFunction, nonce, feeOracle.currentFees());
+    }
 
-        try {
-            TransactionManager txManager = new RawTransactionManager(
-                    web3j, credentials, blockchainConfig.getChainId()
-            );
+    /* 수수료 지정 전송 — 같은 nonce로 수수료만 올려 다시 보내면 mempool의 이전 TX를 교체한다 */
+    public String sendRawWithNonce(Credentials signer, String contractAddress, String encodedFunction,
+                                   BigInteger nonce, FeeOracle.Fees fees) {
+        return sendRawWithNonce(signer, contractAddress, encodedFunction, nonce, fees, null);
+    }
 
-            EthSendTransaction response = txManager.sendTransaction(
-                    gasProvider.getGasPrice(),
-                    gasProvider.getGasLimit(),
-                    krwtAddress,
-                    encodedFunction,
-                    BigInteger.ZERO
-            );
+    /* gasLimit이 null이면 기본 gas limit — 호출 크기에 따라 gas가 달라지는 묶음 TX는 호출부가 지정 */
+    public String sendRawWithNonce(Credentials signer, String contractAddress, String encodedFunction,
+                                   BigInteger nonce, FeeOracle.Fees fees, @Nullable BigInteger gasLimit) {
+        validateInitialized();
+        BigInteger limit = gasLimit != null ? gasLimit : feeOracle.gasLimit();
+        try {
+            RawTransaction rawTx = fees.eip1559()
+                    ? RawTransaction.createTransaction(
+                            blockchainConfig.getChainId(),
+                            nonce,
+                            limit,
+                            contractAddress,
+                            BigInteger.ZERO,
+                            encodedFunction,
+                            fees.maxPriorityFeePerGas(),
+                            fees.maxFeePerGas())
+                    : RawTransaction.createTransaction(
+                            nonce,
+                            fees.maxFeePerGas(),
+                            limit,
+                            contractAddress,
+                            BigInteger.ZERO,
+                            encodedFunction);
+            byte[] signed = TransactionEncoder.signMessage(rawTx, blockchainConfig.getChainId(), signer);
+            String hexValue = Numeric.toHexString(signed);
 
+            EthSendTransaction response = web3j.ethSendRawTransaction(hexValue).send();
             if (response.hasError()) {
-                log.error("KRWT approve 전송 실패 - error: {}", response.getError().getMessage());
+                String msg = response.getError().getMessage();
+                log.error("Raw TX 전송 실패 - from: {}, nonce: {}, error: {}", signer.getAddress(), nonce, msg);
                 throw new BusinessException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED);
             }
-
             String txHash = response.getTransactionHash();
-            log.info("KRWT approve TX 전송 성공 - txHash: {}", txHash);
-
-            TransactionReceipt receipt = waitForTransactionReceipt(txHash);
-            if (!"0x1".equals(receipt.getStatus())) {
-                log.error("KRWT approve 트랜잭션 revert - txHash: {}, status: {}", txHash, receipt.getStatus());
-                throw new BusinessException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED);
-            }
-
-            log.info("KRWT approve 컨펌 완료 - txHash: {}, spender: {}, amount: {}", txHash, spenderAddress, amount);
-            return receipt;
-
+            log.info("Raw TX 전송 성공 - from: {}, nonce: {}, txHash: {}", signer.getAddress(), nonce, txHash);
+            return txHash;
         } catch (BusinessException e) {
             throw e;
         } catch (Exception e) {
-            log.error("KRWT approve sync 중 오류 - spender: {}, amount: {}", spenderAddress, amount, e);
+            log.error("Raw TX 전송 중 오류 - from: {}, nonce: {}", signer.getAddress(), nonce, e);
             throw new BusinessException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED);
         }
     }
 
-    /* 지정된 nonce로 raw transaction 서명 및 전송 (영수증 대기는 호출부에서) */
-    public String sendRawWithNonce(String contractAddress, String encodedFunction, BigInteger nonce) {
+    /* nonce gap 메우기용 0 value 자기 자신 송금 — 상태 변화 없이 nonce만 소비 */
+    public String sendNoopTransfer(Credentials signer, BigInteger nonce) {
         validateInitialized();
         try {
-            RawTransaction rawTx = RawTransaction.createTransaction(
-                    nonce,
-                    gasProvider.getGasPrice(),
-                    gasProvider.getGasLimit(),
-                    contractAddress,
-                    BigInteger.ZERO,
-                    encodedFunction
-            );
-            byte[] signed = TransactionEncoder.signMessage(rawTx, blockchainConfig.getChainId(), credentials);
-            String hexValue = Numeric.toHexString(signed);
-
-            EthSendTransaction response = web3j.ethSendRawTransaction(hexValue).send();
+            FeeOracle.Fees fees = feeOracle.currentFees();
+            RawTransaction rawTx = fees.eip1559()
+                    ? RawTransaction.createEtherTransaction(
+                            blockchainConfig.getChainId(),
+                            nonce,
+                            BigInteger.valueOf(21_000L),
+                            signer.getAddress(),
+                            BigInteger.ZERO,
+                            fees.maxPriorityFeePerGas(),
+                            fees.maxFeePerGas())
+                    : RawTransaction.createEtherTransaction(
+                            nonce,
+                            fees.maxFeePerGas(),
+                            BigInteger.valueOf(21_000L),
+                            signer.getAddress(),
+                            BigInteger.ZERO);
+            byte[] signed = TransactionEncoder.signMessage(rawTx, blockchainConfig.getChainId(), signer);
+
+            EthSendTransaction response = web3j.ethSendRawTransaction(Numeric.toHexString(signed)).send();
             if (response.hasError()) {
-                String msg = response.getError().getMessage();
-                log.error("Raw TX 전송 실패 - nonce: {}, error: {}", nonce, msg);
+                log.error("No-op TX 전송 실패 - from: {}, nonce: {}, error: {}",
+                        signer.getAddress(), nonce, response.getError().getMessage());
                 throw new BusinessException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED);
             }
-            String txHash = response.getTransactionHash();
-            log.info("Raw TX 전송 성공 - nonce: {}, txHash: {}", nonce, txHash);
-            return txHash;
+            log.info("No-op TX 전송 성공 - from: {}, nonce: {}, txHash: {}",
+                    signer.getAddress(), nonce, response.getTransactionHash());
+            return response.getTransactionHash();
         } catch (BusinessException e) {
             throw e;
         } catch (Exception e) {
-            log.error("Raw TX 전송 중 오류 - nonce: {}", nonce, e);
+            log.error("No-op TX 전송 중 오류 - from: {}, nonce: {}", signer.getAddress(), nonce, e);
             throw new BusinessException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED);
         }
     }
@@ -420,60 +460,6 @@ public class BlockchainWalletService {
         }
     }
 
-    /* 트랜잭션 영수증 대기 (폴링) */
-    private TransactionReceipt waitForTransactionReceipt(String txHash) {
-        validateInitialized();
-
-        log.info("트랜잭션 영수증 대기 중 - txHash: {}", txHash);
-
-        int maxAttempts = 30; // 최대 30번 시도
-        int attemptIntervalMs = 2000; // 2초 간격
-
-        for (int i = 0; i < maxAttempts; i++) {
-            try {
-                var receiptOptional = web3j.ethGetTransactionReceipt(txHash).send().getTransactionReceipt();
-                if (receiptOptional.isPresent()) {
-                    TransactionReceipt receipt = receiptOptional.get();
-                    log.info("트랜잭션 영수증 확인 - txHash: {}, status: {}", txHash, receipt.getStatus());
-                    return receipt;
-                }
-
-                log.debug("트랜잭션 대기 중... ({}/{})", i + 1, maxAttempts);
-                Thread.sleep(attemptIntervalMs);
-
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new BusinessException(ErrorCode.BLOCKCHAIN_TRANSACTION_RECEIPT_FAILED);
-            } catch (Exception e) {
-                log.warn("트랜잭션 영수증 조회 재시도 - attempt: {}/{}", i + 1, maxAttempts);
-            }
-        }
-
-        throw new BusinessException(ErrorCode.BLOCKCHAIN_TRANSACTION_NOT_FOUND);
-    }
-
-    /* Snapshot 이벤트에서 snapshotId 추출 */
-    private BigInteger extractSnapshotIdFromReceipt(TransactionReceipt receipt) {
-        // event Snapshot(uint256 indexed id)
-        // 실제 이벤트 시그니처 (블록체인 팀 컨트랙트)
-        String snapshotEventTopic = "0x0a5b69dda4109f3b3c9a78321d06fd4c59f56d886e9c6c8abaddd33d3d16c103";
-
-        for (org.web3j.protocol.core.methods.response.Log eventLog : receipt.getLogs()) {
-            if (eventLog.getTopics().size() >= 2 && eventLog.getTopics().get(0).equals(snapshotEventTopic)) {
-                // indexed 파라미터는 topics에 들어감
-                // topics[0]: 이벤트 시그니처
-                // topics[1]: uint256 indexed id (snapshotId)
-                String snapshotIdHex = eventLog.getTopics().get(1);
-                BigInteger snapshotId = new BigInteger(snapshotIdHex.substring(2), 16);
-                log.info("Snapshot 이벤트 파싱 성공 - snapshotId: {}", snapshotId);
-                return snapshotId;
-            }
-        }
-
-        log.error("Snapshot 이벤트를 찾을 수 없습니다 - txHash: {}", receipt.getTransactionHash());
-        throw new BusinessException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED);
-    }
-
     /* Web3j와 Credentials 초기화 여부 검증 */
     private void validateInitialized() {
         if (web3j == null || credentials == null) {
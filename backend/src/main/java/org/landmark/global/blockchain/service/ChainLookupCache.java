@@ -0,0 +1,144 @@
+package org.landmark.global.blockchain.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthTransaction;
+import org.web3j.protocol.core.methods.response.Transaction;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 블록 timestamp / tx 발신자 조회 캐시 (크기 제한 LRU).
+ *
+ * 이벤트 처리 전에 prefetch로 한 폴링 범위의 블록·tx를 모아 JSON-RPC batch 1회로 조회해 두면
+ * 같은 블록의 이벤트가 여러 건이어도 블록 조회는 1번 — 조회 비용이 이벤트 수가 아니라 블록 수에 비례한다.
+ */
+@Slf4j
+@Component
+public class ChainLookupCache {
+
+    @Nullable
+    private final Web3j web3j;
+    private final JsonRpcBatchExecutor batchExecutor;
+
+    private final Map<BigInteger, Long> blockTimestamps;
+    private final Map<String, String> txSenders;
+
+    @Autowired
+    public ChainLookupCache(@Nullable Web3j web3j,
+                            JsonRpcBatchExecutor batchExecutor,
+                            @Value("${blockchain.lookup-cache.block-size:2048}") int blockCacheSize,
+                            @Value("${blockchain.lookup-cache.tx-size:4096}") int txCacheSize) {
+        this.web3j = web3j;
+        this.batchExecutor = batchExecutor;
+        this.blockTimestamps = lru(blockCacheSize);
+        this.txSenders = lru(txCacheSize);
+    }
+
+    /* 캐시에 없는 블록/tx만 batch 1회로 조회해 채운다. 실패해도 개별 조회로 대체되므로 예외를 던지지 않는다. */
+    public void prefetch(Collection<BigInteger> blockNumbers, Collection<String> txHashes) {
+        if (web3j == null) return;
+
+        List<BigInteger> missingBlocks;
+        List<String> missingTxs;
+        synchronized (this) {
+            missingBlocks = new ArrayList<>(distinct(blockNumbers).stream().filter(n -> !blockTimestamps.containsKey(n)).toList());
+            missingTxs = new ArrayList<>(distinct(txHashes).stream().filter(h -> !txSenders.containsKey(h)).toList());
+        }
+        if (missingBlocks.isEmpty() && missingTxs.isEmpty()) return;
+
+        List<Request<?, ? extends Response<?>>> requests = new ArrayList<>(missingBlocks.size() + missingTxs.size());
+        missingBlocks.forEach(n -> requests.add(web3j.ethGetBlockByNumber(DefaultBlockParameter.valueOf(n), false)));
+        missingTxs.forEach(h -> requests.add(web3j.ethGetTransactionByHash(h)));
+
+        List<Response<?>> responses;
+        try {
+            responses = batchExecutor.execute(requests);
+        } catch (Exception e) {
+            log.warn("블록/tx 일괄 조회 실패 - blocks: {}, txs: {}", missingBlocks.size(), missingTxs.size(), e);
+            return;
+        }
+
+        synchronized (this) {
+            for (int i = 0; i < missingBlocks.size(); i++) {
+                if (responses.get(i) instanceof EthBlock ethBlock && !ethBlock.hasError() && ethBlock.getBlock() != null) {
+                    blockTimestamps.put(missingBlocks.get(i), ethBlock.getBlock().getTimestamp().longValueExact());
+                }
+            }
+            for (int i = 0; i < missingTxs.size(); i++) {
+                String txHash = missingTxs.get(i);
+                if (responses.get(missingBlocks.size() + i) instanceof EthTransaction ethTx && !ethTx.hasError()) {
+                    ethTx.getTransaction().map(Transaction::getFrom)
+                            .ifPresent(from -> txSenders.put(txHash, from));
+                }
+            }
+        }
+        log.debug("블록/tx 일괄 조회 - blocks: {}, txs: {}", missingBlocks.size(), missingTxs.size());
+    }
+
+    public Optional<Long> blockTimestamp(BigInteger blockNumber) {
+        synchronized (this) {
+            Long cached = blockTimestamps.get(blockNumber);
+            if (cached != null) return Optional.of(cached);
+        }
+        prefetch(List.of(blockNumber), List.of());
+        synchronized (this) {
+            return Optional.ofNullable(blockTimestamps.get(blockNumber));
+        }
+    }
+
+    /*
+     * 블록 시각 일괄 조회 — 하나라도 못 읽으면 던진다. 원장/배당 row에 시각을 null로 남기면
+     * 시각 기준 잔액 조회에서 조용히 빠지므로, 호출 측이 구간 전체를 다시 받게 한다.
+     */
+    public Map<BigInteger, Long> requireBlockTimestamps(Collection<BigInteger> blockNumbers) {
+        prefetch(blockNumbers, List.of());
+        Map<BigInteger, Long> timestamps = new HashMap<>();
+        for (BigInteger blockNumber : distinct(blockNumbers)) {
+            timestamps.put(blockNumber, blockTimestamp(blockNumber).orElseThrow(() ->
+                    new IllegalStateException("block.timestamp 조회 실패 - blockNumber: " + blockNumber)));
+        }
+        return timestamps;
+    }
+
+    public Optional<String> transactionSender(String txHash) {
+        synchronized (this) {
+            String cached = txSenders.get(txHash);
+            if (cached != null) return Optional.of(cached);
+        }
+        prefetch(List.of(), List.of(txHash));
+        synchronized (this) {
+            return Optional.ofNullable(txSenders.get(txHash));
+        }
+    }
+
+    private static <T> Set<T> distinct(Collection<T> values) {
+        return new LinkedHashSet<>(values);
+    }
+
+    private static <K, V> Map<K, V> lru(int maxSize) {
+        return new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+}
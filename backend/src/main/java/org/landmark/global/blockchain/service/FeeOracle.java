@@ -0,0 +1,163 @@
+package org.landmark.global.blockchain.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.response.EthFeeHistory;
+import org.web3j.tx.gas.DefaultGasProvider;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * eth_feeHistory 기반 EIP-1559 수수료 산정.
+ *
+ * - priority fee: 최근 history-blocks개 블록의 reward-percentile 팁 중앙값 (최소 min-priority-fee-wei)
+ * - maxFeePerGas: 다음 블록 baseFee × 2 + priority fee — baseFee가 연속으로 올라도 몇 블록은 버틴다
+ * - 둘 다 max-fee-cap-wei로 상한
+ *
+ * 조회 결과는 cache-ms 동안 재사용. eth_feeHistory 미지원 체인이거나 eip1559-enabled=false면
+ * gasProvider의 고정 gasPrice로 legacy 트랜잭션을 보낸다 — 조회 실패로 대체한 legacy 수수료도 cache-ms 동안 캐시해
+ * 미지원 체인에서 전송마다 실패할 eth_feeHistory를 다시 부르지 않는다.
+ */
+@Slf4j
+@Component
+public class FeeOracle {
+
+    private static final BigInteger HUNDRED = BigInteger.valueOf(100);
+
+    @Nullable
+    private final Web3j web3j;
+    private final DefaultGasProvider gasProvider;
+
+    @Value("${blockchain.fee.eip1559-enabled:true}")
+    private boolean eip1559Enabled;
+
+    @Value("${blockchain.fee.history-blocks:10}")
+    private int historyBlocks;
+
+    @Value("${blockchain.fee.reward-percentile:50}")
+    private double rewardPercentile;
+
+    @Value("${blockchain.fee.min-priority-fee-wei:1000000}")
+    private BigInteger minPriorityFee;
+
+    @Value("${blockchain.fee.max-fee-cap-wei:100000000000}")
+    private BigInteger maxFeeCap;
+
+    /* 교체 시 인상률 — 노드 대부분이 최소 10% 인상을 요구 */
+    @Value("${blockchain.fee.replacement-bump-percent:20}")
+    private int bumpPercent;
+
+    /* 노드가 교체 TX로 받아 주는 최소 인상률 — 상한에 걸려 이보다 덜 오르면 replacement underpriced */
+    @Value("${blockchain.fee.min-replacement-bump-percent:10}")
+    private int minBumpPercent;
+
+    @Value("${blockchain.fee.cache-ms:3000}")
+    private long cacheMs;
+
+    private volatile Fees cached;
+    private volatile long cachedAt;
+
+    @Autowired
+    public FeeOracle(@Nullable Web3j web3j, DefaultGasProvider gasProvider) {
+        this.web3j = web3j;
+        this.gasProvider = gasProvider;
+    }
+
+    /**
+     * 트랜잭션 수수료. eip1559=false면 maxFeePerGas를 legacy gasPrice로 사용.
+     */
+    public record Fees(BigInteger maxFeePerGas, BigInteger maxPriorityFeePerGas, boolean eip1559) {
+
+        public static Fees legacy(BigInteger gasPrice) {
+            return new Fees(gasPrice, gasPrice, false);
+        }
+    }
+
+    public BigInteger gasLimit() {
+        return gasProvider.getGasLimit();
+    }
+
+    public Fees currentFees() {
+        if (!eip1559Enabled || web3j == null) {
+            return Fees.legacy(gasProvider.getGasPrice());
+        }
+
+        Fees fees = cached;
+        if (fees != null && System.currentTimeMillis() - cachedAt < cacheMs) {
+            return fees;
+        }
+
+        try {
+            fees = fetchFees();
+        } catch (Exception e) {
+            log.warn("eth_feeHistory 조회 실패 — {}ms 동안 고정 gasPrice로 대체: {}", cacheMs, e.getMessage());
+            fees = Fees.legacy(gasProvider.getGasPrice());
+        }
+        cached = fees;
+        cachedAt = System.currentTimeMillis();
+        return fees;
+    }
+
+    /**
+     * 같은 nonce로 재서명할 때 쓸 수수료. 이전 수수료를 bump-percent만큼 올리되 현재 시세보다 낮지 않게.
+     * 상한(max-fee-cap-wei)으로 깎은 값이 노드 최소 인상률(min-replacement-bump-percent)에 못 미치면
+     * 보내 봐야 replacement underpriced로 거절되므로 null.
+     */
+    @Nullable
+    public Fees replacementFees(Fees previous) {
+        Fees current = currentFees();
+        BigInteger maxFee = bump(previous.maxFeePerGas(), bumpPercent).max(current.maxFeePerGas()).min(maxFeeCap);
+        BigInteger priorityFee = bump(previous.maxPriorityFeePerGas(), bumpPercent)
+                .max(current.maxPriorityFeePerGas()).min(maxFee);
+
+        if (maxFee.compareTo(bump(previous.maxFeePerGas(), minBumpPercent)) < 0
+                || priorityFee.compareTo(bump(previous.maxPriorityFeePerGas(), minBumpPercent)) < 0) {
+            return null;
+        }
+        return new Fees(maxFee, priorityFee, previous.eip1559() && current.eip1559());
+    }
+
+    private Fees fetchFees() throws Exception {
+        EthFeeHistory response = web3j.ethFeeHistory(historyBlocks, DefaultBlockParameterName.LATEST,
+                List.of(rewardPercentile)).send();
+        if (response.hasError() || response.getFeeHistory() == null) {
+            throw new IllegalStateException(response.hasError() ? response.getError().getMessage() : "응답 없음");
+        }
+
+        EthFeeHistory.FeeHistory history = response.getFeeHistory();
+        List<BigInteger> baseFees = history.getBaseFeePerGas();
+        if (baseFees == null || baseFees.isEmpty()) {
+            throw new IllegalStateException("baseFeePerGas 없음 (EIP-1559 미지원 체인)");
+        }
+        // baseFeePerGas의 마지막 원소는 다음 블록의 baseFee
+        BigInteger nextBaseFee = baseFees.get(baseFees.size() - 1);
+
+        List<BigInteger> tips = new ArrayList<>();
+        if (history.getReward() != null) {
+            for (List<BigInteger> blockRewards : history.getReward()) {
+                if (!blockRewards.isEmpty() && blockRewards.get(0).signum() > 0) {
+                    tips.add(blockRewards.get(0));
+                }
+            }
+        }
+        tips.sort(null);
+        BigInteger priorityFee = tips.isEmpty() ? minPriorityFee : tips.get(tips.size() / 2).max(minPriorityFee);
+
+        BigInteger maxFee = nextBaseFee.shiftLeft(1).add(priorityFee).min(maxFeeCap);
+        priorityFee = priorityFee.min(maxFee);
+
+        log.debug("수수료 산정 - baseFee: {}, priorityFee: {}, maxFee: {}", nextBaseFee, priorityFee, maxFee);
+        return new Fees(maxFee, priorityFee, true);
+    }
+
+    private static BigInteger bump(BigInteger value, int percent) {
+        return value.multiply(BigInteger.valueOf(100L + percent)).add(HUNDRED.subtract(BigInteger.ONE)).divide(HUNDRED);
+    }
+}
@@ -0,0 +1,95 @@
+package org.landmark.global.blockchain.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.global.exception.BusinessException;
+import org.landmark.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 JSON-RPC 요청을 batch 하나로 묶어 HTTP 왕복 1회로 전송.
+ * 응답은 id로 매칭해 요청 순서대로 돌려준다 — provider가 응답 순서를 바꿔도 안전.
+ * batch를 지원하지 않는 provider면 개별 전송으로 대체.
+ */
+@Slf4j
+@Component
+public class JsonRpcBatchExecutor {
+
+    @Nullable
+    private final Web3j web3j;
+
+    @Value("${blockchain.rpc.max-batch-size:100}")
+    private int maxBatchSize;
+
+    @Autowired
+    public JsonRpcBatchExecutor(@Nullable Web3j web3j) {
+        this.web3j = web3j;
+    }
+
+    public boolean isAvailable() {
+        return web3j != null;
+    }
+
+    /* 요청 순서대로 응답 반환. 응답이 누락된 요청 자리는 null. */
+    public List<Response<?>> execute(List<? extends Request<?, ? extends Response<?>>> requests) throws IOException {
+        if (web3j == null) {
+            throw new BusinessException(ErrorCode.BLOCKCHAIN_NOT_INITIALIZED);
+        }
+
+        List<Response<?>> results = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += maxBatchSize) {
+            int to = Math.min(from + maxBatchSize, requests.size());
+            results.addAll(sendChunk(requests.subList(from, to)));
+        }
+        return results;
+    }
+
+    private List<Response<?>> sendChunk(List<? extends Request<?, ? extends Response<?>>> chunk) throws IOException {
+        if (chunk.size() == 1) {
+            return sendSequentially(chunk);
+        }
+
+        BatchRequest batch = web3j.newBatch();
+        chunk.forEach(batch::add);
+
+        BatchResponse batchResponse;
+        try {
+            batchResponse = batch.send();
+        } catch (UnsupportedOperationException e) {
+            log.warn("JSON-RPC batch 미지원 provider — 개별 전송으로 대체 (요청 {}건)", chunk.size());
+            return sendSequentially(chunk);
+        }
+
+        Map<Long, Response<?>> byId = new HashMap<>();
+        for (Response<?> response : batchResponse.getResponses()) {
+            byId.put(response.getId(), response);
+        }
+
+        List<Response<?>> ordered = new ArrayList<>(chunk.size());
+        for (Request<?, ? extends Response<?>> request : chunk) {
+            ordered.add(byId.get(request.getId()));
+        }
+        return ordered;
+    }
+
+    private List<Response<?>> sendSequentially(List<? extends Request<?, ? extends Response<?>>> chunk) throws IOException {
+        List<Response<?>> responses = new ArrayList<>(chunk.size());
+        for (Request<?, ? extends Response<?>> request : chunk) {
+            responses.add(request.send());
+        }
+        return responses;
+    }
+}
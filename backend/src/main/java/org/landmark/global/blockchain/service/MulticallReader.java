@@ -0,0 +1,244 @@
+package org.landmark.global.blockchain.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.global.exception.BusinessException;
+import org.landmark.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.DynamicStruct;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.crypto.Credentials;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.protocol.core.methods.response.EthGetCode;
+import org.web3j.utils.Numeric;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 여러 컨트랙트 view 함수를 한 번에 조회하는 읽기 엔진.
+ *
+ * - Multicall3가 배포된 체인: 호출 N건을 aggregate3 하나로 묶는다 (max-calls-per-aggregate건씩).
+ *   묶음이 여러 개면 그 eth_call들도 JSON-RPC batch 1회로 보낸다.
+ * - 배포되지 않은 체인: 호출마다 eth_call을 만들어 JSON-RPC batch로 전송.
+ *
+ * 개별 호출 실패(revert 등)는 전체를 실패시키지 않고 해당 자리의 결과만 실패로 돌려준다.
+ */
+@Slf4j
+@Component
+public class MulticallReader {
+
+    @Nullable
+    private final Web3j web3j;
+    @Nullable
+    private final Credentials credentials;
+    private final JsonRpcBatchExecutor batchExecutor;
+
+    /* Multicall3 표준 배포 주소 (대부분의 EVM 체인에 동일 주소로 배포됨) */
+    @Value("${blockchain.multicall.address:0xcA11bde05977b3631167028862bE2a173976CA11}")
+    private String multicallAddress;
+
+    @Value("${blockchain.multicall.enabled:true}")
+    private boolean multicallEnabled;
+
+    @Value("${blockchain.multicall.max-calls-per-aggregate:500}")
+    private int maxCallsPerAggregate;
+
+    /* Multicall3 배포 여부 — 최초 조회 시 eth_getCode로 1회 확인 */
+    private volatile Boolean multicallDeployed;
+
+    @Autowired
+    public MulticallReader(@Nullable Web3j web3j,
+                           @Nullable Credentials credentials,
+                           JsonRpcBatchExecutor batchExecutor) {
+        this.web3j = web3j;
+        this.credentials = credentials;
+        this.batchExecutor = batchExecutor;
+    }
+
+    /* 조회 대상 컨트랙트 + 함수 (함수의 outputParameters로 결과를 디코딩) */
+    public record Call(String target, Function function) {
+    }
+
+    /* 호출 결과. success=false면 values는 빈 리스트 */
+    public record CallResult(boolean success, List<Type> values) {
+
+        static CallResult failed() {
+            return new CallResult(false, Collections.emptyList());
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> T first() {
+            if (!success || values.isEmpty()) {
+                throw new BusinessException(ErrorCode.BLOCKCHAIN_BALANCE_QUERY_FAILED);
+            }
+            return (T) values.get(0).getValue();
+        }
+    }
+
+    /* Multicall3.Call3 (address target, bool allowFailure, bytes callData) */
+    public static class Call3 extends DynamicStruct {
+        public Call3(Address target, Bool allowFailure, DynamicBytes callData) {
+            super(target, allowFailure, callData);
+        }
+    }
+
+    /* Multicall3.Result (bool success, bytes returnData) */
+    public static class Result extends DynamicStruct {
+        public final boolean success;
+        public final byte[] returnData;
+
+        public Result(Bool success, DynamicBytes returnData) {
+            super(success, returnData);
+            this.success = success.getValue();
+            this.returnData = returnData.getValue();
+        }
+    }
+
+    /* calls와 같은 순서로 결과 반환 */
+    public List<CallResult> readAll(List<Call> calls) {
+        if (web3j == null) {
+            throw new BusinessException(ErrorCode.BLOCKCHAIN_NOT_INITIALIZED);
+        }
+        if (calls.isEmpty()) return List.of();
+
+        try {
+            return isMulticallAvailable() ? readViaMulticall(calls) : readViaBatch(calls);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("컨트랙트 일괄 조회 실패 - 호출 {}건", calls.size(), e);
+            throw new BusinessException(ErrorCode.BLOCKCHAIN_BALANCE_QUERY_FAILED);
+        }
+    }
+
+    private List<CallResult> readViaMulticall(List<Call> calls) throws Exception {
+        List<List<Call>> chunks = new ArrayList<>();
+        List<Request<?, ? extends Response<?>>> requests = new ArrayList<>();
+        for (int from = 0; from < calls.size(); from += maxCallsPerAggregate) {
+            List<Call> chunk = calls.subList(from, Math.min(from + maxCallsPerAggregate, calls.size()));
+            chunks.add(chunk);
+            requests.add(ethCall(multicallAddress, FunctionEncoder.encode(aggregate3(chunk))));
+        }
+
+        List<Response<?>> responses = batchExecutor.execute(requests);
+
+        List<CallResult> results = new ArrayList<>(calls.size());
+        for (int i = 0; i < chunks.size(); i++) {
+            List<Call> chunk = chunks.get(i);
+            if (!(responses.get(i) instanceof EthCall response) || response.hasError() || response.isReverted()) {
+                log.warn("aggregate3 호출 실패 - 묶음 {}건, error: {}", chunk.size(), errorOf(responses.get(i)));
+                chunk.forEach(c -> results.add(CallResult.failed()));
+                continue;
+            }
+
+            List<Type> decoded = FunctionReturnDecoder.decode(response.getValue(), aggregate3(List.of()).getOutputParameters());
+            @SuppressWarnings("unchecked")
+            List<Result> returned = ((DynamicArray<Result>) decoded.get(0)).getValue();
+            for (int j = 0; j < chunk.size(); j++) {
+                Result r = returned.get(j);
+                results.add(r.success
+                        ? decode(chunk.get(j).function(), Numeric.toHexString(r.returnData))
+                        : CallResult.failed());
+            }
+        }
+
+        log.debug("Multicall3 일괄 조회 - 호출 {}건, aggregate3 {}회", calls.size(), chunks.size());
+        return results;
+    }
+
+    private List<CallResult> readViaBatch(List<Call> calls) throws Exception {
+        List<Request<?, ? extends Response<?>>> requests = new ArrayList<>(calls.size());
+        for (Call call : calls) {
+            requests.add(ethCall(call.target(), FunctionEncoder.encode(call.function())));
+        }
+
+        List<Response<?>> responses = batchExecutor.execute(requests);
+
+        List<CallResult> results = new ArrayList<>(calls.size());
+        for (int i = 0; i < calls.size(); i++) {
+            if (responses.get(i) instanceof EthCall response && !response.hasError() && !response.isReverted()) {
+                results.add(decode(calls.get(i).function(), response.getValue()));
+            } else {
+                log.warn("eth_call 실패 - target: {}, error: {}", calls.get(i).target(), errorOf(responses.get(i)));
+                results.add(CallResult.failed());
+            }
+        }
+
+        log.debug("JSON-RPC batch 일괄 조회 - 호출 {}건", calls.size());
+        return results;
+    }
+
+    private boolean isMulticallAvailable() {
+        if (!multicallEnabled) return false;
+
+        Boolean deployed = multicallDeployed;
+        if (deployed == null) {
+            try {
+                EthGetCode code = web3j.ethGetCode(multicallAddress, DefaultBlockParameterName.LATEST).send();
+                String bytecode = code.hasError() ? null : code.getCode();
+                deployed = bytecode != null && !bytecode.isEmpty() && !"0x".equals(bytecode);
+                multicallDeployed = deployed;
+                log.info("Multicall3 배포 확인 - address: {}, deployed: {}", multicallAddress, deployed);
+            } catch (Exception e) {
+                // 확인 실패는 캐시하지 않음 — 다음 조회 때 다시 확인
+                log.warn("Multicall3 배포 확인 실패 — 이번 조회는 JSON-RPC batch로 대체", e);
+                return false;
+            }
+        }
+        return deployed;
+    }
+
+    private Function aggregate3(List<Call> calls) {
+        List<Call3> call3s = new ArrayList<>(calls.size());
+        for (Call call : calls) {
+            call3s.add(new Call3(
+                    new Address(call.target()),
+                    new Bool(true),
+                    new DynamicBytes(Numeric.hexStringToByteArray(FunctionEncoder.encode(call.function())))
+            ));
+        }
+        return new Function(
+                "aggregate3",
+                List.of(new DynamicArray<>(Call3.class, call3s)),
+                List.of(new TypeReference<DynamicArray<Result>>() {})
+        );
+    }
+
+    private Request<?, EthCall> ethCall(String to, String data) {
+        String from = credentials != null ? credentials.getAddress() : null;
+        return web3j.ethCall(
+                org.web3j.protocol.core.methods.request.Transaction.createEthCallTransaction(from, to, data),
+                DefaultBlockParameterName.LATEST
+        );
+    }
+
+    private static CallResult decode(Function function, String returnData) {
+        if (returnData == null || "0x".equals(returnData)) {
+            return CallResult.failed();
+        }
+        List<Type> values = FunctionReturnDecoder.decode(returnData, function.getOutputParameters());
+        return values.isEmpty() ? CallResult.failed() : new CallResult(true, values);
+    }
+
+    private static String errorOf(Response<?> response) {
+        if (response == null) return "응답 없음";
+        if (response.hasError()) return response.getError().getMessage();
+        return response instanceof EthCall call && call.isReverted() ? call.getRevertReason() : "";
+    }
+}
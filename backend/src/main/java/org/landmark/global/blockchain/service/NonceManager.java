@@ -3,83 +3,166 @@ package org.landmark.global.blockchain.service;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.landmark.global.blockchain.config.BlockchainConfig;
+import org.landmark.global.blockchain.nonce.NonceMode;
+import org.landmark.global.blockchain.nonce.domain.WalletNonce;
+import org.landmark.global.blockchain.nonce.service.WalletNonceTransactionService;
+import org.landmark.global.blockchain.wallet.WalletLane;
+import org.landmark.global.blockchain.wallet.WalletLaneRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
-import org.web3j.crypto.Credentials;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
 
 import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 지갑(lane)별 nonce 관리. lane끼리는 독립적이라 서로 블로킹하지 않는다.
+ *
+ * - LOCAL: JVM 메모리 카운터. 인스턴스가 하나일 때만 안전하다.
+ * - DATABASE: wallet_nonces row를 SELECT ... FOR UPDATE로 잠그고 할당.
+ *   여러 인스턴스가 같은 지갑으로 전송해도 nonce가 겹치지 않는다.
+ */
 @Slf4j
 @Component
 public class NonceManager {
 
     @Nullable
     private final Web3j web3j;
-    @Nullable
-    private final Credentials credentials;
+    private final WalletLaneRegistry laneRegistry;
+    private final WalletNonceTransactionService walletNonceTxService;
     private final BlockchainConfig blockchainConfig;
-    private final AtomicLong currentNonce = new AtomicLong(-1);
+    private final Map<String, AtomicLong> currentNonces = new ConcurrentHashMap<>();
+
+    @Value("${blockchain.nonce.mode:LOCAL}")
+    private NonceMode mode;
 
     @Autowired
     public NonceManager(@Nullable Web3j web3j,
-                        @Nullable Credentials credentials,
+                        WalletLaneRegistry laneRegistry,
+                        WalletNonceTransactionService walletNonceTxService,
                         BlockchainConfig blockchainConfig) {
         this.web3j = web3j;
-        this.credentials = credentials;
+        this.laneRegistry = laneRegistry;
+        this.walletNonceTxService = walletNonceTxService;
         this.blockchainConfig = blockchainConfig;
     }
 
     @PostConstruct
     public void init() {
-        if (web3j == null || credentials == null) {
+        if (web3j == null || laneRegistry.ownerLane() == null) {
             log.warn("NonceManager 초기화 스킵 - Web3j/Credentials 미초기화");
             return;
         }
-        try {
-            refreshFromChain();
-            log.info("NonceManager 초기화 완료 - 시작 nonce: {}", currentNonce.get());
-        } catch (Exception e) {
-            log.error("NonceManager 초기화 실패 - chain에서 nonce 조회 불가", e);
+        for (WalletLane lane : laneRegistry.allLanes()) {
+            try {
+                refreshFromChain(lane.address());
+                log.info("NonceManager 초기화 완료 - mode: {}, address: {}, 시작 nonce: {}",
+                        mode, lane.address(), peekNext(lane.address()));
+            } catch (Exception e) {
+                log.error("NonceManager 초기화 실패 - chain에서 nonce 조회 불가 - address: {}", lane.address(), e);
+            }
+        }
+    }
+
+    public NonceMode getMode() {
+        return mode;
+    }
+
+    public long nextNonce(String address) {
+        if (mode == NonceMode.DATABASE) {
+            String key = WalletLane.normalize(address);
+            walletNonceTxService.ensureExists(key, () -> fetchPendingNonce(address));
+            return walletNonceTxService.allocate(key, blockchainConfig.getInstanceId());
+        }
+
+        AtomicLong current = nonceOf(address);
+        synchronized (current) {
+            if (current.get() < 0) {
+                refreshFromChain(address);
+            }
+            return current.getAndIncrement();
+        }
+    }
+
+    /* 다음에 할당될 nonce (할당하지 않음). 미초기화면 -1 */
+    public long peekNext(String address) {
+        if (mode == NonceMode.DATABASE) {
+            return walletNonceTxService.find(WalletLane.normalize(address))
+                    .map(WalletNonce::getNextNonce)
+                    .orElse(-1L);
+        }
+        return nonceOf(address).get();
+    }
+
+    /**
+     * 체인 PENDING nonce로 재동기화.
+     * DATABASE 모드에서는 다른 인스턴스가 할당만 하고 아직 전송하지 않은 nonce가 있을 수 있어 앞으로만 당긴다.
+     */
+    public void refreshFromChain(String address) {
+        if (mode == NonceMode.DATABASE) {
+            String key = WalletLane.normalize(address);
+            long chainNonce = fetchPendingNonce(address);
+            walletNonceTxService.ensureExists(key, () -> chainNonce);
+            long next = walletNonceTxService.advanceTo(key, chainNonce);
+            log.info("Nonce 재동기화 (DB) - address: {}, chain: {}, next: {}", address, chainNonce, next);
+            return;
+        }
+
+        AtomicLong current = nonceOf(address);
+        synchronized (current) {
+            long chainNonce = fetchPendingNonce(address);
+            current.set(chainNonce);
+            log.info("Nonce 재동기화 - address: {}, nonce: {}", address, chainNonce);
         }
     }
 
-    public synchronized long nextNonce() {
-        if (currentNonce.get() < 0) {
-            refreshFromChain();
+    public void rollback(String address, long failedNonce) {
+        if (mode == NonceMode.DATABASE) {
+            if (walletNonceTxService.rollback(WalletLane.normalize(address), failedNonce)) {
+                log.warn("Nonce 롤백 (DB) - address: {}, nonce: {}", address, failedNonce);
+            } else {
+                log.warn("Nonce 롤백 스킵 (DB, 이후 할당 존재) - address: {}, failed: {}. gap은 NonceGapDetector가 메움",
+                        address, failedNonce);
+            }
+            return;
+        }
+
+        AtomicLong current = nonceOf(address);
+        synchronized (current) {
+            long value = current.get();
+            if (failedNonce == value - 1) {
+                current.decrementAndGet();
+                log.warn("Nonce 롤백 - address: {}, {} → {}", address, value, current.get());
+            } else {
+                log.warn("Nonce 롤백 스킵 (gap 발생 가능) - address: {}, failed: {}, current: {}. refreshFromChain 권장",
+                        address, failedNonce, value);
+            }
         }
-        return currentNonce.getAndIncrement();
     }
 
-    public synchronized void refreshFromChain() {
-        if (web3j == null || credentials == null) {
+    private long fetchPendingNonce(String address) {
+        if (web3j == null) {
             throw new IllegalStateException("Web3j/Credentials 미초기화");
         }
         try {
             EthGetTransactionCount response = web3j.ethGetTransactionCount(
-                    credentials.getAddress(),
+                    address,
                     DefaultBlockParameterName.PENDING
             ).send();
             BigInteger chainNonce = response.getTransactionCount();
-            currentNonce.set(chainNonce.longValue());
-            log.info("Nonce 재동기화 - address: {}, nonce: {}", credentials.getAddress(), chainNonce);
+            return chainNonce.longValue();
         } catch (Exception e) {
             throw new RuntimeException("Nonce 동기화 실패", e);
         }
     }
 
-    public synchronized void rollback(long failedNonce) {
-        long current = currentNonce.get();
-        if (failedNonce == current - 1) {
-            currentNonce.decrementAndGet();
-            log.warn("Nonce 롤백 - {} → {}", current, currentNonce.get());
-        } else {
-            log.warn("Nonce 롤백 스킵 (gap 발생 가능) - failed: {}, current: {}. refreshFromChain 권장",
-                    failedNonce, current);
-        }
+    private AtomicLong nonceOf(String address) {
+        return currentNonces.computeIfAbsent(WalletLane.normalize(address), k -> new AtomicLong(-1));
     }
 }
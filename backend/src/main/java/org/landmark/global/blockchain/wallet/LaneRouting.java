@@ -0,0 +1,7 @@
+package org.landmark.global.blockchain.wallet;
+
+/** 아웃박스 row를 mint lane에 배정하는 방식 */
+public enum LaneRouting {
+    HASH,             // aggregateId 해시 — 같은 aggregate는 항상 같은 지갑
+    LEAST_IN_FLIGHT   // 미채굴 nonce가 가장 적은 지갑
+}
@@ -0,0 +1,18 @@
+package org.landmark.global.blockchain.wallet;
+
+import org.web3j.crypto.Credentials;
+
+/**
+ * 운영 지갑 하나 = nonce lane 하나.
+ * owner lane은 스냅샷/배당 등 onlyOwner 호출 전용, minter lane은 KRWT mint 전용.
+ */
+public record WalletLane(String address, Credentials credentials, boolean owner) {
+
+    public static String normalize(String address) {
+        return address == null ? null : address.toLowerCase();
+    }
+
+    public String key() {
+        return normalize(address);
+    }
+}
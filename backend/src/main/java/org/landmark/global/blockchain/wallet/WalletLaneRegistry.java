@@ -0,0 +1,80 @@
+package org.landmark.global.blockchain.wallet;
+
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.global.blockchain.config.BlockchainConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.web3j.crypto.Credentials;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 운영 지갑 풀.
+ * - owner lane: blockchain.wallet.private-key (스냅샷/배당/approve 등 onlyOwner 호출)
+ * - minter lane: blockchain.wallet.minter-private-keys (KRWT.setMinter로 권한 부여 필요)
+ * minter 지갑이 없으면 mint도 owner lane으로 보낸다.
+ */
+@Slf4j
+@Component
+public class WalletLaneRegistry {
+
+    @Nullable
+    private final WalletLane ownerLane;
+    private final List<WalletLane> mintLanes;
+    private final Map<String, WalletLane> lanesByAddress = new LinkedHashMap<>();
+
+    @Autowired
+    public WalletLaneRegistry(@Nullable Credentials credentials, BlockchainConfig blockchainConfig) {
+        this.ownerLane = credentials == null ? null : new WalletLane(credentials.getAddress(), credentials, true);
+        if (ownerLane != null) {
+            lanesByAddress.put(ownerLane.key(), ownerLane);
+        }
+
+        List<WalletLane> minters = new ArrayList<>();
+        String[] keys = blockchainConfig.getMinterPrivateKeys();
+        if (keys != null) {
+            for (String key : keys) {
+                if (key == null || key.isBlank()) continue;
+                Credentials minterCreds = Credentials.create(key.trim());
+                WalletLane lane = new WalletLane(minterCreds.getAddress(), minterCreds, false);
+                if (lanesByAddress.putIfAbsent(lane.key(), lane) == null) {
+                    minters.add(lane);
+                }
+            }
+        }
+
+        if (minters.isEmpty() && ownerLane != null) {
+            minters.add(ownerLane);
+        }
+        this.mintLanes = Collections.unmodifiableList(minters);
+
+        log.info("운영 지갑 lane 구성 - owner: {}, mint lanes: {}",
+                ownerLane == null ? null : ownerLane.address(),
+                mintLanes.stream().map(WalletLane::address).toList());
+    }
+
+    @Nullable
+    public WalletLane ownerLane() {
+        return ownerLane;
+    }
+
+    public List<WalletLane> mintLanes() {
+        return mintLanes;
+    }
+
+    public List<WalletLane> allLanes() {
+        return List.copyOf(lanesByAddress.values());
+    }
+
+    /* sender_address가 비어 있는 기존 row는 owner 지갑으로 전송된 것 */
+    @Nullable
+    public WalletLane findByAddress(@Nullable String address) {
+        if (address == null) return ownerLane;
+        return lanesByAddress.get(WalletLane.normalize(address));
+    }
+}
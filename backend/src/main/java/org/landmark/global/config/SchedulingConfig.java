@@ -0,0 +1,43 @@
+package org.landmark.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 스케줄러 구성.
+ *
+ * - taskScheduler: 기본 스케줄러 (단일 스레드). outbox 전송/영수증 추적, 인덱서 폴링, 웹훅 inbox, 안건 마감 타이머처럼
+ *   짧게 자주 도는 작업이 순서대로 돈다 — OutboxWorker는 이 직렬 실행을 전제로 한다.
+ * - longJobScheduler: 원장 backfill, 대사, 배당 교차검증, 집계 재생성처럼 수 분씩 걸릴 수 있는 작업 전용.
+ *   기본 스레드를 붙잡지 않도록 @Scheduled(scheduler = LONG_JOB_SCHEDULER)로 분리한다.
+ *
+ * TaskScheduler 빈을 직접 두면 Spring Boot 기본 스케줄러가 만들어지지 않으므로 taskScheduler도 여기서 만든다.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    public static final String LONG_JOB_SCHEDULER = "longJobScheduler";
+
+    @Value("${scheduling.long-job.pool-size:2}")
+    private int longJobPoolSize;
+
+    @Bean
+    @Primary
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+
+    @Bean(LONG_JOB_SCHEDULER)
+    public ThreadPoolTaskScheduler longJobScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(longJobPoolSize);
+        scheduler.setThreadNamePrefix("long-job-");
+        return scheduler;
+    }
+}
@@ -49,6 +49,10 @@ public enum ErrorCode {
   INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
   PAYMENT_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "결제 API 통신 중 오류가 발생했습니다."),
 
+  // 503 Service Unavailable
+  LIVE_STREAM_CAPACITY_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "실시간 알림 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+  HOLDING_LEDGER_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "보유 내역을 블록체인에서 불러오는 중입니다. 잠시 후 다시 시도해주세요."),
+
   // Blockchain - Connection & Server
   BLOCKCHAIN_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "블록체인 서버와의 통신 중 오류가 발생했습니다."),
   BLOCKCHAIN_NOT_INITIALIZED(HttpStatus.INTERNAL_SERVER_ERROR, "블록체인 연동이 초기화되지 않았습니다."),
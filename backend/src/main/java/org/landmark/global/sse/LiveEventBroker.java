@@ -0,0 +1,292 @@
+package org.landmark.global.sse;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.landmark.global.exception.BusinessException;
+import org.landmark.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 구독 관리 + 주제(topic)별 fan-out.
+ *
+ * 주제는 "property:{propertyId}", "user:{userId}". 발행은 큐에 넣기만 하고 바로 돌아오며,
+ * 전용 스레드 하나가 구독자별 버퍼로 나눠 담는다 — 느린 클라이언트가 인덱서/웹훅 스레드를 붙잡지 않도록.
+ * 실제 쓰기(블로킹 SseEmitter.send)는 작은 전송 풀이 구독자 단위로 한다. 한 구독자의 쓰기는 항상 한 스레드만 하므로
+ * 순서가 유지되고, TCP 창이 찬 클라이언트 하나가 다른 구독자의 fan-out을 막지 않는다.
+ *
+ * - 큐(queue-capacity)가 가득 차면 새 이벤트는 버린다 (클라이언트는 재연결 시 REST로 다시 읽음)
+ * - 구독자 버퍼(subscriber-buffer)가 넘치거나 한 번의 전송이 send-timeout-ms를 넘기면 그 연결을 끊는다 (재연결 시 REST로 다시 읽음)
+ * - 구독자 수는 max-subscribers로 제한, 초과하면 503
+ * - heartbeat-interval-ms마다 주석 이벤트로 끊긴 연결을 정리
+ */
+@Slf4j
+@Component
+public class LiveEventBroker {
+
+    private static final String HEARTBEAT = "__heartbeat__";
+
+    private record Pending(String topic, String name, Object data) {
+    }
+
+    /*
+     * 구독 1건 — 전용 버퍼와 "전송 중" 상태. drain은 한 번에 한 스레드만 (draining 플래그) 돌고,
+     * emitter 쓰기/종료는 모두 그 스레드가 한다 — 다른 스레드가 complete()를 부르면 진행 중인 send의 잠금을 기다리며 같이 멈춘다.
+     */
+    private static final class Subscriber {
+        private final String topic;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private volatile boolean closed;
+        /* 진행 중인 send 시작 시각 (ms), 0이면 전송 중 아님 */
+        private volatile long sendStartedAt;
+
+        private Subscriber(String topic, SseEmitter emitter, int bufferSize) {
+            this.topic = topic;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    private final long timeoutMs;
+    private final int maxSubscribers;
+    private final int subscriberBuffer;
+    private final long sendTimeoutMs;
+    private final BlockingQueue<Pending> queue;
+    private final ExecutorService dispatcher;
+    private final ExecutorService senders;
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    public LiveEventBroker(@Value("${live.sse.timeout-ms:1800000}") long timeoutMs,
+                           @Value("${live.sse.max-subscribers:5000}") int maxSubscribers,
+                           @Value("${live.sse.queue-capacity:10000}") int queueCapacity,
+                           @Value("${live.sse.subscriber-buffer:64}") int subscriberBuffer,
+                           @Value("${live.sse.send-timeout-ms:10000}") long sendTimeoutMs,
+                           @Value("${live.sse.sender-threads:4}") int senderThreads) {
+        this.timeoutMs = timeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        this.subscriberBuffer = subscriberBuffer;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.dispatcher = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "live-event-dispatcher");
+            t.setDaemon(true);
+            return t;
+        });
+        AtomicInteger senderSeq = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread t = new Thread(r, "live-event-sender-" + senderSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.dispatcher.execute(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        dispatcher.awaitTermination(5, TimeUnit.SECONDS);
+        senders.awaitTermination(5, TimeUnit.SECONDS);
+        subscribers.values().forEach(subs -> subs.forEach(sub -> sub.emitter.complete()));
+    }
+
+    public static String propertyTopic(String propertyId) {
+        return "property:" + propertyId.toLowerCase();
+    }
+
+    public static String userTopic(String userId) {
+        return "user:" + userId;
+    }
+
+    public SseEmitter subscribe(String topic) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessException(ErrorCode.LIVE_STREAM_CAPACITY_EXCEEDED);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        try {
+            // 등록 전에 보내야 dispatcher와 동시에 쓰지 않는다
+            emitter.send(SseEmitter.event().name("connected").data(topic));
+        } catch (Exception e) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        Subscriber subscriber = new Subscriber(topic, emitter, subscriberBuffer);
+        subscribers.computeIfAbsent(topic, t -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        return emitter;
+    }
+
+    /* 구독자가 없는 주제는 큐에 넣지도 않는다 */
+    public void publish(String topic, String name, Object data) {
+        if (!subscribers.containsKey(topic)) return;
+        enqueue(new Pending(topic, name, data));
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /*
+     * heartbeat와 함께 send-timeout-ms를 넘겨 멈춘 구독자를 구독 목록에서 뺀다 — 더는 버퍼에 쌓이지 않는다.
+     * 막힌 쓰기 자체는 컨테이너 write timeout에 실패하고, 그 전송 스레드가 연결을 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${live.sse.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        if (subscriberCount.get() == 0) return;
+        long now = System.currentTimeMillis();
+        subscribers.values().forEach(subs -> List.copyOf(subs).forEach(sub -> {
+            long startedAt = sub.sendStartedAt;
+            if (startedAt > 0 && now - startedAt > sendTimeoutMs) {
+                evict(sub, "전송 지연 " + (now - startedAt) + "ms");
+            }
+        }));
+        enqueue(new Pending(HEARTBEAT, null, null));
+    }
+
+    private void enqueue(Pending pending) {
+        if (!queue.offer(pending)) {
+            long count = dropped.incrementAndGet();
+            if (count % 1000 == 1) {
+                log.warn("실시간 이벤트 큐 포화 — 이벤트 폐기 (누적 {}건) - topic: {}", count, pending.topic());
+            }
+        }
+    }
+
+    private void dispatchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Pending pending;
+            try {
+                pending = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                dispatch(pending);
+            } catch (Exception e) {
+                log.error("실시간 이벤트 전송 오류 - topic: {}", pending.topic(), e);
+            }
+        }
+    }
+
+    private void dispatch(Pending pending) {
+        if (HEARTBEAT.equals(pending.topic())) {
+            subscribers.values().forEach(subs ->
+                    List.copyOf(subs).forEach(sub -> offer(sub, SseEmitter.event().comment("ping"))));
+            return;
+        }
+
+        Set<Subscriber> subs = subscribers.get(pending.topic());
+        if (subs == null) return;
+        for (Subscriber sub : new ArrayList<>(subs)) {
+            offer(sub, SseEmitter.event().name(pending.name()).data(pending.data()));
+        }
+    }
+
+    /* 구독자 버퍼에 담고 전송 풀에 넘긴다. 버퍼가 넘치면 따라오지 못하는 클라이언트 — 끊는다 */
+    private void offer(Subscriber sub, SseEmitter.SseEventBuilder event) {
+        if (sub.closed) return;
+        if (!sub.buffer.offer(event)) {
+            evict(sub, "버퍼 포화");
+            return;
+        }
+        scheduleDrain(sub);
+    }
+
+    private void scheduleDrain(Subscriber sub) {
+        if (sub.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(sub));
+            } catch (Exception e) {
+                // 종료 중
+                sub.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber sub) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!sub.closed && (event = sub.buffer.poll()) != null) {
+                if (!send(sub, event)) {
+                    return;
+                }
+            }
+            if (sub.closed) {
+                sub.emitter.complete();
+                return;
+            }
+        } finally {
+            sub.draining.set(false);
+        }
+        // 플래그를 내리는 사이에 들어온 이벤트/종료 요청
+        if (!sub.buffer.isEmpty() || sub.closed) {
+            scheduleDrain(sub);
+        }
+    }
+
+    private boolean send(Subscriber sub, SseEmitter.SseEventBuilder event) {
+        sub.sendStartedAt = System.currentTimeMillis();
+        try {
+            sub.emitter.send(event);
+            return true;
+        } catch (Exception e) {
+            // 끊긴 연결 — 정리
+            sub.closed = true;
+            sub.buffer.clear();
+            unsubscribe(sub);
+            sub.emitter.completeWithError(e);
+            return false;
+        } finally {
+            sub.sendStartedAt = 0;
+        }
+    }
+
+    /* 구독 목록에서 빼고 종료는 전송 스레드에 맡긴다 */
+    private void evict(Subscriber sub, String reason) {
+        if (unsubscribe(sub)) {
+            long count = evicted.incrementAndGet();
+            log.warn("느린 실시간 구독자 연결 종료 ({}) (누적 {}건) - topic: {}", reason, count, sub.topic);
+            sub.closed = true;
+            sub.buffer.clear();
+            scheduleDrain(sub);
+        }
+    }
+
+    private boolean unsubscribe(Subscriber sub) {
+        Set<Subscriber> subs = subscribers.get(sub.topic);
+        if (subs != null && subs.remove(sub)) {
+            subscriberCount.decrementAndGet();
+            subscribers.computeIfPresent(sub.topic, (t, set) -> set.isEmpty() ? null : set);
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,39 @@
+package org.landmark.global.sse;
+
+import lombok.RequiredArgsConstructor;
+import org.landmark.domain.governance.event.ProposalRecordedEvent;
+import org.landmark.domain.governance.event.ProposalTallyChangedEvent;
+import org.landmark.domain.portfolio.event.HoldingPurchasedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도메인 이벤트 → SSE 주제 변환. 커밋된 변경만 내보내고, 발행은 큐 적재뿐이라 호출 스레드를 막지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveEventRelay {
+
+    private final LiveEventBroker broker;
+
+    /* 매물 구독자에게는 구매자 정보 없이 수량/유통량만 */
+    public record PropertyPurchaseUpdate(String propertyId, long amount, long totalTokens) {
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProposalRecorded(ProposalRecordedEvent event) {
+        broker.publish(LiveEventBroker.propertyTopic(event.propertyId()), "proposal-created", event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTallyChanged(ProposalTallyChangedEvent event) {
+        broker.publish(LiveEventBroker.propertyTopic(event.propertyId()), "proposal-tally", event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPurchased(HoldingPurchasedEvent event) {
+        broker.publish(LiveEventBroker.userTopic(event.userId()), "purchase", event);
+        broker.publish(LiveEventBroker.propertyTopic(event.propertyId()), "purchase",
+                new PropertyPurchaseUpdate(event.propertyId(), event.amount(), event.totalTokens()));
+    }
+}
@@ -0,0 +1,35 @@
+package org.landmark.global.sse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/stream")
+@RequiredArgsConstructor
+@Tag(name = "Live Stream", description = "실시간 알림(SSE) API")
+public class LiveStreamController {
+
+    private final LiveEventBroker broker;
+
+    @Operation(summary = "매물 실시간 구독",
+            description = "매물의 새 제안(proposal-created), 투표 집계(proposal-tally), 토큰 구매(purchase) 이벤트를 SSE로 받습니다.")
+    @GetMapping(value = "/properties/{propertyId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeProperty(@PathVariable String propertyId) {
+        return broker.subscribe(LiveEventBroker.propertyTopic(propertyId));
+    }
+
+    @Operation(summary = "내 실시간 구독", description = "내 토큰 구매 반영(purchase) 이벤트를 SSE로 받습니다.")
+    @GetMapping(value = "/me", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeMe(Authentication authentication) {
+        String userId = (String) authentication.getPrincipal();
+        return broker.subscribe(LiveEventBroker.userTopic(userId));
+    }
+}
@@ -0,0 +1,221 @@
+package org.landmark.global.blockchain.indexer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.landmark.global.blockchain.indexer.service.ChainCursorTransactionService;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ChainEventIndexerTest {
+
+    private static final String TOKEN_A = "0x000000000000000000000000000000000000000a";
+    private static final String TOKEN_B = "0x000000000000000000000000000000000000000b";
+
+    private InMemoryCursors cursorTxService;
+    private RecordingHandler transfers;
+    private RecordingHandler dividends;
+    private StubIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        cursorTxService = new InMemoryCursors();
+        transfers = new RecordingHandler("Transfer", new Event("Transfer", List.of()));
+        dividends = new RecordingHandler("Dividend", new Event("DividendCreated", List.of()));
+        indexer = new StubIndexer(List.of(transfers, dividends), cursorTxService);
+        ReflectionTestUtils.setField(indexer, "maxBlockRange", 100);
+        ReflectionTestUtils.setField(indexer, "maxRangesPerCycle", 10);
+        ReflectionTestUtils.setField(indexer, "startBlock", 1L);
+        ReflectionTestUtils.setField(indexer, "dedupeSize", 1000);
+    }
+
+    @Test
+    void 실패한_핸들러의_스트림만_멈추고_성공한_핸들러에는_같은_구간을_다시_보내지_않는다() {
+        transfers.addresses.add(TOKEN_A);
+        dividends.addresses.add(TOKEN_A);
+        indexer.logs.add(log(TOKEN_A, transfers, 10, "0x10"));
+        indexer.logs.add(log(TOKEN_A, dividends, 12, "0x12"));
+        dividends.failuresLeft = 1;
+
+        assertThat(indexer.catchUpTo(50)).isEqualTo(0L);
+        assertThat(transfers.received).hasSize(1);
+        assertThat(cursorTxService.blocks.get("indexer:Transfer:" + TOKEN_A)).isEqualTo(50L);
+        assertThat(cursorTxService.blocks.get("indexer:Dividend:" + TOKEN_A)).isEqualTo(0L);
+
+        assertThat(indexer.catchUpTo(50)).isEqualTo(50L);
+        assertThat(transfers.received).hasSize(1);
+        assertThat(dividends.received).hasSize(1);
+        assertThat(cursorTxService.blocks.get(ChainEventIndexer.CURSOR_NAME)).isEqualTo(50L);
+    }
+
+    @Test
+    void 나중에_추가된_컨트랙트는_자기_cursor부터_과거_이력을_읽는다() {
+        transfers.addresses.add(TOKEN_A);
+        assertThat(indexer.catchUpTo(50)).isEqualTo(50L);
+
+        // 블록 20에 이미 있던 B의 로그 — 전체 cursor가 50이어도 B 스트림은 start-block부터 읽는다
+        transfers.addresses.add(TOKEN_B);
+        indexer.logs.add(log(TOKEN_B, transfers, 20, "0x20"));
+
+        assertThat(indexer.catchUpTo(60)).isEqualTo(60L);
+        assertThat(transfers.received).extracting(Log::getAddress).containsExactly(TOKEN_B);
+        assertThat(cursorTxService.blocks.get("indexer:Transfer:" + TOKEN_A)).isEqualTo(60L);
+        assertThat(cursorTxService.blocks.get("indexer:Transfer:" + TOKEN_B)).isEqualTo(60L);
+    }
+
+    @Test
+    void 단일_cursor만_있던_배포는_그_위치를_기존_스트림에_한_번만_물려준다() {
+        cursorTxService.blocks.put(ChainEventIndexer.CURSOR_NAME, 40L);
+        transfers.addresses.add(TOKEN_A);
+        indexer.logs.add(log(TOKEN_A, transfers, 30, "0x30"));
+
+        assertThat(indexer.lastProcessedBlock(50)).isEqualTo(40L);
+        indexer.catchUpTo(50);
+        assertThat(transfers.received).isEmpty();
+
+        transfers.addresses.add(TOKEN_B);
+        assertThat(indexer.lastProcessedBlock(50)).isEqualTo(0L);
+    }
+
+    @Test
+    void 푸시_중_구독_로그가_없어도_head까지_처리_위치를_올린다() {
+        transfers.addresses.add(TOKEN_A);
+        indexer.catchUpTo(50);
+        indexer.setPushActive(true);
+        indexer.head = 80;
+
+        indexer.poll();
+        assertThat(cursorTxService.blocks.get(ChainEventIndexer.CURSOR_NAME)).isEqualTo(50L);
+
+        indexer.catchUpWhilePushing();
+        assertThat(cursorTxService.blocks.get(ChainEventIndexer.CURSOR_NAME)).isEqualTo(80L);
+        assertThat(cursorTxService.blocks.get("indexer:Transfer:" + TOKEN_A)).isEqualTo(80L);
+    }
+
+    static Log log(String address, RecordingHandler handler, long block, String txHash) {
+        Log eventLog = new Log();
+        eventLog.setAddress(address);
+        eventLog.setTopics(List.of(EventEncoder.encode(handler.event)));
+        eventLog.setBlockNumber("0x" + Long.toHexString(block));
+        eventLog.setLogIndex("0x0");
+        eventLog.setTransactionHash(txHash);
+        return eventLog;
+    }
+
+    /* eth_getLogs 대신 메모리의 로그를 주소/topic/블록 범위로 걸러 돌려준다 */
+    static class StubIndexer extends ChainEventIndexer {
+
+        final List<Log> logs = new CopyOnWriteArrayList<>();
+        volatile boolean pushActive = false;
+        volatile long head = 0L;
+
+        StubIndexer(List<ChainEventHandler> handlers, ChainCursorTransactionService cursorTxService) {
+            super(mock(Web3j.class), handlers, mock(ContractAddressBook.class), cursorTxService);
+        }
+
+        @Override
+        List<Log> fetchLogs(Set<String> addresses, Set<String> topics, long from, long to) {
+            return logs.stream()
+                    .filter(l -> addresses.contains(l.getAddress()) && topics.contains(l.getTopics().get(0)))
+                    .filter(l -> l.getBlockNumber().longValue() >= from && l.getBlockNumber().longValue() <= to)
+                    .toList();
+        }
+
+        @Override
+        long fetchHead() {
+            return head;
+        }
+
+        @Override
+        public void setPushActive(boolean pushActive) {
+            super.setPushActive(pushActive);
+            this.pushActive = pushActive;
+        }
+    }
+
+    static class RecordingHandler implements ChainEventHandler {
+
+        final String name;
+        final Event event;
+        final Set<String> addresses = new CopyOnWriteArraySet<>();
+        final List<Log> received = new CopyOnWriteArrayList<>();
+        int failuresLeft = 0;
+
+        RecordingHandler(String name, Event event) {
+            this.name = name;
+            this.event = event;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public List<Event> events() {
+            return List.of(event);
+        }
+
+        @Override
+        public Set<String> contractAddresses(ContractAddressBook addressBook) {
+            return Set.copyOf(addresses);
+        }
+
+        @Override
+        public void handle(List<Log> logs) {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("처리 실패");
+            }
+            received.addAll(logs);
+        }
+    }
+
+    static class InMemoryCursors extends ChainCursorTransactionService {
+
+        final Map<String, Long> blocks = new ConcurrentHashMap<>();
+
+        InMemoryCursors() {
+            super(null);
+        }
+
+        @Override
+        public Optional<Long> findLastProcessedBlock(String name) {
+            return Optional.ofNullable(blocks.get(name));
+        }
+
+        @Override
+        public Map<String, Long> findLastProcessedBlocks(String prefix) {
+            Map<String, Long> matched = new HashMap<>();
+            blocks.forEach((name, block) -> {
+                if (name.startsWith(prefix)) matched.put(name, block);
+            });
+            return matched;
+        }
+
+        @Override
+        public void advanceAll(Collection<String> names, long block) {
+            names.forEach(name -> blocks.merge(name, block, Math::max));
+        }
+
+        @Override
+        public void advance(String name, long block) {
+            blocks.put(name, block);
+        }
+    }
+}
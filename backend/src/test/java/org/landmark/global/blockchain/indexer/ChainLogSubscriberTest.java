@@ -0,0 +1,230 @@
+package org.landmark.global.blockchain.indexer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.java_websocket.WebSocket;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.server.WebSocketServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.landmark.global.blockchain.config.BlockchainConfig;
+import org.landmark.global.blockchain.indexer.ChainEventIndexerTest.InMemoryCursors;
+import org.landmark.global.blockchain.indexer.ChainEventIndexerTest.RecordingHandler;
+import org.landmark.global.blockchain.indexer.ChainEventIndexerTest.StubIndexer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 WebSocket JSON-RPC 노드(eth_subscribe/eth_subscription만 흉내)에 실제로 붙여
+ * 구독 → 푸시 → 연결 끊김 → 재연결 backfill 흐름을 확인한다.
+ */
+class ChainLogSubscriberTest {
+
+    private static final String TOKEN = "0x000000000000000000000000000000000000000a";
+    private static final String STREAM = ChainEventIndexer.STREAM_CURSOR_PREFIX + "Transfer:" + TOKEN;
+
+    private final AtomicLong head = new AtomicLong();
+    private JsonRpcStandIn node;
+    private InMemoryCursors cursorTxService;
+    private RecordingHandler transfers;
+    private StubIndexer indexer;
+    private ChainLogSubscriber subscriber;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        node = new JsonRpcStandIn();
+        node.start();
+        assertThat(node.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        cursorTxService = new InMemoryCursors();
+        transfers = new RecordingHandler("Transfer", new Event("Transfer", List.of()));
+        indexer = new StubIndexer(List.of(transfers), cursorTxService);
+        ReflectionTestUtils.setField(indexer, "maxBlockRange", 100);
+        ReflectionTestUtils.setField(indexer, "maxRangesPerCycle", 10);
+        ReflectionTestUtils.setField(indexer, "startBlock", 1L);
+        ReflectionTestUtils.setField(indexer, "dedupeSize", 1000);
+
+        BlockchainConfig blockchainConfig = mock(BlockchainConfig.class);
+        when(blockchainConfig.getWsUrl()).thenReturn("ws://127.0.0.1:" + node.getPort());
+
+        Web3j httpWeb3j = mock(Web3j.class);
+        Request<?, EthBlockNumber> blockNumberRequest = mock(Request.class);
+        when(blockNumberRequest.send()).thenAnswer(inv -> {
+            EthBlockNumber blockNumber = new EthBlockNumber();
+            blockNumber.setResult("0x" + Long.toHexString(head.get()));
+            return blockNumber;
+        });
+        doReturn(blockNumberRequest).when(httpWeb3j).ethBlockNumber();
+
+        subscriber = new ChainLogSubscriber(indexer, blockchainConfig, httpWeb3j);
+        ReflectionTestUtils.setField(subscriber, "mode", IndexerMode.WEBSOCKET);
+        ReflectionTestUtils.setField(subscriber, "flushIntervalMs", 50L);
+        ReflectionTestUtils.setField(subscriber, "initialBackoffMs", 50L);
+        ReflectionTestUtils.setField(subscriber, "maxBackoffMs", 200L);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        subscriber.stop();
+        node.stop(1000);
+    }
+
+    @Test
+    void 재연결하면_저장된_cursor부터_빈_구간을_채우고_이미_받은_로그는_다시_보내지_않는다() throws Exception {
+        cursorTxService.blocks.put(STREAM, 100L);
+        transfers.addresses.add(TOKEN);
+        indexer.logs.add(ChainEventIndexerTest.log(TOKEN, transfers, 103, "0x103"));
+        head.set(105);
+
+        subscriber.start();
+        await(() -> indexer.pushActive);
+        assertThat(receivedBlocks()).containsExactly(103L);
+        assertThat(cursorTxService.blocks.get(STREAM)).isEqualTo(105L);
+
+        Log pushed = ChainEventIndexerTest.log(TOKEN, transfers, 106, "0x106");
+        node.push(pushed);
+        await(() -> transfers.received.size() == 2);
+        // 같은 블록의 나머지 로그가 다음 flush로 올 수 있어 마지막 푸시 블록은 완료로 치지 않는다
+        assertThat(cursorTxService.blocks.get(STREAM)).isEqualTo(105L);
+
+        // 끊긴 동안 블록 107에 새 로그 — 재연결 backfill은 저장된 cursor(105) 다음부터 읽는다
+        indexer.logs.add(pushed);
+        indexer.logs.add(ChainEventIndexerTest.log(TOKEN, transfers, 107, "0x107"));
+        head.set(108);
+        node.dropConnections();
+
+        await(() -> node.subscribeRequests.get() == 2 && indexer.pushActive);
+        assertThat(receivedBlocks()).containsExactly(103L, 106L, 107L);
+        assertThat(cursorTxService.blocks.get(STREAM)).isEqualTo(108L);
+    }
+
+    @Test
+    void 구독할_주소가_없으면_구독하지_않다가_주소가_생기면_구독한다() throws Exception {
+        head.set(10);
+
+        subscriber.start();
+        Thread.sleep(300);
+        assertThat(node.subscribeRequests.get()).isZero();
+        assertThat(node.getConnections()).isEmpty();
+        assertThat(indexer.pushActive).isFalse();
+
+        transfers.addresses.add(TOKEN);
+        await(() -> indexer.pushActive);
+        assertThat(node.subscribeRequests.get()).isEqualTo(1);
+        assertThat(node.lastSubscribedAddresses).containsExactly(TOKEN);
+    }
+
+    private List<Long> receivedBlocks() {
+        return transfers.received.stream().map(l -> l.getBlockNumber().longValue()).toList();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건 대기 시간 초과");
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    /* eth_subscribe/eth_unsubscribe에 답하고 eth_subscription 알림을 보내는 로컬 노드 */
+    private static class JsonRpcStandIn extends WebSocketServer {
+
+        private static final String SUBSCRIPTION_ID = "0xcafe";
+
+        final ObjectMapper mapper = new ObjectMapper();
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicInteger subscribeRequests = new AtomicInteger();
+        volatile List<String> lastSubscribedAddresses = List.of();
+
+        JsonRpcStandIn() {
+            super(new InetSocketAddress("127.0.0.1", 0));
+            setReuseAddr(true);
+        }
+
+        @Override
+        public void onStart() {
+            started.countDown();
+        }
+
+        @Override
+        public void onOpen(WebSocket conn, ClientHandshake handshake) {
+        }
+
+        @Override
+        public void onClose(WebSocket conn, int code, String reason, boolean remote) {
+        }
+
+        @Override
+        public void onError(WebSocket conn, Exception ex) {
+        }
+
+        @Override
+        public void onMessage(WebSocket conn, String message) {
+            try {
+                JsonNode request = mapper.readTree(message);
+                ObjectNode reply = mapper.createObjectNode().put("jsonrpc", "2.0");
+                reply.set("id", request.get("id"));
+                if ("eth_subscribe".equals(request.get("method").asText())) {
+                    List<String> addresses = new ArrayList<>();
+                    request.get("params").get(1).get("address").forEach(a -> addresses.add(a.asText()));
+                    lastSubscribedAddresses = addresses;
+                    subscribeRequests.incrementAndGet();
+                    reply.put("result", SUBSCRIPTION_ID);
+                } else {
+                    reply.put("result", true);
+                }
+                conn.send(mapper.writeValueAsString(reply));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void push(Log eventLog) throws Exception {
+            ObjectNode result = mapper.createObjectNode()
+                    .put("address", eventLog.getAddress())
+                    .put("blockNumber", eventLog.getBlockNumberRaw())
+                    .put("logIndex", eventLog.getLogIndexRaw())
+                    .put("transactionHash", eventLog.getTransactionHash())
+                    .put("transactionIndex", "0x0")
+                    .put("blockHash", "0x" + "0".repeat(64))
+                    .put("data", "0x")
+                    .put("removed", false);
+            eventLog.getTopics().forEach(result.putArray("topics")::add);
+
+            ObjectNode notification = mapper.createObjectNode()
+                    .put("jsonrpc", "2.0")
+                    .put("method", "eth_subscription");
+            notification.putObject("params")
+                    .put("subscription", SUBSCRIPTION_ID)
+                    .set("result", result);
+            broadcast(mapper.writeValueAsString(notification));
+        }
+
+        void dropConnections() {
+            getConnections().forEach(WebSocket::close);
+        }
+    }
+}
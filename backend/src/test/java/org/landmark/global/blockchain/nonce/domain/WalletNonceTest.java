@@ -0,0 +1,57 @@
+package org.landmark.global.blockchain.nonce.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WalletNonceTest {
+
+    private static final String ADDRESS = "0x00000000000000000000000000000000000000aa";
+
+    @Test
+    void 할당은_next_nonce를_반환하고_하나_올린다() {
+        WalletNonce nonce = WalletNonce.create(ADDRESS, 7L);
+
+        assertThat(nonce.allocate("instance-a")).isEqualTo(7L);
+        assertThat(nonce.allocate("instance-b")).isEqualTo(8L);
+        assertThat(nonce.getNextNonce()).isEqualTo(9L);
+        assertThat(nonce.getAllocatedBy()).isEqualTo("instance-b");
+    }
+
+    @Test
+    void 마지막에_할당한_nonce만_반납된다() {
+        WalletNonce nonce = WalletNonce.create(ADDRESS, 7L);
+        nonce.allocate("instance-a");
+
+        assertThat(nonce.rollback(7L)).isTrue();
+        assertThat(nonce.getNextNonce()).isEqualTo(7L);
+    }
+
+    @Test
+    void 이후_할당이_있으면_반납하지_않는다() {
+        WalletNonce nonce = WalletNonce.create(ADDRESS, 7L);
+        nonce.allocate("instance-a");
+        nonce.allocate("instance-b");
+
+        assertThat(nonce.rollback(7L)).isFalse();
+        assertThat(nonce.getNextNonce()).isEqualTo(9L);
+    }
+
+    @Test
+    void 할당_전_nonce는_반납하지_않는다() {
+        WalletNonce nonce = WalletNonce.create(ADDRESS, 7L);
+
+        assertThat(nonce.rollback(7L)).isFalse();
+        assertThat(nonce.getNextNonce()).isEqualTo(7L);
+    }
+
+    @Test
+    void 체인_nonce는_앞으로만_따라간다() {
+        WalletNonce nonce = WalletNonce.create(ADDRESS, 7L);
+
+        assertThat(nonce.advanceTo(5L)).isFalse();
+        assertThat(nonce.getNextNonce()).isEqualTo(7L);
+        assertThat(nonce.advanceTo(10L)).isTrue();
+        assertThat(nonce.getNextNonce()).isEqualTo(10L);
+    }
+}
@@ -0,0 +1,234 @@
+package org.landmark.global.blockchain.outbox.worker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.landmark.global.blockchain.outbox.domain.BlockchainOutbox;
+import org.landmark.global.blockchain.outbox.domain.OutboxStatus;
+import org.landmark.global.blockchain.outbox.domain.OutboxTxType;
+import org.landmark.global.blockchain.outbox.service.DividendDistributionChain;
+import org.landmark.global.blockchain.outbox.service.OutboxTransactionService;
+import org.landmark.global.blockchain.service.JsonRpcBatchExecutor;
+import org.landmark.global.blockchain.wallet.WalletLane;
+import org.landmark.global.blockchain.wallet.WalletLaneRegistry;
+import org.landmark.global.scheduler.runlog.SchedulerRunLogger;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.EthTransaction;
+import org.web3j.protocol.core.methods.response.Transaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxConfirmationTrackerTest {
+
+    private static final String SENDER = "0x00000000000000000000000000000000000000aa";
+    private static final String TX_HASH = "0x01";
+    private static final String REPLACED_HASH = "0x02";
+    private static final long HEAD = 100L;
+
+    private Web3j web3j;
+    private JsonRpcBatchExecutor batchExecutor;
+    private OutboxTransactionService outboxTxService;
+    private OutboxPipelineWindow pipelineWindow;
+    private DividendDistributionChain dividendChain;
+    private OutboxConfirmationTracker tracker;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        web3j = mock(Web3j.class);
+        batchExecutor = mock(JsonRpcBatchExecutor.class);
+        outboxTxService = mock(OutboxTransactionService.class);
+        pipelineWindow = mock(OutboxPipelineWindow.class);
+        dividendChain = mock(DividendDistributionChain.class);
+        WalletLaneRegistry laneRegistry = mock(WalletLaneRegistry.class);
+        when(laneRegistry.ownerLane()).thenReturn(new WalletLane(SENDER, null, true));
+
+        SchedulerRunLogger runLogger = mock(SchedulerRunLogger.class);
+        doAnswer(inv -> ((Supplier<SchedulerRunLogger.Result>) inv.getArgument(1)).get())
+                .when(runLogger).run(anyString(), any());
+
+        EthBlockNumber blockNumber = new EthBlockNumber();
+        blockNumber.setResult("0x" + Long.toHexString(HEAD));
+        Request<?, EthBlockNumber> blockNumberRequest = mock(Request.class);
+        when(blockNumberRequest.send()).thenReturn(blockNumber);
+        doReturn(blockNumberRequest).when(web3j).ethBlockNumber();
+
+        tracker = new OutboxConfirmationTracker(web3j, batchExecutor, outboxTxService, laneRegistry, runLogger,
+                pipelineWindow, mock(ApplicationEventPublisher.class), dividendChain);
+        ReflectionTestUtils.setField(tracker, "batchSize", 200);
+        ReflectionTestUtils.setField(tracker, "confirmationDepth", 12L);
+        ReflectionTestUtils.setField(tracker, "droppedGraceMs", 0L);
+        ReflectionTestUtils.setField(tracker, "maxRetry", 5);
+    }
+
+    @Test
+    void 컨펌됐던_TX의_영수증이_사라지면_SUBMITTED로_되돌린다() throws Exception {
+        BlockchainOutbox outbox = outbox(OutboxStatus.CONFIRMED, 3L, List.of(TX_HASH));
+        when(outboxTxService.findAwaitingConfirmation(anyInt())).thenReturn(List.of(outbox));
+        doReturn(List.of(nonce(4), receipt(null))).when(batchExecutor).execute(anyList());
+
+        tracker.track();
+
+        verify(outboxTxService).revertToSubmitted("row-1");
+        verify(outboxTxService, never()).markFinalized(anyString());
+        verify(outboxTxService, never()).markDead(anyString(), anyString());
+    }
+
+    @Test
+    void 영수증이_있으면_컨펌하고_깊이가_쌓이면_확정한다() throws Exception {
+        BlockchainOutbox outbox = outbox(OutboxStatus.SUBMITTED, 3L, List.of(TX_HASH));
+        when(outboxTxService.findAwaitingConfirmation(anyInt())).thenReturn(List.of(outbox));
+        doReturn(List.of(nonce(4), receipt(minedReceipt(TX_HASH, "0x1", HEAD - 20)))).when(batchExecutor).execute(anyList());
+
+        tracker.track();
+
+        verify(outboxTxService).markConfirmed("row-1", HEAD - 20);
+        verify(outboxTxService).markFinalized("row-1");
+        verify(pipelineWindow).release(SENDER, 3L);
+    }
+
+    @Test
+    void revert된_TX는_FAILED로_넘긴다() throws Exception {
+        BlockchainOutbox outbox = outbox(OutboxStatus.SUBMITTED, 3L, List.of(TX_HASH));
+        when(outboxTxService.findAwaitingConfirmation(anyInt())).thenReturn(List.of(outbox));
+        doReturn(List.of(nonce(4), receipt(minedReceipt(TX_HASH, "0x0", HEAD)))).when(batchExecutor).execute(anyList());
+
+        tracker.track();
+
+        verify(outboxTxService).markFailed(eq("row-1"), anyString(), eq(5));
+        verify(outboxTxService, never()).markConfirmed(anyString(), anyLong());
+    }
+
+    @Test
+    void 여러_row를_실은_mint_묶음이_revert되면_재시도_횟수를_쓰지_않고_분할_재전송으로_넘긴다() throws Exception {
+        BlockchainOutbox first = outbox("row-1", OutboxStatus.SUBMITTED, 3L, List.of(TX_HASH));
+        BlockchainOutbox second = outbox("row-2", OutboxStatus.SUBMITTED, 3L, List.of(TX_HASH));
+        when(outboxTxService.findAwaitingConfirmation(anyInt())).thenReturn(List.of(first, second));
+        doReturn(List.of(nonce(4), receipt(minedReceipt(TX_HASH, "0x0", HEAD)))).when(batchExecutor).execute(anyList());
+
+        tracker.track();
+
+        verify(outboxTxService).markBatchReverted(eq("row-1"), anyString());
+        verify(outboxTxService).markBatchReverted(eq("row-2"), anyString());
+        verify(outboxTxService, never()).markFailed(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void nonce가_소비됐고_후보_TX가_노드에_없으면_재전송하지_않고_DEAD() throws Exception {
+        BlockchainOutbox outbox = outbox(OutboxStatus.SUBMITTED, 3L, List.of(TX_HASH, REPLACED_HASH));
+        when(outboxTxService.findAwaitingConfirmation(anyInt())).thenReturn(List.of(outbox));
+        doReturn(List.of(nonce(10), receipt(null), receipt(null)))
+                .doReturn(List.of(transaction(null), transaction(null), nonce(10)))
+                .when(batchExecutor).execute(anyList());
+
+        tracker.track();
+
+        verify(outboxTxService).markDead(eq("row-1"), anyString());
+        verify(outboxTxService, never()).markFailed(anyString(), anyString(), anyInt());
+        verify(pipelineWindow).release(SENDER, 3L);
+    }
+
+    @Test
+    void 영수증만_늦고_교체_TX를_노드가_알고_있으면_대기한다() throws Exception {
+        BlockchainOutbox outbox = outbox(OutboxStatus.SUBMITTED, 3L, List.of(TX_HASH, REPLACED_HASH));
+        when(outboxTxService.findAwaitingConfirmation(anyInt())).thenReturn(List.of(outbox));
+        doReturn(List.of(nonce(10), receipt(null), receipt(null)))
+                .doReturn(List.of(transaction(null), transaction(new Transaction()), nonce(10)))
+                .when(batchExecutor).execute(anyList());
+
+        tracker.track();
+
+        verify(outboxTxService, never()).markDead(anyString(), anyString());
+        verify(outboxTxService, never()).markFailed(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void 확정_깊이_블록에서_nonce가_아직_소비되지_않았으면_대기한다() throws Exception {
+        BlockchainOutbox outbox = outbox(OutboxStatus.SUBMITTED, 3L, List.of(TX_HASH));
+        when(outboxTxService.findAwaitingConfirmation(anyInt())).thenReturn(List.of(outbox));
+        doReturn(List.of(nonce(10), receipt(null)))
+                .doReturn(List.of(transaction(null), nonce(3)))
+                .when(batchExecutor).execute(anyList());
+
+        tracker.track();
+
+        verify(outboxTxService, never()).markDead(anyString(), anyString());
+    }
+
+    @Test
+    void 같은_head에서는_다시_조회하지_않는다() throws Exception {
+        BlockchainOutbox outbox = outbox(OutboxStatus.SUBMITTED, 3L, List.of(TX_HASH));
+        when(outboxTxService.findAwaitingConfirmation(anyInt())).thenReturn(List.of(outbox));
+        doReturn(List.of(nonce(3), receipt(null))).when(batchExecutor).execute(anyList());
+
+        tracker.track();
+        tracker.track();
+
+        verify(batchExecutor).execute(anyList());
+    }
+
+    private static BlockchainOutbox outbox(OutboxStatus status, Long nonce, List<String> candidates) {
+        return outbox("row-1", status, nonce, candidates);
+    }
+
+    private static BlockchainOutbox outbox(String id, OutboxStatus status, Long nonce, List<String> candidates) {
+        BlockchainOutbox outbox = mock(BlockchainOutbox.class);
+        when(outbox.getId()).thenReturn(id);
+        when(outbox.getStatus()).thenReturn(status);
+        when(outbox.getTxType()).thenReturn(OutboxTxType.KRWT_MINT);
+        when(outbox.getSenderAddress()).thenReturn(SENDER);
+        when(outbox.getNonce()).thenReturn(nonce);
+        when(outbox.getTxHash()).thenReturn(candidates.get(0));
+        when(outbox.candidateTxHashes()).thenReturn(candidates);
+        when(outbox.getSubmittedAt()).thenReturn(LocalDateTime.now().minusMinutes(5));
+        return outbox;
+    }
+
+    private static Response<?> nonce(long value) {
+        EthGetTransactionCount count = new EthGetTransactionCount();
+        count.setResult("0x" + Long.toHexString(value));
+        return count;
+    }
+
+    private static Response<?> receipt(TransactionReceipt receipt) {
+        EthGetTransactionReceipt response = new EthGetTransactionReceipt();
+        response.setResult(receipt);
+        return response;
+    }
+
+    private static Response<?> transaction(Transaction transaction) {
+        EthTransaction response = new EthTransaction();
+        response.setResult(transaction);
+        return response;
+    }
+
+    private static TransactionReceipt minedReceipt(String txHash, String status, long block) {
+        TransactionReceipt receipt = new TransactionReceipt();
+        receipt.setTransactionHash(txHash);
+        receipt.setStatus(status);
+        receipt.setBlockNumber("0x" + Long.toHexString(block));
+        return receipt;
+    }
+}
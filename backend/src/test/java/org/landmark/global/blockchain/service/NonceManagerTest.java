@@ -0,0 +1,116 @@
+package org.landmark.global.blockchain.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.landmark.global.blockchain.config.BlockchainConfig;
+import org.landmark.global.blockchain.nonce.NonceMode;
+import org.landmark.global.blockchain.nonce.domain.WalletNonce;
+import org.landmark.global.blockchain.nonce.repository.WalletNonceRepository;
+import org.landmark.global.blockchain.nonce.service.WalletNonceTransactionService;
+import org.landmark.global.blockchain.wallet.WalletLaneRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NonceManagerTest {
+
+    private static final String ADDRESS = "0x00000000000000000000000000000000000000AA";
+    private static final String KEY = "0x00000000000000000000000000000000000000aa";
+
+    private WalletNonceRepository walletNonceRepository;
+    private NonceManager nonceManager;
+    private long chainNonce;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        Web3j web3j = mock(Web3j.class);
+        Request<?, EthGetTransactionCount> countRequest = mock(Request.class);
+        when(countRequest.send()).thenAnswer(inv -> {
+            EthGetTransactionCount count = new EthGetTransactionCount();
+            count.setResult("0x" + Long.toHexString(chainNonce));
+            return count;
+        });
+        doReturn(countRequest).when(web3j).ethGetTransactionCount(anyString(), any(DefaultBlockParameter.class));
+
+        BlockchainConfig blockchainConfig = mock(BlockchainConfig.class);
+        when(blockchainConfig.getInstanceId()).thenReturn("instance-a");
+
+        walletNonceRepository = mock(WalletNonceRepository.class);
+        nonceManager = new NonceManager(web3j, mock(WalletLaneRegistry.class),
+                new WalletNonceTransactionService(walletNonceRepository), blockchainConfig);
+        chainNonce = 7L;
+    }
+
+    @Test
+    void LOCAL_마지막_nonce만_롤백된다() {
+        ReflectionTestUtils.setField(nonceManager, "mode", NonceMode.LOCAL);
+
+        assertThat(nonceManager.nextNonce(ADDRESS)).isEqualTo(7L);
+        assertThat(nonceManager.nextNonce(ADDRESS)).isEqualTo(8L);
+
+        // 8 이후 할당이 없으므로 반납
+        nonceManager.rollback(ADDRESS, 8L);
+        assertThat(nonceManager.peekNext(ADDRESS)).isEqualTo(8L);
+
+        // 7은 이미 8이 할당된 뒤라 반납하면 nonce가 겹친다
+        nonceManager.nextNonce(ADDRESS);
+        nonceManager.rollback(ADDRESS, 7L);
+        assertThat(nonceManager.peekNext(ADDRESS)).isEqualTo(9L);
+    }
+
+    @Test
+    void LOCAL_주소_대소문자가_달라도_같은_카운터를_쓴다() {
+        ReflectionTestUtils.setField(nonceManager, "mode", NonceMode.LOCAL);
+
+        assertThat(nonceManager.nextNonce(ADDRESS)).isEqualTo(7L);
+        assertThat(nonceManager.nextNonce(KEY)).isEqualTo(8L);
+    }
+
+    @Test
+    void DATABASE_마지막_nonce만_롤백된다() {
+        ReflectionTestUtils.setField(nonceManager, "mode", NonceMode.DATABASE);
+        WalletNonce row = WalletNonce.create(KEY, chainNonce);
+        when(walletNonceRepository.existsById(KEY)).thenReturn(true);
+        when(walletNonceRepository.findForUpdate(KEY)).thenReturn(Optional.of(row));
+        when(walletNonceRepository.findById(KEY)).thenReturn(Optional.of(row));
+
+        assertThat(nonceManager.nextNonce(ADDRESS)).isEqualTo(7L);
+        assertThat(nonceManager.nextNonce(ADDRESS)).isEqualTo(8L);
+
+        nonceManager.rollback(ADDRESS, 7L);
+        assertThat(nonceManager.peekNext(ADDRESS)).isEqualTo(9L);
+
+        nonceManager.rollback(ADDRESS, 8L);
+        assertThat(nonceManager.peekNext(ADDRESS)).isEqualTo(8L);
+        assertThat(row.getAllocatedBy()).isEqualTo("instance-a");
+    }
+
+    @Test
+    void DATABASE_재동기화는_체인보다_뒤처졌을_때만_전진한다() {
+        ReflectionTestUtils.setField(nonceManager, "mode", NonceMode.DATABASE);
+        WalletNonce row = WalletNonce.create(KEY, 7L);
+        row.allocate("instance-b");
+        when(walletNonceRepository.existsById(KEY)).thenReturn(true);
+        when(walletNonceRepository.findForUpdate(KEY)).thenReturn(Optional.of(row));
+
+        // 다른 인스턴스가 할당만 하고 아직 전송하지 않은 8은 체인 PENDING(7)보다 앞서 있어 유지
+        nonceManager.refreshFromChain(ADDRESS);
+        assertThat(row.getNextNonce()).isEqualTo(8L);
+
+        chainNonce = 12L;
+        nonceManager.refreshFromChain(ADDRESS);
+        assertThat(row.getNextNonce()).isEqualTo(12L);
+    }
+}
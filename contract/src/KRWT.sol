@@ -5,15 +5,38 @@ import "@openzeppelin/contracts/token/ERC20/ERC20.sol";
 import "@openzeppelin/contracts/access/Ownable.sol";
 
 contract KRWT is ERC20, Ownable {
+    // 발행 전용 운영 지갑 (백엔드 nonce lane별 지갑)
+    mapping(address => bool) public minters;
+
+    event MinterSet(address indexed account, bool status);
+
+    modifier onlyMinter() {
+        require(msg.sender == owner() || minters[msg.sender], "KRWT: not minter");
+        _;
+    }
+
     constructor() ERC20("Korean Won Token", "KRWT") Ownable(msg.sender) {
         _mint(msg.sender, 1000000000 * 10 ** decimals()); // 10억 KRWT
     }
 
-    function mint(address to, uint256 amount) external onlyOwner {
+    function setMinter(address account, bool status) external onlyOwner {
+        minters[account] = status;
+        emit MinterSet(account, status);
+    }
+
+    function mint(address to, uint256 amount) external onlyMinter {
         _mint(to, amount);
     }
 
+    // 충전 폭주 시 백엔드가 여러 건을 TX 하나로 묶어 발행 (nonce/블록 슬롯 1개)
+    function mintBatch(address[] calldata to, uint256[] calldata amounts) external onlyMinter {
+        require(to.length == amounts.length, "KRWT: length mismatch");
+        for (uint256 i = 0; i < to.length; i++) {
+            _mint(to[i], amounts[i]);
+        }
+    }
+
     function burn(uint256 amount) external {
         _burn(msg.sender, amount);
     }
-}
\ No newline at end of file
+}
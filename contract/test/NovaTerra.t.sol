@@ -285,6 +285,98 @@ contract NovaTerraIntegrationTest is Test {
         console.log("=== Demo Complete ===");
     }
 
+    // ============================================
+    //       KRWT MINTER TESTS
+    // ============================================
+
+    function test_KRWT_MinterRole() public {
+        address minter = address(5);
+
+        // 1. 미등록 지갑은 mint 불가
+        vm.prank(minter);
+        vm.expectRevert("KRWT: not minter");
+        krwt.mint(investor1, 1e18);
+
+        // 2. owner만 minter 등록 가능
+        vm.prank(investor1);
+        vm.expectRevert();
+        krwt.setMinter(minter, true);
+
+        vm.prank(admin);
+        krwt.setMinter(minter, true);
+        assertTrue(krwt.minters(minter));
+
+        // 3. 등록된 minter는 mint 가능
+        uint256 before = krwt.balanceOf(investor1);
+        vm.prank(minter);
+        krwt.mint(investor1, 1e18);
+        assertEq(krwt.balanceOf(investor1), before + 1e18);
+
+        // 4. 해제 후 다시 불가
+        vm.prank(admin);
+        krwt.setMinter(minter, false);
+        vm.prank(minter);
+        vm.expectRevert("KRWT: not minter");
+        krwt.mint(investor1, 1e18);
+    }
+
+    function test_KRWT_MintBatch() public {
+        address minter = address(5);
+        vm.prank(admin);
+        krwt.setMinter(minter, true);
+
+        address[] memory to = new address[](2);
+        to[0] = investor1;
+        to[1] = investor2;
+        uint256[] memory amounts = new uint256[](2);
+        amounts[0] = 1e18;
+        amounts[1] = 2e18;
+
+        uint256 before1 = krwt.balanceOf(investor1);
+        uint256 before2 = krwt.balanceOf(investor2);
+        vm.prank(minter);
+        krwt.mintBatch(to, amounts);
+        assertEq(krwt.balanceOf(investor1), before1 + 1e18);
+        assertEq(krwt.balanceOf(investor2), before2 + 2e18);
+
+        // 길이 불일치
+        uint256[] memory short = new uint256[](1);
+        short[0] = 1e18;
+        vm.prank(minter);
+        vm.expectRevert("KRWT: length mismatch");
+        krwt.mintBatch(to, short);
+
+        // minter가 아니면 불가
+        vm.prank(investor1);
+        vm.expectRevert("KRWT: not minter");
+        krwt.mintBatch(to, amounts);
+    }
+
+    // 백엔드 outbox가 mintBatch에 잡는 gas limit(base-gas 40000 + per-mint-gas 35000 × 건수) 안에
+    // 최대 묶음(max-size 50, 모두 새 잔액)이 들어가는지 확인 — intrinsic 21000과 건당 calldata 64바이트(1024)는 제외하고 비교
+    function test_KRWT_MintBatch_GasFitsBackendBudget() public {
+        address minter = address(5);
+        vm.prank(admin);
+        krwt.setMinter(minter, true);
+
+        uint256 n = 50;
+        address[] memory to = new address[](n);
+        uint256[] memory amounts = new uint256[](n);
+        for (uint256 i = 0; i < n; i++) {
+            to[i] = address(uint160(0x10000 + i));
+            amounts[i] = 1e18;
+        }
+
+        vm.prank(minter);
+        uint256 gasBefore = gasleft();
+        krwt.mintBatch(to, amounts);
+        uint256 used = gasBefore - gasleft();
+
+        uint256 budget = (40_000 - 21_000) + n * (35_000 - 1_024);
+        assertLt(used, budget);
+        assertEq(krwt.balanceOf(to[n - 1]), 1e18);
+    }
+
     // ============================================
     //       GOVERNANCE TESTS
     // ============================================